@@ -47,6 +47,12 @@ public abstract class Ativacao {
 	 */
 	protected DoubleUnaryOperator dx;
 
+	/**
+	 * Derivada da função de ativação calculada a partir da sua saída
+	 * ({@code null} quando ela não pode ser obtida apenas pela saída).
+	 */
+	protected DoubleUnaryOperator dxSaida;
+
 	/**
 	 * Utilitário.
 	 */
@@ -64,13 +70,65 @@ public abstract class Ativacao {
 		this.dx = dx;
 	}
 
+	/**
+	 * Configura a função de ativação, sua derivada e a derivada calculada a
+	 * partir da saída da função.
+	 * <p>
+	 *		Com a derivada pela saída, as camadas podem aplicar a ativação junto
+	 *		do seu próprio cálculo, sem guardar o somatório para a propagação
+	 *		reversa.
+	 * </p>
+	 * Exemplo:
+	 * <pre>
+	 *construir(
+	 *  (x) -> 1 / (1 + Math.exp(-x)),
+	 *  (x) -> ...,
+	 *  (s) -> s * (1 - s)
+	 *);
+	 * </pre>
+	 * @param fx função de ativação.
+	 * @param dx deriviada da função de ativação
+	 * @param dxSaida derivada da função de ativação em função da sua saída.
+	 */
+	public void construir(DoubleUnaryOperator fx, DoubleUnaryOperator dx, DoubleUnaryOperator dxSaida) {
+		construir(fx, dx);
+		this.dxSaida = dxSaida;
+	}
+
+	/**
+	 * Verifica se a ativação pode ser fundida ao cálculo da camada, sendo
+	 * aplicada elemento a elemento e com derivada obtida pela saída.
+	 * @return {@code true} caso a ativação possa ser fundida, {@code false}
+	 * caso contrário.
+	 */
+	public boolean fundivel() {
+		return dxSaida != null;
+	}
+
+	/**
+	 * Retorna a função de ativação aplicada a cada elemento.
+	 * @return função de ativação.
+	 */
+	public DoubleUnaryOperator funcao() {
+		return fx;
+	}
+
+	/**
+	 * Retorna a derivada da ativação em função da sua saída.
+	 * @return derivada pela saída, nula caso a ativação não seja
+	 * {@link #fundivel() fundível}.
+	 */
+	public DoubleUnaryOperator derivadaSaida() {
+		return dxSaida;
+	}
+
 	/**
 	 * Calcula o resultado da ativação de acordo com a função configurada.
 	 * @param entrada {@code Tensor} de entrada.
 	 * @param dest {@code Tensor} de destino.
 	 */
 	public void forward(Tensor entrada, Tensor dest) {
-		dest.aplicar(entrada, fx);
+		dest.aplicarParalelo(entrada, fx);
 	}
 
 	/**
@@ -81,7 +139,33 @@ public abstract class Ativacao {
 	 * @param dest {@code Tensor} de destino.
 	 */
 	public void backward(Tensor entrada, Tensor grad, Tensor dest) {
-		dest.aplicar(entrada, grad, (e, g) -> dx.applyAsDouble(e) * g);
+		entrada.expressao()
+			.aplicar(dx)
+			.mult(grad)
+			.avaliar(dest);
+	}
+
+	/**
+	 * Calcula o resultado da derivada da função de ativação a partir da saída
+	 * da ativação, sem precisar do somatório.
+	 * <p>
+	 *		Disponível apenas para ativações {@link #fundivel() fundíveis}.
+	 * </p>
+	 * @param saida {@code Tensor} contendo a saída da ativação.
+	 * @param grad {@code Tensor} contendo os gradientes.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void backwardSaida(Tensor saida, Tensor grad, Tensor dest) {
+		if (!fundivel()) {
+			throw new UnsupportedOperationException(
+				"\nAtivação " + nome() + " não possui derivada pela saída."
+			);
+		}
+
+		saida.expressao()
+			.aplicar(dxSaida)
+			.mult(grad)
+			.avaliar(dest);
 	}
 
 	/**
@@ -93,7 +177,7 @@ public abstract class Ativacao {
 	 */
 	public void backward(Densa camada) {
 		//por padrão chamar o método da própria ativação
-		backward(camada._somatorio, camada._gradSaida, camada._gradSaida);
+		backward(camada.somatorio(), camada._gradSaida, camada._gradSaida);
 	}
 
 	/**
@@ -105,7 +189,7 @@ public abstract class Ativacao {
 	 */
 	public void backward(Conv2D camada) {
 		//por padrão chamar o método da própria ativação
-		backward(camada._somatorio, camada._gradSaida, camada._gradSaida);
+		backward(camada.somatorio(), camada._gradSaida, camada._gradSaida);
 	}
 
 	/**
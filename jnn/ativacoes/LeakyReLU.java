@@ -20,9 +20,11 @@ public class LeakyReLU extends Ativacao {
 	 * @param alfa novo valor alfa.
 	 */
 	public LeakyReLU(double alfa) {
+		// com alfa negativo o sinal da saída não indica o sinal da entrada
 		construir(
 			x -> (x > 0) ? x : x*alfa, 
-			x -> (x > 0) ? 1 : alfa   
+			x -> (x > 0) ? 1 : alfa,
+			alfa >= 0 ? (s -> (s > 0) ? 1 : alfa) : null
 		);
 	}
 
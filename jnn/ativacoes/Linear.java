@@ -18,7 +18,8 @@ public class Linear extends Ativacao {
 	public Linear() {
 		construir(
 			x -> x,
-			x -> 1
+			x -> 1,
+			s -> 1
 		);
 	}
 }
@@ -16,7 +16,8 @@ public class ReLU extends Ativacao {
 	public ReLU() {
 		construir(
 			x -> (x > 0) ? x : 0,
-			x -> (x > 0) ? 1 : 0
+			x -> (x > 0) ? 1 : 0,
+			s -> (s > 0) ? 1 : 0
 		);
 	}
 }
@@ -21,23 +21,17 @@ public class Sigmoid extends Ativacao {
 			x -> { 
 				double s = 1.0 / (1.0 + Math.exp(-x));
 				return s * (1.0 - s);
-			}
+			},
+			s -> s * (1.0 - s)
 		);
 	}
 
 	@Override
 	public void backward(Densa densa) {
 		//aproveitar os resultados pre calculados
-		double[] s = densa._saida.paraArrayDouble();
-		double[] g = densa._gradSaida.paraArrayDouble();
-		double[] d = new double[s.length];
-
-		double ei;
-		for (int i = 0; i < d.length; i++) {
-			ei = s[i];
-			d[i] = (ei*(1 - ei)) * g[i];
-		}
-
-		densa._gradSaida.copiarElementos(d);
+		densa._saida.expressao()
+			.aplicar(s -> s * (1 - s))
+			.mult(densa._gradSaida)
+			.avaliar(densa._gradSaida);
 	}
 }
@@ -2,7 +2,7 @@ package jnn.ativacoes;
 
 import jnn.camadas.Conv2D;
 import jnn.camadas.Densa;
-import jnn.core.tensor.OpTensor;
+import jnn.core.tensor.IndexadorTensor;
 import jnn.core.tensor.Tensor;
 
 /**
@@ -12,9 +12,10 @@ import jnn.core.tensor.Tensor;
 public class Softmax extends Ativacao {
 
 	/**
-	 * Operador para tensores.
+	 * Indica se a derivada está fundida com a função de perda Entropia
+	 * Cruzada.
 	 */
-	OpTensor optensor = new OpTensor();
+	private boolean fundidaEntropiaCruzada = false;
 
 	/**
 	 * Instancia a função de ativação Softmax.
@@ -39,6 +40,33 @@ public class Softmax extends Ativacao {
 	 */
 	public Softmax() {}
 
+	/**
+	 * Configura a fusão da derivada da Softmax com a da função de perda
+	 * Entropia Cruzada.
+	 * <p>
+	 *		Quando fundidas, o gradiente recebido já é o gradiente em relação
+	 *		à entrada da Softmax ({@code prev - real}), sendo repassado
+	 *		diretamente sem passar pela jacobiana.
+	 * </p>
+	 * <p>
+	 *		O treino ativa a fusão apenas durante a retropropagação de modelos
+	 *		com Entropia Cruzada e restaura a configuração anterior ao final.
+	 * </p>
+	 * @param fundir fundir a derivada com a Entropia Cruzada.
+	 */
+	public void setFundidaEntropiaCruzada(boolean fundir) {
+		fundidaEntropiaCruzada = fundir;
+	}
+
+	/**
+	 * Verifica se a derivada está fundida com a função de perda Entropia
+	 * Cruzada.
+	 * @return {@code true} caso esteja fundida, {@code false} caso contrário.
+	 */
+	public boolean fundidaEntropiaCruzada() {
+		return fundidaEntropiaCruzada;
+	}
+
 	@Override
 	public void forward(Tensor entrada, Tensor saida) {
 		if (entrada.numDim() != saida.numDim()) {
@@ -55,38 +83,45 @@ public class Softmax extends Ativacao {
 			);
 		}
 
-		double somaExp = 0;
+		IndexadorTensor e = entrada.indexador();
+		IndexadorTensor s = saida.indexador();
+
+		// subtrair o máximo evita overflow em exp (log-sum-exp)
 		int cols = entrada.shape()[0];
+		double max = Double.NEGATIVE_INFINITY;
 		for (int i = 0; i < cols; i++) {
-			somaExp += Math.exp(entrada.get(i));
+			max = Math.max(max, e.get(i));
 		}
+
+		double somaExp = 0;
 		for (int i = 0; i < cols; i++) {
-			double s = Math.exp(entrada.get(i)) / somaExp;
-			saida.set(s, i);
+			double exp = Math.exp(e.get(i) - max);
+			s.set(exp, i);
+			somaExp += exp;
+		}
+		for (int i = 0; i < cols; i++) {
+			s.set(s.get(i) / somaExp, i);
 		}
 	}
 
 	@Override
 	public void backward(Densa camada) {
-		int n = camada._somatorio.tamanho();
-		Tensor tmp = camada.saida().bloco(n);
-		Tensor ident = new Tensor(n, n);
-		for (int i = 0; i < n; i++) {
-			for (int j = 0; j < n; j++) {
-				ident.set((i == j ? 1 : 0), i, j);
-			}
-		}
+		// gradiente já calculado em relação à entrada da softmax
+		if (fundidaEntropiaCruzada) return;
 
-		Tensor transp = tmp.transpor();
+		// produto com a jacobiana (s[j] * (δij - s[i])) sem montá-la:
+		// grad[i] = s[i] * (grad[i] - Σ grad[j] * s[j])
+		IndexadorTensor s = camada.saida().indexador();
+		IndexadorTensor g = camada._gradSaida.indexador();
+		int n = camada._gradSaida.tamanho();
 
-		Tensor res = optensor.matMult(
-			camada._gradSaida, 
-			optensor.matHadamard(
-				tmp, optensor.matSub(ident, transp)
-			)
-		);
-
-		camada._gradSaida.copiar(res);
+		double soma = 0;
+		for (int i = 0; i < n; i++) {
+			soma += g.get(i) * s.get(i);
+		}
+		for (int i = 0; i < n; i++) {
+			g.set(s.get(i) * (g.get(i) - soma), i);
+		}
 	}
 
 	@Override
@@ -21,23 +21,17 @@ public class TanH extends Ativacao {
 			x -> {
 				double t = (2 / (1 + Math.exp(-2*x))) - 1;
 				return 1 - (t * t);
-			}
+			},
+			t -> 1 - (t * t)
 		);
 	}
 
 	@Override
 	public void backward(Densa densa) {
 		//aproveitar os resultados pre calculados
-		double[] t = densa._saida.paraArrayDouble();
-		double[] g = densa._gradSaida.paraArrayDouble();
-		double[] d = new double[t.length];
-
-		double ti;
-		for (int i = 0; i < d.length; i++) {
-			ti = t[i];
-			d[i] = (1 - (ti*ti)) * g[i];
-		}
-
-		densa._gradSaida.copiarElementos(d);
+		densa._saida.expressao()
+			.aplicar(t -> 1 - (t * t))
+			.mult(densa._gradSaida)
+			.avaliar(densa._gradSaida);
 	}
 }
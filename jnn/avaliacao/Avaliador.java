@@ -57,7 +57,7 @@ public class Avaliador {
 		int tam = prev.length;
 		double res = 0;
 		for (int i = 0; i < tam; i++) {
-			res += ema.calcular(prev[i], real[i]).item();
+			res += ema.calcularValor(prev[i], real[i]);
 		}
 
 		return new Tensor(new double[]{ (res/tam) }, 1);
@@ -87,7 +87,7 @@ public class Avaliador {
 		int tam = entrada.length;
 		double res = 0;
 		for (int i = 0; i < tam; i++) {
-			res += emql.calcular(prev[i], real[i]).item();
+			res += emql.calcularValor(prev[i], real[i]);
 		}
 
 		return new Tensor(new double[]{ (res/tam) }, 1); 
@@ -115,7 +115,7 @@ public class Avaliador {
 		int tam = entrada.length;
 		double res = 0;
 		for (int i = 0; i < tam; i++) {
-			res += ema.calcular(prev[i], real[i]).item();
+			res += ema.calcularValor(prev[i], real[i]);
 		}
 
 		return new Tensor(new double[]{ (res/tam) }, 1);
@@ -156,7 +156,7 @@ public class Avaliador {
 		int tam = entrada.length;
 		double res = 0;
 		for (int i = 0; i < tam; i++) {
-			res += ecc.calcular(previsoes[i], real[i]).item();
+			res += ecc.calcularValor(previsoes[i], real[i]);
 		}
 
 		return new Tensor(new double[]{ (res/tam) }, 1);
@@ -186,7 +186,7 @@ public class Avaliador {
 		int tam = entrada.length;
 		double res = 0;
 		for (int i = 0; i < tam; i++) {
-			res += ecb.calcular(prev[i], real[i]).item();
+			res += ecb.calcularValor(prev[i], real[i]);
 		}
 
 		return new Tensor(new double[]{ (res/tam) }, 1);
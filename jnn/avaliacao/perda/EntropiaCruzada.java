@@ -17,24 +17,34 @@ public class EntropiaCruzada extends Perda {
 
 	@Override
 	public Tensor calcular(Tensor prev, Tensor real) {
+		return new Tensor(new double[]{ calcularValor(prev, real) }, 1);
+	}
+
+	@Override
+	public double calcularValor(Tensor prev, Tensor real) {
 		super.verificarDimensoes(prev, real);
 		int tam = prev.tamanho();
 		
-		double ec = 0.0;
-		for (int i = 0; i < tam; i++) {
-			ec += real.get(i) * Math.log(prev.get(i) + eps);
-		}
+		double ec = real.expressao()
+			.aplicar(prev, (r, p) -> r * Math.log(p + eps))
+			.soma();
 		
-		return new Tensor(new double[]{ -ec/tam }, 1);
+		return -ec/tam;
 	}
 	
 	@Override
 	public Tensor derivada(Tensor prev, Tensor real) {
+		return derivada(prev, real, new Tensor(prev.dtype(), prev.shape()));
+	}
+
+	@Override
+	public Tensor derivada(Tensor prev, Tensor real, Tensor dest) {
 		super.verificarDimensoes(prev, real);
 
 		return prev.map(
 			real,
-			(p, r) -> (p - r)
+			(p, r) -> (p - r),
+			dest
 		);
 	}
 }
@@ -17,28 +17,35 @@ import jnn.core.tensor.Tensor;
 
 	@Override
 	public Tensor calcular(Tensor prev, Tensor real) {
+		return new Tensor(new double[]{ calcularValor(prev, real) }, 1);
+	}
+
+	@Override
+	public double calcularValor(Tensor prev, Tensor real) {
 		super.verificarDimensoes(prev, real);
 		int tam = prev.tamanho();
 
-		double ecb = 0;
-		double p, r;
-		for (int i = 0; i < tam; i++) {
-			p = prev.get(i);
-			r = real.get(i);
-			ecb += (r * Math.log(p + eps)) + (1 - r) * (Math.log(1 - p + eps));
-		}
+		double ecb = prev.expressao()
+			.aplicar(real, (p, r) -> (r * Math.log(p + eps)) + (1 - r) * (Math.log(1 - p + eps)))
+			.soma();
 
-		return new Tensor(new double[]{ (-ecb/tam) });
+		return -ecb/tam;
 	}
 
 	@Override
 	public Tensor derivada(Tensor prev, Tensor real) {
+		return derivada(prev, real, new Tensor(prev.dtype(), prev.shape()));
+	}
+
+	@Override
+	public Tensor derivada(Tensor prev, Tensor real, Tensor dest) {
 		super.verificarDimensoes(prev, real);
 		final int tam = prev.tamanho();
 
 		return prev.map(
 			real,
-			(p, r) -> (((1.0 - r) / (1.0 - p)) - (r / p)) / tam
+			(p, r) -> (((1.0 - r) / (1.0 - p)) - (r / p)) / tam,
+			dest
 		);
 	}
 }
@@ -15,21 +15,31 @@ public class MAE extends Perda {
 
 	@Override
 	public Tensor calcular(Tensor prev, Tensor real) {
+		return new Tensor(new double[]{ calcularValor(prev, real) }, 1);
+	}
+
+	@Override
+	public double calcularValor(Tensor prev, Tensor real) {
 		super.verificarDimensoes(prev, real);
 		int tam = prev.tamanho();
 		
-		double mae = 0;
-		for (int i = 0; i < tam; i++) {
-			mae += Math.abs(prev.get(i) - real.get(i));
-		}
+		double mae = prev.expressao()
+			.sub(real)
+			.abs()
+			.soma();
 		
-		return new Tensor(new double[]{ (mae/tam) }, 1);
+		return mae/tam;
 	}
 	
 	@Override
 	public Tensor derivada(Tensor prev, Tensor real) {
+		return derivada(prev, real, new Tensor(prev.dtype(), prev.shape()));
+	}
+
+	@Override
+	public Tensor derivada(Tensor prev, Tensor real, Tensor dest) {
 		super.verificarDimensoes(prev, real);
 
-		return prev.map(real, (p, r) -> (p-r));
+		return prev.map(real, (p, r) -> (p-r), dest);
 	}
 }
@@ -15,26 +15,36 @@ public class MSE extends Perda {
 
 	@Override
 	public Tensor calcular(Tensor prev, Tensor real) {
+		return new Tensor(new double[]{ calcularValor(prev, real) }, 1);
+	}
+
+	@Override
+	public double calcularValor(Tensor prev, Tensor real) {
 		super.verificarDimensoes(prev, real);
 		int tam = prev.tamanho();
 		
-		double mse = 0.0;
-		for (int i = 0; i < tam; i++) {
-			double d = prev.get(i) - real.get(i);
-			mse += d * d;
-		}
+		double mse = prev.expressao()
+			.sub(real)
+			.quadrado()
+			.soma();
 		
-		return new Tensor(new double[]{ (mse/tam) }, 1);
+		return mse/tam;
 	}
 	
 	@Override
 	public Tensor derivada(Tensor prev, Tensor real) {
+		return derivada(prev, real, new Tensor(prev.dtype(), prev.shape()));
+	}
+
+	@Override
+	public Tensor derivada(Tensor prev, Tensor real, Tensor dest) {
 		super.verificarDimensoes(prev, real);
 		final int tam = prev.tamanho();
 
 		return prev.map(
 			real,
-			(p, r) -> (2.0 / tam) * (p-r)
+			(p, r) -> (2.0 / tam) * (p-r),
+			dest
 		);
 	}
 }
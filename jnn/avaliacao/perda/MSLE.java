@@ -16,26 +16,36 @@ public class MSLE extends Perda {
 
 	@Override
 	public Tensor calcular(Tensor prev, Tensor real) {
+		return new Tensor(new double[]{ calcularValor(prev, real) }, 1);
+	}
+
+	@Override
+	public double calcularValor(Tensor prev, Tensor real) {
 		super.verificarDimensoes(prev, real);
 		int tam = prev.tamanho();
 		
-		double emql = 0;
-		for (int i = 0; i < tam; i++) {
-			double d = Math.log(1 +  prev.get(i)) - Math.log(1 + real.get(i));
-			emql += d * d;
-		}
+		double emql = prev.expressao()
+			.aplicar(real, (p, r) -> Math.log(1 + p) - Math.log(1 + r))
+			.quadrado()
+			.soma();
 		
-		return new Tensor(new double[]{ (emql/tam) }, 1);
+		return emql/tam;
 	}
 	
 	@Override
 	public Tensor derivada(Tensor prev, Tensor real) {
+		return derivada(prev, real, new Tensor(prev.dtype(), prev.shape()));
+	}
+
+	@Override
+	public Tensor derivada(Tensor prev, Tensor real, Tensor dest) {
 		super.verificarDimensoes(prev, real);
 		final int tam = prev.tamanho();
 
 		return prev.map(
 			real,
-			(p, r) -> (2.0 / tam) * (Math.log(1 + p) - Math.log(1 + r))
+			(p, r) -> (2.0 / tam) * (Math.log(1 + p) - Math.log(1 + r)),
+			dest
 		);
 	}
 }
@@ -30,6 +30,33 @@ public abstract class Perda {
 	 */
 	public abstract Tensor derivada(Tensor prev, Tensor real);
 
+	/**
+	 * Calcula a função de perda configurada, retornando diretamente o valor
+	 * de perda, sem a criação de um novo tensor.
+	 * <p>
+	 *		Útil em laços de avaliação e treino, onde apenas o valor é usado.
+	 * </p>
+	 * @param prev {@code Tensor} com dados previstos.
+	 * @param real {@code Tensor} com dados reais.
+	 * @return valor de perda.
+	 */
+	public double calcularValor(Tensor prev, Tensor real) {
+		return calcular(prev, real).item();
+	}
+
+	/**
+	 * Calcula a derivada da função de perda configurada, escrevendo o
+	 * resultado no tensor de destino, sem a criação de um novo tensor.
+	 * @param prev {@code Tensor} com dados previstos.
+	 * @param real {@code Tensor} com dados reais.
+	 * @param dest {@code Tensor} de destino, deve possuir o mesmo formato
+	 * dos dados previstos.
+	 * @return {@code Tensor} de destino.
+	 */
+	public Tensor derivada(Tensor prev, Tensor real, Tensor dest) {
+		return dest.copiar(derivada(prev, real));
+	}
+
 	/**
 	 * Auxiliar para verificar se os tamanhos dos tensores que serão usados
 	 * pelas funções de perda são iguais.
@@ -15,28 +15,38 @@ public class RMSE extends Perda {
 
 	@Override
 	public Tensor calcular(Tensor prev, Tensor real) {
+		return new Tensor(new double[]{ calcularValor(prev, real) }, 1);
+	}
+
+	@Override
+	public double calcularValor(Tensor prev, Tensor real) {
 		super.verificarDimensoes(prev, real);
 		int tam = prev.tamanho();
 		
-		double rmse = 0.0;
-		for (int i = 0; i < tam; i++) {
-			double d = prev.get(i) - real.get(i);
-			rmse += d * d;
-		}
+		double rmse = prev.expressao()
+			.sub(real)
+			.quadrado()
+			.soma();
 		rmse /= tam;
 		
-		return new Tensor(new double[]{ Math.sqrt(rmse) }, 1);
+		return Math.sqrt(rmse);
 	}
 	 
 	@Override
 	public Tensor derivada(Tensor prev, Tensor real) {
+		return derivada(prev, real, new Tensor(prev.dtype(), prev.shape()));
+	}
+
+	@Override
+	public Tensor derivada(Tensor prev, Tensor real, Tensor dest) {
 		super.verificarDimensoes(prev, real);
 		final int tam = prev.tamanho();
-		double rrmse = Math.sqrt(calcular(prev, real).item());
+		double rrmse = Math.sqrt(calcularValor(prev, real));
 
 		return prev.map(
 			real,
-			(p, r) -> (p - r) / (rrmse * tam)
+			(p, r) -> (p - r) / (rrmse * tam),
+			dest
 		);
 	}
 }
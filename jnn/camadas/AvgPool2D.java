@@ -1,6 +1,10 @@
 package jnn.camadas;
 
+import java.util.Arrays;
+
 import jnn.core.Utils;
+import jnn.core.tensor.IndexadorTensor;
+import jnn.core.tensor.Layout;
 import jnn.core.tensor.Tensor;
 
 /**
@@ -245,9 +249,9 @@ public class AvgPool2D extends Camada {
 		shapeSaida[1] = (shapeEntrada[1] - formFiltro[0]) / this.stride[0] + 1;//altura
 		shapeSaida[2] = (shapeEntrada[2] - formFiltro[1]) / this.stride[1] + 1;//largura
 		
-		_entrada = new Tensor(shapeEntrada);
+		_entrada = new Tensor(dtype, layout.shapeTensor(shapeEntrada));
 		_gradEntrada = new Tensor(_entrada);
-		_saida = new Tensor(shapeSaida);
+		_saida = new Tensor(dtype, layout.shapeTensor(shapeSaida));
 
 		setNomes();
 
@@ -290,14 +294,63 @@ public class AvgPool2D extends Camada {
 			);
 		}
 
-		int canais = shapeEntrada[0];
-		for (int i = 0; i < canais; i++) {
-			aplicar(_entrada, _saida, i);
+		if (layout == Layout.CANAIS_ULTIMO) {
+			aplicarCanaisUltimo(_entrada, _saida);
+
+		} else {
+			int canais = shapeEntrada[0];
+			for (int i = 0; i < canais; i++) {
+				aplicar(_entrada, _saida, i);
+			}
 		}
 
 		return _saida;
 	}
 
+	/**
+	 * Calcula a média dos valores encontrados na entrada {@code (altura, largura, canais)},
+	 * percorrendo os canais de cada pixel da região de forma contígua.
+	 * @param entrada tensor de entrada.
+	 * @param saida tensor de destino.
+	 */
+	private void aplicarCanaisUltimo(Tensor entrada, Tensor saida) {
+		int[] shapeE = entrada.shape();
+		int[] shapeS = saida.shape();
+
+		int altEntrada  = shapeE[0];
+		int largEntrada = shapeE[1];
+		int canais      = shapeE[2];
+		int altSaida  = shapeS[0];
+		int largSaida = shapeS[1];
+
+		IndexadorTensor e = entrada.indexador();
+		IndexadorTensor s = saida.indexador();
+		double[] soma = new double[canais];
+
+		for (int i = 0; i < altSaida; i++) {
+			int linInicio = i * stride[0];
+			int linFim = Math.min(linInicio + formFiltro[0], altEntrada);
+			for (int j = 0; j < largSaida; j++) {
+				int colInicio = j * stride[1];
+				int colFim = Math.min(colInicio + formFiltro[1], largEntrada);
+				int cont = (linFim - linInicio) * (colFim - colInicio);
+				Arrays.fill(soma, 0);
+
+				for (int lin = linInicio; lin < linFim; lin++) {
+					for (int col = colInicio; col < colFim; col++) {
+						for (int c = 0; c < canais; c++) {
+							soma[c] += e.get(lin, col, c);
+						}
+					}
+				}
+
+				for (int c = 0; c < canais; c++) {
+					s.set((soma[c]/cont), i, j, c);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Calcula a média dos valores encontrados na entrada de acordo com as
 	 * configurações de filtro e strides.
@@ -313,6 +366,9 @@ public class AvgPool2D extends Camada {
 		int largEntrada = shapeE[2];
 		int altSaida  = shapeS[1];
 		int largSaida = shapeS[2];
+
+		IndexadorTensor e = entrada.indexador();
+		IndexadorTensor s = saida.indexador();
   
 		for (int i = 0; i < altSaida; i++) {
 			int linInicio = i * stride[0];
@@ -325,12 +381,12 @@ public class AvgPool2D extends Camada {
 
 				for (int lin = linInicio; lin < linFim; lin++) {
 					for (int col = colInicio; col < colFim; col++) {
-						soma += entrada.get(prof, lin, col);
+						soma += e.get(prof, lin, col);
 						cont++;
 					}
 				}
 
-				saida.set((soma/cont), prof, i, j);
+				s.set((soma/cont), prof, i, j);
 			}
 		}
 	}
@@ -341,9 +397,14 @@ public class AvgPool2D extends Camada {
 
 		if (grad instanceof Tensor) {
 			Tensor g = (Tensor) grad;
-			int canais = shapeEntrada[0];   
-			for (int i = 0; i < canais; i++) {
-				gradAvgPool(_entrada, g, _gradEntrada, i);
+			if (layout == Layout.CANAIS_ULTIMO) {
+				gradAvgPoolCanaisUltimo(_entrada, g, _gradEntrada);
+
+			} else {
+				int canais = shapeEntrada[0];   
+				for (int i = 0; i < canais; i++) {
+					gradAvgPool(_entrada, g, _gradEntrada, i);
+				}
 			}
 		
 		} else {
@@ -372,10 +433,13 @@ public class AvgPool2D extends Camada {
 		int[] shapeE = entrada.shape();
 		int[] shapeGradS = gradSeguinte.shape();
 
-		int altEntrada  = shapeE[shapeE.length-1];
-		int largEntrada = shapeE[shapeE.length-2];
-		int altGradSeguinte  = shapeGradS[shapeGradS.length-1];
-		int largGradSeguinte = shapeGradS[shapeGradS.length-2];
+		int altEntrada  = shapeE[1];
+		int largEntrada = shapeE[2];
+		int altGradSeguinte  = shapeGradS[1];
+		int largGradSeguinte = shapeGradS[2];
+
+		IndexadorTensor gs = gradSeguinte.indexador();
+		IndexadorTensor ge = gradEntrada.indexador();
 
 		for (int i = 0; i < altGradSeguinte; i++) {
 			int linInicio = i * stride[0];
@@ -384,12 +448,52 @@ public class AvgPool2D extends Camada {
 				int colInicio = j * stride[1];
 				int colFim = Math.min(colInicio + formFiltro[1], largEntrada);
 
-				double grad = gradSeguinte.get(prof, i, j);
+				double grad = gs.get(prof, i, j);
 				double mediaGrad = grad / (formFiltro[0] * formFiltro[1]);
 
 				for (int lin = linInicio; lin < linFim; lin++) {
 					for (int col = colInicio; col < colFim; col++) {
-						gradEntrada.set(mediaGrad, prof, lin, col);
+						ge.set(mediaGrad, prof, lin, col);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Calcula e atualiza os gradientes da camada de Avg Pooling em relação à
+	 * entrada {@code (altura, largura, canais)}, distribuindo o gradiente de
+	 * todos os canais de cada região numa única passagem.
+	 * @param entrada entrada da camada.
+	 * @param gradSeguinte gradiente da camada seguinte.
+	 * @param gradEntrada gradiente de entrada da camada de Avg pooling.
+	 */
+	private void gradAvgPoolCanaisUltimo(Tensor entrada, Tensor gradSeguinte, Tensor gradEntrada) {
+		int[] shapeE = entrada.shape();
+		int[] shapeGradS = gradSeguinte.shape();
+
+		int altEntrada  = shapeE[0];
+		int largEntrada = shapeE[1];
+		int canais      = shapeE[2];
+		int altGradSeguinte  = shapeGradS[0];
+		int largGradSeguinte = shapeGradS[1];
+
+		IndexadorTensor gs = gradSeguinte.indexador();
+		IndexadorTensor ge = gradEntrada.indexador();
+		final int tamFiltro = formFiltro[0] * formFiltro[1];
+
+		for (int i = 0; i < altGradSeguinte; i++) {
+			int linInicio = i * stride[0];
+			int linFim = Math.min(linInicio + formFiltro[0], altEntrada);
+			for (int j = 0; j < largGradSeguinte; j++) {
+				int colInicio = j * stride[1];
+				int colFim = Math.min(colInicio + formFiltro[1], largEntrada);
+
+				for (int lin = linInicio; lin < linFim; lin++) {
+					for (int col = colInicio; col < colFim; col++) {
+						for (int c = 0; c < canais; c++) {
+							ge.set(gs.get(i, j, c) / tamFiltro, lin, col, c);
+						}
 					}
 				}
 			}
@@ -1,6 +1,8 @@
 package jnn.camadas;
 
 import jnn.ativacoes.Ativacao;
+import jnn.core.tensor.Dtype;
+import jnn.core.tensor.Layout;
 import jnn.core.tensor.Tensor;
 import jnn.core.tensor.Variavel;
 
@@ -75,6 +77,16 @@ public abstract class Camada {
 	 */
 	public int id;
 
+	/**
+	 * Tipo de dado usado pelos tensores da camada.
+	 */
+	protected Dtype dtype = Dtype.FLOAT64;
+
+	/**
+	 * Disposição dos tensores com canais usados pela camada.
+	 */
+	protected Layout layout = Layout.CANAIS_PRIMEIRO;
+
 	/**
 	 * Instancia a camada base usada dentro dos modelos de Rede Neural.
 	 * <p>
@@ -176,6 +188,63 @@ public abstract class Camada {
 		);    
 	}
 
+	/**
+	 * Configura o tipo de dado usado pelos tensores da camada.
+	 * <p>
+	 *    A configuração deve ser feita antes da construção da camada.
+	 * </p>
+	 * @param dtype tipo de dado desejado.
+	 */
+	public void setDtype(Dtype dtype) {
+		if (dtype == null) {
+			throw new IllegalArgumentException(
+				"\nTipo de dado não pode ser nulo."
+			);
+		}
+
+		this.dtype = dtype;
+	}
+
+	/**
+	 * Retorna o tipo de dado usado pelos tensores da camada.
+	 * @return tipo de dado da camada.
+	 */
+	public Dtype dtype() {
+		return dtype;
+	}
+
+	/**
+	 * Configura a disposição na memória dos tensores com canais
+	 * {@code (canais, altura, largura)} recebidos e retornados pela camada.
+	 * <p>
+	 *    Com {@code CANAIS_ULTIMO} os tensores trocados com as camadas vizinhas
+	 *    têm formato {@code (altura, largura, canais)}, enquanto os formatos de
+	 *    entrada e saída da camada continuam como {@code (canais, altura, largura)}.
+	 * </p>
+	 * <p>
+	 *    A configuração deve ser feita antes da construção da camada, e deve
+	 *    ser a mesma para todas as camadas de um modelo.
+	 * </p>
+	 * @param layout disposição desejada.
+	 */
+	public void setLayout(Layout layout) {
+		if (layout == null) {
+			throw new IllegalArgumentException(
+				"\nLayout não pode ser nulo."
+			);
+		}
+
+		this.layout = layout;
+	}
+
+	/**
+	 * Retorna a disposição dos tensores com canais usados pela camada.
+	 * @return disposição da camada.
+	 */
+	public Layout layout() {
+		return layout;
+	}
+
 	/**
 	 * Configura a camada para treino.
 	 * @param treinando caso verdadeiro a camada será configurada para
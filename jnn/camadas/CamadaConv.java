@@ -0,0 +1,704 @@
+package jnn.camadas;
+
+import jnn.ativacoes.Ativacao;
+import jnn.ativacoes.Linear;
+import jnn.core.Dicionario;
+import jnn.core.Utils;
+import jnn.core.tensor.Layout;
+import jnn.core.tensor.OpTensor;
+import jnn.core.tensor.PoolTensor;
+import jnn.core.tensor.Tensor;
+import jnn.core.tensor.Variavel;
+import jnn.inicializadores.GlorotUniforme;
+import jnn.inicializadores.Inicializador;
+import jnn.inicializadores.Zeros;
+
+/**
+ * <h2>
+ *    Base das camadas convolucionais
+ * </h2>
+ * <p>
+ *    Reúne o que é comum às camadas convolucionais ({@code Conv2D},
+ *    {@code DepthwiseConv2D}, {@code PointwiseConv2D} e {@code GroupedConv2D}):
+ *    os tensores de entrada, saída, parâmetros e gradientes, a ativação,
+ *    os inicializadores e o fluxo de propagação:
+ * </p>
+ * <pre>
+ *    somatorio = convolucao(entrada, filtros) + bias
+ *    saida = ativacao(somatorio)
+ * </pre>
+ * <p>
+ *    As camadas filhas definem o formato dos filtros e os cálculos da
+ *    convolução em {@code convForward()} e {@code convBackward()}.
+ * </p>
+ * <p>
+ *    Com ativações fundíveis ({@code Ativacao.fundivel()}) a convolução é
+ *    escrita direto na saída, a ativação é aplicada sobre ela e a derivada
+ *    é calculada pela saída, sem passar pelo somatório.
+ * </p>
+ */
+public abstract class CamadaConv extends Camada implements Cloneable {
+
+	/**
+	 * Operador de tensores para a camada.
+	 */
+	protected OpTensor optensor = new OpTensor();
+
+	/**
+	 * Utilitário.
+	 */
+	protected Utils utils = new Utils();
+
+	/**
+	 * Formato de entrada da camada, dado por:
+	 * <pre>
+	 *    form = (canais, altura, largura)
+	 * </pre>
+	 */
+	protected final int[] shapeEntrada = {1, 1, 1};
+
+	/**
+	 * Formato de saída da camada, dado por:
+	 * <pre>
+	 *    form = (canais, altura, largura)
+	 * </pre>
+	 */
+	protected final int[] shapeSaida = {1, 1, 1};
+
+	/**
+	 * Tensor contendo os valores de entrada para a camada.
+	 * <pre>
+	 *    entrada = (canais, altura, largura)
+	 * </pre>
+	 * Com o layout {@code CANAIS_ULTIMO}, os tensores de entrada, saída e seus
+	 * gradientes têm os canais na última dimensão.
+	 */
+	public Tensor _entrada;
+
+	/**
+	 * Tensor contendo os filtros (ou kernels) da camada, com formato
+	 * definido por cada camada.
+	 */
+	public Tensor _filtros;
+
+	/**
+	 * Tensor contendo os bias (vieses) de cada canal da saída.
+	 * <pre>
+	 *    bias = (canaisSaida)
+	 * </pre>
+	 */
+	public Tensor _bias;
+
+	/**
+	 * Auxiliar na verificação de uso do bias.
+	 */
+	protected boolean usarBias = true;
+
+	/**
+	 * Tensor contendo o resultado da convolução, com o bias adicionado
+	 * (se houver).
+	 * <pre>
+	 *    somatorio = (canaisSaida, alturaSaida, larguraSaida)
+	 * </pre>
+	 * Com ativações fundíveis ({@code Ativacao.fundivel()}) a convolução é
+	 * escrita direto na saída e o somatório não é calculado, por isso ele só
+	 * é acessado de fora da camada por {@code somatorio()}.
+	 */
+	protected Tensor _somatorio;
+
+	/**
+	 * Indica se o somatório corresponde à última propagação direta, falso
+	 * quando a convolução foi escrita direto na saída.
+	 */
+	protected boolean somatorioValido = false;
+
+	/**
+	 * Tensor contendo os valores de saídas da camada.
+	 * <pre>
+	 *    saida = (canaisSaida, alturaSaida, larguraSaida)
+	 * </pre>
+	 */
+	public Tensor _saida;
+
+	/**
+	 * Tensor contendo os gradientes em relação a entrada da camada.
+	 * <pre>
+	 *    gradEntrada = (canais, altura, largura)
+	 * </pre>
+	 */
+	public Tensor _gradEntrada;
+
+	/**
+	 * Tensor contendo os gradientes em relação a saída da camada.
+	 * <pre>
+	 *    gradSaida = (canaisSaida, alturaSaida, larguraSaida)
+	 * </pre>
+	 */
+	public Tensor _gradSaida;
+
+	/**
+	 * Tensor contendo os gradientes em relação aos filtros da camada,
+	 * com o mesmo formato dos filtros.
+	 */
+	public Tensor _gradFiltros;
+
+	/**
+	 * Tensor contendo os gradientes em relação aos bias da camada.
+	 * <pre>
+	 *    gradBias = (canaisSaida)
+	 * </pre>
+	 */
+	public Tensor _gradBias;
+
+	/**
+	 * Função de ativação da camada.
+	 */
+	protected Ativacao ativacao = new Linear();
+
+	/**
+	 * Inicializador para os filtros da camada.
+	 */
+	protected Inicializador iniKernel = new GlorotUniforme();
+
+	/**
+	 * Inicializador para os bias da camada.
+	 */
+	protected Inicializador iniBias = new Zeros();
+
+	/**
+	 * Base das camadas convolucionais.
+	 */
+	protected CamadaConv() {}
+
+	/**
+	 * Configura a ativação e os inicializadores recebidos pelos construtores,
+	 * valores nulos mantêm o padrão.
+	 * @param ativacao função de ativação.
+	 * @param iniKernel inicializador para os filtros.
+	 * @param iniBias inicializador para os bias.
+	 */
+	protected void configurar(Object ativacao, Object iniKernel, Object iniBias) {
+		Dicionario dicio = new Dicionario();
+		if (ativacao != null) this.ativacao = dicio.getAtivacao(ativacao);
+		if (iniKernel != null) this.iniKernel = dicio.getInicializador(iniKernel);
+		if (iniBias != null) this.iniBias = dicio.getInicializador(iniBias);
+	}
+
+	/**
+	 * Valida o formato de entrada recebido em {@code construir()} e o
+	 * copia para o formato de entrada da camada.
+	 * @param entrada formato de entrada {@code (canais, altura, largura)}.
+	 * @return formato de entrada recebido.
+	 */
+	protected int[] validarEntrada(Object entrada) {
+		utils.validarNaoNulo(entrada, "Formato de entrada fornecida para camada " + nome() + " é nulo.");
+
+		if (!(entrada instanceof int[])) {
+			throw new IllegalArgumentException(
+				"\nObjeto esperado para entrada da camada " + nome() + " é do tipo int[], " +
+				"objeto recebido é do tipo " + entrada.getClass().getTypeName()
+			);
+		}
+
+		int[] fEntrada = (int[]) entrada;
+
+		if (fEntrada.length != 3) {
+			throw new IllegalArgumentException(
+				"\nFormato de entrada para a camada " + nome() + " deve conter três " +
+				"elementos (canais, altura, largura), mas recebido tamanho = " + fEntrada.length
+			);
+		}
+
+		if (!utils.apenasMaiorZero(fEntrada)) {
+			throw new IllegalArgumentException(
+				"\nOs valores de dimensões de entrada para a camada " + nome() + " não " +
+				"podem conter valores menores que 1."
+			);
+		}
+
+		shapeEntrada[0] = fEntrada[0];// canais
+		shapeEntrada[1] = fEntrada[1];// altura
+		shapeEntrada[2] = fEntrada[2];// largura
+
+		return fEntrada;
+	}
+
+	/**
+	 * Aloca os tensores da camada de acordo com os formatos de entrada e
+	 * saída já calculados, marcando a camada como construída.
+	 * @param shapeKernel formato dos filtros da camada.
+	 */
+	protected void alocar(int... shapeKernel) {
+		_entrada      = new Tensor(dtype, layout.shapeTensor(shapeEntrada));
+		_gradEntrada  = new Tensor(dtype, _entrada.shape());
+		_filtros      = new Tensor(dtype, shapeKernel);
+		_gradFiltros  = new Tensor(dtype, _filtros.shape());
+		_saida        = new Tensor(dtype, layout.shapeTensor(shapeSaida));
+		_somatorio    = new Tensor(dtype, _saida.shape());
+		_gradSaida    = new Tensor(dtype, _saida.shape());
+
+		if (usarBias) {
+			_bias      = new Tensor(dtype, shapeSaida[0]);
+			_gradBias  = new Tensor(dtype, _bias.shape());
+		}
+
+		setNomes();
+
+		_treinavel = true;
+		_construida = true;//camada pode ser usada.
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		iniKernel.setSeed(seed);
+		iniBias.setSeed(seed);
+	}
+
+	@Override
+	public void inicializar() {
+		verificarConstrucao();
+
+		iniKernel.inicializar(_filtros);
+
+		if (usarBias) {
+			iniBias.inicializar(_bias);
+		}
+	}
+
+	@Override
+	public void setAtivacao(Object ativacao) {
+		this.ativacao = new Dicionario().getAtivacao(ativacao);
+	}
+
+	@Override
+	public void setBias(boolean usarBias) {
+		this.usarBias = usarBias;
+	}
+
+	@Override
+	protected void setNomes() {
+		_entrada.nome("entrada");
+		_gradEntrada.nome("gradiente entrada");
+		_filtros.nome("kernel");
+		_saida.nome("saida");
+		_gradFiltros.nome("gradiente kernel");
+		_somatorio.nome("somatório");
+		_gradSaida.nome("gradiente saída");
+
+		if (usarBias) {
+			_bias.nome("bias");
+			_gradBias.nome("gradiente bias");
+		}
+	}
+
+	/**
+	 * Retorna a visualização {@code (canais, altura, largura)} do tensor,
+	 * usada com o layout {@code CANAIS_ULTIMO}.
+	 * @param t tensor da camada.
+	 * @return visualização com os canais primeiro.
+	 */
+	protected Tensor canaisPrimeiro(Tensor t) {
+		return layout == Layout.CANAIS_ULTIMO ? t.permutar(2, 0, 1) : t;
+	}
+
+	/**
+	 * Copia a entrada recebida para a entrada da camada.
+	 * @param entrada dados de entrada, {@code double[][][]} ou {@code Tensor}.
+	 */
+	protected void receberEntrada(Object entrada) {
+		if (entrada instanceof Tensor) {
+			Tensor e = (Tensor) entrada;
+			if (!_entrada.compararShape(e)) {
+				throw new IllegalArgumentException(
+					"\nAs dimensões da entrada recebida " + e.shapeStr() +
+					" são incompatíveis com as dimensões da entrada da camada " + _entrada.shapeStr()
+				);
+			}
+
+			_entrada.copiar(e);
+
+		} else if (entrada instanceof double[][][]) {
+			double[][][] e = (double[][][]) entrada;
+			_entrada.copiar(e);
+
+		} else {
+			throw new IllegalArgumentException(
+				"\nOs dados de entrada para a camada " + nome() + " devem ser " +
+				"do tipo " + _entrada.getClass().getSimpleName() +
+				" ou double[][][] objeto recebido é do tipo \"" +
+				entrada.getClass().getTypeName() + "\"."
+			);
+		}
+	}
+
+	/**
+	 * Copia o gradiente recebido para o gradiente de saída da camada.
+	 * @param grad gradiente da camada seguinte.
+	 */
+	protected void receberGrad(Object grad) {
+		if (grad instanceof Tensor) {
+			Tensor g = (Tensor) grad;
+			if (!_gradSaida.compararShape(g)) {
+				throw new IllegalArgumentException(
+					"\nGradiente deve ter formato " + _gradSaida.shapeStr() +
+					" mas tem " + g.shapeStr()
+				);
+			}
+
+			_gradSaida.copiar(g);
+
+		} else {
+			throw new IllegalArgumentException(
+				"Os gradientes para a camada " + nome() + " devem ser " +
+				"do tipo \"" + _gradSaida.getClass().getTypeName() +
+				"\", objeto recebido é do tipo \"" + grad.getClass().getTypeName() + "\""
+			);
+		}
+	}
+
+	/**
+	 * Calcula a convolução da entrada com os filtros, somando o bias (se
+	 * houver), acumulando o resultado no destino.
+	 * @param destino tensor zerado com o formato da saída.
+	 */
+	protected abstract void convForward(Tensor destino);
+
+	/**
+	 * Calcula os gradientes em relação aos filtros, bias e entrada a partir
+	 * de {@code _gradSaida}, já multiplicado pela derivada da ativação.
+	 * @param gradKernel tensor de destino dos gradientes dos filtros.
+	 */
+	protected abstract void convBackward(Tensor gradKernel);
+
+	/**
+	 * <h2>
+	 *    Propagação direta através da camada
+	 * </h2>
+	 * <pre>
+	 *somatorio = convolucao(entrada, filtros)
+	 *somatorio.add(bias)
+	 *saida = ativacao(somatorio)
+	 * </pre>
+	 * Com ativações fundíveis a convolução é escrita direto na saída e a
+	 * ativação é aplicada sobre ela.
+	 * @param entrada dados de entrada que serão processados, tipos aceitos são,
+	 * {@code double[][][]} ou {@code Tensor}.
+	 */
+	@Override
+	public Tensor forward(Object entrada) {
+		verificarConstrucao();
+
+		receberEntrada(entrada);
+
+		if (ativacao.fundivel()) {
+			_saida.zerar();
+			convForward(_saida);
+			ativacao.forward(_saida, _saida);
+			somatorioValido = false;
+		} else {
+			_somatorio.zerar();
+			convForward(_somatorio);
+			ativacao.forward(_somatorio, _saida);
+			somatorioValido = true;
+		}
+
+		return _saida;
+	}
+
+	/**
+	 * <h2>
+	 *    Propagação reversa através da camada
+	 * </h2>
+	 * <p>
+	 *    Calcula os gradientes da camada para os filtros e bias, e os gradientes
+	 *    em relação a entrada, salvos em {@code gradEntrada}.
+	 * </p>
+	 * @param grad gradiente da camada seguinte.
+	 */
+	@Override
+	public Tensor backward(Object grad) {
+		verificarConstrucao();
+
+		receberGrad(grad);
+		derivarAtivacao();
+
+		_gradEntrada.zerar();
+		Tensor temp = PoolTensor.pegar(_gradFiltros);
+		convBackward(temp);
+		_gradFiltros.add(temp);
+		PoolTensor.devolver(temp);
+
+		return _gradEntrada;
+	}
+
+	/**
+	 * Multiplica {@code _gradSaida} pela derivada da ativação, calculada pela
+	 * saída com ativações fundíveis e pelo somatório nas demais.
+	 */
+	protected void derivarAtivacao() {
+		if (ativacao.fundivel()) {
+			ativacao.backwardSaida(_saida, _gradSaida, _gradSaida);
+		} else {
+			ativacao.backward(_somatorio, _gradSaida, _gradSaida);
+		}
+	}
+
+	/**
+	 * Retorna o resultado da convolução, com o bias adicionado (se houver),
+	 * calculado na última propagação direta.
+	 * <p>
+	 *    Com ativações fundíveis a convolução é escrita direto na saída e o
+	 *    somatório não é calculado.
+	 * </p>
+	 * @return somatório da camada.
+	 * @throws IllegalStateException se o somatório não foi calculado na última
+	 * propagação direta.
+	 */
+	public Tensor somatorio() {
+		verificarConstrucao();
+
+		if (!somatorioValido) {
+			throw new IllegalStateException(
+				"\nO somatório da camada " + nome() + " não foi calculado na última " +
+				"propagação direta, com a ativação " + ativacao.nome() + " a convolução " +
+				"é escrita direto na saída."
+			);
+		}
+
+		return _somatorio;
+	}
+
+	@Override
+	public void zerarGrad() {
+		verificarConstrucao();
+
+		_gradFiltros.zerar();
+		if (usarBias) _gradBias.zerar();
+	}
+
+	@Override
+	public Ativacao ativacao() {
+		return ativacao;
+	}
+
+	@Override
+	public Tensor saida() {
+		return _saida;
+	}
+
+	@Override
+	public boolean temBias() {
+		return usarBias;
+	}
+
+	@Override
+	public int numParametros() {
+		verificarConstrucao();
+
+		int parametros = _filtros.tamanho();
+
+		if (usarBias) parametros += _bias.tamanho();
+
+		return parametros;
+	}
+
+	@Override
+	public Variavel[] saidaParaArray() {
+		verificarConstrucao();
+
+		return _saida.paraArray();
+	}
+
+	@Override
+	public int tamanhoSaida() {
+		return _saida.tamanho();
+	}
+
+	/**
+	 * Adiciona às informações da camada as quantidades de filtros (e grupos),
+	 * exibidas após o formato de entrada.
+	 * @param sb buffer de informações.
+	 * @param pad espaçamento.
+	 */
+	protected void infoFiltros(StringBuilder sb, String pad) {}
+
+	/**
+	 * Adiciona às informações da camada as configurações da convolução,
+	 * exibidas após o formato de saída.
+	 * @param sb buffer de informações.
+	 * @param pad espaçamento.
+	 */
+	protected void infoConfig(StringBuilder sb, String pad) {}
+
+	@Override
+	public String info() {
+		verificarConstrucao();
+
+		StringBuilder sb = new StringBuilder();
+		String pad = " ".repeat(4);
+
+		sb.append(nome() + " (id " + id + ") = [\n");
+
+		sb.append(pad).append("Ativação: " + ativacao.nome() + "\n");
+		sb.append(pad).append("Entrada: " + utils.shapeStr(shapeEntrada) + "\n");
+		infoFiltros(sb, pad);
+		sb.append(pad).append("Saida: " + utils.shapeStr(shapeSaida) + "\n");
+		infoConfig(sb, pad);
+		sb.append(pad).append("Layout: " + layout.nome() + "\n");
+		sb.append("\n");
+
+		sb.append(pad + "Kernel: " + _filtros.shapeStr() + "\n");
+
+		sb.append(pad + "Bias: ");
+		if (temBias()) {
+			sb.append(_bias.shapeStr() + "\n");
+		} else {
+			sb.append(" N/A\n");
+		}
+
+		sb.append("]\n");
+
+		return sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(info());
+		int tamanho = sb.length();
+
+		sb.delete(tamanho-1, tamanho);//remover ultimo "\n"
+
+		sb.append(" <hash: " + Integer.toHexString(hashCode()) + ">");
+		sb.append("\n");
+
+		return sb.toString();
+	}
+
+	@Override
+	public CamadaConv clone() {
+		verificarConstrucao();
+
+		CamadaConv clone = (CamadaConv) super.clone();
+		clone.ativacao 	 = this.ativacao;
+		clone.usarBias   = this.usarBias;
+		clone._treinavel = this._treinavel;
+
+		clone._entrada     = this._entrada.clone();
+		clone._filtros     = this._filtros.clone();
+		clone._gradFiltros = this._gradFiltros.clone();
+		clone._gradEntrada = this._gradEntrada.clone();
+
+		if (this.usarBias) {
+			clone._bias     = this._bias.clone();
+			clone._gradBias = this._gradBias.clone();
+		}
+
+		clone._somatorio   = this._somatorio.clone();
+		clone._saida       = this._saida.clone();
+		clone._gradSaida   = this._gradSaida.clone();
+
+		return clone;
+	}
+
+	/**
+	 * Retorna o formato de entrada da camada.
+	 * <pre>
+	 *    formato = (canais, altura, largura)
+	 * </pre>
+	 * @return formato de entrada da camada.
+	 */
+	@Override
+	public int[] formatoEntrada() {
+		verificarConstrucao();
+		return shapeEntrada.clone();
+	}
+
+	/**
+	 * Retorna o formato de saída da camada.
+	 * <pre>
+	 *    formato = (canais, altura, largura)
+	 * </pre>
+	 * @return formato de saída da camada.
+	 */
+	@Override
+	public int[] formatoSaida() {
+		verificarConstrucao();
+		return shapeSaida.clone();
+	}
+
+	@Override
+	public Tensor kernel() {
+		return _filtros;
+	}
+
+	@Override
+	public Variavel[] kernelParaArray() {
+		return kernel().paraArray();
+	}
+
+	@Override
+	public Tensor gradKernel() {
+		return _gradFiltros;
+	}
+
+	@Override
+	public Variavel[] gradKernelParaArray() {
+		return gradKernel().paraArray();
+	}
+
+	@Override
+	public Tensor bias() {
+		if (usarBias) {
+			return _bias;
+		}
+
+		throw new IllegalStateException(
+			"\nA camada " + nome() + " (" + id + ") não possui bias configurado."
+		);
+	}
+
+	@Override
+	public Variavel[] biasParaArray() {
+		return bias().paraArray();
+	}
+
+	@Override
+	public Tensor gradBias() {
+		return _gradBias;
+	}
+
+	@Override
+	public Variavel[] gradBiasParaArray() {
+		return gradBias().paraArray();
+	}
+
+	@Override
+	public Tensor gradEntrada() {
+		return _gradEntrada;
+	}
+
+	@Override
+	public void setKernel(Variavel[] kernel) {
+		if (kernel.length != _filtros.tamanho()) {
+			throw new IllegalArgumentException(
+				"A dimensão do kernel fornecido (" + kernel.length + ") não é igual a quantidade de " +
+				" parâmetros para os kernels da camada (" + _filtros.tamanho() + ")."
+			);
+		}
+
+		_filtros.copiarElementos(kernel);
+	}
+
+	@Override
+	public void setBias(Variavel[] bias) {
+		if (bias.length != _bias.tamanho()) {
+			throw new IllegalArgumentException(
+				"A dimensão do bias fornecido não é igual a quantidade de " +
+				" parâmetros para os bias da camada."
+			);
+		}
+
+		_bias.copiarElementos(bias);
+	}
+
+}
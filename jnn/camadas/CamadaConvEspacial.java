@@ -0,0 +1,202 @@
+package jnn.camadas;
+
+import jnn.core.tensor.OpTensor;
+
+/**
+ * <h2>
+ *    Base das camadas convolucionais com janela espacial
+ * </h2>
+ * <p>
+ *    Adiciona à {@code CamadaConv} o formato dos filtros e as configurações
+ *    da janela sobre a entrada (stride, padding e dilatação), usadas pelas
+ *    camadas {@code Conv2D}, {@code DepthwiseConv2D} e {@code GroupedConv2D}.
+ *    A altura e a largura da saída são dadas por:
+ * </p>
+ * <pre>
+ *    saida = ((entrada + 2*padding - dilatacao*(filtro - 1) - 1) / stride) + 1
+ * </pre>
+ */
+public abstract class CamadaConvEspacial extends CamadaConv {
+
+	/**
+	 * Formato de cada filtro da camada, dado por:
+	 * <pre>
+	 *    form = (altura, largura)
+	 * </pre>
+	 */
+	protected final int[] shapeFiltro = {1, 1};
+
+	/**
+	 * Passos do filtro sobre a entrada, dado por:
+	 * <pre>
+	 *    stride = (altura, largura)
+	 * </pre>
+	 */
+	protected final int[] stride = {1, 1};
+
+	/**
+	 * Quantidade de zeros adicionados em cada borda da entrada, dado por:
+	 * <pre>
+	 *    padding = (altura, largura)
+	 * </pre>
+	 */
+	protected final int[] padding = {0, 0};
+
+	/**
+	 * Espaçamento entre os elementos do filtro, dado por:
+	 * <pre>
+	 *    dilatacao = (altura, largura)
+	 * </pre>
+	 */
+	protected final int[] dilatacao = {1, 1};
+
+	/**
+	 * Base das camadas convolucionais com janela espacial.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 */
+	protected CamadaConvEspacial(int[] filtro) {
+		utils.validarNaoNulo(filtro, "O formato do filtro não pode ser nulo.");
+
+		if (filtro.length != 2) {
+			throw new IllegalArgumentException(
+				"\nO formato dos filtros deve conter 2 elementos (altura, largura), " +
+				"recebido: " + filtro.length
+			);
+		}
+
+		if (!utils.apenasMaiorZero(filtro)) {
+			throw new IllegalArgumentException(
+				"\nOs valores de formato para os filtros devem ser maiores que zero."
+			);
+		}
+
+		shapeFiltro[0] = filtro[0];
+		shapeFiltro[1] = filtro[1];
+	}
+
+	/**
+	 * Calcula a altura e a largura da saída a partir do formato de entrada
+	 * e das configurações da janela.
+	 * @param fEntrada formato de entrada recebido.
+	 */
+	protected void calcularSaida(int[] fEntrada) {
+		shapeSaida[1] = OpTensor.tamSaidaConv(shapeEntrada[1], shapeFiltro[0], stride[0], padding[0], dilatacao[0]);
+		shapeSaida[2] = OpTensor.tamSaidaConv(shapeEntrada[2], shapeFiltro[1], stride[1], padding[1], dilatacao[1]);
+
+		if (shapeSaida[1] < 1 || shapeSaida[2] < 1) {
+			throw new IllegalArgumentException(
+				"\nFormato de entrada " + utils.shapeStr(fEntrada) +
+				" e formato dos filtros " + utils.shapeStr(shapeFiltro) +
+				" resultam num formato de saída inválido " + utils.shapeStr(shapeSaida)
+			);
+		}
+	}
+
+	/**
+	 * Configura os passos do filtro sobre a entrada.
+	 * <p>
+	 *    Com stride maior que 1 apenas as posições mantidas na saída são
+	 *    calculadas, reduzindo a resolução sem precisar de uma camada de pooling.
+	 * </p>
+	 * <p>
+	 *    A configuração deve ser feita antes da construção da camada.
+	 * </p>
+	 * @param stride strides (altura, largura), maiores que zero.
+	 */
+	public void setStride(int[] stride) {
+		validarConfig(stride, 1, "stride");
+		this.stride[0] = stride[0];
+		this.stride[1] = stride[1];
+	}
+
+	/**
+	 * Configura a quantidade de zeros adicionados em cada borda da entrada.
+	 * <p>
+	 *    A configuração deve ser feita antes da construção da camada.
+	 * </p>
+	 * @param padding padding (altura, largura), maiores ou iguais a zero.
+	 */
+	public void setPadding(int[] padding) {
+		validarConfig(padding, 0, "padding");
+		this.padding[0] = padding[0];
+		this.padding[1] = padding[1];
+	}
+
+	/**
+	 * Configura o espaçamento entre os elementos do filtro, um filtro
+	 * {@code 3x3} com dilatação 2 cobre uma região {@code 5x5} da entrada.
+	 * <p>
+	 *    A configuração deve ser feita antes da construção da camada.
+	 * </p>
+	 * @param dilatacao dilatação (altura, largura), maiores que zero.
+	 */
+	public void setDilatacao(int[] dilatacao) {
+		validarConfig(dilatacao, 1, "dilatação");
+		this.dilatacao[0] = dilatacao[0];
+		this.dilatacao[1] = dilatacao[1];
+	}
+
+	/**
+	 * Valida uma configuração {@code (altura, largura)} da camada.
+	 * @param config configuração recebida.
+	 * @param minimo valor mínimo aceito.
+	 * @param nome nome da configuração.
+	 */
+	private void validarConfig(int[] config, int minimo, String nome) {
+		utils.validarNaoNulo(config, "\nO formato de " + nome + " não pode ser nulo.");
+
+		if (config.length != 2) {
+			throw new IllegalArgumentException(
+				"\nO formato de " + nome + " deve conter dois elementos (altura, largura), " +
+				"recebido: " + config.length
+			);
+		}
+
+		if (config[0] < minimo || config[1] < minimo) {
+			throw new IllegalArgumentException(
+				"\nOs valores de " + nome + " devem ser maiores ou iguais a " + minimo +
+				", recebido: " + utils.shapeStr(config)
+			);
+		}
+	}
+
+	@Override
+	protected void infoConfig(StringBuilder sb, String pad) {
+		sb.append(pad).append("Stride: " + utils.shapeStr(stride) + "\n");
+		sb.append(pad).append("Padding: " + utils.shapeStr(padding) + "\n");
+		sb.append(pad).append("Dilatação: " + utils.shapeStr(dilatacao) + "\n");
+	}
+
+	/**
+	 * Retorna os passos do filtro sobre a entrada.
+	 * @return strides (altura, largura).
+	 */
+	public int[] stride() {
+		return stride.clone();
+	}
+
+	/**
+	 * Retorna a quantidade de zeros adicionados em cada borda da entrada.
+	 * @return padding (altura, largura).
+	 */
+	public int[] padding() {
+		return padding.clone();
+	}
+
+	/**
+	 * Retorna o espaçamento entre os elementos do filtro.
+	 * @return dilatação (altura, largura).
+	 */
+	public int[] dilatacao() {
+		return dilatacao.clone();
+	}
+
+	/**
+	 * Retorna o formato dos filtros contidos na camada.
+	 * @return formato de cada filtro (altura, largura).
+	 */
+	public int[] formatoFiltro() {
+		return shapeFiltro.clone();
+	}
+
+}
@@ -1,15 +1,10 @@
 package jnn.camadas;
 
-import jnn.ativacoes.Ativacao;
-import jnn.ativacoes.Linear;
-import jnn.core.Dicionario;
-import jnn.core.Utils;
+import jnn.core.tensor.AjusteConv;
+import jnn.core.tensor.AlgoritmoConv;
+import jnn.core.tensor.Layout;
 import jnn.core.tensor.OpTensor;
 import jnn.core.tensor.Tensor;
-import jnn.core.tensor.Variavel;
-import jnn.inicializadores.GlorotUniforme;
-import jnn.inicializadores.Inicializador;
-import jnn.inicializadores.Zeros;
 
 /**
  * <h2>
@@ -36,168 +31,18 @@ import jnn.inicializadores.Zeros;
  * verdadeira operação de convolução tem a peculiaridade de rotacionar o filtro 180° 
  * antes de ser executada.
  */
-public class Conv2D extends Camada implements Cloneable {
+public class Conv2D extends CamadaConvEspacial {
 
 	/**
-	 * Operador de tensores para a camada.
+	 * Algoritmo usado no cálculo da convolução, definido ao construir a
+	 * camada ({@code null} para escolha por estimativa a cada chamada).
 	 */
-	private OpTensor optensor = new OpTensor();
+	private AlgoritmoConv algoritmo;
 
 	/**
-	 * Utilitário.
+	 * Algoritmo configurado pelo usuário ({@code null} caso não configurado).
 	 */
-	private Utils utils = new Utils();
-
-	/**
-	 * Formato de entrada da camada convolucional, dado por:
-	 * <pre>
-	 *    form = (profundidade, altura, largura)
-	 * </pre>
-	 */
-	private final int[] shapeEntrada = {1, 1, 1};
-
-	/**
-	 * Formato de cada filtro da camada convolucional, dado por:
-	 * <pre>
-	 *    form = (altura, largura)
-	 * </pre>
-	 */
-	private final int[] shapeFiltro = {1, 1};
-
-	/**
-	 * Formato de saída da camada convolucional, dado por:
-	 * <pre>
-	 *    form = (numFiltros, altura, largura)
-	 * </pre>
-	 */
-	private final int[] shapeSaida = {1, 1, 1};
-
-	/**
-	 * Tensor contendo os valores de entrada para a camada,
-	 * que serão usados para o processo de feedforward.
-	 * <p>
-	 *    O formato da entrada é dado por:
-	 * </p>
-	 * <pre>
-	 *    entrada = (profundidade, altura, largura)
-	 * </pre>
-	 */
-	public Tensor _entrada;
-
-	/**
-	 * Tensor contendo os filtros (ou kernels)
-	 * da camada.
-	 * <p>
-	 *    O formato dos filtros é dado por:
-	 * </p>
-	 * <pre>
-	 *    entrada = (numFiltros, profundidadeEntrada, alturaFiltro, larguraFiltro)
-	 * </pre>
-	 */
-	public Tensor _filtros;
-
-	/**
-	 * Tensor contendo os bias (vieses) para cada valor de 
-	 * saída da camada.
-	 * <p>
-	 *    O formato do bias é dado por:
-	 * </p>
-	 * <pre>
-	 *    bias = (numFiltros)
-	 * </pre>
-	 */
-	public Tensor _bias;
-
-	/**
-	 * Auxiliar na verificação de uso do bias.
-	 */
-	private boolean usarBias = true;
-
-	/**
-	 * Tensor contendo valores resultantes do cálculo de correlação cruzada
-	 * entre a entrada e os filtros, com o bias adicionado (se houver).
-	 * <p>
-	 *    O formato somatório é dado por:
-	 * </p>
-	 * <pre>
-	 *    somatorio = (numeroFiltros, alturaSaida, larguraSaida)
-	 * </pre>
-	 */
-	public Tensor _somatorio;
-	
-	/**
-	 * Tensor contendo os valores de saídas da camada.
-	 * <p>
-	 *    O formato da saída é dado por:
-	 * </p>
-	 * <pre>
-	 *    saida = (numeroFiltros, alturaSaida, larguraSaida)
-	 * </pre>
-	 */
-	public Tensor _saida;
-
-	/**
-	 * Tensor contendo os valores dos gradientes usados para 
-	 * a retropropagação para camadas anteriores.
-	 * <p>
-	 *    O formato do gradiente de entrada é dado por:
-	 * </p>
-	 * <pre>
-	 *    gradEntrada = (profEntrada, alturaEntrada, larguraEntrada)
-	 * </pre>
-	 */
-	public Tensor _gradEntrada;
-
-	/**
-	 * Tensor contendo os valores dos gradientes relativos a saída
-	 * da camada.
-	 * <p>
-	 *    O formato dos gradientes da saída é dado por:
-	 * </p>
-	 * <pre>
-	 *    gradSaida = (numFiltros, alturaSaida, larguraSaida)
-	 * </pre>
-	 */
-	public Tensor _gradSaida;
-
-	/**
-	 * Tensor contendo os valores dos gradientes relativos a cada
-	 * filtro da camada.
-	 * <p>
-	 *    O formato dos gradientes para os filtros é dado por:
-	 * </p>
-	 * <pre>
-	 * gradFiltros = (numFiltros, profundidadeEntrada, alturaFiltro, larguraFiltro)
-	 * </pre>
-	 */
-	public Tensor _gradFiltros;
-
-	/**
-	 * Tensor contendo os valores dos gradientes relativos a cada
-	 * bias da camada.
-	 * <p>
-	 *    O formato dos gradientes para os bias é dado por:
-	 * </p>
-	 * <pre>
-	 *    gradBias = (numFiltros)
-	 * </pre>
-	 */
-	public Tensor _gradBias;
-
-	/**
-	 * Função de ativação da camada.
-	 */
-	private Ativacao ativacao = new Linear();
-
-	/**
-	 * Inicializador para os filtros da camada.
-	 */
-	private Inicializador iniKernel = new GlorotUniforme();
-
-	/**
-	 * Inicializador para os bias da camada.
-	 */
-	private Inicializador iniBias = new Zeros();
+	private AlgoritmoConv algoritmoConfig;
 
 	/**
 	 * Instancia uma camada convolucional de acordo com os formatos fornecidos.
@@ -358,25 +203,7 @@ public class Conv2D extends Camada implements Cloneable {
 	 * @param iniBias inicializador para os bias.
 	 */
 	public Conv2D(int filtros, int[] filtro, Object ativacao, Object iniKernel, Object iniBias) {
-		utils.validarNaoNulo(filtro, "O formato do filtro não pode ser nulo.");
-
-		//formado dos filtros
-		int[] formFiltro = (int[]) filtro;
-		if (formFiltro.length != 2) {
-			throw new IllegalArgumentException(
-				"\nO formato dos filtros deve conter 2 elementos (altura, largura), " +
-				"recebido: " + formFiltro.length
-			);
-		}
-
-		if (!utils.apenasMaiorZero(formFiltro)) {
-			throw new IllegalArgumentException(
-				"\nOs valores de formato para os filtros devem ser maiores que zero."
-			);      
-		}
-
-		shapeFiltro[0] = formFiltro[0];
-		shapeFiltro[1] = formFiltro[1];
+		super(filtro);
 
 		// número de filtros
 		if (filtros < 1) {
@@ -386,11 +213,8 @@ public class Conv2D extends Camada implements Cloneable {
 		}
 
 		shapeSaida[0] = filtros;
-		
-		Dicionario dicio = new Dicionario();
-		if (ativacao != null) this.ativacao = dicio.getAtivacao(ativacao);
-		if (iniKernel != null) this.iniKernel = dicio.getInicializador(iniKernel);
-		if (iniBias != null) this.iniBias = dicio.getInicializador(iniBias);
+
+		configurar(ativacao, iniKernel, iniBias);
 	}
 
 	/**
@@ -484,103 +308,56 @@ public class Conv2D extends Camada implements Cloneable {
 	 */
 	@Override
 	public void construir(Object entrada) {
-		utils.validarNaoNulo(entrada, "Formato de entrada fornecida para camada Convolucional é nulo.");
-
-		if (!(entrada instanceof int[])) {
-			throw new IllegalArgumentException(
-				"\nObjeto esperado para entrada da camada Convolucional é do tipo int[], " +
-				"objeto recebido é do tipo " + entrada.getClass().getTypeName()
-			);
-		}
+		int[] fEntrada = validarEntrada(entrada);
 
-		int[] fEntrada = (int[]) entrada;
+		calcularSaida(fEntrada);
 
-		if (fEntrada.length != 3) {
-			throw new IllegalArgumentException(
-				"\nFormato de entrada para a camada " + nome() + " deve conter três " + 
-				"elementos (canais, altura, largura), mas recebido tamanho = " + fEntrada.length
-			);
-		}
-
-		if (!utils.apenasMaiorZero(fEntrada)) {
-			throw new IllegalArgumentException(
-				"\nOs valores de dimensões de entrada para a camada Convolucional não " +
-				"podem conter valores menores que 1."
-			);
-		}
-
-		shapeEntrada[0] = fEntrada[0];// canais
-		shapeEntrada[1] = fEntrada[1];// altura
-		shapeEntrada[2] = fEntrada[2];// largura
-
-		//dim -> ((entrada - filtro) / stride) + 1
-		shapeSaida[1] = shapeEntrada[1] - shapeFiltro[0] + 1;
-		shapeSaida[2] = shapeEntrada[2] - shapeFiltro[1] + 1;
+		final int[] shapeKernel = {shapeSaida[0], shapeEntrada[0], shapeFiltro[0], shapeFiltro[1]};
 
-		if (shapeSaida[1] < 1 || shapeSaida[2] < 1) {
-			throw new IllegalArgumentException(
-				"\nFormato de entrada " + utils.shapeStr(fEntrada) +
-				" e formato dos filtros " + 
-				utils.shapeStr(new int[]{shapeSaida[0], shapeFiltro[0], shapeFiltro[1]}) +
-				" resultam num formato de saída inválido " + utils.shapeStr(shapeSaida)
-			);
-		}
-
-		//inicialização dos parâmetros necessários
-		_entrada      = new Tensor(shapeEntrada);
-		_gradEntrada  = new Tensor(_entrada.shape());
-		_filtros      = new Tensor(shapeSaida[0], shapeEntrada[0], shapeFiltro[0], shapeFiltro[1]);
-		_gradFiltros  = new Tensor(_filtros.shape());
-		_saida        = new Tensor(shapeSaida);
-		_somatorio    = new Tensor(_saida.shape());
-		_gradSaida    = new Tensor(_saida.shape());
-
-		if (usarBias) {
-			_bias      = new Tensor(shapeSaida[0]);
-			_gradBias  = new Tensor(_bias.shape());
-		}
+		// com canais por último as janelas da entrada são contíguas e a
+		// convolução é sempre calculada por im2col, assim como com strides,
+		// padding ou dilatação
+		if (layout == Layout.CANAIS_ULTIMO || !OpTensor.convPadrao(stride, padding, dilatacao)) {
+			if (algoritmoConfig != null && algoritmoConfig != AlgoritmoConv.IM2COL) {
+				throw new IllegalArgumentException(
+					"\nAlgoritmo " + algoritmoConfig.nome() + " não suportado com canais" +
+					" por último, stride, padding ou dilatação, apenas im2col."
+				);
+			}
+			algoritmo = AlgoritmoConv.IM2COL;
 
-		setNomes();
-		
-		_treinavel = true;
-		_construida = true;//camada pode ser usada.
-	}
+		} else if (algoritmoConfig != null) {
+			if (!algoritmoConfig.suporta(shapeKernel)) {
+				throw new IllegalArgumentException(
+					"\nAlgoritmo " + algoritmoConfig.nome() + " não suporta o formato" +
+					" dos filtros " + utils.shapeStr(shapeKernel) + "."
+				);
+			}
+			algoritmo = algoritmoConfig;
 
-	@Override
-	public void inicializar() {
-		verificarConstrucao();
-		
-		iniKernel.inicializar(_filtros);
+		} else if (AjusteConv.ativo()) {
+			algoritmo = AjusteConv.escolher(dtype, shapeEntrada, shapeKernel);
 
-		if (usarBias) {
-			iniBias.inicializar(_bias);
+		} else {
+			algoritmo = null;
 		}
-	}
 
-	@Override
-	public void setAtivacao(Object ativacao) {
-		this.ativacao = new Dicionario().getAtivacao(ativacao);
+		alocar(shapeKernel);
 	}
 
-	@Override
-	public void setBias(boolean usarBias) {
-		this.usarBias = usarBias;
-	}
-
-	@Override
-	protected void setNomes() {
-		_entrada.nome("entrada");
-		_gradEntrada.nome("gradiente entrada");
-		_filtros.nome("kernel");
-		_saida.nome("saida");
-		_gradFiltros.nome("gradiente kernel");
-		_somatorio.nome("somatório");
-		_gradSaida.nome("gradiente saída");
-
-		if (usarBias) {
-			_bias.nome("bias");
-			_gradBias.nome("gradiente bias");
-		}
+	/**
+	 * Configura o algoritmo usado no cálculo da convolução.
+	 * <p>
+	 *    Sem configuração, o algoritmo é escolhido por estimativa a cada
+	 *    chamada, ou pelo ajuste automático caso {@code AjusteConv} esteja ativo.
+	 * </p>
+	 * <p>
+	 *    A configuração deve ser feita antes da construção da camada.
+	 * </p>
+	 * @param algoritmo algoritmo desejado, {@code null} para escolha automática.
+	 */
+	public void setAlgoritmo(AlgoritmoConv algoritmo) {
+		algoritmoConfig = algoritmo;
 	}
 
 	/**
@@ -601,330 +378,98 @@ public class Conv2D extends Camada implements Cloneable {
 	 *somatorio.add(bias)
 	 *saida = ativacao(somatorio)
 	 * </pre>
+	 * Com ativações fundíveis o bias e a ativação são aplicados no epílogo
+	 * da convolução, e a saída é escrita uma única vez.
 	 * @param entrada dados de entrada que serão processados, tipos aceitos são,
 	 * {@code double[][][]} ou {@code Tensor}.
 	 */
 	@Override
 	public Tensor forward(Object entrada) {
+		if (!ativacao.fundivel()) return super.forward(entrada);
+
 		verificarConstrucao();
 
-		if (entrada instanceof Tensor) {
-			Tensor e = (Tensor) entrada;
-			if (!_entrada.compararShape(e)) {
-				throw new IllegalArgumentException(
-					"\nAs dimensões da entrada recebida " + e.shapeStr() + 
-					" são incompatíveis com as dimensões da entrada da camada " + _entrada.shapeStr()
-				);
-			}
+		receberEntrada(entrada);
 
-			_entrada.copiar(e);
-		
-		} else if (entrada instanceof double[][][]) {
-			double[][][] e = (double[][][]) entrada;
-			_entrada.copiar(e);
-		
+		// bias e ativação no epílogo da convolução, a saída é escrita uma vez
+		if (layout == Layout.CANAIS_ULTIMO) {
+			optensor.conv2DForwardAtivacaoCanaisUltimo(
+				_entrada, _filtros, _bias, _saida, ativacao.funcao(), stride, padding, dilatacao
+			);
 		} else {
-			throw new IllegalArgumentException(
-				"\nOs dados de entrada para a camada Convolucional devem ser " +
-				"do tipo " + _entrada.getClass().getSimpleName() + 
-				" ou double[][][] objeto recebido é do tipo \"" + 
-				entrada.getClass().getTypeName() + "\"."
+			optensor.conv2DForwardAtivacao(
+				_entrada, _filtros, _bias, _saida, ativacao.funcao(), stride, padding, dilatacao, algoritmo
 			);
 		}
-
-		// feedforward
-		_somatorio.zerar();// zerar valores pre-calculados
-		optensor.conv2DForward(_entrada, _filtros, _bias, _somatorio);
-		ativacao.forward(_somatorio, _saida);
+		somatorioValido = false;
 
 		return _saida;
 	}
 
-	/**
-	 * <h2>
-	 *    Propagação reversa através da camada Convolucional
-	 * </h2>
-	 * <p>
-	 *    Calcula os gradientes da camada para os filtros e bias baseado nos
-	 *    gradientes fornecidos.
-	 * </p>
-	 * <p>
-	 *    Após calculdos, os gradientes em relação a entrada da camada são
-	 *    calculados e salvos em {@code gradEntrada} para serem retropropagados 
-	 *    para as camadas anteriores do modelo em que a camada estiver.
-	 * </p>
-	 * Resultados calculados ficam salvos nas prorpiedades {@code camada.gradFiltros} e
-	 * {@code camada.gradBias}.
-	 * @param grad gradiente da camada seguinte.
-	 */
 	@Override
-	public Tensor backward(Object grad) {
-		verificarConstrucao();
-
-		if (grad instanceof Tensor) {
-			Tensor g = (Tensor) grad;
-			if (!_gradSaida.compararShape(g)) {
-				throw new IllegalArgumentException(
-					"\nGradiente deve ter formato " + _gradSaida.shapeStr() +
-					" mas tem " + g.shapeStr()
-				);
-			}
-
-			_gradSaida.copiar(g);
-
+	protected void convForward(Tensor destino) {
+		if (layout == Layout.CANAIS_ULTIMO) {
+			optensor.conv2DForwardCanaisUltimo(_entrada, _filtros, _bias, destino, stride, padding, dilatacao);
 		} else {
-			throw new IllegalArgumentException(
-				"Os gradientes para a camada Convolucional devem ser " +
-				"do tipo \"" + _gradSaida.getClass().getTypeName() + 
-				"\", objeto recebido é do tipo \"" + grad.getClass().getTypeName() + "\""
-			);
+			optensor.conv2DForward(_entrada, _filtros, _bias, destino, stride, padding, dilatacao, algoritmo);
 		}
-
-		ativacao.backward(this);
-		
-		//backward
-		_gradEntrada.zerar();
-		Tensor temp = new Tensor(_gradFiltros.shape());
-		
-		optensor.conv2DBackward(_entrada, _filtros, _gradSaida, temp, _gradBias, _gradEntrada);
-		_gradFiltros.add(temp);
-
-		return _gradEntrada;
-	}
-
-	@Override
-	public void zerarGrad() {
-		verificarConstrucao();
-
-		_gradFiltros.zerar();
-		if (usarBias) _gradBias.zerar();
-	}
-
-	/**
-	 * Retorna a quantidade de filtros presentes na camada.
-	 * @return quantiadde de filtros presentes na camada.
-	 */
-	public int numFiltros() {
-		verificarConstrucao();
-		return this.shapeSaida[0];
-	}
-
-	@Override
-	public Ativacao ativacao() {
-		return ativacao;
-	}
-
-	@Override
-	public Tensor saida() {
-		return _saida;
-	}
-
-	@Override
-	public boolean temBias() {
-		return usarBias;
 	}
 
 	@Override
-	public int numParametros() {
-		verificarConstrucao();
-
-		int parametros = _filtros.tamanho();
-		
-		if (usarBias) parametros += _bias.tamanho();
-
-		return parametros;
-	}
-
-	@Override
-	public Variavel[] saidaParaArray() {
-		verificarConstrucao();
-
-		return _saida.paraArray();
-	}
-
-	@Override 
-	public int tamanhoSaida() {
-		return _saida.tamanho();
-	}
-
-	@Override
-	public String info() {
-		verificarConstrucao();
-
-		StringBuilder sb = new StringBuilder();
-		String pad = " ".repeat(4);
-		
-		sb.append(nome() + " (id " + id + ") = [\n");
-
-		sb.append(pad).append("Ativação: " + ativacao.nome() + "\n");
-		sb.append(pad).append("Entrada: " + utils.shapeStr(shapeEntrada) + "\n");
-		sb.append(pad).append("Filtros: " + numFiltros() + "\n");
-		sb.append(pad).append("Saida: " + utils.shapeStr(shapeSaida) + "\n");
-		sb.append("\n");
-
-		sb.append(pad + "Kernel: " + _filtros.shapeStr() + "\n");
-
-		sb.append(pad + "Bias: ");
-		if (temBias()) {
-			sb.append(_bias.shapeStr() + "\n");
+	protected void convBackward(Tensor gradKernel) {
+		if (layout == Layout.CANAIS_ULTIMO) {
+			optensor.conv2DBackwardCanaisUltimo(
+				_entrada, _filtros, _gradSaida, gradKernel, _gradBias, _gradEntrada, stride, padding, dilatacao
+			);
 		} else {
-			sb.append(" N/A\n");
+			optensor.conv2DBackward(
+				_entrada, _filtros, _gradSaida, gradKernel, _gradBias, _gradEntrada, stride, padding, dilatacao, algoritmo
+			);
 		}
-
-		sb.append("]\n");
-
-		return sb.toString();
 	}
 
 	@Override
-	public String toString() {
-		StringBuilder sb = new StringBuilder(info());
-		int tamanho = sb.length();
-
-		sb.delete(tamanho-1, tamanho);//remover ultimo "\n"    
-		
-		sb.append(" <hash: " + Integer.toHexString(hashCode()) + ">");
-		sb.append("\n");
-		
-		return sb.toString();
-	}
-
-	@Override
-	public Conv2D clone() {
-		verificarConstrucao();
-
-		Conv2D clone = (Conv2D) super.clone();
-		clone.ativacao 	 = this.ativacao;
-		clone.usarBias   = this.usarBias;
-		clone._treinavel = this._treinavel;
-
-		clone._entrada     = this._entrada.clone();
-		clone._filtros     = this._filtros.clone();
-		clone._gradFiltros = this._gradFiltros.clone();
-		clone._gradEntrada = this._gradEntrada.clone();
-
-		if (this.usarBias) {
-			clone._bias     = this._bias.clone();
-			clone._gradBias = this._gradBias.clone();
+	protected void derivarAtivacao() {
+		if (ativacao.fundivel()) {
+			// derivada calculada pela saída, sem o somatório
+			ativacao.backwardSaida(_saida, _gradSaida, _gradSaida);
+		} else {
+			ativacao.backward(this);
 		}
-
-		clone._somatorio   = this._somatorio.clone();
-		clone._saida       = this._saida.clone();
-		clone._gradSaida   = this._gradSaida.clone();
-
-		return clone;
 	}
 
 	/**
-	 * Calcula o formato de entrada da camada Convolucional, que é disposto da
-	 * seguinte forma:
-	 * <pre>
-	 *    formato = (profundidade, altura, largura)
-	 * </pre>
-	 * @return formato de entrada da camada.
+	 * Retorna o algoritmo usado no cálculo da convolução.
+	 * @return algoritmo da camada, {@code null} caso seja escolhido
+	 * por estimativa a cada chamada.
 	 */
-	@Override
-	public int[] formatoEntrada() {
-		verificarConstrucao();
-		return shapeEntrada.clone();
-	}
- 
-	/**
-	 * Calcula o formato de saída da camada Convolucional, que é disposto da
-	 * seguinte forma:
-	 * <pre>
-	 *    formato = (profundidade, altura, largura)
-	 * </pre>
-	 * @return formato de saída da camada.
-	 */
-	@Override
-	public int[] formatoSaida() {
-		verificarConstrucao();
-		return shapeSaida.clone();
+	public AlgoritmoConv algoritmo() {
+		return algoritmo;
 	}
 
 	/**
-	 * Retorna o formato dos filtros contidos na camada.
-	 * @return formato de cada filtro (altura, largura).
+	 * Retorna a quantidade de filtros presentes na camada.
+	 * @return quantiadde de filtros presentes na camada.
 	 */
-	public int[] formatoFiltro() {
+	public int numFiltros() {
 		verificarConstrucao();
-		return shapeFiltro.clone();
-	}
-
-	@Override
-	public Tensor kernel() {
-		return _filtros;
-	}
-
-	@Override
-	public Variavel[] kernelParaArray() {
-		return kernel().paraArray();
-	}
-
-	@Override
-	public Tensor gradKernel() {
-		return _gradFiltros;
-	}
-
-	@Override
-	public Variavel[] gradKernelParaArray() {
-		return gradKernel().paraArray();
-	}
-
-	@Override
-	public Tensor bias() {
-		if (usarBias) {
-			return _bias;
-		}
-
-		throw new IllegalStateException(
-			"\nA camada " + nome() + " (" + id + ") não possui bias configurado."
-		);
-	}
-
-	@Override
-	public Variavel[] biasParaArray() {
-		return bias().paraArray();
-	}
-
-	@Override
-	public Tensor gradBias() {
-		return _gradBias;
-	}
-
-	@Override
-	public Variavel[] gradBiasParaArray() {
-		return gradBias().paraArray();
+		return this.shapeSaida[0];
 	}
 
 	@Override
-	public Tensor gradEntrada() {
-		return _gradEntrada; 
+	protected void infoFiltros(StringBuilder sb, String pad) {
+		sb.append(pad).append("Filtros: " + numFiltros() + "\n");
 	}
 
 	@Override
-	public void setKernel(Variavel[] kernel) {
-		if (kernel.length != _filtros.tamanho()) {
-			throw new IllegalArgumentException(
-				"A dimensão do kernel fornecido (" + kernel.length + ") não é igual a quantidade de " +
-				" parâmetros para os kernels da camada (" + _filtros.tamanho() + ")."
-			);
-		}
-			
-		_filtros.copiarElementos(kernel);
+	protected void infoConfig(StringBuilder sb, String pad) {
+		super.infoConfig(sb, pad);
+		sb.append(pad).append("Algoritmo: " + (algoritmo == null ? "estimativa" : algoritmo.nome()) + "\n");
 	}
 
 	@Override
-	public void setBias(Variavel[] bias) {
-		if (bias.length != _bias.tamanho()) {
-			throw new IllegalArgumentException(
-				"A dimensão do bias fornecido não é igual a quantidade de " +
-				" parâmetros para os bias da camada."
-			);
-		}
-		
-		_bias.copiarElementos(bias);
+	public Conv2D clone() {
+		return (Conv2D) super.clone();
 	}
 
 }
@@ -110,8 +110,18 @@ public class Densa extends Camada implements Cloneable {
 	 * <pre>
 	 *    somatorio = (neuronios)
 	 * </pre>
+	 * Com ativações fundíveis ({@code Ativacao.fundivel()}) o bias e a ativação
+	 * são aplicados no epílogo da multiplicação, direto na saída, e o somatório
+	 * não é calculado, por isso ele só é acessado de fora da camada por
+	 * {@code somatorio()}.
 	 */
-	public Tensor _somatorio;
+	private Tensor _somatorio;
+
+	/**
+	 * Indica se o somatório corresponde à última propagação direta, falso
+	 * quando o bias e a ativação foram aplicados direto na saída.
+	 */
+	private boolean somatorioValido = false;
 
 	/**
 	 * Tensor contendo os valores de resultado da soma entre os valores 
@@ -338,19 +348,19 @@ public class Densa extends Camada implements Cloneable {
 		}
 
 		//inicializações
-		_entrada =    new Tensor(this.tamEntrada);
-		_saida =      new Tensor(this.numNeuronios);
-		_pesos =      new Tensor(this.tamEntrada, this.numNeuronios);
-		_gradPesos =  new Tensor(_pesos.shape());
+		_entrada =    new Tensor(dtype, this.tamEntrada);
+		_saida =      new Tensor(dtype, this.numNeuronios);
+		_pesos =      new Tensor(dtype, this.tamEntrada, this.numNeuronios);
+		_gradPesos =  new Tensor(dtype, _pesos.shape());
 
 		if (usarBias) {
-			_bias =     new Tensor(_saida.shape());
-			_gradBias = new Tensor(_saida.shape());
+			_bias =     new Tensor(dtype, _saida.shape());
+			_gradBias = new Tensor(dtype, _saida.shape());
 		}
 
-		_somatorio =   new Tensor(_saida.shape());
-		_gradSaida =   new Tensor(_saida.shape());
-		_gradEntrada = new Tensor(_entrada.shape());
+		_somatorio =   new Tensor(dtype, _saida.shape());
+		_gradSaida =   new Tensor(dtype, _saida.shape());
+		_gradEntrada = new Tensor(dtype, _entrada.shape());
 
 		setNomes();
 		
@@ -458,13 +468,23 @@ public class Densa extends Camada implements Cloneable {
 		}
 
 		//feedforward
-		optensor.matMult(_entrada, _pesos, _somatorio);
+		if (ativacao.fundivel()) {
+			// bias e ativação aplicados no epílogo da multiplicação
+			optensor.matMultAtivacao(
+				_entrada, _pesos, usarBias ? _bias : null, _saida, ativacao.funcao()
+			);
+			somatorioValido = false;
 
-		if (usarBias) {
-			_somatorio.add(_bias);
-		}
+		} else {
+			optensor.matMult(_entrada, _pesos, _somatorio);
 
-		ativacao.forward(_somatorio, _saida);
+			if (usarBias) {
+				_somatorio.add(_bias);
+			}
+
+			ativacao.forward(_somatorio, _saida);
+			somatorioValido = true;
+		}
 
 		return _saida;
 	}
@@ -519,20 +539,24 @@ public class Densa extends Camada implements Cloneable {
 		}
 
 		//backward
-		ativacao.backward(this);
+		if (ativacao.fundivel()) {
+			// derivada da ativação e gradiente do bias em uma única passagem
+			optensor.gradAtivacao(
+				_saida, _gradSaida, ativacao.derivadaSaida(), _gradSaida, usarBias ? _gradBias : null
+			);
 
-		//acumular gradientes
-		Tensor temp1 = new Tensor(_gradPesos.shape());
-		optensor.matMult(_entrada.transpor(), _gradSaida, temp1);
-		_gradPesos.add(temp1);
+		} else {
+			ativacao.backward(this);
 
-		if (usarBias) {
-			_gradBias.add(_gradSaida);
+			if (usarBias) {
+				_gradBias.add(_gradSaida);
+			}
 		}
 
-		Tensor temp2 = new Tensor(_gradEntrada.shape());
-		optensor.matMult(_gradSaida, _pesos.transpor(), temp2);
-		_gradEntrada.copiar(temp2);
+		//acumular gradientes
+		optensor.produtoExternoAcumular(_entrada, _gradSaida, _gradPesos);
+
+		optensor.matMultTransB(_gradSaida, _pesos, _gradEntrada);
 
 		return _gradEntrada;
 	}
@@ -542,6 +566,31 @@ public class Densa extends Camada implements Cloneable {
 		return _saida;
 	}
 
+	/**
+	 * Retorna o resultado da multiplicação entre a entrada e os pesos, com o
+	 * bias adicionado (se houver), calculado na última propagação direta.
+	 * <p>
+	 *    Com ativações fundíveis o bias e a ativação são aplicados direto na
+	 *    saída e o somatório não é calculado.
+	 * </p>
+	 * @return somatório da camada.
+	 * @throws IllegalStateException se o somatório não foi calculado na última
+	 * propagação direta.
+	 */
+	public Tensor somatorio() {
+		verificarConstrucao();
+
+		if (!somatorioValido) {
+			throw new IllegalStateException(
+				"\nO somatório da camada " + nome() + " não foi calculado na última " +
+				"propagação direta, com a ativação " + ativacao.nome() + " o bias e a " +
+				"ativação são aplicados direto na saída."
+			);
+		}
+
+		return _somatorio;
+	}
+
 	/**
 	 * Retorna a quantidade de neurônios presentes na camada.
 	 * @return quantidade de neurônios presentes na camada.
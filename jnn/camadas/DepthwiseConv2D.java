@@ -0,0 +1,139 @@
+package jnn.camadas;
+
+import jnn.core.tensor.Tensor;
+
+/**
+ * <h2>
+ *    Camada Convolucional em Profundidade (Depthwise)
+ * </h2>
+ * <p>
+ *    Cada canal da entrada é correlacionado apenas com o seu próprio filtro,
+ *    sem combinar canais, de forma que a saída tem a mesma quantidade de
+ *    canais da entrada:
+ * </p>
+ * <pre>
+ *    somatorio[c] = correlacao(entrada[c], filtros[c]) + bias[c]
+ *    saida = ativacao(somatorio)
+ * </pre>
+ * <p>
+ *    Seguida de uma {@code PointwiseConv2D}, forma a convolução separável em
+ *    profundidade, que substitui uma {@code Conv2D} com custo e número de
+ *    parâmetros muito menores.
+ * </p>
+ */
+public class DepthwiseConv2D extends CamadaConvEspacial {
+
+	/**
+	 * Instancia uma camada convolucional em profundidade.
+	 * <pre>
+	 *    formEntrada = (canais, altura, largura)
+	 *    formFiltro = (altura, largura)
+	 * </pre>
+	 * @param entrada formato de entrada da camada.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 * @param ativacao função de ativação.
+	 * @param iniKernel inicializador para os filtros.
+	 * @param iniBias inicializador para os bias.
+	 */
+	public DepthwiseConv2D(int[] entrada, int[] filtro, Object ativacao, Object iniKernel, Object iniBias) {
+		this(filtro, ativacao, iniKernel, iniBias);
+
+		utils.validarNaoNulo(entrada, "\nO formato de entrada não pode ser nulo.");
+		construir(entrada);
+	}
+
+	/**
+	 * Instancia uma camada convolucional em profundidade.
+	 * <pre>
+	 *    formEntrada = (canais, altura, largura)
+	 *    formFiltro = (altura, largura)
+	 * </pre>
+	 * @param entrada formato de entrada da camada.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 * @param ativacao função de ativação.
+	 */
+	public DepthwiseConv2D(int[] entrada, int[] filtro, Object ativacao) {
+		this(entrada, filtro, ativacao, null, null);
+	}
+
+	/**
+	 * Instancia uma camada convolucional em profundidade.
+	 * <pre>
+	 *    formFiltro = (altura, largura)
+	 * </pre>
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 * @param ativacao função de ativação.
+	 * @param iniKernel inicializador para os filtros.
+	 * @param iniBias inicializador para os bias.
+	 */
+	public DepthwiseConv2D(int[] filtro, Object ativacao, Object iniKernel, Object iniBias) {
+		super(filtro);
+		configurar(ativacao, iniKernel, iniBias);
+	}
+
+	/**
+	 * Instancia uma camada convolucional em profundidade.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 * @param ativacao função de ativação.
+	 * @param iniKernel inicializador para os filtros.
+	 */
+	public DepthwiseConv2D(int[] filtro, Object ativacao, Object iniKernel) {
+		this(filtro, ativacao, iniKernel, null);
+	}
+
+	/**
+	 * Instancia uma camada convolucional em profundidade.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 * @param ativacao função de ativação.
+	 */
+	public DepthwiseConv2D(int[] filtro, Object ativacao) {
+		this(filtro, ativacao, null, null);
+	}
+
+	/**
+	 * Instancia uma camada convolucional em profundidade.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 */
+	public DepthwiseConv2D(int[] filtro) {
+		this(filtro, null, null, null);
+	}
+
+	/**
+	 * Inicializa os parâmetros necessários para a camada.
+	 * <pre>
+	 *    entrada = (canais, altura, largura)
+	 * </pre>
+	 * Os filtros têm o formato {@code (canais, alturaFiltro, larguraFiltro)},
+	 * um filtro para cada canal da entrada.
+	 * @param entrada formato de entrada para a camada.
+	 */
+	@Override
+	public void construir(Object entrada) {
+		int[] fEntrada = validarEntrada(entrada);
+
+		shapeSaida[0] = shapeEntrada[0];
+		calcularSaida(fEntrada);
+		alocar(shapeEntrada[0], shapeFiltro[0], shapeFiltro[1]);
+	}
+
+	@Override
+	protected void convForward(Tensor destino) {
+		optensor.conv2DForwardDepthwise(
+			canaisPrimeiro(_entrada), _filtros, _bias, canaisPrimeiro(destino), stride, padding, dilatacao
+		);
+	}
+
+	@Override
+	protected void convBackward(Tensor gradKernel) {
+		optensor.conv2DBackwardDepthwise(
+			canaisPrimeiro(_entrada), _filtros, canaisPrimeiro(_gradSaida), gradKernel, _gradBias,
+			canaisPrimeiro(_gradEntrada), stride, padding, dilatacao
+		);
+	}
+
+	@Override
+	public DepthwiseConv2D clone() {
+		return (DepthwiseConv2D) super.clone();
+	}
+
+}
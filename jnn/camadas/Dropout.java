@@ -131,10 +131,10 @@ public class Dropout extends Camada implements Cloneable {
 
 		this.shapeEntrada = formato.clone();
 
-		_entrada =     new Tensor(this.shapeEntrada);
-		_mascara =     new Tensor(_entrada.shape());
-		_saida =       new Tensor(_entrada.shape());
-		_gradEntrada = new Tensor(_entrada.shape());
+		_entrada =     new Tensor(dtype, layout.shapeTensor(this.shapeEntrada));
+		_mascara =     new Tensor(dtype, _entrada.shape());
+		_saida =       new Tensor(dtype, _entrada.shape());
+		_gradEntrada = new Tensor(dtype, _entrada.shape());
 
 		setNomes();
 		
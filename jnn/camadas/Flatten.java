@@ -1,6 +1,7 @@
 package jnn.camadas;
 
 import jnn.core.Utils;
+import jnn.core.tensor.Layout;
 import jnn.core.tensor.Tensor;
 import jnn.core.tensor.Variavel;
 
@@ -139,9 +140,9 @@ public class Flatten extends Camada implements Cloneable{
 
 		this.shapeSaida = new int[]{tamanho};
 
-		_entrada = new Tensor(shapeEntrada);
-		_gradEntrada = new Tensor(_entrada.shape());
-		_saida = new Tensor(shapeSaida);
+		_entrada = new Tensor(dtype, layout.shapeTensor(shapeEntrada));
+		_gradEntrada = new Tensor(dtype, _entrada.shape());
+		_saida = new Tensor(dtype, shapeSaida);
 
 		setNomes();
 
@@ -190,7 +191,7 @@ public class Flatten extends Camada implements Cloneable{
 			);
 		}
 
-		_saida.copiarElementos(_entrada);
+		_saida.copiarElementos(canaisPrimeiro(_entrada));
 
 		return _saida;
 	}
@@ -216,7 +217,7 @@ public class Flatten extends Camada implements Cloneable{
 				);
 			}
 
-			_gradEntrada.copiarElementos(g);
+			canaisPrimeiro(_gradEntrada).copiarElementos(g);
 		
 		} else {
 			throw new IllegalArgumentException(
@@ -227,6 +228,21 @@ public class Flatten extends Camada implements Cloneable{
 		return _gradEntrada;
 	}
 	
+	/**
+	 * Retorna uma visualização {@code (canais, altura, largura)} do tensor
+	 * informado, de forma que a saída achatada tenha a mesma ordem em
+	 * qualquer layout e os pesos das camadas seguintes não dependam dele.
+	 * @param tensor tensor com o formato de entrada da camada.
+	 * @return visualização do tensor na ordem {@code (canais, altura, largura)}.
+	 */
+	private Tensor canaisPrimeiro(Tensor tensor) {
+		if (layout == Layout.CANAIS_ULTIMO && shapeEntrada.length == 3) {
+			return tensor.permutar(2, 0, 1);
+		}
+
+		return tensor;
+	}
+
 	@Override
 	public Tensor saida() {
 		verificarConstrucao();
@@ -0,0 +1,207 @@
+package jnn.camadas;
+
+import jnn.core.tensor.Tensor;
+
+/**
+ * <h2>
+ *    Camada Convolucional Agrupada
+ * </h2>
+ * <p>
+ *    Os canais da entrada e os filtros são divididos em {@code grupos} partes
+ *    iguais, e cada grupo de filtros é aplicado apenas ao seu grupo de canais:
+ * </p>
+ * <pre>
+ *    somatorio[grupo] = correlacao(entrada[grupo], filtros[grupo]) + bias[grupo]
+ *    saida = ativacao(somatorio)
+ * </pre>
+ * <p>
+ *    Com {@code g} grupos a camada tem {@code g} vezes menos parâmetros e
+ *    operações que uma {@code Conv2D} com as mesmas dimensões. Com um grupo
+ *    ela é equivalente à {@code Conv2D}.
+ * </p>
+ * <p>
+ *    Com ativações fundíveis a convolução é escrita direto na saída, assim
+ *    como na {@code Conv2D}.
+ * </p>
+ */
+public class GroupedConv2D extends CamadaConvEspacial {
+
+	/**
+	 * Quantidade de grupos em que os canais e filtros são divididos.
+	 */
+	private final int grupos;
+
+	/**
+	 * Instancia uma camada convolucional agrupada.
+	 * <pre>
+	 *    formEntrada = (canais, altura, largura)
+	 *    formFiltro = (altura, largura)
+	 * </pre>
+	 * Os canais da entrada e a quantidade de filtros devem ser divisíveis pela
+	 * quantidade de grupos.
+	 * @param entrada formato de entrada da camada.
+	 * @param grupos quantidade de grupos.
+	 * @param filtros quantidade de filtros.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 * @param ativacao função de ativação.
+	 * @param iniKernel inicializador para os filtros.
+	 * @param iniBias inicializador para os bias.
+	 */
+	public GroupedConv2D(int[] entrada, int grupos, int filtros, int[] filtro, Object ativacao, Object iniKernel, Object iniBias) {
+		this(grupos, filtros, filtro, ativacao, iniKernel, iniBias);
+
+		utils.validarNaoNulo(entrada, "\nO formato de entrada não pode ser nulo.");
+		construir(entrada);
+	}
+
+	/**
+	 * Instancia uma camada convolucional agrupada.
+	 * <pre>
+	 *    formEntrada = (canais, altura, largura)
+	 *    formFiltro = (altura, largura)
+	 * </pre>
+	 * @param entrada formato de entrada da camada.
+	 * @param grupos quantidade de grupos.
+	 * @param filtros quantidade de filtros.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 * @param ativacao função de ativação.
+	 */
+	public GroupedConv2D(int[] entrada, int grupos, int filtros, int[] filtro, Object ativacao) {
+		this(entrada, grupos, filtros, filtro, ativacao, null, null);
+	}
+
+	/**
+	 * Instancia uma camada convolucional agrupada.
+	 * <pre>
+	 *    formFiltro = (altura, largura)
+	 * </pre>
+	 * A quantidade de filtros deve ser divisível pela quantidade de grupos.
+	 * @param grupos quantidade de grupos.
+	 * @param filtros quantidade de filtros.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 * @param ativacao função de ativação.
+	 * @param iniKernel inicializador para os filtros.
+	 * @param iniBias inicializador para os bias.
+	 */
+	public GroupedConv2D(int grupos, int filtros, int[] filtro, Object ativacao, Object iniKernel, Object iniBias) {
+		super(filtro);
+
+		if (grupos < 1) {
+			throw new IllegalArgumentException(
+				"\nO número de grupos deve ser maior que zero, recebido: " + grupos
+			);
+		}
+
+		if (filtros < 1 || filtros % grupos != 0) {
+			throw new IllegalArgumentException(
+				"\nO número de filtros deve ser maior que zero e divisível pelo número de " +
+				"grupos (" + grupos + "), recebido: " + filtros
+			);
+		}
+
+		this.grupos = grupos;
+		shapeSaida[0] = filtros;
+
+		configurar(ativacao, iniKernel, iniBias);
+	}
+
+	/**
+	 * Instancia uma camada convolucional agrupada.
+	 * @param grupos quantidade de grupos.
+	 * @param filtros quantidade de filtros.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 * @param ativacao função de ativação.
+	 * @param iniKernel inicializador para os filtros.
+	 */
+	public GroupedConv2D(int grupos, int filtros, int[] filtro, Object ativacao, Object iniKernel) {
+		this(grupos, filtros, filtro, ativacao, iniKernel, null);
+	}
+
+	/**
+	 * Instancia uma camada convolucional agrupada.
+	 * @param grupos quantidade de grupos.
+	 * @param filtros quantidade de filtros.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 * @param ativacao função de ativação.
+	 */
+	public GroupedConv2D(int grupos, int filtros, int[] filtro, Object ativacao) {
+		this(grupos, filtros, filtro, ativacao, null, null);
+	}
+
+	/**
+	 * Instancia uma camada convolucional agrupada.
+	 * @param grupos quantidade de grupos.
+	 * @param filtros quantidade de filtros.
+	 * @param filtro formato dos filtros da camada (altura, largura).
+	 */
+	public GroupedConv2D(int grupos, int filtros, int[] filtro) {
+		this(grupos, filtros, filtro, null, null, null);
+	}
+
+	/**
+	 * Inicializa os parâmetros necessários para a camada.
+	 * <pre>
+	 *    entrada = (canais, altura, largura)
+	 * </pre>
+	 * Os filtros têm o formato {@code (numFiltros, canais / grupos, alturaFiltro, larguraFiltro)},
+	 * cada filtro cobre apenas os canais do seu grupo.
+	 * @param entrada formato de entrada para a camada.
+	 */
+	@Override
+	public void construir(Object entrada) {
+		int[] fEntrada = validarEntrada(entrada);
+
+		if (fEntrada[0] % grupos != 0) {
+			throw new IllegalArgumentException(
+				"\nO número de canais da entrada (" + fEntrada[0] + ") deve ser divisível " +
+				"pelo número de grupos (" + grupos + ")."
+			);
+		}
+
+		calcularSaida(fEntrada);
+		alocar(shapeSaida[0], shapeEntrada[0] / grupos, shapeFiltro[0], shapeFiltro[1]);
+	}
+
+	@Override
+	protected void convForward(Tensor destino) {
+		optensor.conv2DForwardAgrupada(
+			canaisPrimeiro(_entrada), _filtros, _bias, canaisPrimeiro(destino), grupos, stride, padding, dilatacao
+		);
+	}
+
+	@Override
+	protected void convBackward(Tensor gradKernel) {
+		optensor.conv2DBackwardAgrupada(
+			canaisPrimeiro(_entrada), _filtros, canaisPrimeiro(_gradSaida), gradKernel, _gradBias,
+			canaisPrimeiro(_gradEntrada), grupos, stride, padding, dilatacao
+		);
+	}
+
+	/**
+	 * Retorna a quantidade de grupos em que os canais e filtros são divididos.
+	 * @return quantidade de grupos.
+	 */
+	public int grupos() {
+		return grupos;
+	}
+
+	/**
+	 * Retorna a quantidade de filtros presentes na camada.
+	 * @return quantiadde de filtros presentes na camada.
+	 */
+	public int numFiltros() {
+		return shapeSaida[0];
+	}
+
+	@Override
+	protected void infoFiltros(StringBuilder sb, String pad) {
+		sb.append(pad).append("Grupos: " + grupos + "\n");
+		sb.append(pad).append("Filtros: " + numFiltros() + "\n");
+	}
+
+	@Override
+	public GroupedConv2D clone() {
+		return (GroupedConv2D) super.clone();
+	}
+
+}
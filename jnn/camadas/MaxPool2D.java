@@ -1,6 +1,10 @@
 package jnn.camadas;
 
+import java.util.Arrays;
+
 import jnn.core.Utils;
+import jnn.core.tensor.IndexadorTensor;
+import jnn.core.tensor.Layout;
 import jnn.core.tensor.Tensor;
 import jnn.core.tensor.Variavel;
 
@@ -257,9 +261,9 @@ public class MaxPool2D extends Camada implements Cloneable{
 		formSaida[1] = (formEntrada[1] - formFiltro[0]) / this.stride[0] + 1;//altura
 		formSaida[2] = (formEntrada[2] - formFiltro[1]) / this.stride[1] + 1;//largura
 		
-		_entrada = new Tensor(formEntrada);
+		_entrada = new Tensor(dtype, layout.shapeTensor(formEntrada));
 		_gradEntrada = new Tensor(_entrada);
-		_saida = new Tensor(formSaida);
+		_saida = new Tensor(dtype, layout.shapeTensor(formSaida));
 
 		setNomes();
 
@@ -302,14 +306,63 @@ public class MaxPool2D extends Camada implements Cloneable{
 			);
 		}
 
-		int canais = formEntrada[0];
-		for (int i = 0; i < canais; i++) {
-			aplicar(_entrada, _saida, i);
+		if (layout == Layout.CANAIS_ULTIMO) {
+			aplicarCanaisUltimo(_entrada, _saida);
+
+		} else {
+			int canais = formEntrada[0];
+			for (int i = 0; i < canais; i++) {
+				aplicar(_entrada, _saida, i);
+			}
 		}
 
 		return _saida;
 	}
 
+	/**
+	 * Agrupa os valores máximos encontrados na entrada {@code (altura, largura, canais)},
+	 * percorrendo os canais de cada pixel da região de forma contígua.
+	 * @param entrada tensor de entrada.
+	 * @param saida tensor de destino.
+	 */
+	private void aplicarCanaisUltimo(Tensor entrada, Tensor saida) {
+		int[] shapeEntrada = entrada.shape();
+		int[] shapeSaida = saida.shape();
+
+		int altEntrada  = shapeEntrada[0];
+		int largEntrada = shapeEntrada[1];
+		int canais      = shapeEntrada[2];
+		int altSaida  = shapeSaida[0];
+		int largSaida = shapeSaida[1];
+
+		IndexadorTensor e = entrada.indexador();
+		IndexadorTensor s = saida.indexador();
+		double[] maxValor = new double[canais];
+
+		for (int i = 0; i < altSaida; i++) {
+			int linInicio = i * stride[0];
+			int linFim = Math.min(linInicio + formFiltro[0], altEntrada);
+			for (int j = 0; j < largSaida; j++) {
+				int colInicio = j * stride[1];
+				int colFim = Math.min(colInicio + formFiltro[1], largEntrada);
+				Arrays.fill(maxValor, Double.NEGATIVE_INFINITY);
+
+				for (int y = linInicio; y < linFim; y++) {
+					for (int x = colInicio; x < colFim; x++) {
+						for (int c = 0; c < canais; c++) {
+							double valor = e.get(y, x, c);
+							if (valor > maxValor[c]) maxValor[c] = valor;
+						}
+					}
+				}
+
+				for (int c = 0; c < canais; c++) {
+					s.set(maxValor[c], i, j, c);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Agrupa os valores máximos encontrados na entrada de acordo com as 
 	 * configurações de filtro e strides.
@@ -325,6 +378,9 @@ public class MaxPool2D extends Camada implements Cloneable{
 		int largEntrada = shapeEntrada[2];
 		int altSaida  = shapeSaida[1];
 		int largSaida = shapeSaida[2];
+
+		IndexadorTensor e = entrada.indexador();
+		IndexadorTensor s = saida.indexador();
   
 		for (int i = 0; i < altSaida; i++) {
 			int linInicio = i * stride[0];
@@ -332,17 +388,17 @@ public class MaxPool2D extends Camada implements Cloneable{
 			for (int j = 0; j < largSaida; j++) {
 				int colInicio = j * stride[1];
 				int colFim = Math.min(colInicio + formFiltro[1], largEntrada);
-				double maxValor = Double.MIN_VALUE;
+				double maxValor = Double.NEGATIVE_INFINITY;
 				double valor;
 
 				for (int y = linInicio; y < linFim; y++) {
 					for (int x = colInicio; x < colFim; x++) {
-						valor = entrada.get(prof, y, x);
+						valor = e.get(prof, y, x);
 						if (valor > maxValor) maxValor = valor;
 					}
 				}
 				
-				saida.set(maxValor, prof, i, j);
+				s.set(maxValor, prof, i, j);
 			}
 		}
 	}
@@ -353,9 +409,14 @@ public class MaxPool2D extends Camada implements Cloneable{
 
 		if (grad instanceof Tensor) {
 			Tensor g = (Tensor) grad;
-			int profundidade = formEntrada[0];   
-			for (int i = 0; i < profundidade; i++) {
-				gradMaxPool(_entrada, g, _gradEntrada, i);
+			if (layout == Layout.CANAIS_ULTIMO) {
+				gradMaxPoolCanaisUltimo(_entrada, g, _gradEntrada);
+
+			} else {
+				int profundidade = formEntrada[0];   
+				for (int i = 0; i < profundidade; i++) {
+					gradMaxPool(_entrada, g, _gradEntrada, i);
+				}
 			}
 		
 		} else {
@@ -389,6 +450,10 @@ public class MaxPool2D extends Camada implements Cloneable{
 
 		int altGradSeguinte  = shapeGradS[1];
 		int largGradSeguinte = shapeGradS[2];
+
+		IndexadorTensor e = entrada.indexador();
+		IndexadorTensor gs = gradSeguinte.indexador();
+		IndexadorTensor ge = gradEntrada.indexador();
   
 		for (int i = 0; i < altGradSeguinte; i++) {
 			int linInicio = i * stride[0];
@@ -396,52 +461,87 @@ public class MaxPool2D extends Camada implements Cloneable{
 			for (int j = 0; j < largGradSeguinte; j++) {
 				int colInicio = j * stride[1];
 				int colFim = Math.min(colInicio + formFiltro[1], largEntrada);
+
+				// posição do valor máximo dentro da região, caso existam
+				// múltiplos máximos, o primeiro encontrado é usado.
+				int linMaximo = 0;
+				int colMaximo = 0;
+				double valMaximo = Double.NEGATIVE_INFINITY;
+				for (int y = linInicio; y < linFim; y++) {
+					for (int x = colInicio; x < colFim; x++) {
+						double valor = e.get(prof, y, x);
+						if (valor > valMaximo) {
+							valMaximo = valor;
+							linMaximo = y;
+							colMaximo = x;
+						}
+					}
+				}
   
-				int[] posicaoMaximo = posicaoMaxima(entrada, prof, linInicio, colInicio, linFim, colFim);
-				int linMaximo = posicaoMaximo[0];
-				int colMaximo = posicaoMaximo[1];
-  
-				gradEntrada.set(
-					gradSeguinte.get(prof, i, j), 
-					prof, linMaximo, colMaximo
-				);
+				ge.set(gs.get(prof, i, j), prof, linMaximo, colMaximo);
 			}
 		}
 	}
-  
-  
+ 
 	/**
-	 * Encontra a posição do valor máximo em uma submatriz do tensor.
-	 * <p>
-	 *    Se houver múltiplos elementos com o valor máximo, a função retorna as coordenadas 
-	 *    do primeiro encontrado.
-	 * </p>
-	 * @param tensor tensor alvo.
-	 * @param linInicio índice inicial para linha.
-	 * @param colInicio índice final para a linha.
-	 * @param linFim índice inicial para coluna (exclusivo).
-	 * @param colFim índice final para coluna (exclusivo).
-	 * @param prof índice de profundidade da operação.
-	 * @return array representando as coordenadas (linha, coluna) do valor máximo
-	 * na submatriz.
+	 * Calcula e atualiza os gradientes da camada de Max Pooling em relação à
+	 * entrada {@code (altura, largura, canais)}, localizando o máximo de todos
+	 * os canais da região numa única passagem.
+	 * @param entrada entrada da camada.
+	 * @param gradSeguinte gradiente da camada seguinte.
+	 * @param gradEntrada gradiente de entrada da camada de max pooling.
 	 */
-	private int[] posicaoMaxima(Tensor tensor, int prof, int linInicio, int colInicio, int linFim, int colFim) {
-		int[] posMaximo = {0, 0};
-		double valMaximo = Double.NEGATIVE_INFINITY;
-  
-		for (int i = linInicio; i < linFim; i++) {
-			for (int j = colInicio; j < colFim; j++) {
-				if (tensor.get(prof, i, j) > valMaximo) {
-					valMaximo = tensor.get(prof, i, j);
-					posMaximo[0] = i;
-					posMaximo[1] = j;
+	private void gradMaxPoolCanaisUltimo(Tensor entrada, Tensor gradSeguinte, Tensor gradEntrada) {
+		int[] shapeEntrada = entrada.shape();
+		int[] shapeGradS = gradSeguinte.shape();
+
+		int altEntrada  = shapeEntrada[0];
+		int largEntrada = shapeEntrada[1];
+		int canais      = shapeEntrada[2];
+
+		int altGradSeguinte  = shapeGradS[0];
+		int largGradSeguinte = shapeGradS[1];
+
+		IndexadorTensor e = entrada.indexador();
+		IndexadorTensor gs = gradSeguinte.indexador();
+		IndexadorTensor ge = gradEntrada.indexador();
+
+		int[] linMaximo = new int[canais];
+		int[] colMaximo = new int[canais];
+		double[] valMaximo = new double[canais];
+
+		for (int i = 0; i < altGradSeguinte; i++) {
+			int linInicio = i * stride[0];
+			int linFim = Math.min(linInicio + formFiltro[0], altEntrada);
+			for (int j = 0; j < largGradSeguinte; j++) {
+				int colInicio = j * stride[1];
+				int colFim = Math.min(colInicio + formFiltro[1], largEntrada);
+
+				// mesma regra da disposição padrão, o primeiro máximo
+				// encontrado de cada canal é usado.
+				Arrays.fill(linMaximo, 0);
+				Arrays.fill(colMaximo, 0);
+				Arrays.fill(valMaximo, Double.NEGATIVE_INFINITY);
+				for (int y = linInicio; y < linFim; y++) {
+					for (int x = colInicio; x < colFim; x++) {
+						for (int c = 0; c < canais; c++) {
+							double valor = e.get(y, x, c);
+							if (valor > valMaximo[c]) {
+								valMaximo[c] = valor;
+								linMaximo[c] = y;
+								colMaximo[c] = x;
+							}
+						}
+					}
+				}
+
+				for (int c = 0; c < canais; c++) {
+					ge.set(gs.get(i, j, c), linMaximo[c], colMaximo[c], c);
 				}
 			}
 		}
-  
-		return posMaximo;
 	}
- 
+
 	@Override
 	public int[] formatoEntrada() {
 		verificarConstrucao();
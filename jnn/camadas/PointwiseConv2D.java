@@ -0,0 +1,159 @@
+package jnn.camadas;
+
+import jnn.core.tensor.Layout;
+import jnn.core.tensor.Tensor;
+
+/**
+ * <h2>
+ *    Camada Convolucional Pontual (1x1)
+ * </h2>
+ * <p>
+ *    Combina os canais de cada posição da entrada com filtros {@code 1x1},
+ *    sem olhar para a vizinhança espacial:
+ * </p>
+ * <pre>
+ *    somatorio[f] = soma(entrada[c] * filtros[f][c]) + bias[f]
+ *    saida = ativacao(somatorio)
+ * </pre>
+ * <p>
+ *    Por não ter janela, a operação é uma única multiplicação de matrizes
+ *    sobre a entrada, sem {@code im2col}. Usada após uma {@code DepthwiseConv2D}
+ *    para formar a convolução separável em profundidade.
+ * </p>
+ */
+public class PointwiseConv2D extends CamadaConv {
+
+	/**
+	 * Instancia uma camada convolucional pontual.
+	 * <pre>
+	 *    formEntrada = (canais, altura, largura)
+	 * </pre>
+	 * @param entrada formato de entrada da camada.
+	 * @param filtros quantidade de filtros.
+	 * @param ativacao função de ativação.
+	 * @param iniKernel inicializador para os filtros.
+	 * @param iniBias inicializador para os bias.
+	 */
+	public PointwiseConv2D(int[] entrada, int filtros, Object ativacao, Object iniKernel, Object iniBias) {
+		this(filtros, ativacao, iniKernel, iniBias);
+
+		utils.validarNaoNulo(entrada, "\nO formato de entrada não pode ser nulo.");
+		construir(entrada);
+	}
+
+	/**
+	 * Instancia uma camada convolucional pontual.
+	 * <pre>
+	 *    formEntrada = (canais, altura, largura)
+	 * </pre>
+	 * @param entrada formato de entrada da camada.
+	 * @param filtros quantidade de filtros.
+	 * @param ativacao função de ativação.
+	 */
+	public PointwiseConv2D(int[] entrada, int filtros, Object ativacao) {
+		this(entrada, filtros, ativacao, null, null);
+	}
+
+	/**
+	 * Instancia uma camada convolucional pontual.
+	 * @param filtros quantidade de filtros.
+	 * @param ativacao função de ativação.
+	 * @param iniKernel inicializador para os filtros.
+	 * @param iniBias inicializador para os bias.
+	 */
+	public PointwiseConv2D(int filtros, Object ativacao, Object iniKernel, Object iniBias) {
+		if (filtros < 1) {
+			throw new IllegalArgumentException(
+				"\nO número de filtros deve ser maior que zero, recebido: " + filtros
+			);
+		}
+
+		shapeSaida[0] = filtros;
+
+		configurar(ativacao, iniKernel, iniBias);
+	}
+
+	/**
+	 * Instancia uma camada convolucional pontual.
+	 * @param filtros quantidade de filtros.
+	 * @param ativacao função de ativação.
+	 * @param iniKernel inicializador para os filtros.
+	 */
+	public PointwiseConv2D(int filtros, Object ativacao, Object iniKernel) {
+		this(filtros, ativacao, iniKernel, null);
+	}
+
+	/**
+	 * Instancia uma camada convolucional pontual.
+	 * @param filtros quantidade de filtros.
+	 * @param ativacao função de ativação.
+	 */
+	public PointwiseConv2D(int filtros, Object ativacao) {
+		this(filtros, ativacao, null, null);
+	}
+
+	/**
+	 * Instancia uma camada convolucional pontual.
+	 * @param filtros quantidade de filtros.
+	 */
+	public PointwiseConv2D(int filtros) {
+		this(filtros, null, null, null);
+	}
+
+	/**
+	 * Inicializa os parâmetros necessários para a camada.
+	 * <pre>
+	 *    entrada = (canais, altura, largura)
+	 * </pre>
+	 * Os filtros têm o formato {@code (numFiltros, canais)}, um peso por
+	 * canal da entrada.
+	 * @param entrada formato de entrada para a camada.
+	 */
+	@Override
+	public void construir(Object entrada) {
+		validarEntrada(entrada);
+
+		// filtros 1x1 preservam as dimensões espaciais
+		shapeSaida[1] = shapeEntrada[1];
+		shapeSaida[2] = shapeEntrada[2];
+
+		alocar(shapeSaida[0], shapeEntrada[0]);
+	}
+
+	@Override
+	protected void convForward(Tensor destino) {
+		if (layout == Layout.CANAIS_ULTIMO) {
+			optensor.conv2DForwardPointwiseCanaisUltimo(_entrada, _filtros, _bias, destino);
+		} else {
+			optensor.conv2DForwardPointwise(_entrada, _filtros, _bias, destino);
+		}
+	}
+
+	@Override
+	protected void convBackward(Tensor gradKernel) {
+		if (layout == Layout.CANAIS_ULTIMO) {
+			optensor.conv2DBackwardPointwiseCanaisUltimo(_entrada, _filtros, _gradSaida, gradKernel, _gradBias, _gradEntrada);
+		} else {
+			optensor.conv2DBackwardPointwise(_entrada, _filtros, _gradSaida, gradKernel, _gradBias, _gradEntrada);
+		}
+	}
+
+	/**
+	 * Retorna a quantidade de filtros presentes na camada.
+	 * @return quantiadde de filtros presentes na camada.
+	 */
+	public int numFiltros() {
+		return shapeSaida[0];
+	}
+
+	@Override
+	protected void infoFiltros(StringBuilder sb, String pad) {
+		sb.append(pad).append("Filtros: " + numFiltros() + "\n");
+	}
+
+	@Override
+	public PointwiseConv2D clone() {
+		return (PointwiseConv2D) super.clone();
+	}
+
+}
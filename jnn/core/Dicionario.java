@@ -22,6 +22,8 @@ import jnn.avaliacao.perda.MSE;
 import jnn.avaliacao.perda.MSLE;
 import jnn.avaliacao.perda.Perda;
 import jnn.avaliacao.perda.RMSE;
+import jnn.core.tensor.Dtype;
+import jnn.core.tensor.Layout;
 import jnn.inicializadores.Aleatorio;
 import jnn.inicializadores.AleatorioPositivo;
 import jnn.inicializadores.Constante;
@@ -234,4 +236,76 @@ public class Dicionario {
 		}
 
 	}
+
+    /**
+     * Converte a precisão recebida em um tipo de dado para tensores.
+     * @param precisao tipo de precisão ({@code "float32"}, {@code "float64"}).
+     * @return tipo de dado lido.
+     */
+	public Dtype getDtype(Object precisao) {
+		if (precisao == null) {
+			throw new IllegalArgumentException(
+				"Precisão não pode ser nula."
+			);
+
+		} else if (precisao instanceof Dtype) {
+			return (Dtype) precisao;
+
+		} else if (precisao instanceof String) {
+			String nome = (String) precisao;
+			nome = tratarNome(nome);
+			switch (nome.toLowerCase()) {
+				case "float32" : return Dtype.FLOAT32;
+				case "float"   : return Dtype.FLOAT32;
+				case "float64" : return Dtype.FLOAT64;
+				case "double"  : return Dtype.FLOAT64;
+
+				default: throw new IllegalArgumentException(
+				"Precisão \"" + precisao + "\" não encontada."
+				);
+			}
+
+		} else {
+			throw new IllegalArgumentException(
+				"Tipo de dado \"" + precisao.getClass().getTypeName() + "\" não suportado."
+			);
+		}
+	}
+
+    /**
+     * Converte a disposição recebida em uma disposição de tensores com canais.
+     * @param layout disposição ({@code "canais-primeiro"}, {@code "canais-ultimo"}).
+     * @return disposição lida.
+     */
+	public Layout getLayout(Object layout) {
+		if (layout == null) {
+			throw new IllegalArgumentException(
+				"Layout não pode ser nulo."
+			);
+
+		} else if (layout instanceof Layout) {
+			return (Layout) layout;
+
+		} else if (layout instanceof String) {
+			String nome = (String) layout;
+			nome = tratarNome(nome);
+			switch (nome.toLowerCase()) {
+				case "canaisprimeiro" : return Layout.CANAIS_PRIMEIRO;
+				case "chw"            : return Layout.CANAIS_PRIMEIRO;
+				case "nchw"           : return Layout.CANAIS_PRIMEIRO;
+				case "canaisultimo"   : return Layout.CANAIS_ULTIMO;
+				case "hwc"            : return Layout.CANAIS_ULTIMO;
+				case "nhwc"           : return Layout.CANAIS_ULTIMO;
+
+				default: throw new IllegalArgumentException(
+				"Layout \"" + layout + "\" não encontado."
+				);
+			}
+
+		} else {
+			throw new IllegalArgumentException(
+				"Tipo de dado \"" + layout.getClass().getTypeName() + "\" não suportado."
+			);
+		}
+	}
 }
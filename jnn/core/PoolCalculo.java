@@ -0,0 +1,141 @@
+package jnn.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Pool de threads persistente usado pelas operações paralelas da biblioteca.
+ * <p>
+ *		As threads são criadas uma única vez e reaproveitadas por todas as
+ *		operações (multiplicação de matrizes, reduções, operações elemento a
+ *		elemento), evitando a criação de novas threads a cada chamada.
+ * </p>
+ * <p>
+ *		Por padrão o pool usa a quantidade de processadores disponíveis,
+ *		podendo ser configurado. O pool é global, a configuração vale para
+ *		todos os modelos e operações da biblioteca:
+ * </p>
+ * <pre>
+ *PoolCalculo.configurar(4);
+ * </pre>
+ * <p>
+ *		Com apenas uma thread configurada, todas as tarefas são executadas
+ *		sequencialmente na thread chamadora.
+ * </p>
+ */
+public final class PoolCalculo {
+
+	/**
+	 * Pool de threads atual.
+	 */
+	private static volatile ForkJoinPool pool = new ForkJoinPool(
+		Runtime.getRuntime().availableProcessors()
+	);
+
+	/**
+	 * Classe utilitária.
+	 */
+	private PoolCalculo() {}
+
+	/**
+	 * Tarefa executada pelo pool.
+	 */
+	@FunctionalInterface
+	public interface Tarefa {
+
+		/**
+		 * Executa a parte da tarefa correspondente ao índice informado.
+		 * @param id índice da parte, entre {@code 0} e a quantidade de partes (exclusivo).
+		 */
+		void executar(int id);
+	}
+
+	/**
+	 * Configura a quantidade de threads do pool global, usado por todos os
+	 * modelos e operações da biblioteca.
+	 * <p>
+	 *		Apenas a referência para o pool é trocada. O pool anterior não é
+	 *		encerrado, já que outras threads podem ter acabado de obtê-lo e
+	 *		ainda enviar tarefas para ele. Suas threads terminam sozinhas
+	 *		depois de ficarem ociosas.
+	 * </p>
+	 * @param threads quantidade de threads desejada.
+	 */
+	public static synchronized void configurar(int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException(
+				"\nQuantidade de threads deve ser maior que zero, recebido " + threads
+			);
+		}
+
+		if (threads == pool.getParallelism()) return;
+
+		pool = new ForkJoinPool(threads);
+	}
+
+	/**
+	 * Retorna a quantidade de threads configurada para o pool.
+	 * @return quantidade de threads.
+	 */
+	public static int threads() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Retorna o pool de threads atual.
+	 * @return {@code ForkJoinPool} da biblioteca.
+	 */
+	public static ForkJoinPool pool() {
+		return pool;
+	}
+
+	/**
+	 * Executa as partes {@code 0 .. partes-1} da tarefa, distribuindo-as
+	 * entre as threads do pool, e aguarda a conclusão de todas.
+	 * @param partes quantidade de partes da tarefa.
+	 * @param tarefa tarefa desejada.
+	 */
+	public static void executar(int partes, Tarefa tarefa) {
+		if (partes < 1) return;
+
+		ForkJoinPool p = pool;
+		if (partes == 1 || p.getParallelism() == 1) {
+			for (int i = 0; i < partes; i++) {
+				tarefa.executar(i);
+			}
+			return;
+		}
+
+		p.invoke(new Divisao(0, partes, tarefa));
+	}
+
+	/**
+	 * Divisão recursiva das partes de uma tarefa.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Divisao extends RecursiveAction {
+		final int ini, fim;
+		final Tarefa tarefa;
+
+		Divisao(int ini, int fim, Tarefa tarefa) {
+			this.ini = ini;
+			this.fim = fim;
+			this.tarefa = tarefa;
+		}
+
+		@Override
+		protected void compute() {
+			if (fim - ini == 1) {
+				tarefa.executar(ini);
+				return;
+			}
+
+			int meio = (ini + fim) >>> 1;
+			invokeAll(
+				new Divisao(ini, meio, tarefa),
+				new Divisao(meio, fim, tarefa)
+			);
+		}
+	}
+
+}
@@ -0,0 +1,319 @@
+package jnn.core.tensor;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Ajuste automático do algoritmo de convolução 2D.
+ * <p>
+ *		Para cada formato de entrada e de kernel, os algoritmos disponíveis em
+ *		{@code AlgoritmoConv} são executados (propagação direta e reversa) e o
+ *		mais rápido nesta máquina é escolhido. O algoritmo padrão, escolhido
+ *		por estimativa, só é trocado quando outro for claramente mais rápido.
+ * </p>
+ * <p>
+ *		O ajuste é desativado por padrão, já que as medições dependem da carga
+ *		da máquina e tornariam a escolha do algoritmo (e a ordem das somas)
+ *		diferente entre execuções. Desativado, a escolha fica a cargo da
+ *		estimativa usada por {@code OpTensor.conv2DForward()}.
+ * </p>
+ * <p>
+ *		As escolhas ficam em memória, indexadas pelo processador, tipo de dado
+ *		e formatos. Para que execuções seguintes não precisem repetir a busca,
+ *		elas podem ser salvas em um arquivo de ajuste informado pelo usuário:
+ * </p>
+ * <pre>
+ *AjusteConv.setAtivo(true);
+ *AjusteConv.setArquivo("ajuste-conv.properties");
+ * </pre>
+ */
+public final class AjusteConv {
+
+	/**
+	 * Quantidade de execuções medidas de cada algoritmo, o menor tempo é
+	 * usado na comparação.
+	 */
+	private static final int REPETICOES = 10;
+
+	/**
+	 * Quantidade mínima de execuções de aquecimento de cada algoritmo, descartadas.
+	 */
+	private static final int AQUECIMENTO = 5;
+
+	/**
+	 * Vantagem mínima sobre o algoritmo padrão ({@code OpTensor.algoritmoPadrao()})
+	 * para que outro algoritmo seja escolhido, evitando trocas causadas por
+	 * ruído nas medições.
+	 */
+	private static final double MARGEM = 0.1;
+
+	/**
+	 * Tempo mínimo de aquecimento, em nanossegundos, dando tempo para que a
+	 * JVM compile os algoritmos antes das medições.
+	 */
+	private static final long TEMPO_AQUECIMENTO = 200_000_000L;
+
+	/**
+	 * Algoritmos medidos mais lentos que este fator do melhor tempo deixam
+	 * de ser medidos nas rodadas seguintes.
+	 */
+	private static final int FATOR_DESCARTE = 4;
+
+	/**
+	 * Se o ajuste automático está ativo.
+	 */
+	private static boolean ativo = false;
+
+	/**
+	 * Caminho do arquivo de ajuste ({@code null} para manter as escolhas
+	 * apenas em memória).
+	 */
+	private static String arquivo = null;
+
+	/**
+	 * Escolhas feitas nesta execução e carregadas do arquivo de ajuste.
+	 */
+	private static Properties decisoes;
+
+	/**
+	 * Identificação do processador usada nas chaves.
+	 */
+	private static final String CPU = identificarCpu();
+
+	/**
+	 * Classe utilitária.
+	 */
+	private AjusteConv() {}
+
+	/**
+	 * Ativa ou desativa o ajuste automático.
+	 * @param ativo ajuste ativo.
+	 */
+	public static synchronized void setAtivo(boolean ativo) {
+		AjusteConv.ativo = ativo;
+	}
+
+	/**
+	 * Verifica se o ajuste automático está ativo.
+	 * @return {@code true} caso o ajuste esteja ativo, {@code false} caso contrário.
+	 */
+	public static synchronized boolean ativo() {
+		return ativo;
+	}
+
+	/**
+	 * Configura o caminho do arquivo onde as escolhas são carregadas e
+	 * salvas, as escolhas já feitas são descartadas.
+	 * @param caminho caminho com nome e extensão do arquivo, {@code null}
+	 * para manter as escolhas apenas em memória.
+	 */
+	public static synchronized void setArquivo(String caminho) {
+		if (caminho != null && caminho.isBlank()) {
+			throw new IllegalArgumentException(
+				"\nCaminho do arquivo de ajuste não pode ser vazio."
+			);
+		}
+
+		arquivo = caminho;
+		decisoes = null;
+	}
+
+	/**
+	 * Retorna o caminho do arquivo de ajuste.
+	 * @return caminho do arquivo, {@code null} caso as escolhas fiquem
+	 * apenas em memória.
+	 */
+	public static synchronized String arquivo() {
+		return arquivo;
+	}
+
+	/**
+	 * Retorna o algoritmo de convolução mais rápido para os formatos
+	 * informados, medindo os algoritmos caso ainda não exista uma escolha
+	 * salva para eles.
+	 * @param dtype tipo de dado da camada.
+	 * @param shapeEntrada formato da entrada {@code (canais, altura, largura)}.
+	 * @param shapeKernel formato do kernel {@code (filtros, canais, altura, largura)}.
+	 * @return algoritmo escolhido, ou {@code null} caso o ajuste esteja desativado.
+	 */
+	public static synchronized AlgoritmoConv escolher(Dtype dtype, int[] shapeEntrada, int[] shapeKernel) {
+		if (!ativo) return null;
+
+		if (decisoes == null) carregar();
+
+		String chave = chave(dtype, shapeEntrada, shapeKernel);
+		String salvo = decisoes.getProperty(chave);
+		if (salvo != null) {
+			for (AlgoritmoConv alg : AlgoritmoConv.values()) {
+				if (alg.nome().equals(salvo) && alg.suporta(shapeKernel)) return alg;
+			}
+		}
+
+		AlgoritmoConv escolhido = medir(dtype, shapeEntrada, shapeKernel);
+		decisoes.setProperty(chave, escolhido.nome());
+		salvar();
+
+		return escolhido;
+	}
+
+	/**
+	 * Mede todos os algoritmos suportados e retorna o mais rápido.
+	 */
+	private static AlgoritmoConv medir(Dtype dtype, int[] shapeEntrada, int[] shapeKernel) {
+		final int[] shapeSaida = {
+			shapeKernel[0],
+			shapeEntrada[1] - shapeKernel[2] + 1,
+			shapeEntrada[2] - shapeKernel[3] + 1
+		};
+
+		Random rand = new Random(0);
+		Tensor entrada = new Tensor(dtype, shapeEntrada).aplicar(x -> rand.nextDouble() - 0.5);
+		Tensor kernel = new Tensor(dtype, shapeKernel).aplicar(x -> rand.nextDouble() - 0.5);
+		Tensor bias = new Tensor(dtype, shapeKernel[0]);
+		Tensor gradS = new Tensor(dtype, shapeSaida).aplicar(x -> rand.nextDouble() - 0.5);
+		Tensor saida = new Tensor(dtype, shapeSaida);
+		Tensor gradK = new Tensor(dtype, shapeKernel);
+		Tensor gradB = new Tensor(dtype, shapeKernel[0]);
+		Tensor gradE = new Tensor(dtype, shapeEntrada);
+
+		OpTensor op = new OpTensor();
+		AlgoritmoConv[] algs = AlgoritmoConv.values();
+		long[] tempos = new long[algs.length];
+		Arrays.fill(tempos, Long.MAX_VALUE);
+
+		boolean[] descartado = new boolean[algs.length];
+		for (int j = 0; j < algs.length; j++) {
+			descartado[j] = !algs[j].suporta(shapeKernel);
+		}
+
+		// rodadas alternando os algoritmos, para que todos sejam medidos
+		// com o mesmo nível de otimização da JVM
+		final long inicio = System.nanoTime();
+		int aquecimento = AQUECIMENTO;
+		for (int i = 0; i < aquecimento + REPETICOES; i++) {
+			if (i == aquecimento - 1 && System.nanoTime() - inicio < TEMPO_AQUECIMENTO) {
+				aquecimento++;
+			}
+
+			long melhorRodada = Long.MAX_VALUE;
+			long[] rodada = new long[algs.length];
+			for (int j = 0; j < algs.length; j++) {
+				if (descartado[j]) continue;
+
+				long t = System.nanoTime();
+				op.conv2DForward(entrada, kernel, bias, saida, algs[j]);
+				op.conv2DBackward(entrada, kernel, gradS, gradK, gradB, gradE, algs[j]);
+				rodada[j] = System.nanoTime() - t;
+
+				melhorRodada = Math.min(melhorRodada, rodada[j]);
+				if (i >= aquecimento) tempos[j] = Math.min(tempos[j], rodada[j]);
+			}
+
+			for (int j = 0; j < algs.length; j++) {
+				if (i >= aquecimento && !descartado[j] && rodada[j] > FATOR_DESCARTE * melhorRodada) {
+					descartado[j] = true;
+					tempos[j] = Long.MAX_VALUE;
+				}
+			}
+		}
+
+		AlgoritmoConv melhor = op.algoritmoPadrao(entrada, kernel);
+		double melhorTempo = tempos[melhor.ordinal()] * (1 - MARGEM);
+		for (int j = 0; j < algs.length; j++) {
+			if (tempos[j] < melhorTempo) {
+				melhorTempo = tempos[j];
+				melhor = algs[j];
+			}
+		}
+
+		return melhor;
+	}
+
+	/**
+	 * Chave da escolha no arquivo de ajuste.
+	 */
+	private static String chave(Dtype dtype, int[] shapeEntrada, int[] shapeKernel) {
+		StringBuilder sb = new StringBuilder(CPU);
+		sb.append('|').append(dtype.name()).append('|');
+		for (int i = 0; i < shapeEntrada.length; i++) {
+			sb.append(i == 0 ? "" : "x").append(shapeEntrada[i]);
+		}
+		sb.append('|');
+		for (int i = 0; i < shapeKernel.length; i++) {
+			sb.append(i == 0 ? "" : "x").append(shapeKernel[i]);
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Carrega as escolhas do arquivo de ajuste, caso exista.
+	 */
+	private static void carregar() {
+		decisoes = new Properties();
+		if (arquivo == null) return;
+
+		File f = new File(arquivo);
+		if (!f.isFile()) return;
+
+		try (Reader r = new BufferedReader(new FileReader(f))) {
+			decisoes.load(r);
+		} catch (IOException e) {
+			// arquivo ilegível, as escolhas são refeitas
+			decisoes.clear();
+		}
+	}
+
+	/**
+	 * Salva as escolhas no arquivo de ajuste, caso configurado.
+	 */
+	private static void salvar() {
+		if (arquivo == null) return;
+
+		File f = new File(arquivo);
+		File dir = f.getAbsoluteFile().getParentFile();
+		if (dir != null) dir.mkdirs();
+
+		try (Writer w = new FileWriter(f)) {
+			decisoes.store(w, "Ajuste automatico de algoritmos de convolucao (jnn)");
+		} catch (IOException e) {
+			// sem permissão de escrita, as escolhas valem apenas para esta execução
+		}
+	}
+
+	/**
+	 * Identifica o processador pelo modelo (quando disponível), arquitetura
+	 * e quantidade de núcleos.
+	 */
+	private static String identificarCpu() {
+		String modelo = System.getenv("PROCESSOR_IDENTIFIER");
+
+		File info = new File("/proc/cpuinfo");
+		if (modelo == null && info.isFile()) {
+			try (BufferedReader br = new BufferedReader(new FileReader(info))) {
+				String linha;
+				while ((linha = br.readLine()) != null) {
+					if (linha.startsWith("model name")) {
+						modelo = linha.substring(linha.indexOf(':') + 1).trim();
+						break;
+					}
+				}
+			} catch (IOException e) {
+				modelo = null;
+			}
+		}
+
+		if (modelo == null) modelo = System.getProperty("os.arch");
+
+		return modelo + " x" + Runtime.getRuntime().availableProcessors();
+	}
+
+}
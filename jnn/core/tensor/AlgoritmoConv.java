@@ -0,0 +1,74 @@
+package jnn.core.tensor;
+
+/**
+ * Algoritmos disponíveis para o cálculo da convolução 2D.
+ * <ul>
+ *    <li> {@code DIRETO}: correlação cruzada direta de cada par (filtro, canal). </li>
+ *    <li> {@code DIRETO_BLOCADO}: correlação direta processando blocos de canais por linha de saída. </li>
+ *    <li> {@code IM2COL}: reorganização da entrada em colunas e multiplicação de matrizes. </li>
+ *    <li> {@code WINOGRAD}: algoritmo de Winograd {@code F(2x2, 3x3)}, apenas kernels {@code 3x3}. </li>
+ *    <li> {@code FFT}: produto no domínio da frequência através da transformada rápida de Fourier. </li>
+ * </ul>
+ */
+public enum AlgoritmoConv {
+
+	/**
+	 * Correlação cruzada direta de cada par (filtro, canal).
+	 */
+	DIRETO("direto"),
+
+	/**
+	 * Correlação cruzada direta processando blocos de canais por linha de saída.
+	 */
+	DIRETO_BLOCADO("direto-blocado"),
+
+	/**
+	 * Reorganização da entrada em colunas e multiplicação de matrizes.
+	 */
+	IM2COL("im2col"),
+
+	/**
+	 * Algoritmo de Winograd {@code F(2x2, 3x3)}.
+	 */
+	WINOGRAD("winograd"),
+
+	/**
+	 * Transformada rápida de Fourier.
+	 */
+	FFT("fft");
+
+	/**
+	 * Nome do algoritmo.
+	 */
+	private final String nome;
+
+	/**
+	 * Inicializa um algoritmo de convolução.
+	 * @param nome nome do algoritmo.
+	 */
+	AlgoritmoConv(String nome) {
+		this.nome = nome;
+	}
+
+	/**
+	 * Retorna o nome do algoritmo.
+	 * @return nome do algoritmo.
+	 */
+	public String nome() {
+		return nome;
+	}
+
+	/**
+	 * Verifica se o algoritmo pode ser usado com o kernel informado.
+	 * @param shapeKernel formato do kernel {@code (filtros, canais, altura, largura)}.
+	 * @return {@code true} caso o algoritmo suporte o kernel, {@code false} caso contrário.
+	 */
+	public boolean suporta(int[] shapeKernel) {
+		if (this == WINOGRAD) {
+			return shapeKernel[2] == 3 && shapeKernel[3] == 3;
+		}
+
+		return true;
+	}
+
+}
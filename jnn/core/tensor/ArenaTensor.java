@@ -0,0 +1,297 @@
+package jnn.core.tensor;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+/**
+ * Arena de alocação de tensores fora da heap da JVM.
+ * <p>
+ *		Os tensores criados pela arena usam a mesma API de um {@code Tensor}
+ *		comum, mas seus elementos ficam em memória nativa, fora do alcance do
+ *		coletor de lixo. Isso é útil para matrizes de pesos grandes ou lotes
+ *		de dados que não devem pressionar a heap.
+ * </p>
+ * <p>
+ *		Todas as alocações da arena são descartadas de uma vez ao chamar
+ *		{@code liberar()} (ou {@code close()}), permitindo, por exemplo, descartar
+ *		toda a memória temporária de um passo de treino:
+ * </p>
+ * <pre>
+ *try (ArenaTensor arena = new ArenaTensor()) {
+ *  Tensor a = arena.alocar(Dtype.FLOAT32, 128, 128);
+ *  Tensor b = arena.copiar(x);
+ *  ...
+ *}
+ * </pre>
+ * <p>
+ *		Depois de liberada, qualquer acesso aos tensores da arena resulta em
+ *		{@code IllegalStateException}. A memória nativa é devolvida ao sistema
+ *		quando os buffers descartados são coletados, sem acesso a APIs internas
+ *		da JVM.
+ * </p>
+ */
+public class ArenaTensor implements AutoCloseable {
+
+	/**
+	 * Armazenamentos alocados pela arena.
+	 */
+	private ArrayList<ArmazenamentoOffHeap> alocacoes = new ArrayList<>();
+
+	/**
+	 * Quantidade de bytes alocados atualmente.
+	 */
+	private long bytesAlocados = 0;
+
+	/**
+	 * Inicializa uma arena vazia.
+	 */
+	public ArenaTensor() {}
+
+	/**
+	 * Aloca um novo tensor, zerado, fora da heap.
+	 * @param dtype tipo de dado dos elementos.
+	 * @param shape formato desejado.
+	 * @return {@code Tensor} alocado pela arena.
+	 */
+	public Tensor alocar(Dtype dtype, int... shape) {
+		verificarAberta();
+		if (dtype == null) {
+			throw new IllegalArgumentException(
+				"\nTipo de dado fornecido é nulo."
+			);
+		}
+
+		int[] s = shape.clone();
+		long bytes = tamanho(s) * dtype.bytes();
+		if (bytes > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(
+				"\nTamanho de " + bytes + " bytes excede o limite de um único bloco."
+			);
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+
+		return registrar(new ArmazenamentoOffHeap(buffer, dtype), s);
+	}
+
+	/**
+	 * Aloca um novo tensor {@code FLOAT64} fora da heap.
+	 * @param shape formato desejado.
+	 * @return {@code Tensor} alocado pela arena.
+	 */
+	public Tensor alocar(int... shape) {
+		return alocar(Dtype.FLOAT64, shape);
+	}
+
+	/**
+	 * Copia o conteúdo do tensor informado para um novo tensor fora da heap,
+	 * mantendo o tipo de dado e o nome.
+	 * @param tensor {@code Tensor} base.
+	 * @return {@code Tensor} alocado pela arena.
+	 */
+	public Tensor copiar(Tensor tensor) {
+		if (tensor == null) {
+			throw new IllegalArgumentException(
+				"\nO tensor fornecido é nulo."
+			);
+		}
+
+		Tensor t = alocar(tensor.dtype(), tensor.shape());
+		t.copiar(tensor);
+		return t.nome(tensor.nome());
+	}
+
+	/**
+	 * Mapeia uma região de um arquivo diretamente para um tensor.
+	 * <p>
+	 *		Os elementos são lidos e escritos no arquivo usando a ordem de bytes
+	 *		nativa da plataforma, alterações no tensor são refletidas no arquivo.
+	 * </p>
+	 * <p>
+	 *		O arquivo deve conter toda a região informada, um formato ou posição
+	 *		incorretos resultam em erro ao invés de estender o arquivo.
+	 * </p>
+	 * @param caminho caminho do arquivo.
+	 * @param posicao posição inicial, em bytes, dentro do arquivo.
+	 * @param dtype tipo de dado dos elementos.
+	 * @param shape formato desejado.
+	 * @return {@code Tensor} mapeado pela arena.
+	 */
+	public Tensor mapear(String caminho, long posicao, Dtype dtype, int... shape) {
+		return mapear(caminho, posicao, FileChannel.MapMode.READ_WRITE, dtype, shape);
+	}
+
+	/**
+	 * Mapeia uma região de um arquivo diretamente para um tensor somente
+	 * leitura.
+	 * <p>
+	 *		Permite mapear arquivos sem permissão de escrita, como conjuntos de
+	 *		dados ou pesos compartilhados. Qualquer escrita no tensor resulta em
+	 *		{@code ReadOnlyBufferException}.
+	 * </p>
+	 * <p>
+	 *		O arquivo deve conter toda a região informada.
+	 * </p>
+	 * @param caminho caminho do arquivo.
+	 * @param posicao posição inicial, em bytes, dentro do arquivo.
+	 * @param dtype tipo de dado dos elementos.
+	 * @param shape formato desejado.
+	 * @return {@code Tensor} mapeado pela arena.
+	 */
+	public Tensor mapearLeitura(String caminho, long posicao, Dtype dtype, int... shape) {
+		return mapear(caminho, posicao, FileChannel.MapMode.READ_ONLY, dtype, shape);
+	}
+
+	/**
+	 * Mapeia uma região de um arquivo para um tensor no modo informado.
+	 * @param caminho caminho do arquivo.
+	 * @param posicao posição inicial, em bytes, dentro do arquivo.
+	 * @param modo modo de mapeamento ({@code READ_WRITE} ou {@code READ_ONLY}).
+	 * @param dtype tipo de dado dos elementos.
+	 * @param shape formato desejado.
+	 * @return {@code Tensor} mapeado pela arena.
+	 */
+	private Tensor mapear(String caminho, long posicao, FileChannel.MapMode modo, Dtype dtype, int... shape) {
+		verificarAberta();
+		if (dtype == null) {
+			throw new IllegalArgumentException(
+				"\nTipo de dado fornecido é nulo."
+			);
+		}
+		if (posicao < 0) {
+			throw new IllegalArgumentException(
+				"\nPosição inicial deve ser maior ou igual a zero, recebido " + posicao
+			);
+		}
+
+		int[] s = shape.clone();
+		long bytes = tamanho(s) * dtype.bytes();
+		if (bytes > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(
+				"\nTamanho de " + bytes + " bytes excede o limite de um único bloco."
+			);
+		}
+
+		boolean leitura = modo == FileChannel.MapMode.READ_ONLY;
+		MappedByteBuffer buffer;
+		try (RandomAccessFile arq = new RandomAccessFile(caminho, leitura ? "r" : "rw");
+			FileChannel canal = arq.getChannel()) {
+			// o mapeamento em READ_WRITE estenderia o arquivo silenciosamente
+			if (canal.size() < posicao + bytes) {
+				throw new IllegalArgumentException(
+					"\nRegião de " + bytes + " bytes a partir da posição " + posicao +
+					" excede o tamanho do arquivo \"" + caminho + "\" (" + canal.size() + " bytes)."
+				);
+			}
+			buffer = canal.map(modo, posicao, bytes);
+		} catch (IOException e) {
+			throw new RuntimeException("\nErro ao mapear o arquivo \"" + caminho + "\": " + e.getMessage(), e);
+		}
+
+		buffer.order(ByteOrder.nativeOrder());
+		return registrar(new ArmazenamentoOffHeap(buffer, dtype), s);
+	}
+
+	/**
+	 * Registra o armazenamento na arena e cria o tensor correspondente.
+	 * @param armazenamento armazenamento fora da heap.
+	 * @param shape formato do tensor.
+	 * @return {@code Tensor} criado.
+	 */
+	private Tensor registrar(ArmazenamentoOffHeap armazenamento, int[] shape) {
+		alocacoes.add(armazenamento);
+		bytesAlocados += (long) armazenamento.tamanho() * armazenamento.dtype().bytes();
+		return new Tensor(armazenamento, 0, shape, Tensor.calcularStrides(shape));
+	}
+
+	/**
+	 * Calcula a quantidade de elementos de acordo com o formato.
+	 * @param shape formato desejado.
+	 * @return quantidade de elementos.
+	 */
+	private long tamanho(int[] shape) {
+		if (shape.length == 0) {
+			throw new IllegalArgumentException(
+				"\nO formato fornecido está vazio."
+			);
+		}
+
+		long tam = 1;
+		for (int i : shape) {
+			if (i < 1) {
+				throw new IllegalArgumentException(
+					"\nArray de formato deve conter valores maiores que 1."
+				);
+			}
+			tam *= i;
+		}
+
+		return tam;
+	}
+
+	/**
+	 * Verifica se a arena ainda pode alocar memória.
+	 */
+	private void verificarAberta() {
+		if (alocacoes == null) {
+			throw new IllegalStateException(
+				"\nA arena já foi fechada."
+			);
+		}
+	}
+
+	/**
+	 * Libera toda a memória alocada pela arena até o momento.
+	 * <p>
+	 *		Os tensores da arena deixam de ser acessíveis imediatamente, a
+	 *		memória nativa é devolvida quando os buffers forem coletados.
+	 * </p>
+	 * <p>
+	 *		A arena continua disponível para novas alocações, o que permite
+	 *		reaproveitá-la entre passos de treino.
+	 * </p>
+	 */
+	public void liberar() {
+		verificarAberta();
+
+		for (ArmazenamentoOffHeap a : alocacoes) {
+			a.liberar();
+		}
+
+		alocacoes.clear();
+		bytesAlocados = 0;
+	}
+
+	/**
+	 * Retorna a quantidade de tensores atualmente alocados pela arena.
+	 * @return quantidade de alocações.
+	 */
+	public int alocacoes() {
+		return alocacoes == null ? 0 : alocacoes.size();
+	}
+
+	/**
+	 * Retorna a quantidade de bytes atualmente alocados pela arena.
+	 * @return quantidade de bytes.
+	 */
+	public long bytesAlocados() {
+		return bytesAlocados;
+	}
+
+	/**
+	 * Libera toda a memória da arena e impede novas alocações.
+	 */
+	@Override
+	public void close() {
+		if (alocacoes == null) return;
+
+		liberar();
+		alocacoes = null;
+	}
+
+}
@@ -0,0 +1,391 @@
+package jnn.core.tensor;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Base para o armazenamento dos elementos de um {@code Tensor}.
+ * <p>
+ *		O armazenamento é apenas um bloco linear de elementos, a interpretação
+ *		de formato, offset e strides fica a cargo do tensor.
+ * </p>
+ * <p>
+ *		As operações em bloco recebem posições absolutas dentro do armazenamento
+ *		e consideram que os elementos envolvidos estão dispostos de forma contígua.
+ *		As implementações base usam {@code get()} e {@code set()}, as classes filhas
+ *		devem sobrescrevê-las com versões especializadas quando ambos os
+ *		armazenamentos forem do mesmo tipo.
+ * </p>
+ * <p>
+ *		As versões especializadas são laços escalares sobre arrays primitivos,
+ *		sem a chamada de {@code get()} e {@code set()} por elemento, e não usam
+ *		instruções vetoriais explícitas. A escolha entre a versão especializada
+ *		e a genérica acontece em tempo de execução, de acordo com o tipo dos
+ *		armazenamentos envolvidos. Ambas acumulam as reduções na mesma ordem,
+ *		então o resultado não depende da versão usada.
+ * </p>
+ */
+abstract class Armazenamento {
+
+	/**
+	 * Versão dos elementos, incrementada sempre que o conteúdo for marcado
+	 * como alterado, compartilhada por todas as vistas do armazenamento.
+	 */
+	int versao;
+
+	/**
+	 * Retorna o tipo de dado do armazenamento.
+	 * @return tipo de dado.
+	 */
+	abstract Dtype dtype();
+
+	/**
+	 * Retorna a quantidade de elementos do armazenamento.
+	 * @return quantidade de elementos.
+	 */
+	abstract int tamanho();
+
+	/**
+	 * Retorna o valor na posição informada.
+	 * @param i posição desejada.
+	 * @return valor armazenado.
+	 */
+	abstract double get(int i);
+
+	/**
+	 * Atribui o valor na posição informada.
+	 * @param i posição desejada.
+	 * @param x valor desejado.
+	 */
+	abstract void set(int i, double x);
+
+	/**
+	 * Aloca um novo armazenamento, zerado, do mesmo tipo da instância local.
+	 * @param n quantidade de elementos.
+	 * @return novo armazenamento.
+	 */
+	abstract Armazenamento alocar(int n);
+
+	/**
+	 * Aloca um novo armazenamento, zerado, de acordo com o tipo informado.
+	 * @param dtype tipo de dado desejado.
+	 * @param n quantidade de elementos.
+	 * @return novo armazenamento.
+	 */
+	static Armazenamento alocar(Dtype dtype, int n) {
+		switch (dtype) {
+			case FLOAT32: return new ArmazenamentoFloat(n);
+			case FLOAT64: return new ArmazenamentoDouble(n);
+			default: throw new IllegalArgumentException(
+				"\nTipo de dado " + dtype + " não suportado."
+			);
+		}
+	}
+
+	/**
+	 * Adiciona o valor na posição informada.
+	 * @param i posição desejada.
+	 * @param x valor desejado.
+	 */
+	void add(int i, double x) {
+		set(i, get(i) + x);
+	}
+
+	/**
+	 * Preenche {@code n} elementos a partir da posição inicial.
+	 * @param ini posição inicial.
+	 * @param n quantidade de elementos.
+	 * @param x valor desejado.
+	 */
+	void preencher(int ini, int n, double x) {
+		for (int i = ini; i < ini + n; i++) {
+			set(i, x);
+		}
+	}
+
+	/**
+	 * Copia {@code n} elementos do armazenamento local para o destino.
+	 * @param ini posição inicial local.
+	 * @param dest armazenamento de destino.
+	 * @param iniDest posição inicial no destino.
+	 * @param n quantidade de elementos.
+	 */
+	void copiar(int ini, Armazenamento dest, int iniDest, int n) {
+		for (int i = 0; i < n; i++) {
+			dest.set(iniDest + i, get(ini + i));
+		}
+	}
+
+	/**
+	 * Realiza {@code this[i] += x} para {@code n} elementos a partir
+	 * da posição inicial.
+	 * @param ini posição inicial.
+	 * @param n quantidade de elementos.
+	 * @param x valor desejado.
+	 */
+	void add(int ini, int n, double x) {
+		for (int i = ini; i < ini + n; i++) {
+			set(i, get(i) + x);
+		}
+	}
+
+	/**
+	 * Realiza {@code this[i] -= x} para {@code n} elementos a partir
+	 * da posição inicial.
+	 * @param ini posição inicial.
+	 * @param n quantidade de elementos.
+	 * @param x valor desejado.
+	 */
+	void sub(int ini, int n, double x) {
+		for (int i = ini; i < ini + n; i++) {
+			set(i, get(i) - x);
+		}
+	}
+
+	/**
+	 * Realiza {@code this[i] *= x} para {@code n} elementos a partir
+	 * da posição inicial.
+	 * @param ini posição inicial.
+	 * @param n quantidade de elementos.
+	 * @param x valor desejado.
+	 */
+	void mult(int ini, int n, double x) {
+		for (int i = ini; i < ini + n; i++) {
+			set(i, get(i) * x);
+		}
+	}
+
+	/**
+	 * Realiza {@code this[i] /= x} para {@code n} elementos a partir
+	 * da posição inicial.
+	 * @param ini posição inicial.
+	 * @param n quantidade de elementos.
+	 * @param x valor desejado.
+	 */
+	void div(int ini, int n, double x) {
+		for (int i = ini; i < ini + n; i++) {
+			set(i, get(i) / x);
+		}
+	}
+
+	/**
+	 * Realiza {@code this[ini + i] += b[iniB + i]} para {@code n} elementos.
+	 * @param ini posição inicial local.
+	 * @param b armazenamento B.
+	 * @param iniB posição inicial em B.
+	 * @param n quantidade de elementos.
+	 */
+	void add(int ini, Armazenamento b, int iniB, int n) {
+		for (int i = 0; i < n; i++) {
+			set(ini + i, get(ini + i) + b.get(iniB + i));
+		}
+	}
+
+	/**
+	 * Realiza {@code this[ini + i] -= b[iniB + i]} para {@code n} elementos.
+	 * @param ini posição inicial local.
+	 * @param b armazenamento B.
+	 * @param iniB posição inicial em B.
+	 * @param n quantidade de elementos.
+	 */
+	void sub(int ini, Armazenamento b, int iniB, int n) {
+		for (int i = 0; i < n; i++) {
+			set(ini + i, get(ini + i) - b.get(iniB + i));
+		}
+	}
+
+	/**
+	 * Realiza {@code this[ini + i] *= b[iniB + i]} para {@code n} elementos.
+	 * @param ini posição inicial local.
+	 * @param b armazenamento B.
+	 * @param iniB posição inicial em B.
+	 * @param n quantidade de elementos.
+	 */
+	void mult(int ini, Armazenamento b, int iniB, int n) {
+		for (int i = 0; i < n; i++) {
+			set(ini + i, get(ini + i) * b.get(iniB + i));
+		}
+	}
+
+	/**
+	 * Realiza {@code this[ini + i] /= b[iniB + i]} para {@code n} elementos.
+	 * @param ini posição inicial local.
+	 * @param b armazenamento B.
+	 * @param iniB posição inicial em B.
+	 * @param n quantidade de elementos.
+	 */
+	void div(int ini, Armazenamento b, int iniB, int n) {
+		for (int i = 0; i < n; i++) {
+			set(ini + i, get(ini + i) / b.get(iniB + i));
+		}
+	}
+
+	/**
+	 * Realiza {@code this[ini + i] = a[iniA + i] + b[iniB + i]} para {@code n} elementos.
+	 * @param ini posição inicial local.
+	 * @param a armazenamento A.
+	 * @param iniA posição inicial em A.
+	 * @param b armazenamento B.
+	 * @param iniB posição inicial em B.
+	 * @param n quantidade de elementos.
+	 */
+	void add(int ini, Armazenamento a, int iniA, Armazenamento b, int iniB, int n) {
+		for (int i = 0; i < n; i++) {
+			set(ini + i, a.get(iniA + i) + b.get(iniB + i));
+		}
+	}
+
+	/**
+	 * Realiza {@code this[ini + i] = a[iniA + i] - b[iniB + i]} para {@code n} elementos.
+	 * @param ini posição inicial local.
+	 * @param a armazenamento A.
+	 * @param iniA posição inicial em A.
+	 * @param b armazenamento B.
+	 * @param iniB posição inicial em B.
+	 * @param n quantidade de elementos.
+	 */
+	void sub(int ini, Armazenamento a, int iniA, Armazenamento b, int iniB, int n) {
+		for (int i = 0; i < n; i++) {
+			set(ini + i, a.get(iniA + i) - b.get(iniB + i));
+		}
+	}
+
+	/**
+	 * Realiza {@code this[ini + i] = a[iniA + i] * b[iniB + i]} para {@code n} elementos.
+	 * @param ini posição inicial local.
+	 * @param a armazenamento A.
+	 * @param iniA posição inicial em A.
+	 * @param b armazenamento B.
+	 * @param iniB posição inicial em B.
+	 * @param n quantidade de elementos.
+	 */
+	void mult(int ini, Armazenamento a, int iniA, Armazenamento b, int iniB, int n) {
+		for (int i = 0; i < n; i++) {
+			set(ini + i, a.get(iniA + i) * b.get(iniB + i));
+		}
+	}
+
+	/**
+	 * Realiza {@code this[ini + i] = a[iniA + i] / b[iniB + i]} para {@code n} elementos.
+	 * @param ini posição inicial local.
+	 * @param a armazenamento A.
+	 * @param iniA posição inicial em A.
+	 * @param b armazenamento B.
+	 * @param iniB posição inicial em B.
+	 * @param n quantidade de elementos.
+	 */
+	void div(int ini, Armazenamento a, int iniA, Armazenamento b, int iniB, int n) {
+		for (int i = 0; i < n; i++) {
+			set(ini + i, a.get(iniA + i) / b.get(iniB + i));
+		}
+	}
+
+	/**
+	 * Aplica a função em {@code n} elementos locais.
+	 * @param ini posição inicial local.
+	 * @param n quantidade de elementos.
+	 * @param fun função desejada.
+	 */
+	void aplicar(int ini, int n, DoubleUnaryOperator fun) {
+		for (int i = ini; i < ini + n; i++) {
+			set(i, fun.applyAsDouble(get(i)));
+		}
+	}
+
+	/**
+	 * Realiza {@code this[ini + i] = fun(a[iniA + i])} para {@code n} elementos.
+	 * @param ini posição inicial local.
+	 * @param a armazenamento A.
+	 * @param iniA posição inicial em A.
+	 * @param n quantidade de elementos.
+	 * @param fun função desejada.
+	 */
+	void aplicar(int ini, Armazenamento a, int iniA, int n, DoubleUnaryOperator fun) {
+		for (int i = 0; i < n; i++) {
+			set(ini + i, fun.applyAsDouble(a.get(iniA + i)));
+		}
+	}
+
+	/**
+	 * Realiza {@code this[ini + i] = fun(a[iniA + i], b[iniB + i])} para
+	 * {@code n} elementos.
+	 * @param ini posição inicial local.
+	 * @param a armazenamento A.
+	 * @param iniA posição inicial em A.
+	 * @param b armazenamento B.
+	 * @param iniB posição inicial em B.
+	 * @param n quantidade de elementos.
+	 * @param fun função desejada.
+	 */
+	void aplicar(int ini, Armazenamento a, int iniA, Armazenamento b, int iniB, int n, DoubleBinaryOperator fun) {
+		for (int i = 0; i < n; i++) {
+			set(ini + i, fun.applyAsDouble(a.get(iniA + i), b.get(iniB + i)));
+		}
+	}
+
+	/**
+	 * Retorna a soma de {@code n} elementos a partir da posição inicial.
+	 * @param ini posição inicial.
+	 * @param n quantidade de elementos.
+	 * @return soma dos elementos.
+	 */
+	double soma(int ini, int n) {
+		double soma = 0.0;
+		for (int i = ini; i < ini + n; i++) {
+			soma += get(i);
+		}
+
+		return soma;
+	}
+
+	/**
+	 * Retorna o maior valor entre {@code n} elementos a partir da posição inicial.
+	 * @param ini posição inicial.
+	 * @param n quantidade de elementos.
+	 * @return valor máximo.
+	 */
+	double maximo(int ini, int n) {
+		double max = get(ini);
+		for (int i = ini + 1; i < ini + n; i++) {
+			double val = get(i);
+			if (val > max) max = val;
+		}
+
+		return max;
+	}
+
+	/**
+	 * Retorna o menor valor entre {@code n} elementos a partir da posição inicial.
+	 * @param ini posição inicial.
+	 * @param n quantidade de elementos.
+	 * @return valor mínimo.
+	 */
+	double minimo(int ini, int n) {
+		double min = get(ini);
+		for (int i = ini + 1; i < ini + n; i++) {
+			double val = get(i);
+			if (val < min) min = val;
+		}
+
+		return min;
+	}
+
+	/**
+	 * Retorna a soma de {@code (elemento - x)²} para {@code n} elementos a
+	 * partir da posição inicial.
+	 * @param ini posição inicial.
+	 * @param n quantidade de elementos.
+	 * @param x valor de referência.
+	 * @return soma dos quadrados das diferenças.
+	 */
+	double somaDifQuadrado(int ini, int n, double x) {
+		double soma = 0.0;
+		for (int i = ini; i < ini + n; i++) {
+			double d = get(i) - x;
+			soma += d * d;
+		}
+
+		return soma;
+	}
+
+}
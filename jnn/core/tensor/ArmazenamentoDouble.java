@@ -0,0 +1,281 @@
+package jnn.core.tensor;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Armazenamento de elementos em um array {@code double[]} (FLOAT64).
+ */
+final class ArmazenamentoDouble extends Armazenamento {
+
+	/**
+	 * Elementos armazenados.
+	 */
+	final double[] dados;
+
+	/**
+	 * Inicializa um armazenamento zerado.
+	 * @param n quantidade de elementos.
+	 */
+	ArmazenamentoDouble(int n) {
+		dados = new double[n];
+	}
+
+	/**
+	 * Inicializa um armazenamento usando o array informado, sem cópia.
+	 * @param dados array de elementos.
+	 */
+	ArmazenamentoDouble(double[] dados) {
+		this.dados = dados;
+	}
+
+	@Override
+	Dtype dtype() {
+		return Dtype.FLOAT64;
+	}
+
+	@Override
+	int tamanho() {
+		return dados.length;
+	}
+
+	@Override
+	double get(int i) {
+		return dados[i];
+	}
+
+	@Override
+	void set(int i, double x) {
+		dados[i] = x;
+	}
+
+	@Override
+	void add(int i, double x) {
+		dados[i] += x;
+	}
+
+	@Override
+	Armazenamento alocar(int n) {
+		return new ArmazenamentoDouble(n);
+	}
+
+	@Override
+	void preencher(int ini, int n, double x) {
+		Arrays.fill(dados, ini, ini + n, x);
+	}
+
+	@Override
+	void copiar(int ini, Armazenamento dest, int iniDest, int n) {
+		if (dest instanceof ArmazenamentoDouble) {
+			System.arraycopy(dados, ini, ((ArmazenamentoDouble) dest).dados, iniDest, n);
+		} else {
+			super.copiar(ini, dest, iniDest, n);
+		}
+	}
+
+	@Override
+	void add(int ini, int n, double x) {
+		for (int i = ini; i < ini + n; i++) {
+			dados[i] += x;
+		}
+	}
+
+	@Override
+	void sub(int ini, int n, double x) {
+		for (int i = ini; i < ini + n; i++) {
+			dados[i] -= x;
+		}
+	}
+
+	@Override
+	void mult(int ini, int n, double x) {
+		for (int i = ini; i < ini + n; i++) {
+			dados[i] *= x;
+		}
+	}
+
+	@Override
+	void div(int ini, int n, double x) {
+		for (int i = ini; i < ini + n; i++) {
+			dados[i] /= x;
+		}
+	}
+
+	@Override
+	void add(int ini, Armazenamento b, int iniB, int n) {
+		if (b instanceof ArmazenamentoDouble) {
+			double[] db = ((ArmazenamentoDouble) b).dados;
+			for (int i = 0; i < n; i++) {
+				dados[ini + i] += db[iniB + i];
+			}
+		} else {
+			super.add(ini, b, iniB, n);
+		}
+	}
+
+	@Override
+	void sub(int ini, Armazenamento b, int iniB, int n) {
+		if (b instanceof ArmazenamentoDouble) {
+			double[] db = ((ArmazenamentoDouble) b).dados;
+			for (int i = 0; i < n; i++) {
+				dados[ini + i] -= db[iniB + i];
+			}
+		} else {
+			super.sub(ini, b, iniB, n);
+		}
+	}
+
+	@Override
+	void mult(int ini, Armazenamento b, int iniB, int n) {
+		if (b instanceof ArmazenamentoDouble) {
+			double[] db = ((ArmazenamentoDouble) b).dados;
+			for (int i = 0; i < n; i++) {
+				dados[ini + i] *= db[iniB + i];
+			}
+		} else {
+			super.mult(ini, b, iniB, n);
+		}
+	}
+
+	@Override
+	void div(int ini, Armazenamento b, int iniB, int n) {
+		if (b instanceof ArmazenamentoDouble) {
+			double[] db = ((ArmazenamentoDouble) b).dados;
+			for (int i = 0; i < n; i++) {
+				dados[ini + i] /= db[iniB + i];
+			}
+		} else {
+			super.div(ini, b, iniB, n);
+		}
+	}
+
+	@Override
+	void add(int ini, Armazenamento a, int iniA, Armazenamento b, int iniB, int n) {
+		if (a instanceof ArmazenamentoDouble && b instanceof ArmazenamentoDouble) {
+			double[] da = ((ArmazenamentoDouble) a).dados;
+			double[] db = ((ArmazenamentoDouble) b).dados;
+			for (int i = 0; i < n; i++) {
+				dados[ini + i] = da[iniA + i] + db[iniB + i];
+			}
+		} else {
+			super.add(ini, a, iniA, b, iniB, n);
+		}
+	}
+
+	@Override
+	void sub(int ini, Armazenamento a, int iniA, Armazenamento b, int iniB, int n) {
+		if (a instanceof ArmazenamentoDouble && b instanceof ArmazenamentoDouble) {
+			double[] da = ((ArmazenamentoDouble) a).dados;
+			double[] db = ((ArmazenamentoDouble) b).dados;
+			for (int i = 0; i < n; i++) {
+				dados[ini + i] = da[iniA + i] - db[iniB + i];
+			}
+		} else {
+			super.sub(ini, a, iniA, b, iniB, n);
+		}
+	}
+
+	@Override
+	void mult(int ini, Armazenamento a, int iniA, Armazenamento b, int iniB, int n) {
+		if (a instanceof ArmazenamentoDouble && b instanceof ArmazenamentoDouble) {
+			double[] da = ((ArmazenamentoDouble) a).dados;
+			double[] db = ((ArmazenamentoDouble) b).dados;
+			for (int i = 0; i < n; i++) {
+				dados[ini + i] = da[iniA + i] * db[iniB + i];
+			}
+		} else {
+			super.mult(ini, a, iniA, b, iniB, n);
+		}
+	}
+
+	@Override
+	void div(int ini, Armazenamento a, int iniA, Armazenamento b, int iniB, int n) {
+		if (a instanceof ArmazenamentoDouble && b instanceof ArmazenamentoDouble) {
+			double[] da = ((ArmazenamentoDouble) a).dados;
+			double[] db = ((ArmazenamentoDouble) b).dados;
+			for (int i = 0; i < n; i++) {
+				dados[ini + i] = da[iniA + i] / db[iniB + i];
+			}
+		} else {
+			super.div(ini, a, iniA, b, iniB, n);
+		}
+	}
+
+	@Override
+	void aplicar(int ini, int n, DoubleUnaryOperator fun) {
+		for (int i = ini; i < ini + n; i++) {
+			dados[i] = fun.applyAsDouble(dados[i]);
+		}
+	}
+
+	@Override
+	void aplicar(int ini, Armazenamento a, int iniA, int n, DoubleUnaryOperator fun) {
+		if (a instanceof ArmazenamentoDouble) {
+			double[] da = ((ArmazenamentoDouble) a).dados;
+			for (int i = 0; i < n; i++) {
+				dados[ini + i] = fun.applyAsDouble(da[iniA + i]);
+			}
+		} else {
+			super.aplicar(ini, a, iniA, n, fun);
+		}
+	}
+
+	@Override
+	void aplicar(int ini, Armazenamento a, int iniA, Armazenamento b, int iniB, int n, DoubleBinaryOperator fun) {
+		if (a instanceof ArmazenamentoDouble && b instanceof ArmazenamentoDouble) {
+			double[] da = ((ArmazenamentoDouble) a).dados;
+			double[] db = ((ArmazenamentoDouble) b).dados;
+			for (int i = 0; i < n; i++) {
+				dados[ini + i] = fun.applyAsDouble(da[iniA + i], db[iniB + i]);
+			}
+		} else {
+			super.aplicar(ini, a, iniA, b, iniB, n, fun);
+		}
+	}
+
+	// As reduções somam os elementos em ordem, com um único acumulador,
+	// mantendo o mesmo resultado da implementação genérica.
+
+	@Override
+	double soma(int ini, int n) {
+		double soma = 0.0;
+		for (int i = ini; i < ini + n; i++) {
+			soma += dados[i];
+		}
+
+		return soma;
+	}
+
+	@Override
+	double somaDifQuadrado(int ini, int n, double x) {
+		double soma = 0.0;
+		for (int i = ini; i < ini + n; i++) {
+			double d = dados[i] - x;
+			soma += d * d;
+		}
+
+		return soma;
+	}
+
+	@Override
+	double maximo(int ini, int n) {
+		double max = dados[ini];
+		for (int i = ini + 1; i < ini + n; i++) {
+			if (dados[i] > max) max = dados[i];
+		}
+
+		return max;
+	}
+
+	@Override
+	double minimo(int ini, int n) {
+		double min = dados[ini];
+		for (int i = ini + 1; i < ini + n; i++) {
+			if (dados[i] < min) min = dados[i];
+		}
+
+		return min;
+	}
+
+}
@@ -0,0 +1,92 @@
+package jnn.core.tensor;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Armazenamento de elementos fora da heap da JVM.
+ * <p>
+ *		Os elementos ficam num {@code ByteBuffer} direto (ou mapeado de um arquivo),
+ *		usando a ordem de bytes nativa da plataforma. Os elementos não ocupam a
+ *		heap, e o armazenamento é invalidado pela {@code ArenaTensor} que o criou.
+ * </p>
+ */
+final class ArmazenamentoOffHeap extends Armazenamento {
+
+	/**
+	 * Buffer com os elementos, nulo depois de liberado.
+	 */
+	private ByteBuffer buffer;
+
+	/**
+	 * Tipo de dado dos elementos.
+	 */
+	private final Dtype dtype;
+
+	/**
+	 * Quantidade de elementos.
+	 */
+	private final int tamanho;
+
+	/**
+	 * Inicializa um armazenamento a partir de um buffer direto.
+	 * @param buffer buffer com ordem de bytes nativa.
+	 * @param dtype tipo de dado dos elementos.
+	 */
+	ArmazenamentoOffHeap(ByteBuffer buffer, Dtype dtype) {
+		this.buffer = buffer;
+		this.dtype = dtype;
+		this.tamanho = buffer.capacity() / dtype.bytes();
+	}
+
+	/**
+	 * Retorna o buffer do armazenamento.
+	 * @return buffer de elementos.
+	 */
+	private ByteBuffer buffer() {
+		ByteBuffer b = buffer;
+		if (b == null) {
+			throw new IllegalStateException(
+				"\nA memória do tensor já foi liberada pela arena."
+			);
+		}
+
+		return b;
+	}
+
+	/**
+	 * Desassocia o buffer do armazenamento, qualquer acesso posterior
+	 * resulta em erro.
+	 */
+	void liberar() {
+		buffer = null;
+	}
+
+	@Override
+	Dtype dtype() {
+		return dtype;
+	}
+
+	@Override
+	int tamanho() {
+		return tamanho;
+	}
+
+	@Override
+	double get(int i) {
+		return dtype == Dtype.FLOAT64 ?
+			buffer().getDouble(i << 3) :
+			buffer().getFloat(i << 2);
+	}
+
+	@Override
+	void set(int i, double x) {
+		if (dtype == Dtype.FLOAT64) buffer().putDouble(i << 3, x);
+		else buffer().putFloat(i << 2, (float) x);
+	}
+
+	@Override
+	Armazenamento alocar(int n) {
+		return Armazenamento.alocar(dtype, n);
+	}
+
+}
@@ -0,0 +1,592 @@
+package jnn.core.tensor;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Convolução 2D através da transformada rápida de Fourier (FFT).
+ * <p>
+ *		As imagens são preenchidas com zeros até dimensões potência de dois
+ *		(FFT radix-2) e a correlação cruzada de cada par (filtro, canal) se torna
+ *		um produto elemento a elemento no domínio da frequência:
+ * </p>
+ * <pre>
+ *corr(x, k) = IFFT(FFT(x) * conj(FFT(k)))
+ *conv(g, k) = IFFT(FFT(g) * FFT(k))
+ * </pre>
+ * <p>
+ *		Como as dimensões da transformada são pelo menos as da entrada, os
+ *		elementos aproveitados do resultado nunca sofrem com o efeito circular.
+ * </p>
+ * <p>
+ *		Duas imagens reais são transformadas juntas em uma única FFT complexa
+ *		(uma como parte real e a outra como parte imaginária), o mesmo vale para
+ *		as transformadas inversas, reduzindo pela metade a quantidade de FFTs.
+ * </p>
+ * <p>
+ *		Os planos, as áreas de trabalho e os espectros dos kernels são mantidos
+ *		por thread, então cópias de uma camada que compartilhem a mesma instância
+ *		podem calcular em paralelo sem bloqueios. Os espectros dos kernels só são
+ *		recalculados quando o armazenamento do kernel muda ou quando sua versão
+ *		({@link Tensor#versao()}) avança, o que os otimizadores fazem a cada
+ *		atualização. Alterações manuais nos valores de um kernel já usado devem
+ *		ser seguidas de {@link Tensor#marcarAlterado()}. Os cálculos são feitos
+ *		em {@code FLOAT64}, independente do tipo dos tensores.
+ * </p>
+ */
+final class ConvFFT {
+
+	/**
+	 * Custo estimado de cada elemento por etapa da FFT, em relação a uma
+	 * multiplicação seguida de soma da convolução direta.
+	 */
+	private static final double CUSTO_FFT = 3.0;
+
+	/**
+	 * Custo estimado do produto complexo acumulado por elemento, em relação
+	 * a uma multiplicação seguida de soma da convolução direta.
+	 */
+	private static final double CUSTO_PRODUTO = 3.0;
+
+	/**
+	 * Área de trabalho de cada thread.
+	 */
+	private final ThreadLocal<Area> areas = ThreadLocal.withInitial(Area::new);
+
+	/**
+	 * Convolução por FFT.
+	 */
+	ConvFFT() {}
+
+	/**
+	 * Retorna a menor potência de dois maior ou igual a {@code n}.
+	 * @param n valor desejado.
+	 * @return potência de dois.
+	 */
+	static int potencia2(int n) {
+		return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+	}
+
+	/**
+	 * Custo estimado de {@code n} FFTs 2D de uma entrada {@code (alt, larg)},
+	 * considerando o agrupamento de duas imagens reais por FFT.
+	 */
+	private static double custoFFTs(int n, int alt, int larg) {
+		double tam = (double) potencia2(alt) * potencia2(larg);
+		double log = Math.max(1, Math.log(tam) / Math.log(2));
+		return Math.ceil(n / 2.0) * tam * log * CUSTO_FFT;
+	}
+
+	/**
+	 * Custo estimado dos produtos elemento a elemento de todos os pares
+	 * (filtro, canal) no domínio da frequência.
+	 */
+	private static double custoProdutos(int filtros, int canais, int alt, int larg) {
+		return (double) filtros * canais * potencia2(alt) * potencia2(larg) * CUSTO_PRODUTO;
+	}
+
+	/**
+	 * Custo estimado da convolução direta, em multiplicações seguidas de soma.
+	 */
+	private static double custoDireto(int filtros, int canais, int altS, int largS, int altK, int largK) {
+		return (double) filtros * canais * altS * largS * altK * largK;
+	}
+
+	/**
+	 * Verifica se a propagação direta (ou o gradiente em relação à entrada,
+	 * de mesmo custo) por FFT é mais barata que a convolução direta,
+	 * considerando os espectros dos kernels em cache.
+	 * @param filtros quantidade de filtros.
+	 * @param canais quantidade de canais da entrada.
+	 * @param altE altura da entrada.
+	 * @param largE largura da entrada.
+	 * @param altK altura do kernel.
+	 * @param largK largura do kernel.
+	 * @return {@code true} caso a FFT seja vantajosa.
+	 */
+	static boolean vantajosa(int filtros, int canais, int altE, int largE, int altK, int largK) {
+		double fft = custoFFTs(filtros + canais, altE, largE) + custoProdutos(filtros, canais, altE, largE);
+		return fft < custoDireto(filtros, canais, altE - altK + 1, largE - largK + 1, altK, largK);
+	}
+
+	/**
+	 * Verifica se o gradiente em relação aos kernels por FFT é mais barato
+	 * que a convolução direta.
+	 * @param filtros quantidade de filtros.
+	 * @param canais quantidade de canais da entrada.
+	 * @param altE altura da entrada.
+	 * @param largE largura da entrada.
+	 * @param altK altura do kernel.
+	 * @param largK largura do kernel.
+	 * @return {@code true} caso a FFT seja vantajosa.
+	 */
+	static boolean vantajosaKernel(int filtros, int canais, int altE, int largE, int altK, int largK) {
+		double fft = custoFFTs(canais + filtros * canais, altE, largE) + custoProdutos(filtros, canais, altE, largE);
+		return fft < custoDireto(filtros, canais, altE - altK + 1, largE - largK + 1, altK, largK);
+	}
+
+	/**
+	 * Calcula a correlação cruzada de cada filtro com a entrada, acumulando
+	 * o resultado na saída.
+	 * @param te entrada contígua {@code (canais, altE, largE)}.
+	 * @param tk kernels contíguos {@code (filtros, canais, altK, largK)}.
+	 * @param ts saída contígua {@code (filtros, altE - altK + 1, largE - largK + 1)}.
+	 */
+	void forward(Tensor te, Tensor tk, Tensor ts) {
+		forward(te, tk, ts, null, null);
+	}
+
+	/**
+	 * Calcula a correlação cruzada de cada filtro com a entrada. Com a
+	 * função de ativação informada, cada elemento é escrito como
+	 * {@code fx(y + bias)} logo após a FFT inversa, sobrescrevendo a saída.
+	 * @param te entrada contígua {@code (canais, altE, largE)}.
+	 * @param tk kernels contíguos {@code (filtros, canais, altK, largK)}.
+	 * @param ts saída contígua {@code (filtros, altE - altK + 1, largE - largK + 1)}.
+	 * @param bias bias dos filtros {@code (podendo ser nulo)}.
+	 * @param fx função de ativação, caso nula o resultado é acumulado na saída.
+	 */
+	void forward(Tensor te, Tensor tk, Tensor ts, Tensor bias, DoubleUnaryOperator fx) {
+		int[] shapeK = tk.shape();
+		int[] shapeE = te.shape();
+		final int filtros = shapeK[0];
+		final int canais = shapeK[1];
+		final int altE = shapeE[1];
+		final int largE = shapeE[2];
+		final int altS = altE - shapeK[2] + 1;
+		final int largS = largE - shapeK[3] + 1;
+
+		final Area a = areas.get();
+		a.configurar(altE, largE);
+		final int tam = a.planoAlt.n * a.planoLarg.n;
+		final EspectroKernel k = espectroKernel(tk, a);
+		final double[] kernelRe = k.re, kernelIm = k.im;
+		final double[] zRe = a.zRe, zIm = a.zIm;
+
+		final double[] espRe = a.espRe = garantir(a.espRe, canais * tam);
+		final double[] espIm = a.espIm = garantir(a.espIm, canais * tam);
+		a.espectros(te.dados, te.offset, canais, altE, largE, espRe, espIm);
+
+		// Y[f] = sum_c X[c] * conj(K[f, c]), dois filtros por FFT inversa
+		for (int f = 0; f < filtros; f += 2) {
+			final boolean par = f + 1 < filtros;
+			a.zerar(tam);
+			for (int c = 0; c < canais; c++) {
+				final int idX = c * tam;
+				final int idK1 = (f * canais + c) * tam;
+				final int idK2 = ((f + 1) * canais + c) * tam;
+				for (int p = 0; p < tam; p++) {
+					double ar = espRe[idX + p], ai = espIm[idX + p];
+					double k1r = kernelRe[idK1 + p], k1i = kernelIm[idK1 + p];
+					double y1r = ar*k1r + ai*k1i;
+					double y1i = ai*k1r - ar*k1i;
+					if (par) {
+						double k2r = kernelRe[idK2 + p], k2i = kernelIm[idK2 + p];
+						zRe[p] += y1r - (ai*k2r - ar*k2i);
+						zIm[p] += y1i + (ar*k2r + ai*k2i);
+					} else {
+						zRe[p] += y1r;
+						zIm[p] += y1i;
+					}
+				}
+			}
+
+			if (fx == null) {
+				a.inversa(ts.dados, ts.offset + f*altS*largS, par, altS, largS);
+			} else {
+				double b1 = bias == null ? 0 : bias.get(f);
+				double b2 = bias == null || !par ? 0 : bias.get(f + 1);
+				a.inversa(ts.dados, ts.offset + f*altS*largS, par, altS, largS, b1, b2, fx);
+			}
+		}
+	}
+
+	/**
+	 * Calcula os gradientes em relação à entrada e, opcionalmente, aos
+	 * kernels, acumulando os resultados nos destinos.
+	 * @param te entrada contígua {@code (canais, altE, largE)}.
+	 * @param tk kernels contíguos {@code (filtros, canais, altK, largK)}.
+	 * @param tg gradiente de saída contíguo {@code (filtros, altS, largS)}.
+	 * @param tgk gradiente dos kernels contíguo {@code (podendo ser nulo)}.
+	 * @param tge gradiente da entrada contíguo {@code (canais, altE, largE)}.
+	 */
+	void backward(Tensor te, Tensor tk, Tensor tg, Tensor tgk, Tensor tge) {
+		int[] shapeK = tk.shape();
+		int[] shapeE = te.shape();
+		final int filtros = shapeK[0];
+		final int canais = shapeK[1];
+		final int altK = shapeK[2];
+		final int largK = shapeK[3];
+		final int altE = shapeE[1];
+		final int largE = shapeE[2];
+		final int altS = altE - altK + 1;
+		final int largS = largE - largK + 1;
+
+		final Area a = areas.get();
+		a.configurar(altE, largE);
+		final int tam = a.planoAlt.n * a.planoLarg.n;
+		final EspectroKernel k = espectroKernel(tk, a);
+		final double[] kernelRe = k.re, kernelIm = k.im;
+		final double[] zRe = a.zRe, zIm = a.zIm;
+
+		final double[] gradRe = a.gradRe = garantir(a.gradRe, filtros * tam);
+		final double[] gradIm = a.gradIm = garantir(a.gradIm, filtros * tam);
+		a.espectros(tg.dados, tg.offset, filtros, altS, largS, gradRe, gradIm);
+
+		// gradE[c] = sum_f G[f] * K[f, c], dois canais por FFT inversa
+		for (int c = 0; c < canais; c += 2) {
+			final boolean par = c + 1 < canais;
+			a.zerar(tam);
+			for (int f = 0; f < filtros; f++) {
+				final int idG = f * tam;
+				final int idK1 = (f * canais + c) * tam;
+				final int idK2 = idK1 + tam;
+				for (int p = 0; p < tam; p++) {
+					double gr = gradRe[idG + p], gi = gradIm[idG + p];
+					double k1r = kernelRe[idK1 + p], k1i = kernelIm[idK1 + p];
+					double y1r = gr*k1r - gi*k1i;
+					double y1i = gr*k1i + gi*k1r;
+					if (par) {
+						double k2r = kernelRe[idK2 + p], k2i = kernelIm[idK2 + p];
+						zRe[p] += y1r - (gr*k2i + gi*k2r);
+						zIm[p] += y1i + (gr*k2r - gi*k2i);
+					} else {
+						zRe[p] += y1r;
+						zIm[p] += y1i;
+					}
+				}
+			}
+
+			a.inversa(tge.dados, tge.offset + c*altE*largE, par, altE, largE);
+		}
+
+		if (tgk == null) return;
+
+		final double[] espRe = a.espRe = garantir(a.espRe, canais * tam);
+		final double[] espIm = a.espIm = garantir(a.espIm, canais * tam);
+		a.espectros(te.dados, te.offset, canais, altE, largE, espRe, espIm);
+
+		// gradK[f, c] = X[c] * conj(G[f]), dois pares (filtro, canal) por FFT inversa
+		final int total = filtros * canais;
+		for (int id = 0; id < total; id += 2) {
+			final boolean par = id + 1 < total;
+			final int idG1 = (id / canais) * tam;
+			final int idX1 = (id % canais) * tam;
+			final int idG2 = ((id + 1) / canais) * tam;
+			final int idX2 = ((id + 1) % canais) * tam;
+			for (int p = 0; p < tam; p++) {
+				double ar = espRe[idX1 + p], ai = espIm[idX1 + p];
+				double gr = gradRe[idG1 + p], gi = gradIm[idG1 + p];
+				double y1r = ar*gr + ai*gi;
+				double y1i = ai*gr - ar*gi;
+				if (par) {
+					double br = espRe[idX2 + p], bi = espIm[idX2 + p];
+					double hr = gradRe[idG2 + p], hi = gradIm[idG2 + p];
+					zRe[p] = y1r - (bi*hr - br*hi);
+					zIm[p] = y1i + (br*hr + bi*hi);
+				} else {
+					zRe[p] = y1r;
+					zIm[p] = y1i;
+				}
+			}
+
+			a.inversa(tgk.dados, tgk.offset + id*altK*largK, par, altK, largK);
+		}
+	}
+
+	/**
+	 * Retorna os espectros dos kernels em cache na área da thread,
+	 * recalculando-os caso o armazenamento do kernel, sua versão ou o tamanho
+	 * da transformada tenham mudado desde o último cálculo.
+	 */
+	private static EspectroKernel espectroKernel(Tensor tk, Area a) {
+		EspectroKernel esp = a.kernel;
+		if (esp != null && esp.valido(tk, a)) return esp;
+
+		int[] shapeK = tk.shape();
+		final int imagens = shapeK[0] * shapeK[1];
+		final int tam = a.planoAlt.n * a.planoLarg.n;
+		double[] re = esp != null ? garantir(esp.re, imagens * tam) : new double[imagens * tam];
+		double[] im = esp != null ? garantir(esp.im, imagens * tam) : new double[imagens * tam];
+		a.espectros(tk.dados, tk.offset, imagens, shapeK[2], shapeK[3], re, im);
+
+		esp = new EspectroKernel(tk, a.planoAlt.n, a.planoLarg.n, re, im);
+		a.kernel = esp;
+		return esp;
+	}
+
+	/**
+	 * Retorna um array com pelo menos {@code n} elementos, reaproveitando o
+	 * atual quando possível.
+	 */
+	private static double[] garantir(double[] arr, int n) {
+		return (arr != null && arr.length >= n) ? arr : new double[n];
+	}
+
+	/**
+	 * Espectros dos kernels calculados a partir de um armazenamento, válidos
+	 * enquanto a versão do armazenamento e o tamanho da transformada forem
+	 * os mesmos.
+	 */
+	private static final class EspectroKernel {
+		final Armazenamento dados;
+		final int offset, versao, imagens, altK, largK, n1, n2;
+		final double[] re, im;
+
+		EspectroKernel(Tensor tk, int n1, int n2, double[] re, double[] im) {
+			int[] shapeK = tk.shape();
+			this.dados = tk.dados;
+			this.offset = tk.offset;
+			this.versao = tk.versao();
+			this.imagens = shapeK[0] * shapeK[1];
+			this.altK = shapeK[2];
+			this.largK = shapeK[3];
+			this.n1 = n1;
+			this.n2 = n2;
+			this.re = re;
+			this.im = im;
+		}
+
+		/**
+		 * Verifica se os espectros correspondem ao kernel e aos planos informados.
+		 */
+		boolean valido(Tensor tk, Area a) {
+			int[] shapeK = tk.shape();
+			return dados == tk.dados && offset == tk.offset && versao == tk.versao() &&
+				imagens == shapeK[0] * shapeK[1] && altK == shapeK[2] && largK == shapeK[3] &&
+				n1 == a.planoAlt.n && n2 == a.planoLarg.n;
+		}
+	}
+
+	/**
+	 * Área de trabalho de uma thread: planos da FFT, espectros da chamada
+	 * atual e espectros dos kernels em cache.
+	 */
+	private static final class Area {
+
+		/**
+		 * Plano da FFT das linhas (altura).
+		 */
+		Plano planoAlt;
+
+		/**
+		 * Plano da FFT das colunas (largura).
+		 */
+		Plano planoLarg;
+
+		/**
+		 * Espectros dos kernels da última chamada.
+		 */
+		EspectroKernel kernel;
+
+		/**
+		 * Espectros das imagens da chamada atual.
+		 */
+		double[] espRe, espIm;
+
+		/**
+		 * Espectros dos gradientes de saída da chamada atual.
+		 */
+		double[] gradRe, gradIm;
+
+		/**
+		 * Área de trabalho da FFT.
+		 */
+		double[] zRe, zIm;
+
+		/**
+		 * Prepara os planos da FFT para entradas {@code (alt, larg)}.
+		 */
+		void configurar(int alt, int larg) {
+			final int n1 = potencia2(alt);
+			final int n2 = potencia2(larg);
+
+			if (planoAlt == null || planoAlt.n != n1 || planoLarg.n != n2) {
+				planoAlt = new Plano(n1);
+				planoLarg = n2 == n1 ? planoAlt : new Plano(n2);
+			}
+
+			zRe = garantir(zRe, n1 * n2);
+			zIm = garantir(zIm, n1 * n2);
+		}
+
+		/**
+		 * Calcula os espectros de {@code n} imagens reais {@code (alt, larg)}
+		 * armazenadas em sequência, transformando duas imagens por FFT.
+		 */
+		void espectros(Armazenamento dados, int off, int n, int alt, int larg, double[] re, double[] im) {
+			final int n1 = planoAlt.n;
+			final int n2 = planoLarg.n;
+			final int tam = n1 * n2;
+			final int tamImg = alt * larg;
+
+			for (int img = 0; img < n; img += 2) {
+				final boolean par = img + 1 < n;
+				zerar(tam);
+				for (int i = 0; i < alt; i++) {
+					for (int j = 0; j < larg; j++) {
+						zRe[i*n2 + j] = dados.get(off + img*tamImg + i*larg + j);
+						if (par) zIm[i*n2 + j] = dados.get(off + (img + 1)*tamImg + i*larg + j);
+					}
+				}
+
+				fft2D(zRe, zIm, false);
+
+				// separação: A[k] = (Z[k] + conj(Z[-k])) / 2, B[k] = (Z[k] - conj(Z[-k])) / 2i
+				final int idA = img * tam;
+				final int idB = idA + tam;
+				for (int k1 = 0; k1 < n1; k1++) {
+					final int l1 = (n1 - k1) & (n1 - 1);
+					for (int k2 = 0; k2 < n2; k2++) {
+						final int l2 = (n2 - k2) & (n2 - 1);
+						double zr = zRe[k1*n2 + k2], zi = zIm[k1*n2 + k2];
+						double yr = zRe[l1*n2 + l2], yi = zIm[l1*n2 + l2];
+						re[idA + k1*n2 + k2] = (zr + yr) * 0.5;
+						im[idA + k1*n2 + k2] = (zi - yi) * 0.5;
+						if (par) {
+							re[idB + k1*n2 + k2] = (zi + yi) * 0.5;
+							im[idB + k1*n2 + k2] = (yr - zr) * 0.5;
+						}
+					}
+				}
+			}
+		}
+
+		/**
+		 * Aplica a FFT inversa na área de trabalho e acumula a parte real (e a
+		 * imaginária, caso {@code par}) nas imagens {@code (alt, larg)} de destino.
+		 */
+		void inversa(Armazenamento dest, int off, boolean par, int alt, int larg) {
+			final int n2 = planoLarg.n;
+			final int tamImg = alt * larg;
+			final double escala = 1.0 / (planoAlt.n * n2);
+
+			fft2D(zRe, zIm, true);
+
+			for (int i = 0; i < alt; i++) {
+				for (int j = 0; j < larg; j++) {
+					dest.add(off + i*larg + j, zRe[i*n2 + j] * escala);
+					if (par) dest.add(off + tamImg + i*larg + j, zIm[i*n2 + j] * escala);
+				}
+			}
+		}
+
+		/**
+		 * Aplica a FFT inversa na área de trabalho e escreve {@code fx(y + bias)}
+		 * da parte real (e da imaginária, caso {@code par}) nas imagens
+		 * {@code (alt, larg)} de destino.
+		 */
+		void inversa(Armazenamento dest, int off, boolean par, int alt, int larg,
+			double b1, double b2, DoubleUnaryOperator fx) {
+			final int n2 = planoLarg.n;
+			final int tamImg = alt * larg;
+			final double escala = 1.0 / (planoAlt.n * n2);
+
+			fft2D(zRe, zIm, true);
+
+			for (int i = 0; i < alt; i++) {
+				for (int j = 0; j < larg; j++) {
+					dest.set(off + i*larg + j, fx.applyAsDouble(zRe[i*n2 + j] * escala + b1));
+					if (par) dest.set(off + tamImg + i*larg + j, fx.applyAsDouble(zIm[i*n2 + j] * escala + b2));
+				}
+			}
+		}
+
+		/**
+		 * FFT 2D da área de trabalho, transformando linhas e depois colunas.
+		 */
+		void fft2D(double[] re, double[] im, boolean inversa) {
+			final int n1 = planoAlt.n;
+			final int n2 = planoLarg.n;
+
+			for (int i = 0; i < n1; i++) {
+				planoLarg.transformar(re, im, i*n2, 1, inversa);
+			}
+			for (int j = 0; j < n2; j++) {
+				planoAlt.transformar(re, im, j, n2, inversa);
+			}
+		}
+
+		/**
+		 * Zera os {@code n} primeiros elementos da área de trabalho.
+		 */
+		void zerar(int n) {
+			Arrays.fill(zRe, 0, n, 0);
+			Arrays.fill(zIm, 0, n, 0);
+		}
+	}
+
+	/**
+	 * Tabelas da FFT radix-2 de tamanho {@code n}.
+	 */
+	private static final class Plano {
+
+		/**
+		 * Tamanho da transformada (potência de dois).
+		 */
+		final int n;
+
+		/**
+		 * Cossenos e senos de {@code 2πk/n}, para {@code k < n/2}.
+		 */
+		final double[] cos, sen;
+
+		/**
+		 * Permutação de inversão de bits dos índices.
+		 */
+		final int[] rev;
+
+		Plano(int n) {
+			this.n = n;
+			cos = new double[Math.max(1, n / 2)];
+			sen = new double[Math.max(1, n / 2)];
+			for (int k = 0; k < n / 2; k++) {
+				double ang = 2 * Math.PI * k / n;
+				cos[k] = Math.cos(ang);
+				sen[k] = Math.sin(ang);
+			}
+
+			rev = new int[n];
+			final int bits = Integer.numberOfTrailingZeros(n);
+			for (int i = 0; i < n; i++) {
+				rev[i] = bits == 0 ? 0 : Integer.reverse(i) >>> (32 - bits);
+			}
+		}
+
+		/**
+		 * FFT iterativa in-place dos elementos {@code off + i*passo},
+		 * sem normalização na transformada inversa.
+		 */
+		void transformar(double[] re, double[] im, int off, int passo, boolean inversa) {
+			for (int i = 0; i < n; i++) {
+				final int j = rev[i];
+				if (i < j) {
+					final int a = off + i*passo, b = off + j*passo;
+					double t = re[a]; re[a] = re[b]; re[b] = t;
+					t = im[a]; im[a] = im[b]; im[b] = t;
+				}
+			}
+
+			final double sinal = inversa ? 1 : -1;
+			for (int tam = 2; tam <= n; tam <<= 1) {
+				final int meio = tam >> 1;
+				final int salto = n / tam;
+				for (int ini = 0; ini < n; ini += tam) {
+					for (int k = 0; k < meio; k++) {
+						final double wr = cos[k * salto];
+						final double wi = sinal * sen[k * salto];
+						final int a = off + (ini + k)*passo;
+						final int b = a + meio*passo;
+						final double tr = re[b]*wr - im[b]*wi;
+						final double ti = re[b]*wi + im[b]*wr;
+						re[b] = re[a] - tr;
+						im[b] = im[a] - ti;
+						re[a] += tr;
+						im[a] += ti;
+					}
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,44 @@
+package jnn.core.tensor;
+
+/**
+ * Tipos de dados suportados para o armazenamento dos elementos 
+ * de um {@code Tensor}.
+ * <ul>
+ *    <li> {@code FLOAT32}: precisão simples, ocupa 4 bytes por elemento. </li>
+ *    <li> {@code FLOAT64}: precisão dupla, ocupa 8 bytes por elemento (padrão). </li>
+ * </ul>
+ */
+public enum Dtype {
+
+	/**
+	 * Ponto flutuante de precisão simples (32 bits).
+	 */
+	FLOAT32(4),
+
+	/**
+	 * Ponto flutuante de precisão dupla (64 bits).
+	 */
+	FLOAT64(8);
+
+	/**
+	 * Quantidade de bytes ocupada por elemento.
+	 */
+	private final int bytes;
+
+	/**
+	 * Inicializa um tipo de dado.
+	 * @param bytes quantidade de bytes por elemento.
+	 */
+	Dtype(int bytes) {
+		this.bytes = bytes;
+	}
+
+	/**
+	 * Retorna a quantidade de bytes ocupada por cada elemento.
+	 * @return tamanho de um elemento em bytes.
+	 */
+	public int bytes() {
+		return bytes;
+	}
+
+}
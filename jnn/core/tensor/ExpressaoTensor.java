@@ -0,0 +1,540 @@
+package jnn.core.tensor;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Expressão preguiçosa (lazy) de operações elemento a elemento sobre tensores.
+ * <p>
+ *		As operações encadeadas não são executadas imediatamente, elas apenas
+ *		registram a expressão. Quando o resultado é solicitado, por {@code avaliar()}
+ *		ou {@code soma()}, toda a cadeia é calculada num único laço, lendo cada
+ *		elemento dos operandos uma vez e escrevendo o resultado uma vez, sem
+ *		alocar tensores intermediários.
+ * </p>
+ * Exemplo:
+ * <pre>
+ *Tensor r = t.expressao()
+ *  .relu()
+ *  .mult(x)
+ *  .add(y)
+ *  .avaliar();
+ * </pre>
+ * <p>
+ *		Os operandos podem ter formatos diferentes desde que sejam compatíveis
+ *		para broadcasting, o formato do resultado é o formato comum entre eles.
+ * </p>
+ * <p>
+ *		Os tensores envolvidos são lidos apenas durante a avaliação, alterações
+ *		feitas neles antes disso são refletidas no resultado.
+ * </p>
+ */
+public class ExpressaoTensor {
+
+	/**
+	 * Nó raiz da expressão.
+	 */
+	private final No raiz;
+
+	/**
+	 * Formato do resultado da expressão.
+	 */
+	private final int[] shape;
+
+	/**
+	 * Tipo de dado do resultado da expressão.
+	 */
+	private final Dtype dtype;
+
+	/**
+	 * Inicializa uma expressão a partir de um tensor.
+	 * @param tensor {@code Tensor} base.
+	 */
+	public ExpressaoTensor(Tensor tensor) {
+		if (tensor == null) {
+			throw new IllegalArgumentException(
+				"\nO tensor fornecido é nulo."
+			);
+		}
+
+		this.raiz = new Folha(tensor);
+		this.shape = tensor.shape.clone();
+		this.dtype = tensor.dtype();
+	}
+
+	/**
+	 * Inicializa uma expressão a partir de um nó já existente.
+	 * @param raiz nó raiz.
+	 * @param shape formato do resultado.
+	 * @param dtype tipo de dado do resultado.
+	 */
+	private ExpressaoTensor(No raiz, int[] shape, Dtype dtype) {
+		this.raiz = raiz;
+		this.shape = shape;
+		this.dtype = dtype;
+	}
+
+	/**
+	 * Cria uma nova expressão combinando a local com o operando informado.
+	 * @param b nó do segundo operando.
+	 * @param shapeB formato do segundo operando.
+	 * @param op operação aritmética.
+	 * @return nova expressão.
+	 */
+	private ExpressaoTensor combinar(No b, int[] shapeB, char op) {
+		int[] s = Tensor.shapeBroadcast(shape, shapeB);
+		return new ExpressaoTensor(new Aritmetica(raiz, b, op), s, dtype);
+	}
+
+	/**
+	 * Cria o nó de leitura do tensor informado.
+	 * @param tensor {@code Tensor} desejado.
+	 * @return nó correspondente.
+	 */
+	private static No folha(Tensor tensor) {
+		if (tensor == null) {
+			throw new IllegalArgumentException(
+				"\nO tensor fornecido é nulo."
+			);
+		}
+
+		return new Folha(tensor);
+	}
+
+	/**
+	 * Registra a operação {@code this + tensor}.
+	 * @param tensor {@code Tensor} desejado.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor add(Tensor tensor) {
+		return combinar(folha(tensor), tensor.shape, '+');
+	}
+
+	/**
+	 * Registra a operação {@code this + exp}.
+	 * @param exp {@code ExpressaoTensor} desejada.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor add(ExpressaoTensor exp) {
+		return combinar(exp.raiz, exp.shape, '+');
+	}
+
+	/**
+	 * Registra a operação {@code this + valor}.
+	 * @param valor valor desejado.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor add(double valor) {
+		return new ExpressaoTensor(new Aritmetica(raiz, new Constante(valor), '+'), shape, dtype);
+	}
+
+	/**
+	 * Registra a operação {@code this - tensor}.
+	 * @param tensor {@code Tensor} desejado.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor sub(Tensor tensor) {
+		return combinar(folha(tensor), tensor.shape, '-');
+	}
+
+	/**
+	 * Registra a operação {@code this - exp}.
+	 * @param exp {@code ExpressaoTensor} desejada.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor sub(ExpressaoTensor exp) {
+		return combinar(exp.raiz, exp.shape, '-');
+	}
+
+	/**
+	 * Registra a operação {@code this - valor}.
+	 * @param valor valor desejado.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor sub(double valor) {
+		return new ExpressaoTensor(new Aritmetica(raiz, new Constante(valor), '-'), shape, dtype);
+	}
+
+	/**
+	 * Registra a operação {@code this * tensor}, elemento a elemento.
+	 * @param tensor {@code Tensor} desejado.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor mult(Tensor tensor) {
+		return combinar(folha(tensor), tensor.shape, '*');
+	}
+
+	/**
+	 * Registra a operação {@code this * exp}, elemento a elemento.
+	 * @param exp {@code ExpressaoTensor} desejada.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor mult(ExpressaoTensor exp) {
+		return combinar(exp.raiz, exp.shape, '*');
+	}
+
+	/**
+	 * Registra a operação {@code this * valor}.
+	 * @param valor valor desejado.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor mult(double valor) {
+		return new ExpressaoTensor(new Aritmetica(raiz, new Constante(valor), '*'), shape, dtype);
+	}
+
+	/**
+	 * Registra a operação {@code this / tensor}, elemento a elemento.
+	 * @param tensor {@code Tensor} desejado.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor div(Tensor tensor) {
+		return combinar(folha(tensor), tensor.shape, '/');
+	}
+
+	/**
+	 * Registra a operação {@code this / exp}, elemento a elemento.
+	 * @param exp {@code ExpressaoTensor} desejada.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor div(ExpressaoTensor exp) {
+		return combinar(exp.raiz, exp.shape, '/');
+	}
+
+	/**
+	 * Registra a operação {@code this / valor}.
+	 * @param valor valor desejado.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor div(double valor) {
+		return new ExpressaoTensor(new Aritmetica(raiz, new Constante(valor), '/'), shape, dtype);
+	}
+
+	/**
+	 * Registra a aplicação da função em cada elemento da expressão.
+	 * @param fun função desejada.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor aplicar(DoubleUnaryOperator fun) {
+		if (fun == null) {
+			throw new IllegalArgumentException(
+				"\nFunção recebida é nula."
+			);
+		}
+
+		return new ExpressaoTensor(new Unaria(raiz, fun), shape, dtype);
+	}
+
+	/**
+	 * Registra a aplicação da função entre os elementos da expressão
+	 * e os do tensor informado.
+	 * @param tensor {@code Tensor} desejado.
+	 * @param fun função desejada, recebendo {@code (this, tensor)}.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor aplicar(Tensor tensor, DoubleBinaryOperator fun) {
+		return aplicar(folha(tensor), tensor.shape, fun);
+	}
+
+	/**
+	 * Registra a aplicação da função entre os elementos da expressão
+	 * local e os da expressão informada.
+	 * @param exp {@code ExpressaoTensor} desejada.
+	 * @param fun função desejada, recebendo {@code (this, exp)}.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor aplicar(ExpressaoTensor exp, DoubleBinaryOperator fun) {
+		return aplicar(exp.raiz, exp.shape, fun);
+	}
+
+	/**
+	 * Auxiliar na criação de um nó binário com função arbitrária.
+	 * @param b nó do segundo operando.
+	 * @param shapeB formato do segundo operando.
+	 * @param fun função desejada.
+	 * @return nova expressão.
+	 */
+	private ExpressaoTensor aplicar(No b, int[] shapeB, DoubleBinaryOperator fun) {
+		if (fun == null) {
+			throw new IllegalArgumentException(
+				"\nFunção recebida é nula."
+			);
+		}
+
+		int[] s = Tensor.shapeBroadcast(shape, shapeB);
+		return new ExpressaoTensor(new Binaria(raiz, b, fun), s, dtype);
+	}
+
+	/**
+	 * Registra a aplicação da função {@code ReLU}.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor relu() {
+		return aplicar(x -> x > 0 ? x : 0);
+	}
+
+	/**
+	 * Registra a aplicação da função {@code Sigmoid}.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor sigmoid() {
+		return aplicar(x -> 1 / (1 + Math.exp(-x)));
+	}
+
+	/**
+	 * Registra a aplicação da função {@code TanH}.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor tanh() {
+		return aplicar(x -> 2 / (1 + Math.exp(-2 * x)) - 1);
+	}
+
+	/**
+	 * Registra o cálculo do valor absoluto.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor abs() {
+		return aplicar(Math::abs);
+	}
+
+	/**
+	 * Registra o cálculo de {@code e^x}.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor exp() {
+		return aplicar(Math::exp);
+	}
+
+	/**
+	 * Registra o cálculo do logaritmo natural.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor log() {
+		return aplicar(Math::log);
+	}
+
+	/**
+	 * Registra o cálculo de {@code x²}.
+	 * @return nova expressão.
+	 */
+	public ExpressaoTensor quadrado() {
+		return aplicar(x -> x * x);
+	}
+
+	/**
+	 * Retorna o formato do resultado da expressão.
+	 * @return formato do resultado.
+	 */
+	public int[] shape() {
+		return shape.clone();
+	}
+
+	/**
+	 * Avalia a expressão num novo tensor.
+	 * @return {@code Tensor} contendo o resultado.
+	 */
+	public Tensor avaliar() {
+		return avaliar(new Tensor(dtype, shape));
+	}
+
+	/**
+	 * Avalia a expressão, escrevendo o resultado no tensor de destino.
+	 * <p>
+	 *		O destino pode ser um dos operandos da expressão, desde que ele
+	 *		não seja expandido (broadcasting) durante a avaliação.
+	 * </p>
+	 * @param dest {@code Tensor} de destino.
+	 * @return {@code Tensor} de destino.
+	 */
+	public Tensor avaliar(Tensor dest) {
+		if (dest == null) {
+			throw new IllegalArgumentException(
+				"\nO tensor de destino é nulo."
+			);
+		}
+		if (!dest.compararShape(shape)) {
+			throw new IllegalArgumentException(
+				"\nTensor de destino " + dest.shapeStr() + " incompatível com o " +
+				"resultado da expressão " + Arrays.toString(shape)
+			);
+		}
+
+		raiz.preparar(shape);
+
+		final No r = raiz;
+		final Armazenamento d = dest.dados;
+		final int n = dest.tamanho();
+		if (dest.contiguo) {
+			final int off = dest.offset;
+			for (int i = 0; i < n; i++) {
+				d.set(off + i, r.valor(i));
+			}
+		} else {
+			for (int i = 0; i < n; i++) {
+				d.set(dest.posicao(i), r.valor(i));
+			}
+		}
+
+		return dest;
+	}
+
+	/**
+	 * Avalia a expressão e retorna a soma de seus elementos, sem
+	 * alocar o resultado intermediário.
+	 * @return soma dos elementos da expressão.
+	 */
+	public double soma() {
+		raiz.preparar(shape);
+
+		final No r = raiz;
+		int n = 1;
+		for (int s : shape) n *= s;
+
+		double soma = 0.0;
+		for (int i = 0; i < n; i++) {
+			soma += r.valor(i);
+		}
+
+		return soma;
+	}
+
+	/**
+	 * Nó da árvore de expressão.
+	 */
+	private static abstract class No {
+
+		/**
+		 * Prepara o nó para a avaliação com o formato informado.
+		 * @param shape formato do resultado.
+		 */
+		abstract void preparar(int[] shape);
+
+		/**
+		 * Calcula o valor do nó para o elemento de índice linear informado.
+		 * @param i índice linear (row-major) do elemento.
+		 * @return valor calculado.
+		 */
+		abstract double valor(int i);
+	}
+
+	/**
+	 * Leitura dos elementos de um tensor.
+	 */
+	private static final class Folha extends No {
+		final Tensor tensor;
+		Tensor visao;
+		Armazenamento dados;
+		int offset;
+		boolean contiguo;
+
+		Folha(Tensor tensor) {
+			this.tensor = tensor;
+		}
+
+		@Override
+		void preparar(int[] shape) {
+			visao = tensor.compararShape(shape) ? tensor : tensor.expandir(shape);
+			dados = visao.dados;
+			offset = visao.offset;
+			contiguo = visao.contiguo;
+		}
+
+		@Override
+		double valor(int i) {
+			return contiguo ? dados.get(offset + i) : dados.get(visao.posicao(i));
+		}
+	}
+
+	/**
+	 * Valor constante.
+	 */
+	private static final class Constante extends No {
+		final double x;
+
+		Constante(double x) {
+			this.x = x;
+		}
+
+		@Override
+		void preparar(int[] shape) {}
+
+		@Override
+		double valor(int i) {
+			return x;
+		}
+	}
+
+	/**
+	 * Operação aritmética entre dois nós.
+	 */
+	private static final class Aritmetica extends No {
+		final No a, b;
+		final char op;
+
+		Aritmetica(No a, No b, char op) {
+			this.a = a;
+			this.b = b;
+			this.op = op;
+		}
+
+		@Override
+		void preparar(int[] shape) {
+			a.preparar(shape);
+			b.preparar(shape);
+		}
+
+		@Override
+		double valor(int i) {
+			return Tensor.operar(op, a.valor(i), b.valor(i));
+		}
+	}
+
+	/**
+	 * Função aplicada em um nó.
+	 */
+	private static final class Unaria extends No {
+		final No a;
+		final DoubleUnaryOperator fun;
+
+		Unaria(No a, DoubleUnaryOperator fun) {
+			this.a = a;
+			this.fun = fun;
+		}
+
+		@Override
+		void preparar(int[] shape) {
+			a.preparar(shape);
+		}
+
+		@Override
+		double valor(int i) {
+			return fun.applyAsDouble(a.valor(i));
+		}
+	}
+
+	/**
+	 * Função aplicada entre dois nós.
+	 */
+	private static final class Binaria extends No {
+		final No a, b;
+		final DoubleBinaryOperator fun;
+
+		Binaria(No a, No b, DoubleBinaryOperator fun) {
+			this.a = a;
+			this.b = b;
+			this.fun = fun;
+		}
+
+		@Override
+		void preparar(int[] shape) {
+			a.preparar(shape);
+			b.preparar(shape);
+		}
+
+		@Override
+		double valor(int i) {
+			return fun.applyAsDouble(a.valor(i), b.valor(i));
+		}
+	}
+
+}
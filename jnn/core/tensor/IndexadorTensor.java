@@ -0,0 +1,185 @@
+package jnn.core.tensor;
+
+/**
+ * Acesso direto aos elementos de um tensor de até quatro dimensões.
+ * <p>
+ *		O indexador guarda o offset e os strides do tensor no momento da
+ *		sua criação e calcula a posição de cada elemento sem alocar arrays
+ *		de índices e sem verificar os limites de cada dimensão.
+ * </p>
+ * <pre>
+ *IndexadorTensor e = entrada.indexador();
+ *for (int i = 0; i < alt; i++) {
+ *  for (int j = 0; j < larg; j++) {
+ *    soma += e.get(canal, i, j);
+ *  }
+ *}
+ * </pre>
+ * <p>
+ *		Caso o formato do tensor seja alterado, um novo indexador deve ser criado.
+ * </p>
+ */
+public final class IndexadorTensor {
+
+	/**
+	 * Armazenamento dos elementos do tensor.
+	 */
+	private final Armazenamento dados;
+
+	/**
+	 * Posição inicial do tensor no armazenamento.
+	 */
+	private final int offset;
+
+	/**
+	 * Strides de cada dimensão, dimensões inexistentes possuem stride zero.
+	 */
+	private final int s0, s1, s2, s3;
+
+	/**
+	 * Inicializa um indexador para o tensor informado.
+	 * @param tensor {@code Tensor} base.
+	 */
+	IndexadorTensor(Tensor tensor) {
+		if (tensor.strides.length > 4) {
+			throw new UnsupportedOperationException(
+				"\nIndexador suporta tensores de até quatro dimensões, recebido " + tensor.numDim()
+			);
+		}
+
+		int[] st = tensor.strides;
+		dados = tensor.dados;
+		offset = tensor.offset;
+		s0 = st.length > 0 ? st[0] : 0;
+		s1 = st.length > 1 ? st[1] : 0;
+		s2 = st.length > 2 ? st[2] : 0;
+		s3 = st.length > 3 ? st[3] : 0;
+	}
+
+	/**
+	 * Retorna o elemento de um tensor 1D.
+	 * @param i índice da primeira dimensão.
+	 * @return valor do elemento.
+	 */
+	public double get(int i) {
+		return dados.get(offset + i*s0);
+	}
+
+	/**
+	 * Retorna o elemento de um tensor 2D.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @return valor do elemento.
+	 */
+	public double get(int i, int j) {
+		return dados.get(offset + i*s0 + j*s1);
+	}
+
+	/**
+	 * Retorna o elemento de um tensor 3D.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 * @return valor do elemento.
+	 */
+	public double get(int i, int j, int k) {
+		return dados.get(offset + i*s0 + j*s1 + k*s2);
+	}
+
+	/**
+	 * Retorna o elemento de um tensor 4D.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 * @param l índice da quarta dimensão.
+	 * @return valor do elemento.
+	 */
+	public double get(int i, int j, int k, int l) {
+		return dados.get(offset + i*s0 + j*s1 + k*s2 + l*s3);
+	}
+
+	/**
+	 * Edita o valor de um elemento de um tensor 1D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 */
+	public void set(double x, int i) {
+		dados.set(offset + i*s0, x);
+	}
+
+	/**
+	 * Edita o valor de um elemento de um tensor 2D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 */
+	public void set(double x, int i, int j) {
+		dados.set(offset + i*s0 + j*s1, x);
+	}
+
+	/**
+	 * Edita o valor de um elemento de um tensor 3D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 */
+	public void set(double x, int i, int j, int k) {
+		dados.set(offset + i*s0 + j*s1 + k*s2, x);
+	}
+
+	/**
+	 * Edita o valor de um elemento de um tensor 4D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 * @param l índice da quarta dimensão.
+	 */
+	public void set(double x, int i, int j, int k, int l) {
+		dados.set(offset + i*s0 + j*s1 + k*s2 + l*s3, x);
+	}
+
+	/**
+	 * Adiciona o valor informado a um elemento de um tensor 1D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 */
+	public void add(double x, int i) {
+		dados.add(offset + i*s0, x);
+	}
+
+	/**
+	 * Adiciona o valor informado a um elemento de um tensor 2D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 */
+	public void add(double x, int i, int j) {
+		dados.add(offset + i*s0 + j*s1, x);
+	}
+
+	/**
+	 * Adiciona o valor informado a um elemento de um tensor 3D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 */
+	public void add(double x, int i, int j, int k) {
+		dados.add(offset + i*s0 + j*s1 + k*s2, x);
+	}
+
+	/**
+	 * Adiciona o valor informado a um elemento de um tensor 4D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 * @param l índice da quarta dimensão.
+	 */
+	public void add(double x, int i, int j, int k, int l) {
+		dados.add(offset + i*s0 + j*s1 + k*s2 + l*s3, x);
+	}
+
+}
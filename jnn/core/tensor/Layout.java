@@ -0,0 +1,66 @@
+package jnn.core.tensor;
+
+/**
+ * Disposição na memória dos tensores com canais usados pelas camadas
+ * espaciais (convolução, pooling).
+ * <ul>
+ *    <li> {@code CANAIS_PRIMEIRO}: tensores {@code (canais, altura, largura)}, cada canal é um bloco contíguo (padrão). </li>
+ *    <li> {@code CANAIS_ULTIMO}: tensores {@code (altura, largura, canais)}, os canais de cada pixel são contíguos. </li>
+ * </ul>
+ * <p>
+ *		Os formatos informados e retornados pelas camadas continuam sendo
+ *		{@code (canais, altura, largura)} nas duas disposições, apenas os
+ *		tensores trocados entre as camadas mudam.
+ * </p>
+ */
+public enum Layout {
+
+	/**
+	 * Tensores {@code (canais, altura, largura)}.
+	 */
+	CANAIS_PRIMEIRO("canais-primeiro"),
+
+	/**
+	 * Tensores {@code (altura, largura, canais)}.
+	 */
+	CANAIS_ULTIMO("canais-ultimo");
+
+	/**
+	 * Nome da disposição.
+	 */
+	private final String nome;
+
+	/**
+	 * Inicializa uma disposição.
+	 * @param nome nome da disposição.
+	 */
+	Layout(String nome) {
+		this.nome = nome;
+	}
+
+	/**
+	 * Retorna o nome da disposição.
+	 * @return nome da disposição.
+	 */
+	public String nome() {
+		return nome;
+	}
+
+	/**
+	 * Retorna o formato do tensor usado para armazenar dados com o formato
+	 * informado nesta disposição.
+	 * <p>
+	 *		Apenas formatos {@code (canais, altura, largura)} são alterados.
+	 * </p>
+	 * @param formato formato {@code (canais, altura, largura)}.
+	 * @return formato do tensor.
+	 */
+	public int[] shapeTensor(int[] formato) {
+		if (this == CANAIS_ULTIMO && formato.length == 3) {
+			return new int[]{ formato[1], formato[2], formato[0] };
+		}
+
+		return formato.clone();
+	}
+
+}
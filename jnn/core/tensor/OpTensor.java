@@ -1,15 +1,110 @@
 package jnn.core.tensor;
 
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+import jnn.core.PoolCalculo;
+
 /**
  * Auxiliar em operação para tensores.
  */
 public class OpTensor {
-	
+
+	/**
+	 * Quantidade de linhas de B (profundidade) de cada bloco da
+	 * multiplicação de matrizes.
+	 */
+	private static final int BLOCO_K = 128;
+
+	/**
+	 * Quantidade de colunas de B de cada bloco da multiplicação de matrizes.
+	 */
+	private static final int BLOCO_N = 512;
+
+	/**
+	 * Quantidade de linhas de A processadas juntas pelo micro kernel.
+	 */
+	private static final int LINHAS_MICRO = 4;
+
+	/**
+	 * Quantidade mínima de multiplicações para que a multiplicação de
+	 * matrizes seja dividida entre as threads do {@code PoolCalculo}.
+	 */
+	private static final long LIMIAR_PARALELO = 1L << 20;
+
+	/**
+	 * Quantidade mínima de multiplicações para que a propagação direta da
+	 * convolução seja dividida entre as threads do {@code PoolCalculo}.
+	 */
+	private static final long LIMIAR_PARALELO_CONV = 1L << 16;
+
+	/**
+	 * Quantidade mínima de canais de entrada para que a convolução com kernels
+	 * {@code 3x3} use o algoritmo de Winograd. Com poucos canais o custo das
+	 * transformações supera a economia de multiplicações.
+	 */
+	private static final int MIN_CANAIS_WINOGRAD = 8;
+
+	/**
+	 * Quantidade de canais processados juntos por linha de saída na
+	 * convolução direta em blocos.
+	 */
+	private static final int BLOCO_CANAIS = 4;
+
+	/**
+	 * Strides padrão da convolução {@code (altura, largura)}.
+	 */
+	private static final int[] STRIDE_PADRAO = {1, 1};
+
+	/**
+	 * Padding padrão da convolução {@code (altura, largura)}, sem padding.
+	 */
+	private static final int[] PADDING_PADRAO = {0, 0};
+
+	/**
+	 * Dilatação padrão da convolução {@code (altura, largura)}, sem dilatação.
+	 */
+	private static final int[] DILATACAO_PADRAO = {1, 1};
+
+	/**
+	 * Área de empacotamento dos blocos de B {@code FLOAT64}, uma por thread.
+	 */
+	private static final ThreadLocal<double[]> pacoteDouble =
+		ThreadLocal.withInitial(() -> new double[BLOCO_K * BLOCO_N]);
+
+	/**
+	 * Área de empacotamento dos blocos de B {@code FLOAT32}, uma por thread.
+	 */
+	private static final ThreadLocal<float[]> pacoteFloat =
+		ThreadLocal.withInitial(() -> new float[BLOCO_K * BLOCO_N]);
+
+	/**
+	 * Convolução por FFT, mantém os espectros dos kernels entre as chamadas,
+	 * por thread.
+	 */
+	private final ConvFFT convFFT = new ConvFFT();
+
 	/**
 	 * Auxiliar em operação para tensores 4D.
 	 */
 	public OpTensor() {}
 
+	/**
+	 * Retorna a área de empacotamento {@code double[]} da thread atual.
+	 * @return array para empacotamento.
+	 */
+	private static double[] pacoteDouble() {
+		return pacoteDouble.get();
+	}
+
+	/**
+	 * Retorna a área de empacotamento {@code float[]} da thread atual.
+	 * @return array para empacotamento.
+	 */
+	private static float[] pacoteFloat() {
+		return pacoteFloat.get();
+	}
+
 	/**
 	 * Realiza a operação {@code A + B}.
 	 * @param a {@code Tensor} A.
@@ -17,20 +112,25 @@ public class OpTensor {
 	 * @return {@code Tensor} contendo o resultado.
 	 */
 	public Tensor matAdd(Tensor a, Tensor b) {
-		if (!a.compararShape(b)) {
-			throw new IllegalArgumentException(
-				"\nDimensões do tensor A " + a.shapeStr() + 
-				" e B " + b.shapeStr() + " devem ser iguais."
-			);
-		}
+		Tensor res = new Tensor(a.dtype(), a.shape());
+		matAdd(a, b, res);
+		return res;
+	}
 
-		if (a.numDim() != 2) {
-			throw new UnsupportedOperationException(
-				"\nOs tensores devem ter duas dimensões"
-			);
-		}
+	/**
+	 * Realiza a operação {@code A + B}.
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void matAdd(Tensor a, Tensor b, Tensor dest) {
+		verificarElementar(a, b, dest);
 
-		return a.map(b, (x, y) -> x + y);
+		if (a.contiguo && b.contiguo && dest.contiguo) {
+			dest.dados.add(dest.offset, a.dados, a.offset, b.dados, b.offset, dest.tamanho());
+		} else {
+			dest.aplicar(a, b, (x, y) -> x + y);
+		}
 	}
 
 	/**
@@ -40,20 +140,25 @@ public class OpTensor {
 	 * @return {@code Tensor} contendo o resultado.
 	 */
 	public Tensor matSub(Tensor a, Tensor b) {
-		if (!a.compararShape(b)) {
-			throw new IllegalArgumentException(
-				"\nDimensões do tensor A " + a.shapeStr() + 
-				" e B " + b.shapeStr() + " devem ser iguais."
-			);
-		}
+		Tensor res = new Tensor(a.dtype(), a.shape());
+		matSub(a, b, res);
+		return res;
+	}
 
-		if (a.numDim() != 2) {
-			throw new UnsupportedOperationException(
-				"\nOs tensores devem ter duas dimensões"
-			);
-		}
+	/**
+	 * Realiza a operação {@code A - B}.
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void matSub(Tensor a, Tensor b, Tensor dest) {
+		verificarElementar(a, b, dest);
 
-		return a.map(b, (x, y) -> x - y);
+		if (a.contiguo && b.contiguo && dest.contiguo) {
+			dest.dados.sub(dest.offset, a.dados, a.offset, b.dados, b.offset, dest.tamanho());
+		} else {
+			dest.aplicar(a, b, (x, y) -> x - y);
+		}
 	}
 
 	/**
@@ -63,6 +168,63 @@ public class OpTensor {
 	 * @return {@code Tensor} contendo o resultado.
 	 */
 	public Tensor matHadamard(Tensor a, Tensor b) {
+		Tensor res = new Tensor(a.dtype(), a.shape());
+		matHadamard(a, b, res);
+		return res;
+	}
+
+	/**
+	 * Realiza a operação {@code A ⊙ B}.
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void matHadamard(Tensor a, Tensor b, Tensor dest) {
+		verificarElementar(a, b, dest);
+
+		if (a.contiguo && b.contiguo && dest.contiguo) {
+			dest.dados.mult(dest.offset, a.dados, a.offset, b.dados, b.offset, dest.tamanho());
+		} else {
+			dest.aplicar(a, b, (x, y) -> x * y);
+		}
+	}
+
+	/**
+	 * Realiza a operação {@code A / B}.
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @return {@code Tensor} contendo o resultado.
+	 */
+	public Tensor matDiv(Tensor a, Tensor b) {
+		Tensor res = new Tensor(a.dtype(), a.shape());
+		matDiv(a, b, res);
+		return res;
+	}
+
+	/**
+	 * Realiza a operação {@code A / B}.
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void matDiv(Tensor a, Tensor b, Tensor dest) {
+		verificarElementar(a, b, dest);
+
+		if (a.contiguo && b.contiguo && dest.contiguo) {
+			dest.dados.div(dest.offset, a.dados, a.offset, b.dados, b.offset, dest.tamanho());
+		} else {
+			dest.aplicar(a, b, (x, y) -> x / y);
+		}
+	}
+
+	/**
+	 * Verifica se os tensores são compatíveis para as operações elementares
+	 * entre matrizes.
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	private void verificarElementar(Tensor a, Tensor b, Tensor dest) {
 		if (!a.compararShape(b)) {
 			throw new IllegalArgumentException(
 				"\nDimensões do tensor A " + a.shapeStr() + 
@@ -76,93 +238,335 @@ public class OpTensor {
 			);
 		}
 
-		return a.map(b, (x, y) -> x * y);
+		if (!dest.compararShape(a)) {
+			throw new IllegalArgumentException(
+				"\nDimensões de saída inesperadas, esperado " + a.shapeStr() +
+				", mas recebido " + dest.shapeStr()
+			);
+		}
 	}
 
 	/**
-	 * Realiza a operação {@code A / B}.
+	 * Realiza a operação {@code  A * B}
 	 * @param a {@code Tensor} A.
 	 * @param b {@code Tensor} B.
 	 * @return {@code Tensor} contendo o resultado.
 	 */
-	public Tensor matDiv(Tensor a, Tensor b) {
-		if (!a.compararShape(b)) {
+	public Tensor matMult(Tensor a, Tensor b) {
+		return multiplicar(a, false, b, false);
+	}
+
+	/**
+	 * Realiza a operação {@code  A * B}
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void matMult(Tensor a, Tensor b, Tensor dest) {
+		multiplicar(a, false, b, false, dest);
+	}
+
+	/**
+	 * Realiza a operação {@code  Aᵀ * B}, sem criar a transposta de A.
+	 * <p>
+	 *		Tensores com uma dimensão são tratados como uma linha, logo sua
+	 *		transposta é uma coluna.
+	 * </p>
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @return {@code Tensor} contendo o resultado.
+	 */
+	public Tensor matMultTransA(Tensor a, Tensor b) {
+		return multiplicar(a, true, b, false);
+	}
+
+	/**
+	 * Realiza a operação {@code  Aᵀ * B}, sem criar a transposta de A.
+	 * <p>
+	 *		Tensores com uma dimensão são tratados como uma linha, logo sua
+	 *		transposta é uma coluna.
+	 * </p>
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void matMultTransA(Tensor a, Tensor b, Tensor dest) {
+		multiplicar(a, true, b, false, dest);
+	}
+
+	/**
+	 * Realiza a operação {@code  A * Bᵀ}, sem criar a transposta de B.
+	 * <p>
+	 *		Tensores com uma dimensão são tratados como uma linha, logo sua
+	 *		transposta é uma coluna.
+	 * </p>
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @return {@code Tensor} contendo o resultado.
+	 */
+	public Tensor matMultTransB(Tensor a, Tensor b) {
+		return multiplicar(a, false, b, true);
+	}
+
+	/**
+	 * Realiza a operação {@code  A * Bᵀ}, sem criar a transposta de B.
+	 * <p>
+	 *		Tensores com uma dimensão são tratados como uma linha, logo sua
+	 *		transposta é uma coluna.
+	 * </p>
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void matMultTransB(Tensor a, Tensor b, Tensor dest) {
+		multiplicar(a, false, b, true, dest);
+	}
+
+	/**
+	 * Realiza a operação {@code fx(A * B + bias)}, com o bias e a função de
+	 * ativação aplicados no epílogo da multiplicação.
+	 * <p>
+	 *		O bias (um valor por coluna) e a ativação são aplicados dentro do
+	 *		kernel em blocos, a cada bloco de linhas e colunas do destino logo
+	 *		após o último bloco da dimensão comum ser acumulado nele, ainda em
+	 *		cache, sem passagens extras pelo destino.
+	 * </p>
+	 * <p>
+	 *		A função deve ser aplicada elemento a elemento e ser pura (sem
+	 *		estado), já que os blocos podem ser calculados em paralelo.
+	 * </p>
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @param bias {@code Tensor} com um valor por coluna do destino {@code (podendo ser nulo)}.
+	 * @param dest {@code Tensor} de destino.
+	 * @param fx função de ativação {@code (podendo ser nula)}.
+	 */
+	public void matMultAtivacao(Tensor a, Tensor b, Tensor bias, Tensor dest, DoubleUnaryOperator fx) {
+		if (bias != null && bias.tamanho() != dimMatriz(dest, false)[1]) {
 			throw new IllegalArgumentException(
-				"\nDimensões do tensor A " + a.shapeStr() + 
-				" e B " + b.shapeStr() + " devem ser iguais."
+				"\nBias " + bias.shapeStr() + " deve ter um valor por coluna do destino " +
+				dest.shapeStr()
 			);
 		}
 
-		if (a.numDim() != 2) {
-			throw new UnsupportedOperationException(
-				"\nOs tensores devem ter duas dimensões"
+		multiplicar(a, false, b, false, dest, bias, fx);
+	}
+
+	/**
+	 * Acumula o produto externo {@code dest += aᵀ * b}, entre dois vetores.
+	 * <p>
+	 *		Equivalente a {@code matMultTransA(a, b)} seguido da soma no destino,
+	 *		mas sem o tensor temporário e em uma única passagem.
+	 * </p>
+	 * @param a {@code Tensor} A com formato {@code (n)}.
+	 * @param b {@code Tensor} B com formato {@code (m)}.
+	 * @param dest {@code Tensor} de destino com formato {@code (n, m)}.
+	 */
+	public void produtoExternoAcumular(Tensor a, Tensor b, Tensor dest) {
+		if (a.numDim() != 1 || b.numDim() != 1 || dest.numDim() != 2 ||
+			dest.shape()[0] != a.tamanho() || dest.shape()[1] != b.tamanho()) {
+			throw new IllegalArgumentException(
+				"\nDimensões incompatíveis para o produto externo: A = " + a.shapeStr() +
+				" B = " + b.shapeStr() + " Dest = " + dest.shapeStr()
+			);
+		}
+
+		final int lin = a.tamanho();
+		final int col = b.tamanho();
+
+		Tensor td = dest.materializar();
+		final Dtype dtype = td.dtype();
+		Tensor ta = a.paraDtype(dtype).materializar();
+		Tensor tb = b.paraDtype(dtype).materializar();
+		final boolean foraDaHeap = foraDaHeap(ta, tb, td);
+
+		dividirFiltros(lin, (long) lin * col, (ini, fim) -> {
+			if (foraDaHeap) {
+				// direto no armazenamento, com a mesma precisão dos arrays
+				Armazenamento dataA = ta.dados, dataB = tb.dados, dataD = td.dados;
+				final boolean f32 = dtype == Dtype.FLOAT32;
+				for (int i = ini; i < fim; i++) {
+					final double x = dataA.get(ta.offset + i);
+					final int idD = td.offset + i * col;
+					for (int j = 0; j < col; j++) {
+						final double y = dataB.get(tb.offset + j);
+						dataD.add(idD + j, f32 ? (float) x * (float) y : x * y);
+					}
+				}
+			} else if (dtype == Dtype.FLOAT32) {
+				float[] dataA = arrFloat(ta), dataB = arrFloat(tb), dataD = arrFloat(td);
+				for (int i = ini; i < fim; i++) {
+					final float x = dataA[ta.offset + i];
+					final int idD = td.offset + i * col;
+					for (int j = 0; j < col; j++) {
+						dataD[idD + j] += x * dataB[tb.offset + j];
+					}
+				}
+			} else {
+				double[] dataA = arrDouble(ta), dataB = arrDouble(tb), dataD = arrDouble(td);
+				for (int i = ini; i < fim; i++) {
+					final double x = dataA[ta.offset + i];
+					final int idD = td.offset + i * col;
+					for (int j = 0; j < col; j++) {
+						dataD[idD + j] += x * dataB[tb.offset + j];
+					}
+				}
+			}
+		});
+
+		if (td != dest) dest.copiar(td);
+	}
+
+	/**
+	 * Calcula o gradiente em relação ao somatório de uma ativação fundível e
+	 * acumula o gradiente do bias, em uma única passagem.
+	 * <pre>
+	 *delta = dxSaida(saida) * grad
+	 *gradB += delta
+	 * </pre>
+	 * @param saida {@code Tensor} contendo a saída da ativação.
+	 * @param grad {@code Tensor} contendo o gradiente em relação à saída.
+	 * @param dxSaida derivada da ativação em função da sua saída.
+	 * @param delta {@code Tensor} de destino, pode ser o próprio {@code grad}.
+	 * @param gradB {@code Tensor} de acumulação do gradiente do bias {@code (podendo ser nulo)}.
+	 */
+	public void gradAtivacao(Tensor saida, Tensor grad, DoubleUnaryOperator dxSaida, Tensor delta, Tensor gradB) {
+		final int n = saida.tamanho();
+		if (grad.tamanho() != n || delta.tamanho() != n || (gradB != null && gradB.tamanho() != n)) {
+			throw new IllegalArgumentException(
+				"\nSaída " + saida.shapeStr() + ", gradiente " + grad.shapeStr() +
+				" e destino " + delta.shapeStr() + " devem ter o mesmo tamanho."
 			);
 		}
 
-		return a.map(b, (x, y) -> x / y);
+		Tensor td = delta.materializar();
+		final Dtype dtype = td.dtype();
+		Tensor ts = saida.paraDtype(dtype).materializar();
+		Tensor tg = grad.paraDtype(dtype).materializar();
+		Tensor tb = gradB == null ? null : gradB.materializar();
+
+		if (foraDaHeap(td, ts, tg)) {
+			// direto no armazenamento, com a mesma precisão dos arrays
+			final boolean f32 = dtype == Dtype.FLOAT32;
+			for (int i = 0; i < n; i++) {
+				double d = dxSaida.applyAsDouble(ts.dados.get(ts.offset + i));
+				d = f32 ? (float) d * (float) tg.dados.get(tg.offset + i) : d * tg.dados.get(tg.offset + i);
+				td.dados.set(td.offset + i, d);
+				if (tb != null) tb.dados.add(tb.offset + i, d);
+			}
+		} else if (dtype == Dtype.FLOAT32) {
+			float[] dataS = arrFloat(ts), dataG = arrFloat(tg), dataD = arrFloat(td);
+			for (int i = 0; i < n; i++) {
+				float d = (float) dxSaida.applyAsDouble(dataS[ts.offset + i]) * dataG[tg.offset + i];
+				dataD[td.offset + i] = d;
+				if (tb != null) tb.dados.add(tb.offset + i, d);
+			}
+		} else {
+			double[] dataS = arrDouble(ts), dataG = arrDouble(tg), dataD = arrDouble(td);
+			for (int i = 0; i < n; i++) {
+				double d = dxSaida.applyAsDouble(dataS[ts.offset + i]) * dataG[tg.offset + i];
+				dataD[td.offset + i] = d;
+				if (tb != null) tb.dados.add(tb.offset + i, d);
+			}
+		}
+
+		if (td != delta) delta.copiar(td);
+		if (tb != gradB) gradB.copiar(tb);
 	}
 
 	/**
-	 * Realiza a operação {@code  A * B}
+	 * Retorna as dimensões {@code (linhas, colunas)} de um tensor tratado
+	 * como matriz, tensores 1D são tratados como uma única linha.
+	 * @param t {@code Tensor} desejado.
+	 * @param trans considerar a transposta do tensor.
+	 * @return array contendo {@code {linhas, colunas}}.
+	 */
+	private static int[] dimMatriz(Tensor t, boolean trans) {
+		int[] shape = t.shape();
+		int lin = shape.length == 1 ? 1 : shape[0];
+		int col = shape.length == 1 ? shape[0] : shape[1];
+
+		return trans ? new int[]{ col, lin } : new int[]{ lin, col };
+	}
+
+	/**
+	 * Aloca o destino e realiza a multiplicação de matrizes.
 	 * @param a {@code Tensor} A.
+	 * @param transA usar a transposta de A.
 	 * @param b {@code Tensor} B.
+	 * @param transB usar a transposta de B.
 	 * @return {@code Tensor} contendo o resultado.
 	 */
-	public Tensor matMult(Tensor a, Tensor b) {
+	private Tensor multiplicar(Tensor a, boolean transA, Tensor b, boolean transB) {
 		if (a.numDim() > 2 || b.numDim() > 2) {
 			throw new IllegalArgumentException(
 				"\nOs tensores devem conter até duas dimensões, mas contêm " +
 				"A = " + a.shapeStr() + " B = " + b.shapeStr()
 			);
 		}
-	
-		int[] shapeA = a.shape();
-		int[] shapeB = b.shape();
 
-		final int linA = shapeA.length == 1 ? 1 : shapeA[0];
-		final int colA = shapeA.length == 1 ? shapeA[0] : shapeA[1];
-		final int linB = shapeB.length == 1 ? 1 : shapeB[0];
-		final int colB = shapeB.length == 1 ? shapeB[0] : shapeB[1];
-	
-		if (colA != linB) {
+		final int[] dimA = dimMatriz(a, transA);
+		final int[] dimB = dimMatriz(b, transB);
+
+		if (dimA[1] != dimB[0]) {
 			throw new IllegalArgumentException(
 				"As dimensões dos tensores não são compatíveis para multiplicação de matrizes: " +
 				"A = " + a.shapeStr() + " B = " + b.shapeStr()
 			);
 		}
-	
-		Tensor res = linA == 1 ? new Tensor(colB) : new Tensor(linA, colB);
-		
-		matMult(a, b, res);
-	
+
+		Tensor res = dimA[0] == 1 ?
+			new Tensor(a.dtype(), dimB[1]) :
+			new Tensor(a.dtype(), dimA[0], dimB[1]);
+
+		multiplicar(a, transA, b, transB, res);
+
 		return res;
 	}
 
 	/**
-	 * Realiza a operação {@code  A * B}
+	 * Realiza a multiplicação de matrizes, considerando opcionalmente a
+	 * transposta de cada operando.
 	 * @param a {@code Tensor} A.
+	 * @param transA usar a transposta de A.
 	 * @param b {@code Tensor} B.
+	 * @param transB usar a transposta de B.
 	 * @param dest {@code Tensor} de destino.
 	 */
-	public void matMult(Tensor a, Tensor b, Tensor dest) {
+	private void multiplicar(Tensor a, boolean transA, Tensor b, boolean transB, Tensor dest) {
+		multiplicar(a, transA, b, transB, dest, null, null);
+	}
+
+	/**
+	 * Realiza a multiplicação de matrizes, considerando opcionalmente a
+	 * transposta de cada operando, com o epílogo opcional de bias e ativação
+	 * aplicado a cada bloco do destino.
+	 * @param a {@code Tensor} A.
+	 * @param transA usar a transposta de A.
+	 * @param b {@code Tensor} B.
+	 * @param transB usar a transposta de B.
+	 * @param dest {@code Tensor} de destino.
+	 * @param bias {@code Tensor} com um valor por coluna do destino {@code (podendo ser nulo)}.
+	 * @param fx função de ativação {@code (podendo ser nula)}.
+	 */
+	private void multiplicar(Tensor a, boolean transA, Tensor b, boolean transB, Tensor dest,
+		Tensor bias, DoubleUnaryOperator fx) {
 		if (a.numDim() > 2 || b.numDim() > 2 | dest.numDim() > 2) {
 			throw new IllegalArgumentException(
 				"\nOs tensores devem conter até duas dimensões, mas contêm " +
 				"A = " + a.shapeStr() + " B = " + b.shapeStr() + " Dest = " + dest.shapeStr()
 			);
 		}
-	
-		int[] shapeA = a.shape();
-		int[] shapeB = b.shape();
-		int[] shapeD = dest.shape();
 
-		final int linA = shapeA.length == 1 ? 1 : shapeA[0];
-		final int colA = shapeA.length == 1 ? shapeA[0] : shapeA[1];
-		final int linB = shapeB.length == 1 ? 1 : shapeB[0];
-		final int colB = shapeB.length == 1 ? shapeB[0] : shapeB[1];
-		final int linD = shapeD.length == 1 ? 1 : shapeD[0];
-		final int colD = shapeD.length == 1 ? shapeD[0] : shapeD[1];
-	
+		final int[] dimA = dimMatriz(a, transA);
+		final int[] dimB = dimMatriz(b, transB);
+		final int[] dimD = dimMatriz(dest, false);
+
+		final int linA = dimA[0];
+		final int colA = dimA[1];
+		final int linB = dimB[0];
+		final int colB = dimB[1];
+
 		if (colA != linB) {
 			throw new IllegalArgumentException(
 				"As dimensões dos tensores não são compatíveis para multiplicação de matrizes: " +
@@ -170,37 +574,107 @@ public class OpTensor {
 			);
 		}
 
-		if (linA != linD || colB != colD) {
+		if (linA != dimD[0] || colB != dimD[1]) {
 			throw new IllegalArgumentException(
 				"\nDimensões de saída inesperadas, esperado (" + linA + ", " + colB +  ")" +
-				", mas recebido " + dest.shapeStr() 
+				", mas recebido " + dest.shapeStr()
 			);
 		}
 
 		//vetorização para melhor performance
-		Variavel[] dataA = a.paraArray();
-		Variavel[] dataB = b.paraArray();
-		Variavel[] dataD = dest.paraArray();
-		
-		// cache
-		final int n = colA;
-		Variavel soma = new Variavel();
+		// A e B podem ser visualizações (ex: transpostas), apenas o destino
+		// precisa ser contíguo. A transposição é feita trocando os strides.
+		// Operandos fora da heap são lidos e escritos diretamente no buffer.
+		Tensor td = dest.materializar();
+		Tensor ta = a.paraDtype(td.dtype());
+		Tensor tb = b.paraDtype(td.dtype());
+		final int[] strA = stridesMatriz(ta);
+		final int[] strB = stridesMatriz(tb);
+		final int linStrA = transA ? strA[1] : strA[0];
+		final int colStrA = transA ? strA[0] : strA[1];
+		final int linStrB = transB ? strB[1] : strB[0];
+		final int colStrB = transB ? strB[0] : strB[1];
 
-		for (int i = 0; i < linD; i++) {
-			for (int j = 0; j < colD; j++) {
-				soma.set(0.0);
-				int idSaida = (i * colD) + j;
-				for (int k = 0; k < n; k++) {
-					soma.addMult(
-						dataA[i * colA + k],
-						dataB[k * colB + j]
-					);
-				}
-				dataD[idSaida].set(soma);
-			}
-		}
+		final boolean f32 = td.dtype() == Dtype.FLOAT32;
+		final Tensor tbias = bias == null ? null : bias.paraDtype(td.dtype()).materializar();
+		final long operacoes = (long) linA * colB * colA;
+		final int threads = PoolCalculo.threads();
 
-	}
+		if (threads == 1 || operacoes < LIMIAR_PARALELO) {
+			matMult(f32, ta, linStrA, colStrA, tb, linStrB, colStrB, td, 0, linA, 0, colB, colA, tbias, fx);
+
+		} else if (linA >= threads * LINHAS_MICRO) {
+			// dividir as linhas do destino, mantendo múltiplos do micro kernel
+			final int partes = Math.min(threads, linA / LINHAS_MICRO);
+			final int linPorParte = ((linA + partes - 1) / partes + LINHAS_MICRO - 1) / LINHAS_MICRO * LINHAS_MICRO;
+			PoolCalculo.executar(partes, id -> {
+				int ini = id * linPorParte;
+				int fim = Math.min(linA, ini + linPorParte);
+				if (ini < fim) {
+					matMult(f32, ta, linStrA, colStrA, tb, linStrB, colStrB, td, ini, fim - ini, 0, colB, colA, tbias, fx);
+				}
+			});
+
+		} else {
+			// poucas linhas (ex: vetor x matriz), dividir as colunas do destino
+			final int partes = Math.max(1, Math.min(threads, colB / LINHAS_MICRO));
+			final int colPorParte = (colB + partes - 1) / partes;
+			PoolCalculo.executar(partes, id -> {
+				int ini = id * colPorParte;
+				int fim = Math.min(colB, ini + colPorParte);
+				if (ini < fim) {
+					matMult(f32, ta, linStrA, colStrA, tb, linStrB, colStrB, td, 0, linA, ini, fim - ini, colA, tbias, fx);
+				}
+			});
+		}
+
+		if (td != dest) dest.copiar(td);
+	}
+
+	/**
+	 * Calcula um bloco {@code (linhas x colunas)} do destino da multiplicação
+	 * de matrizes, a partir da linha e coluna iniciais informadas.
+	 * <p>
+	 *		Cada elemento do destino é calculado por completo dentro de um único
+	 *		bloco, então a divisão em blocos não altera o resultado.
+	 * </p>
+	 * <p>
+	 *		O bias e a ativação, quando informados, são aplicados pelo kernel
+	 *		a cada bloco do destino assim que ele termina de ser acumulado.
+	 * </p>
+	 */
+	private void matMult(boolean f32, Tensor ta, int linStrA, int colStrA, Tensor tb, int linStrB, int colStrB,
+		Tensor td, int lin, int linhas, int col, int colunas, int n, Tensor tbias, DoubleUnaryOperator fx) {
+		final int colD = dimMatriz(td, false)[1];
+		final int offA = ta.offset + lin * linStrA;
+		final int offB = tb.offset + col * colStrB;
+		final int offD = td.offset + lin * colD + col;
+		final int offBias = tbias == null ? 0 : tbias.offset + col;
+
+		if (foraDaHeap(ta, tb, td, tbias)) {
+			produtoInterno(
+				f32, ta.dados, offA, linStrA, colStrA,
+				tb.dados, offB, linStrB, colStrB,
+				td.dados, offD, colD, linhas, colunas, n,
+				tbias == null ? null : tbias.dados, offBias, fx
+			);
+
+		} else if (f32) {
+			matMult(
+				arrFloat(ta), offA, linStrA, colStrA,
+				arrFloat(tb), offB, linStrB, colStrB,
+				arrFloat(td), offD, colD, linhas, colunas, n,
+				tbias == null ? null : arrFloat(tbias), offBias, fx
+			);
+		} else {
+			matMult(
+				arrDouble(ta), offA, linStrA, colStrA,
+				arrDouble(tb), offB, linStrB, colStrB,
+				arrDouble(td), offD, colD, linhas, colunas, n,
+				tbias == null ? null : arrDouble(tbias), offBias, fx
+			);
+		}
+	}
 
 	/**
 	 * Realiza a operação de correlação cruzada entre o tensor de entrada e o kernel.
@@ -221,7 +695,7 @@ public class OpTensor {
 		
 		int alt  = shapeE[0] - shapeK[0] + 1;
 		int larg = shapeE[1] - shapeK[1] + 1;
-		Tensor saida = new Tensor(alt, larg);
+		Tensor saida = new Tensor(entrada.dtype(), alt, larg);
 
 		correlacao2D(entrada, kernel, saida);
 
@@ -257,223 +731,3744 @@ public class OpTensor {
 			);
 		}
 
-		final int altKernel = shapeK[0];
-		final int largKernel = shapeK[1];
-		final int largEntrada = shapeE[1];
+		final int altKernel = shapeK[0];
+		final int largKernel = shapeK[1];
+		final int largEntrada = shapeE[1];
+
+		// vetorização para melhorar o desempenho
+		Tensor ts = saida.emHeap();
+		Tensor te = entrada.paraDtype(ts.dtype()).emHeap();
+		Tensor tk = kernel.paraDtype(ts.dtype()).emHeap();
+
+		correlacao2D(
+			te, te.offset, tk, tk.offset, ts, ts.offset, 
+			altEsp, largEsp, altKernel, largKernel, largEntrada
+		);
+
+		if (ts != saida) saida.copiar(ts);
+	}
+
+	/**
+	 * Realiza a operação de convolução entre o tensor de entrada e o kernel.
+	 * @param entrada {@code Tensor} contendo os dados de entrada.
+	 * @param kernel {@code Tensor} contendo o filtro que será aplicado à entrada.
+	 * @return {@code Tensor} de destino.
+	 */
+	public Tensor convolucao2D(Tensor entrada, Tensor kernel) {
+		if (entrada.numDim() != 2 || kernel.numDim() != 2) {
+			throw new IllegalArgumentException(
+				"\nTodos os tensores devem ter duas dimensões."
+			);
+		}
+
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		
+		int alt  = shapeE[0] - shapeK[0] + 1;
+		int larg = shapeE[1] - shapeK[1] + 1;
+		Tensor res = new Tensor(entrada.dtype(), alt, larg);
+
+		convolucao2D(entrada, kernel, res);
+
+		return res;
+	}
+
+	/**
+	 * Realiza a operação de convolução entre o tensor de entrada e o kernel.
+	 * @param entrada {@code Tensor} contendo os dados de entrada.
+	 * @param kernel {@code Tensor} contendo o filtro que será aplicado à entrada.
+	 * @param saida {@code Tensor} de destino.
+	 */
+	public void convolucao2D(Tensor entrada, Tensor kernel, Tensor saida) {
+		if (entrada.numDim() != 2 || kernel.numDim() != 2 || saida.numDim() != 2) {
+			throw new IllegalArgumentException(
+				"\nTodos os tensores devem ter duas dimensões."
+			);
+		}
+	
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = saida.shape();
+		
+		int altEsp  = shapeE[0] - shapeK[0] + 1;
+		int largEsp = shapeE[1] - shapeK[1] + 1;
+	
+		int altSaida = shapeS[0];
+		int largSaida = shapeS[1];
+		if (altSaida != altEsp || largSaida != largEsp) {
+			throw new IllegalArgumentException(
+				"\nDimensão de saída esperada (" + altEsp + ", " + largEsp + "), mas" +
+				" recebido " + saida.shapeStr()
+			);
+		}
+	
+		final int altKernel = shapeK[0];
+		final int largKernel = shapeK[1];
+		final int largEntrada = shapeE[1];
+	
+		// vetorização para melhorar o desempenho
+		Tensor ts = saida.emHeap();
+		Tensor te = entrada.paraDtype(ts.dtype()).emHeap();
+		Tensor tk = kernel.paraDtype(ts.dtype()).emHeap();
+
+		if (ts.dtype() == Dtype.FLOAT32) {
+			convolucao2D(
+				arrFloat(te), te.offset, arrFloat(tk), tk.offset, arrFloat(ts), ts.offset, 
+				altEsp, largEsp, altKernel, largKernel, largEntrada
+			);
+		} else {
+			convolucao2D(
+				arrDouble(te), te.offset, arrDouble(tk), tk.offset, arrDouble(ts), ts.offset, 
+				altEsp, largEsp, altKernel, largKernel, largEntrada
+			);
+		}
+
+		if (ts != saida) saida.copiar(ts);
+	}
+
+	/**
+	 * Realiza a operação de convolução entre o tensor de entrada e o kernel.
+	 * @param entrada {@code Tensor} contendo os dados de entrada.
+	 * @param kernel {@code Tensor} contendo o filtro que será aplicado à entrada.
+	 * @return {@code Tensor} de destino.
+	 */
+	public Tensor convolucao2DFull(Tensor entrada, Tensor kernel) {
+		if (entrada.numDim() != 2 || kernel.numDim() != 2) {
+			throw new IllegalArgumentException(
+				"\nAmbos os tensores devem ter duas dimensões."
+			);
+
+		}
+
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		
+		int alt  = shapeE[0] + shapeK[0] - 1;
+		int larg = shapeE[1] + shapeK[1] - 1;
+	
+		Tensor saida = new Tensor(entrada.dtype(), alt, larg);
+
+		convolucao2DFull(entrada, kernel, saida);
+	
+		return saida;
+	}
+
+	/**
+	 * Realiza a operação de convolução entre o tensor de entrada e o kernel.
+	 * @param entrada {@code Tensor} contendo os dados de entrada.
+	 * @param kernel {@code Tensor} contendo o filtro que será aplicado à entrada.
+	 * @param saida {@code Tensor} de destino.
+	 */
+	public void convolucao2DFull(Tensor entrada, Tensor kernel, Tensor saida) {
+		if (entrada.numDim() != 2 || kernel.numDim() != 2) {
+			throw new IllegalArgumentException(
+				"\nTodos os tensores devem ter duas dimensões."
+			);
+		}
+
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = saida.shape();
+		
+		int altEsp  = shapeE[0] + shapeK[0] - 1;
+		int largEsp = shapeE[1] + shapeK[1] - 1;
+	
+		int altSaida  = shapeS[0];
+		int largSaida = shapeS[1];
+		if (altSaida != altEsp || largSaida != largEsp) {
+			throw new IllegalArgumentException(
+				"\nDimensão de saída esperada (" + altEsp + ", " + largEsp + "), mas" +
+				" recebido " + saida.shapeStr()
+			);
+		}
+
+		final int altEntrada = shapeE[0];
+		final int largEntrada = shapeE[1];
+		final int altKernel = shapeK[0];
+		final int largKernel = shapeK[1];
+
+		// vetorização para melhorar o desempenho
+		Tensor ts = saida.emHeap();
+		Tensor te = entrada.paraDtype(ts.dtype()).emHeap();
+		Tensor tk = kernel.paraDtype(ts.dtype()).emHeap();
+
+		convolucao2DFull(
+			te, te.offset, tk, tk.offset, ts, ts.offset, 
+			altEsp, largEsp, altKernel, largKernel, altEntrada, largEntrada
+		);
+
+		if (ts != saida) saida.copiar(ts);
+	}
+
+	/**
+	 * Correlação cruzada 2D entre regiões contíguas dos tensores, que devem
+	 * estar na heap e possuir o mesmo tipo de dado.
+	 */
+	private void correlacao2D(Tensor e, int offE, Tensor k, int offK, Tensor s, int offS, 
+		int altEsp, int largEsp, int altKernel, int largKernel, int largEntrada) {
+		if (s.dtype() == Dtype.FLOAT32) {
+			correlacao2D(
+				arrFloat(e), offE, arrFloat(k), offK, arrFloat(s), offS, 
+				altEsp, largEsp, altKernel, largKernel, largEntrada
+			);
+		} else {
+			correlacao2D(
+				arrDouble(e), offE, arrDouble(k), offK, arrDouble(s), offS, 
+				altEsp, largEsp, altKernel, largKernel, largEntrada
+			);
+		}
+	}
+
+	/**
+	 * Convolução 2D completa entre regiões contíguas dos tensores, que devem
+	 * estar na heap e possuir o mesmo tipo de dado.
+	 */
+	private void convolucao2DFull(Tensor e, int offE, Tensor k, int offK, Tensor s, int offS, 
+		int altEsp, int largEsp, int altKernel, int largKernel, int altEntrada, int largEntrada) {
+		if (s.dtype() == Dtype.FLOAT32) {
+			convolucao2DFull(
+				arrFloat(e), offE, arrFloat(k), offK, arrFloat(s), offS, 
+				altEsp, largEsp, altKernel, largKernel, altEntrada, largEntrada
+			);
+		} else {
+			convolucao2DFull(
+				arrDouble(e), offE, arrDouble(k), offK, arrDouble(s), offS, 
+				altEsp, largEsp, altKernel, largKernel, altEntrada, largEntrada
+			);
+		}
+	}
+
+	/**
+	 * Verifica se algum dos tensores informados está armazenado fora da heap.
+	 * <p>
+	 *		Os kernels sobre arrays primitivos não alcançam esses tensores, que
+	 *		são processados diretamente pelo seu armazenamento.
+	 * </p>
+	 * @param tensores tensores desejados, podendo conter nulos.
+	 * @return {@code true} caso algum tensor esteja fora da heap.
+	 */
+	private static boolean foraDaHeap(Tensor... tensores) {
+		for (Tensor t : tensores) {
+			if (t != null && t.foraDaHeap()) return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Multiplicação de matrizes diretamente sobre o armazenamento dos
+	 * tensores, usada quando algum operando está fora da heap.
+	 * <p>
+	 *		Os elementos são acumulados na mesma ordem e na mesma precisão do
+	 *		{@code produtoInterno()} sobre arrays, então o resultado é idêntico
+	 *		ao de tensores na heap.
+	 * </p>
+	 */
+	private static void produtoInterno(boolean f32, Armazenamento dataA, int offA, int linStrA, int colStrA,
+		Armazenamento dataB, int offB, int linStrB, int colStrB,
+		Armazenamento dataD, int offD, int linStrD, int linD, int colD, int n,
+		Armazenamento dataBias, int offBias, DoubleUnaryOperator fx) {
+		for (int i = 0; i < linD; i++) {
+			final int idBaseA = offA + i * linStrA;
+			final int idBaseD = offD + i * linStrD;
+			for (int j = 0; j < colD; j++) {
+				final int idBaseB = offB + j * colStrB;
+				if (f32) {
+					float soma = 0;
+					for (int k = 0; k < n; k++) {
+						soma += (float) dataA.get(idBaseA + k * colStrA) * (float) dataB.get(idBaseB + k * linStrB);
+					}
+					if (dataBias != null) soma += (float) dataBias.get(offBias + j);
+					dataD.set(idBaseD + j, fx == null ? soma : (float) fx.applyAsDouble(soma));
+
+				} else {
+					double soma = 0;
+					for (int k = 0; k < n; k++) {
+						soma += dataA.get(idBaseA + k * colStrA) * dataB.get(idBaseB + k * linStrB);
+					}
+					if (dataBias != null) soma += dataBias.get(offBias + j);
+					dataD.set(idBaseD + j, fx == null ? soma : fx.applyAsDouble(soma));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Retorna os strides de linha e coluna de um tensor com até duas
+	 * dimensões, tensores 1D são tratados como uma única linha.
+	 * @param t {@code Tensor} desejado.
+	 * @return array contendo {@code {strideLinha, strideColuna}}.
+	 */
+	private static int[] stridesMatriz(Tensor t) {
+		if (t.strides.length == 1) {
+			return new int[]{ t.tamanho() * t.strides[0], t.strides[0] };
+		}
+
+		return new int[]{ t.strides[0], t.strides[1] };
+	}
+
+	/**
+	 * Retorna o array primitivo de um tensor com elementos {@code FLOAT64}.
+	 * @param t {@code Tensor} desejado.
+	 * @return array de elementos do tensor.
+	 */
+	private static double[] arrDouble(Tensor t) {
+		return ((ArmazenamentoDouble) t.dados).dados;
+	}
+
+	/**
+	 * Retorna o array primitivo de um tensor com elementos {@code FLOAT32}.
+	 * @param t {@code Tensor} desejado.
+	 * @return array de elementos do tensor.
+	 */
+	private static float[] arrFloat(Tensor t) {
+		return ((ArmazenamentoFloat) t.dados).dados;
+	}
+
+	/**
+	 * Multiplicação de matrizes sobre arrays {@code double[]}, A e B
+	 * podem ter strides arbitrários.
+	 * <p>
+	 *		O destino é calculado em blocos de {@code BLOCO_K x BLOCO_N} de B,
+	 *		que permanecem em cache enquanto as linhas de A são processadas
+	 *		de quatro em quatro. Caso as linhas de B não sejam contíguas, cada
+	 *		bloco é empacotado antes do uso.
+	 * </p>
+	 * <p>
+	 *		Cada elemento do destino acumula os produtos na mesma ordem de
+	 *		{@code k}, mantendo o resultado idêntico ao do produto interno.
+	 * </p>
+	 * <p>
+	 *		O epílogo ({@code fx(dest + bias)}) é aplicado às linhas de cada
+	 *		bloco {@code BLOCO_N} logo após o último bloco {@code BLOCO_K} ser
+	 *		acumulado nelas, enquanto ainda estão em cache.
+	 * </p>
+	 */
+	private void matMult(double[] dataA, int offA, int linStrA, int colStrA,
+		double[] dataB, int offB, int linStrB, int colStrB,
+		double[] dataD, int offD, int linStrD, int linD, int colD, int n,
+		double[] dataBias, int offBias, DoubleUnaryOperator fx) {
+		if (colD < LINHAS_MICRO || (colStrB != 1 && linD < LINHAS_MICRO)) {
+			// destinos muito estreitos não aproveitam o micro kernel e poucas
+			// linhas não compensam o empacotamento de B
+			produtoInterno(
+				dataA, offA, linStrA, colStrA,
+				dataB, offB, linStrB, colStrB,
+				dataD, offD, linStrD, linD, colD, n,
+				dataBias, offBias, fx
+			);
+			return;
+		}
+
+		final boolean epilogo = dataBias != null || fx != null;
+
+		for (int i = 0; i < linD; i++) {
+			final int idD = offD + i * linStrD;
+			Arrays.fill(dataD, idD, idD + colD, 0);
+		}
+
+		final double[] pacote = colStrB == 1 ? null : pacoteDouble();
+		for (int kk = 0; kk < n; kk += BLOCO_K) {
+			final int kb = Math.min(BLOCO_K, n - kk);
+			for (int jj = 0; jj < colD; jj += BLOCO_N) {
+				final int nb = Math.min(BLOCO_N, colD - jj);
+
+				final double[] dataP;
+				final int offP, linStrP;
+				if (pacote == null) {
+					dataP = dataB;
+					offP = offB + kk * linStrB + jj;
+					linStrP = linStrB;
+				} else {
+					empacotar(dataB, offB + kk * linStrB + jj * colStrB, linStrB, colStrB, kb, nb, pacote);
+					dataP = pacote;
+					offP = 0;
+					linStrP = nb;
+				}
+
+				final boolean ultimo = epilogo && kk + kb == n;
+				int i = 0;
+				for (; i + LINHAS_MICRO <= linD; i += LINHAS_MICRO) {
+					final int idD = offD + i * linStrD + jj;
+					microKernel4(
+						dataA, offA + i * linStrA + kk * colStrA, linStrA, colStrA,
+						dataP, offP, linStrP,
+						dataD, idD, linStrD, kb, nb
+					);
+					if (ultimo) {
+						for (int l = 0; l < LINHAS_MICRO; l++) {
+							epilogo(dataD, idD + l * linStrD, nb, dataBias, offBias + jj, fx);
+						}
+					}
+				}
+				for (; i < linD; i++) {
+					final int idD = offD + i * linStrD + jj;
+					microKernel1(
+						dataA, offA + i * linStrA + kk * colStrA, colStrA,
+						dataP, offP, linStrP,
+						dataD, idD, kb, nb
+					);
+					if (ultimo) epilogo(dataD, idD, nb, dataBias, offBias + jj, fx);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Epílogo da multiplicação de matrizes, soma o bias de cada coluna e
+	 * aplica a função de ativação a um trecho de linha do destino, sobre
+	 * arrays {@code double[]}.
+	 * <pre>
+	 *dest[j] = fx(dest[j] + bias[j])
+	 * </pre>
+	 */
+	private static void epilogo(double[] dataD, int offD, int nb,
+		double[] dataBias, int offBias, DoubleUnaryOperator fx) {
+		for (int j = 0; j < nb; j++) {
+			double v = dataD[offD + j];
+			if (dataBias != null) v += dataBias[offBias + j];
+			dataD[offD + j] = fx == null ? v : fx.applyAsDouble(v);
+		}
+	}
+
+	/**
+	 * Acumula o produto de quatro linhas de A por um bloco de B, sobre
+	 * arrays {@code double[]}.
+	 */
+	private static void microKernel4(double[] dataA, int offA, int linStrA, int colStrA,
+		double[] dataB, int offB, int linStrB,
+		double[] dataD, int offD, int linStrD, int kb, int nb) {
+		final int d0 = offD;
+		final int d1 = d0 + linStrD;
+		final int d2 = d1 + linStrD;
+		final int d3 = d2 + linStrD;
+
+		for (int p = 0; p < kb; p++) {
+			final int idA = offA + p * colStrA;
+			final double a0 = dataA[idA];
+			final double a1 = dataA[idA + linStrA];
+			final double a2 = dataA[idA + 2 * linStrA];
+			final double a3 = dataA[idA + 3 * linStrA];
+			final int idB = offB + p * linStrB;
+
+			for (int j = 0; j < nb; j++) {
+				final double b = dataB[idB + j];
+				dataD[d0 + j] += a0 * b;
+				dataD[d1 + j] += a1 * b;
+				dataD[d2 + j] += a2 * b;
+				dataD[d3 + j] += a3 * b;
+			}
+		}
+	}
+
+	/**
+	 * Acumula o produto de uma linha de A por um bloco de B, sobre
+	 * arrays {@code double[]}.
+	 */
+	private static void microKernel1(double[] dataA, int offA, int colStrA,
+		double[] dataB, int offB, int linStrB,
+		double[] dataD, int offD, int kb, int nb) {
+		for (int p = 0; p < kb; p++) {
+			final double a = dataA[offA + p * colStrA];
+			final int idB = offB + p * linStrB;
+
+			for (int j = 0; j < nb; j++) {
+				dataD[offD + j] += a * dataB[idB + j];
+			}
+		}
+	}
+
+	/**
+	 * Copia um bloco {@code kb x nb} de B, com strides arbitrários, para
+	 * um array {@code double[]} contíguo.
+	 */
+	private static void empacotar(double[] dataB, int offB, int linStrB, int colStrB,
+		int kb, int nb, double[] pacote) {
+		for (int p = 0; p < kb; p++) {
+			final int idB = offB + p * linStrB;
+			final int idP = p * nb;
+			for (int j = 0; j < nb; j++) {
+				pacote[idP + j] = dataB[idB + j * colStrB];
+			}
+		}
+	}
+
+	/**
+	 * Multiplicação de matrizes por produtos internos sobre arrays
+	 * {@code double[]}, usada quando o empacotamento de B não compensa.
+	 * O epílogo é aplicado a cada elemento antes de ser escrito.
+	 */
+	private static void produtoInterno(double[] dataA, int offA, int linStrA, int colStrA,
+		double[] dataB, int offB, int linStrB, int colStrB,
+		double[] dataD, int offD, int linStrD, int linD, int colD, int n,
+		double[] dataBias, int offBias, DoubleUnaryOperator fx) {
+		for (int i = 0; i < linD; i++) {
+			final int idBaseA = offA + i * linStrA;
+			final int idBaseD = offD + i * linStrD;
+			for (int j = 0; j < colD; j++) {
+				final int idBaseB = offB + j * colStrB;
+				double soma = 0;
+				for (int k = 0; k < n; k++) {
+					soma += dataA[idBaseA + k * colStrA] * dataB[idBaseB + k * linStrB];
+				}
+				if (dataBias != null) soma += dataBias[offBias + j];
+				dataD[idBaseD + j] = fx == null ? soma : fx.applyAsDouble(soma);
+			}
+		}
+	}
+
+	/**
+	 * Correlação cruzada 2D sobre arrays {@code double[]} contíguos.
+	 */
+	private void correlacao2D(double[] dataE, int offE, double[] dataK, int offK, double[] dataS, int offS, 
+		int altEsp, int largEsp, int altKernel, int largKernel, int largEntrada) {
+		for (int i = 0; i < altEsp; i++) {
+			for (int j = 0; j < largEsp; j++) {
+
+				double soma = 0;
+				final int idSaida = offS + i * largEsp + j;
+				for (int k = 0; k < altKernel; k++) {
+					final int idBaseEntrada = offE + (k + i) * largEntrada + j;
+					final int idBaseKernel  = offK + k * largKernel; 
+					for (int l = 0; l < largKernel; l++) {
+						soma += dataE[idBaseEntrada + l] * dataK[idBaseKernel + l];
+					}
+				}
+
+				dataS[idSaida] += soma;
+			}
+		}
+	}
+
+	/**
+	 * Convolução 2D sobre arrays {@code double[]} contíguos.
+	 */
+	private void convolucao2D(double[] dataE, int offE, double[] dataK, int offK, double[] dataS, int offS, 
+		int altEsp, int largEsp, int altKernel, int largKernel, int largEntrada) {
+		for (int i = 0; i < altEsp; i++) {
+			for (int j = 0; j < largEsp; j++) {
+				
+				double soma = 0;
+				final int idSaida = offS + i * largEsp + j;
+				for (int k = 0; k < altKernel; k++) {
+					for (int l = 0; l < largKernel; l++) {
+						soma += dataE[offE + (k + i) * largEntrada + (l + j)] * 
+							dataK[offK + (altKernel - 1 - k) * largKernel + (largKernel - 1 - l)];
+					}
+				}
+
+				dataS[idSaida] += soma;
+			}
+		}
+	}
+
+	/**
+	 * Convolução 2D completa sobre arrays {@code double[]} contíguos.
+	 */
+	private void convolucao2DFull(double[] dataE, int offE, double[] dataK, int offK, double[] dataS, int offS, 
+		int altEsp, int largEsp, int altKernel, int largKernel, int altEntrada, int largEntrada) {
+		for (int i = 0; i < altEsp; i++) {
+			for (int j = 0; j < largEsp; j++) {
+				
+				double soma = 0;
+				final int idSaida = offS + i*largEsp + j;
+				for (int m = 0; m < altKernel; m++) {
+					int linEntrada = i - m;
+					if (linEntrada >= 0 && linEntrada < altEntrada) {
+						for (int n = 0; n < largKernel; n++) {
+							int colEntrada = j - n;
+							if (colEntrada >= 0 && colEntrada < largEntrada) {
+								soma += dataK[offK + m * largKernel + n] * 
+									dataE[offE + linEntrada * largEntrada + colEntrada];
+							}
+						}
+					}
+				}
+
+				dataS[idSaida] += soma;
+			}
+		}
+	}
+
+	/**
+	 * Transformação dos filtros {@code 3x3} do Winograd ({@code U = G g Gᵀ}).
+	 */
+	private static void winogradFiltros(double[] dataK, int offK, int filtros, int canais, double[] dataU) {
+		final int passo = filtros * canais;
+		final double[] gg = new double[12];
+
+		for (int f = 0; f < filtros; f++) {
+			for (int c = 0; c < canais; c++) {
+				final int id = offK + (f*canais + c)*9;
+
+				// G g (4x3)
+				for (int j = 0; j < 3; j++) {
+					double g0 = dataK[id + j];
+					double g1 = dataK[id + 3 + j];
+					double g2 = dataK[id + 6 + j];
+					gg[j]     = g0;
+					gg[3 + j] = (g0 + g1 + g2) * 0.5;
+					gg[6 + j] = (g0 - g1 + g2) * 0.5;
+					gg[9 + j] = g2;
+				}
+
+				// (G g) Gᵀ (4x4)
+				final int base = f*canais + c;
+				for (int i = 0; i < 4; i++) {
+					double g0 = gg[i*3];
+					double g1 = gg[i*3 + 1];
+					double g2 = gg[i*3 + 2];
+					dataU[(i*4    )*passo + base] = g0;
+					dataU[(i*4 + 1)*passo + base] = (g0 + g1 + g2) * 0.5;
+					dataU[(i*4 + 2)*passo + base] = (g0 - g1 + g2) * 0.5;
+					dataU[(i*4 + 3)*passo + base] = g2;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Transformação dos blocos {@code 4x4} da entrada do Winograd
+	 * ({@code V = Bᵀ d B}), regiões fora da entrada são tratadas como zero.
+	 */
+	private static void winogradEntrada(double[] dataE, int offE, int canais, int altE, int largE,
+		int blocosAlt, int blocosLarg, double[] dataV) {
+		final int blocos = blocosAlt * blocosLarg;
+		final int passo = canais * blocos;
+		final double[] d = new double[16];
+
+		for (int c = 0; c < canais; c++) {
+			final int idC = offE + c*altE*largE;
+			for (int bi = 0; bi < blocosAlt; bi++) {
+				for (int bj = 0; bj < blocosLarg; bj++) {
+					final int lin = bi * 2;
+					final int col = bj * 2;
+
+					for (int i = 0; i < 4; i++) {
+						for (int j = 0; j < 4; j++) {
+							int y = lin + i;
+							int x = col + j;
+							d[i*4 + j] = (y < altE && x < largE) ? dataE[idC + y*largE + x] : 0;
+						}
+					}
+
+					// Bᵀ d (linhas)
+					for (int j = 0; j < 4; j++) {
+						double d0 = d[j], d1 = d[4 + j], d2 = d[8 + j], d3 = d[12 + j];
+						d[j]      = d0 - d2;
+						d[4 + j]  = d1 + d2;
+						d[8 + j]  = d2 - d1;
+						d[12 + j] = d1 - d3;
+					}
+
+					// (Bᵀ d) B (colunas)
+					final int base = c*blocos + bi*blocosLarg + bj;
+					for (int i = 0; i < 4; i++) {
+						double d0 = d[i*4], d1 = d[i*4 + 1], d2 = d[i*4 + 2], d3 = d[i*4 + 3];
+						dataV[(i*4    )*passo + base] = d0 - d2;
+						dataV[(i*4 + 1)*passo + base] = d1 + d2;
+						dataV[(i*4 + 2)*passo + base] = d2 - d1;
+						dataV[(i*4 + 3)*passo + base] = d1 - d3;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Transformação de saída do Winograd ({@code Y = Aᵀ M A}) dos filtros
+	 * {@code [fIni, fFim)}, acumulando os blocos {@code 2x2} na saída e
+	 * descartando o excedente das bordas.
+	 * <p>
+	 *		Com a função de ativação informada, cada elemento do bloco é escrito
+	 *		como {@code fx(y + bias)}, sobrescrevendo a saída.
+	 * </p>
+	 */
+	private static void winogradSaida(double[] dataM, int filtros, int fIni, int fFim, int blocosAlt, int blocosLarg,
+		double[] dataS, int offS, int altS, int largS, double[] dataB, int offB, DoubleUnaryOperator fx) {
+		final int blocos = blocosAlt * blocosLarg;
+		final int passo = filtros * blocos;
+		final double[] t = new double[8];
+
+		for (int f = fIni; f < fFim; f++) {
+			final int idF = offS + f*altS*largS;
+			final double b = dataB == null ? 0 : dataB[offB + f];
+			for (int bi = 0; bi < blocosAlt; bi++) {
+				for (int bj = 0; bj < blocosLarg; bj++) {
+					final int base = f*blocos + bi*blocosLarg + bj;
+
+					// Aᵀ M (2x4)
+					for (int j = 0; j < 4; j++) {
+						double m0 = dataM[(j     )*passo + base];
+						double m1 = dataM[(4 + j )*passo + base];
+						double m2 = dataM[(8 + j )*passo + base];
+						double m3 = dataM[(12 + j)*passo + base];
+						t[j]     = m0 + m1 + m2;
+						t[4 + j] = m1 - m2 - m3;
+					}
+
+					// (Aᵀ M) A (2x2)
+					final int lin = bi * 2;
+					final int col = bj * 2;
+					for (int i = 0; i < 2 && lin + i < altS; i++) {
+						double t0 = t[i*4], t1 = t[i*4 + 1], t2 = t[i*4 + 2], t3 = t[i*4 + 3];
+						final int id = idF + (lin + i)*largS + col;
+						if (fx == null) {
+							dataS[id] += t0 + t1 + t2;
+							if (col + 1 < largS) dataS[id + 1] += t1 - t2 - t3;
+						} else {
+							dataS[id] = fx.applyAsDouble(t0 + t1 + t2 + b);
+							if (col + 1 < largS) dataS[id + 1] = fx.applyAsDouble(t1 - t2 - t3 + b);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Correlação cruzada direta em blocos de canais dos filtros
+	 * {@code [fIni, fFim)}, acumulando na saída.
+	 * <p>
+	 *		Com a função de ativação informada, cada linha da saída começa com o
+	 *		bias no primeiro bloco de canais e recebe a ativação logo após o
+	 *		último, sobrescrevendo a saída.
+	 * </p>
+	 */
+	private static void conv2DBlocado(double[] dataE, int offE, double[] dataK, int offK, double[] dataS, int offS,
+		int fIni, int fFim, int canais, int altE, int largE, int altK, int largK,
+		double[] dataB, int offB, DoubleUnaryOperator fx) {
+		final int altS = altE - altK + 1;
+		final int largS = largE - largK + 1;
+
+		for (int f = fIni; f < fFim; f++) {
+			final double b = dataB == null ? 0 : dataB[offB + f];
+			for (int c0 = 0; c0 < canais; c0 += BLOCO_CANAIS) {
+				final int cFim = Math.min(c0 + BLOCO_CANAIS, canais);
+				for (int i = 0; i < altS; i++) {
+					final int idS = offS + (f*altS + i)*largS;
+					if (fx != null && c0 == 0) {
+						Arrays.fill(dataS, idS, idS + largS, b);
+					}
+					for (int c = c0; c < cFim; c++) {
+						for (int m = 0; m < altK; m++) {
+							final int idE = offE + (c*altE + i + m)*largE;
+							final int idK = offK + ((f*canais + c)*altK + m)*largK;
+							for (int n = 0; n < largK; n++) {
+								final double k = dataK[idK + n];
+								final int idEn = idE + n;
+								for (int j = 0; j < largS; j++) {
+									dataS[idS + j] += k * dataE[idEn + j];
+								}
+							}
+						}
+					}
+					if (fx != null && cFim == canais) {
+						for (int j = 0; j < largS; j++) {
+							dataS[idS + j] = fx.applyAsDouble(dataS[idS + j]);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gradientes da correlação cruzada direta em blocos de canais, acumulando
+	 * nos gradientes dos kernels e da entrada.
+	 */
+	private static void conv2DBlocadoGrad(double[] dataE, int offE, double[] dataK, int offK, double[] dataG, int offG,
+		double[] dataGK, int offGK, double[] dataGE, int offGE, int filtros, int canais, int altE, int largE, int altK, int largK) {
+		final int altS = altE - altK + 1;
+		final int largS = largE - largK + 1;
+
+		for (int f = 0; f < filtros; f++) {
+			for (int c0 = 0; c0 < canais; c0 += BLOCO_CANAIS) {
+				final int cFim = Math.min(c0 + BLOCO_CANAIS, canais);
+				for (int i = 0; i < altS; i++) {
+					final int idG = offG + (f*altS + i)*largS;
+					for (int c = c0; c < cFim; c++) {
+						for (int m = 0; m < altK; m++) {
+							final int idE = offE + (c*altE + i + m)*largE;
+							final int idK = ((f*canais + c)*altK + m)*largK;
+							for (int n = 0; n < largK; n++) {
+								final double k = dataK[offK + idK + n];
+								final int idEn = idE + n;
+								final int idGEn = offGE + idEn - offE;
+								double soma = 0;
+								for (int j = 0; j < largS; j++) {
+									final double g = dataG[idG + j];
+									soma += dataE[idEn + j] * g;
+									dataGE[idGEn + j] += k * g;
+								}
+								dataGK[offGK + idK + n] += soma;
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Multiplicação de matrizes sobre arrays {@code float[]}, A e B
+	 * podem ter strides arbitrários.
+	 * <p>
+	 *		O destino é calculado em blocos de {@code BLOCO_K x BLOCO_N} de B,
+	 *		que permanecem em cache enquanto as linhas de A são processadas
+	 *		de quatro em quatro. Caso as linhas de B não sejam contíguas, cada
+	 *		bloco é empacotado antes do uso.
+	 * </p>
+	 * <p>
+	 *		Cada elemento do destino acumula os produtos na mesma ordem de
+	 *		{@code k}, mantendo o resultado idêntico ao do produto interno.
+	 * </p>
+	 * <p>
+	 *		O epílogo ({@code fx(dest + bias)}) é aplicado às linhas de cada
+	 *		bloco {@code BLOCO_N} logo após o último bloco {@code BLOCO_K} ser
+	 *		acumulado nelas, enquanto ainda estão em cache.
+	 * </p>
+	 */
+	private void matMult(float[] dataA, int offA, int linStrA, int colStrA,
+		float[] dataB, int offB, int linStrB, int colStrB,
+		float[] dataD, int offD, int linStrD, int linD, int colD, int n,
+		float[] dataBias, int offBias, DoubleUnaryOperator fx) {
+		if (colD < LINHAS_MICRO || (colStrB != 1 && linD < LINHAS_MICRO)) {
+			// destinos muito estreitos não aproveitam o micro kernel e poucas
+			// linhas não compensam o empacotamento de B
+			produtoInterno(
+				dataA, offA, linStrA, colStrA,
+				dataB, offB, linStrB, colStrB,
+				dataD, offD, linStrD, linD, colD, n,
+				dataBias, offBias, fx
+			);
+			return;
+		}
+
+		final boolean epilogo = dataBias != null || fx != null;
+
+		for (int i = 0; i < linD; i++) {
+			final int idD = offD + i * linStrD;
+			Arrays.fill(dataD, idD, idD + colD, 0f);
+		}
+
+		final float[] pacote = colStrB == 1 ? null : pacoteFloat();
+		for (int kk = 0; kk < n; kk += BLOCO_K) {
+			final int kb = Math.min(BLOCO_K, n - kk);
+			for (int jj = 0; jj < colD; jj += BLOCO_N) {
+				final int nb = Math.min(BLOCO_N, colD - jj);
+
+				final float[] dataP;
+				final int offP, linStrP;
+				if (pacote == null) {
+					dataP = dataB;
+					offP = offB + kk * linStrB + jj;
+					linStrP = linStrB;
+				} else {
+					empacotar(dataB, offB + kk * linStrB + jj * colStrB, linStrB, colStrB, kb, nb, pacote);
+					dataP = pacote;
+					offP = 0;
+					linStrP = nb;
+				}
+
+				final boolean ultimo = epilogo && kk + kb == n;
+				int i = 0;
+				for (; i + LINHAS_MICRO <= linD; i += LINHAS_MICRO) {
+					final int idD = offD + i * linStrD + jj;
+					microKernel4(
+						dataA, offA + i * linStrA + kk * colStrA, linStrA, colStrA,
+						dataP, offP, linStrP,
+						dataD, idD, linStrD, kb, nb
+					);
+					if (ultimo) {
+						for (int l = 0; l < LINHAS_MICRO; l++) {
+							epilogo(dataD, idD + l * linStrD, nb, dataBias, offBias + jj, fx);
+						}
+					}
+				}
+				for (; i < linD; i++) {
+					final int idD = offD + i * linStrD + jj;
+					microKernel1(
+						dataA, offA + i * linStrA + kk * colStrA, colStrA,
+						dataP, offP, linStrP,
+						dataD, idD, kb, nb
+					);
+					if (ultimo) epilogo(dataD, idD, nb, dataBias, offBias + jj, fx);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Epílogo da multiplicação de matrizes, soma o bias de cada coluna e
+	 * aplica a função de ativação a um trecho de linha do destino, sobre
+	 * arrays {@code float[]}.
+	 * <pre>
+	 *dest[j] = fx(dest[j] + bias[j])
+	 * </pre>
+	 */
+	private static void epilogo(float[] dataD, int offD, int nb,
+		float[] dataBias, int offBias, DoubleUnaryOperator fx) {
+		for (int j = 0; j < nb; j++) {
+			float v = dataD[offD + j];
+			if (dataBias != null) v += dataBias[offBias + j];
+			dataD[offD + j] = fx == null ? v : (float) fx.applyAsDouble(v);
+		}
+	}
+
+	/**
+	 * Acumula o produto de quatro linhas de A por um bloco de B, sobre
+	 * arrays {@code float[]}.
+	 */
+	private static void microKernel4(float[] dataA, int offA, int linStrA, int colStrA,
+		float[] dataB, int offB, int linStrB,
+		float[] dataD, int offD, int linStrD, int kb, int nb) {
+		final int d0 = offD;
+		final int d1 = d0 + linStrD;
+		final int d2 = d1 + linStrD;
+		final int d3 = d2 + linStrD;
+
+		for (int p = 0; p < kb; p++) {
+			final int idA = offA + p * colStrA;
+			final float a0 = dataA[idA];
+			final float a1 = dataA[idA + linStrA];
+			final float a2 = dataA[idA + 2 * linStrA];
+			final float a3 = dataA[idA + 3 * linStrA];
+			final int idB = offB + p * linStrB;
+
+			for (int j = 0; j < nb; j++) {
+				final float b = dataB[idB + j];
+				dataD[d0 + j] += a0 * b;
+				dataD[d1 + j] += a1 * b;
+				dataD[d2 + j] += a2 * b;
+				dataD[d3 + j] += a3 * b;
+			}
+		}
+	}
+
+	/**
+	 * Acumula o produto de uma linha de A por um bloco de B, sobre
+	 * arrays {@code float[]}.
+	 */
+	private static void microKernel1(float[] dataA, int offA, int colStrA,
+		float[] dataB, int offB, int linStrB,
+		float[] dataD, int offD, int kb, int nb) {
+		for (int p = 0; p < kb; p++) {
+			final float a = dataA[offA + p * colStrA];
+			final int idB = offB + p * linStrB;
+
+			for (int j = 0; j < nb; j++) {
+				dataD[offD + j] += a * dataB[idB + j];
+			}
+		}
+	}
+
+	/**
+	 * Copia um bloco {@code kb x nb} de B, com strides arbitrários, para
+	 * um array {@code float[]} contíguo.
+	 */
+	private static void empacotar(float[] dataB, int offB, int linStrB, int colStrB,
+		int kb, int nb, float[] pacote) {
+		for (int p = 0; p < kb; p++) {
+			final int idB = offB + p * linStrB;
+			final int idP = p * nb;
+			for (int j = 0; j < nb; j++) {
+				pacote[idP + j] = dataB[idB + j * colStrB];
+			}
+		}
+	}
+
+	/**
+	 * Multiplicação de matrizes por produtos internos sobre arrays
+	 * {@code float[]}, usada quando o empacotamento de B não compensa.
+	 * O epílogo é aplicado a cada elemento antes de ser escrito.
+	 */
+	private static void produtoInterno(float[] dataA, int offA, int linStrA, int colStrA,
+		float[] dataB, int offB, int linStrB, int colStrB,
+		float[] dataD, int offD, int linStrD, int linD, int colD, int n,
+		float[] dataBias, int offBias, DoubleUnaryOperator fx) {
+		for (int i = 0; i < linD; i++) {
+			final int idBaseA = offA + i * linStrA;
+			final int idBaseD = offD + i * linStrD;
+			for (int j = 0; j < colD; j++) {
+				final int idBaseB = offB + j * colStrB;
+				float soma = 0;
+				for (int k = 0; k < n; k++) {
+					soma += dataA[idBaseA + k * colStrA] * dataB[idBaseB + k * linStrB];
+				}
+				if (dataBias != null) soma += dataBias[offBias + j];
+				dataD[idBaseD + j] = fx == null ? soma : (float) fx.applyAsDouble(soma);
+			}
+		}
+	}
+
+	/**
+	 * Correlação cruzada 2D sobre arrays {@code float[]} contíguos.
+	 */
+	private void correlacao2D(float[] dataE, int offE, float[] dataK, int offK, float[] dataS, int offS, 
+		int altEsp, int largEsp, int altKernel, int largKernel, int largEntrada) {
+		for (int i = 0; i < altEsp; i++) {
+			for (int j = 0; j < largEsp; j++) {
+
+				float soma = 0;
+				final int idSaida = offS + i * largEsp + j;
+				for (int k = 0; k < altKernel; k++) {
+					final int idBaseEntrada = offE + (k + i) * largEntrada + j;
+					final int idBaseKernel  = offK + k * largKernel; 
+					for (int l = 0; l < largKernel; l++) {
+						soma += dataE[idBaseEntrada + l] * dataK[idBaseKernel + l];
+					}
+				}
+
+				dataS[idSaida] += soma;
+			}
+		}
+	}
+
+	/**
+	 * Convolução 2D sobre arrays {@code float[]} contíguos.
+	 */
+	private void convolucao2D(float[] dataE, int offE, float[] dataK, int offK, float[] dataS, int offS, 
+		int altEsp, int largEsp, int altKernel, int largKernel, int largEntrada) {
+		for (int i = 0; i < altEsp; i++) {
+			for (int j = 0; j < largEsp; j++) {
+				
+				float soma = 0;
+				final int idSaida = offS + i * largEsp + j;
+				for (int k = 0; k < altKernel; k++) {
+					for (int l = 0; l < largKernel; l++) {
+						soma += dataE[offE + (k + i) * largEntrada + (l + j)] * 
+							dataK[offK + (altKernel - 1 - k) * largKernel + (largKernel - 1 - l)];
+					}
+				}
+
+				dataS[idSaida] += soma;
+			}
+		}
+	}
+
+	/**
+	 * Convolução 2D completa sobre arrays {@code float[]} contíguos.
+	 */
+	private void convolucao2DFull(float[] dataE, int offE, float[] dataK, int offK, float[] dataS, int offS, 
+		int altEsp, int largEsp, int altKernel, int largKernel, int altEntrada, int largEntrada) {
+		for (int i = 0; i < altEsp; i++) {
+			for (int j = 0; j < largEsp; j++) {
+				
+				float soma = 0;
+				final int idSaida = offS + i*largEsp + j;
+				for (int m = 0; m < altKernel; m++) {
+					int linEntrada = i - m;
+					if (linEntrada >= 0 && linEntrada < altEntrada) {
+						for (int n = 0; n < largKernel; n++) {
+							int colEntrada = j - n;
+							if (colEntrada >= 0 && colEntrada < largEntrada) {
+								soma += dataK[offK + m * largKernel + n] * 
+									dataE[offE + linEntrada * largEntrada + colEntrada];
+							}
+						}
+					}
+				}
+
+				dataS[idSaida] += soma;
+			}
+		}
+	}
+
+	/**
+	 * Transformação dos filtros {@code 3x3} do Winograd ({@code U = G g Gᵀ}).
+	 */
+	private static void winogradFiltros(float[] dataK, int offK, int filtros, int canais, float[] dataU) {
+		final int passo = filtros * canais;
+		final float[] gg = new float[12];
+
+		for (int f = 0; f < filtros; f++) {
+			for (int c = 0; c < canais; c++) {
+				final int id = offK + (f*canais + c)*9;
+
+				// G g (4x3)
+				for (int j = 0; j < 3; j++) {
+					float g0 = dataK[id + j];
+					float g1 = dataK[id + 3 + j];
+					float g2 = dataK[id + 6 + j];
+					gg[j]     = g0;
+					gg[3 + j] = (g0 + g1 + g2) * 0.5f;
+					gg[6 + j] = (g0 - g1 + g2) * 0.5f;
+					gg[9 + j] = g2;
+				}
+
+				// (G g) Gᵀ (4x4)
+				final int base = f*canais + c;
+				for (int i = 0; i < 4; i++) {
+					float g0 = gg[i*3];
+					float g1 = gg[i*3 + 1];
+					float g2 = gg[i*3 + 2];
+					dataU[(i*4    )*passo + base] = g0;
+					dataU[(i*4 + 1)*passo + base] = (g0 + g1 + g2) * 0.5f;
+					dataU[(i*4 + 2)*passo + base] = (g0 - g1 + g2) * 0.5f;
+					dataU[(i*4 + 3)*passo + base] = g2;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Transformação dos blocos {@code 4x4} da entrada do Winograd
+	 * ({@code V = Bᵀ d B}), regiões fora da entrada são tratadas como zero.
+	 */
+	private static void winogradEntrada(float[] dataE, int offE, int canais, int altE, int largE,
+		int blocosAlt, int blocosLarg, float[] dataV) {
+		final int blocos = blocosAlt * blocosLarg;
+		final int passo = canais * blocos;
+		final float[] d = new float[16];
+
+		for (int c = 0; c < canais; c++) {
+			final int idC = offE + c*altE*largE;
+			for (int bi = 0; bi < blocosAlt; bi++) {
+				for (int bj = 0; bj < blocosLarg; bj++) {
+					final int lin = bi * 2;
+					final int col = bj * 2;
+
+					for (int i = 0; i < 4; i++) {
+						for (int j = 0; j < 4; j++) {
+							int y = lin + i;
+							int x = col + j;
+							d[i*4 + j] = (y < altE && x < largE) ? dataE[idC + y*largE + x] : 0;
+						}
+					}
+
+					// Bᵀ d (linhas)
+					for (int j = 0; j < 4; j++) {
+						float d0 = d[j], d1 = d[4 + j], d2 = d[8 + j], d3 = d[12 + j];
+						d[j]      = d0 - d2;
+						d[4 + j]  = d1 + d2;
+						d[8 + j]  = d2 - d1;
+						d[12 + j] = d1 - d3;
+					}
+
+					// (Bᵀ d) B (colunas)
+					final int base = c*blocos + bi*blocosLarg + bj;
+					for (int i = 0; i < 4; i++) {
+						float d0 = d[i*4], d1 = d[i*4 + 1], d2 = d[i*4 + 2], d3 = d[i*4 + 3];
+						dataV[(i*4    )*passo + base] = d0 - d2;
+						dataV[(i*4 + 1)*passo + base] = d1 + d2;
+						dataV[(i*4 + 2)*passo + base] = d2 - d1;
+						dataV[(i*4 + 3)*passo + base] = d1 - d3;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Transformação de saída do Winograd ({@code Y = Aᵀ M A}) dos filtros
+	 * {@code [fIni, fFim)}, acumulando os blocos {@code 2x2} na saída e
+	 * descartando o excedente das bordas.
+	 * <p>
+	 *		Com a função de ativação informada, cada elemento do bloco é escrito
+	 *		como {@code fx(y + bias)}, sobrescrevendo a saída.
+	 * </p>
+	 */
+	private static void winogradSaida(float[] dataM, int filtros, int fIni, int fFim, int blocosAlt, int blocosLarg,
+		float[] dataS, int offS, int altS, int largS, float[] dataB, int offB, DoubleUnaryOperator fx) {
+		final int blocos = blocosAlt * blocosLarg;
+		final int passo = filtros * blocos;
+		final float[] t = new float[8];
+
+		for (int f = fIni; f < fFim; f++) {
+			final int idF = offS + f*altS*largS;
+			final float b = dataB == null ? 0 : dataB[offB + f];
+			for (int bi = 0; bi < blocosAlt; bi++) {
+				for (int bj = 0; bj < blocosLarg; bj++) {
+					final int base = f*blocos + bi*blocosLarg + bj;
+
+					// Aᵀ M (2x4)
+					for (int j = 0; j < 4; j++) {
+						float m0 = dataM[(j     )*passo + base];
+						float m1 = dataM[(4 + j )*passo + base];
+						float m2 = dataM[(8 + j )*passo + base];
+						float m3 = dataM[(12 + j)*passo + base];
+						t[j]     = m0 + m1 + m2;
+						t[4 + j] = m1 - m2 - m3;
+					}
+
+					// (Aᵀ M) A (2x2)
+					final int lin = bi * 2;
+					final int col = bj * 2;
+					for (int i = 0; i < 2 && lin + i < altS; i++) {
+						float t0 = t[i*4], t1 = t[i*4 + 1], t2 = t[i*4 + 2], t3 = t[i*4 + 3];
+						final int id = idF + (lin + i)*largS + col;
+						if (fx == null) {
+							dataS[id] += t0 + t1 + t2;
+							if (col + 1 < largS) dataS[id + 1] += t1 - t2 - t3;
+						} else {
+							dataS[id] = (float) fx.applyAsDouble(t0 + t1 + t2 + b);
+							if (col + 1 < largS) dataS[id + 1] = (float) fx.applyAsDouble(t1 - t2 - t3 + b);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Correlação cruzada direta em blocos de canais dos filtros
+	 * {@code [fIni, fFim)}, acumulando na saída.
+	 * <p>
+	 *		Com a função de ativação informada, cada linha da saída começa com o
+	 *		bias no primeiro bloco de canais e recebe a ativação logo após o
+	 *		último, sobrescrevendo a saída.
+	 * </p>
+	 */
+	private static void conv2DBlocado(float[] dataE, int offE, float[] dataK, int offK, float[] dataS, int offS,
+		int fIni, int fFim, int canais, int altE, int largE, int altK, int largK,
+		float[] dataB, int offB, DoubleUnaryOperator fx) {
+		final int altS = altE - altK + 1;
+		final int largS = largE - largK + 1;
+
+		for (int f = fIni; f < fFim; f++) {
+			final float b = dataB == null ? 0 : dataB[offB + f];
+			for (int c0 = 0; c0 < canais; c0 += BLOCO_CANAIS) {
+				final int cFim = Math.min(c0 + BLOCO_CANAIS, canais);
+				for (int i = 0; i < altS; i++) {
+					final int idS = offS + (f*altS + i)*largS;
+					if (fx != null && c0 == 0) {
+						Arrays.fill(dataS, idS, idS + largS, b);
+					}
+					for (int c = c0; c < cFim; c++) {
+						for (int m = 0; m < altK; m++) {
+							final int idE = offE + (c*altE + i + m)*largE;
+							final int idK = offK + ((f*canais + c)*altK + m)*largK;
+							for (int n = 0; n < largK; n++) {
+								final float k = dataK[idK + n];
+								final int idEn = idE + n;
+								for (int j = 0; j < largS; j++) {
+									dataS[idS + j] += k * dataE[idEn + j];
+								}
+							}
+						}
+					}
+					if (fx != null && cFim == canais) {
+						for (int j = 0; j < largS; j++) {
+							dataS[idS + j] = (float) fx.applyAsDouble(dataS[idS + j]);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gradientes da correlação cruzada direta em blocos de canais, acumulando
+	 * nos gradientes dos kernels e da entrada.
+	 */
+	private static void conv2DBlocadoGrad(float[] dataE, int offE, float[] dataK, int offK, float[] dataG, int offG,
+		float[] dataGK, int offGK, float[] dataGE, int offGE, int filtros, int canais, int altE, int largE, int altK, int largK) {
+		final int altS = altE - altK + 1;
+		final int largS = largE - largK + 1;
+
+		for (int f = 0; f < filtros; f++) {
+			for (int c0 = 0; c0 < canais; c0 += BLOCO_CANAIS) {
+				final int cFim = Math.min(c0 + BLOCO_CANAIS, canais);
+				for (int i = 0; i < altS; i++) {
+					final int idG = offG + (f*altS + i)*largS;
+					for (int c = c0; c < cFim; c++) {
+						for (int m = 0; m < altK; m++) {
+							final int idE = offE + (c*altE + i + m)*largE;
+							final int idK = ((f*canais + c)*altK + m)*largK;
+							for (int n = 0; n < largK; n++) {
+								final float k = dataK[offK + idK + n];
+								final int idEn = idE + n;
+								final int idGEn = offGE + idEn - offE;
+								float soma = 0;
+								for (int j = 0; j < largS; j++) {
+									final float g = dataG[idG + j];
+									soma += dataE[idEn + j] * g;
+									dataGE[idGEn + j] += k * g;
+								}
+								dataGK[offGK + idK + n] += soma;
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional.
+	 * <p>
+	 *		Kernels e entradas grandes, quando a estimativa de custo favorece,
+	 *		usam FFT. Kernels {@code 3x3} com entradas de pelo menos
+	 *		{@value #MIN_CANAIS_WINOGRAD} canais usam o algoritmo de Winograd
+	 *		{@code F(2x2, 3x3)}, os demais casos usam {@code im2col}.
+	 * </p>
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino do resultado.
+	 */
+	public void conv2DForward(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida) {
+		conv2DForward(entrada, kernel, bias, saida, algoritmoPadrao(entrada, kernel));
+	}
+
+	/**
+	 * Retorna o algoritmo usado na propagação direta quando nenhum algoritmo
+	 * é informado, escolhido por estimativa (sem medições).
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @return algoritmo de convolução.
+	 */
+	public AlgoritmoConv algoritmoPadrao(Tensor entrada, Tensor kernel) {
+		if (foraDaHeap(entrada, kernel)) {
+			return AlgoritmoConv.IM2COL;
+		}
+
+		if (fftVantajosa(entrada, kernel)) {
+			return AlgoritmoConv.FFT;
+		}
+
+		if (winogradElegivel(kernel) && kernel.shape()[1] >= MIN_CANAIS_WINOGRAD) {
+			return AlgoritmoConv.WINOGRAD;
+		}
+
+		return AlgoritmoConv.IM2COL;
+	}
+
+	/**
+	 * Realiza a propagação reversa através da camada convolucional.
+	 * <p>
+	 *		Usa FFT nos mesmos casos da propagação direta, os demais casos
+	 *		usam {@code im2col}.
+	 * </p>
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param gradS {@code Tensor} contendo o gradiente em relação a saída da camada.
+	 * @param gradK {@code Tensor} contendo o gradiente em relação ao kernel/filtros da camada.
+	 * @param gradB {@code Tensor} contendo o gradiente em relação ao bias da camada {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} contendo o gradiente em relação à entrada da camada.
+	 */
+	public void conv2DBackward(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE) {
+		if (fftVantajosa(entrada, kernel) && !foraDaHeap(entrada, kernel, gradS, gradK, gradB, gradE)) {
+			conv2DBackwardFFT(entrada, kernel, gradS, gradK, gradB, gradE);
+		} else {
+			conv2DBackwardIm2col(entrada, kernel, gradS, gradK, gradB, gradE);
+		}
+	}
+
+	/**
+	 * Calcula o tamanho de uma dimensão espacial da saída da convolução.
+	 * <pre>
+	 *saida = (entrada + 2*padding - dilatacao*(kernel - 1) - 1) / stride + 1
+	 * </pre>
+	 * @param entrada tamanho da dimensão de entrada.
+	 * @param kernel tamanho da dimensão do kernel.
+	 * @param stride passo do kernel na dimensão.
+	 * @param padding zeros adicionados em cada borda da dimensão.
+	 * @param dilatacao espaçamento entre os elementos do kernel na dimensão.
+	 * @return tamanho da dimensão de saída, menor que 1 caso o kernel
+	 * dilatado não caiba na entrada.
+	 */
+	public static int tamSaidaConv(int entrada, int kernel, int stride, int padding, int dilatacao) {
+		final int efetivo = entrada + 2 * padding - dilatacao * (kernel - 1) - 1;
+		return efetivo < 0 ? 0 : efetivo / stride + 1;
+	}
+
+	/**
+	 * Verifica se a configuração da convolução é a padrão (stride 1, sem
+	 * padding e sem dilatação), suportada por todos os algoritmos.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 * @return {@code true} caso a configuração seja a padrão.
+	 */
+	public static boolean convPadrao(int[] stride, int[] padding, int[] dilatacao) {
+		return stride[0] == 1 && stride[1] == 1 &&
+			padding[0] == 0 && padding[1] == 0 &&
+			dilatacao[0] == 1 && dilatacao[1] == 1;
+	}
+
+	/**
+	 * Valida os strides, padding e dilatação de uma convolução.
+	 */
+	private static void validarConfigConv(int[] stride, int[] padding, int[] dilatacao) {
+		if (stride == null || padding == null || dilatacao == null ||
+			stride.length != 2 || padding.length != 2 || dilatacao.length != 2) {
+			throw new IllegalArgumentException(
+				"\nStride, padding e dilatação devem conter dois elementos (altura, largura)."
+			);
+		}
+
+		if (stride[0] < 1 || stride[1] < 1 || dilatacao[0] < 1 || dilatacao[1] < 1) {
+			throw new IllegalArgumentException(
+				"\nStride e dilatação devem ser maiores que zero, recebido " +
+				Arrays.toString(stride) + " e " + Arrays.toString(dilatacao)
+			);
+		}
+
+		if (padding[0] < 0 || padding[1] < 0) {
+			throw new IllegalArgumentException(
+				"\nPadding não pode ser negativo, recebido " + Arrays.toString(padding)
+			);
+		}
+	}
+
+	/**
+	 * Primeira posição {@code j >= 0} de saída em que {@code ini + j*stride}
+	 * cai dentro da entrada.
+	 */
+	private static int inicioValido(int ini, int stride) {
+		return ini >= 0 ? 0 : (-ini + stride - 1) / stride;
+	}
+
+	/**
+	 * Posição de saída seguinte à última em que {@code ini + j*stride} cai
+	 * dentro de uma entrada de tamanho {@code tam}, limitada a {@code tamS}.
+	 */
+	private static int fimValido(int ini, int stride, int tam, int tamS) {
+		return ini >= tam ? 0 : Math.min(tamS, (tam - 1 - ini) / stride + 1);
+	}
+
+	/**
+	 * Reorganiza as janelas da entrada em colunas (im2col), de forma que a
+	 * correlação cruzada com um kernel possa ser calculada por uma única
+	 * multiplicação de matrizes.
+	 * <p>
+	 *		Para uma entrada {@code (canais, altura, largura)} e um kernel
+	 *		{@code (altK, largK)}, o destino deve ter formato
+	 *		{@code (canais * altK * largK, altSaida * largSaida)}, onde:
+	 * </p>
+	 * <pre>
+	 *dest[(c*altK + m)*largK + n][i*largSaida + j] = entrada[c][i + m][j + n]
+	 * </pre>
+	 * @param entrada {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 * @param altK altura do kernel.
+	 * @param largK largura do kernel.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void im2col(Tensor entrada, int altK, int largK, Tensor dest) {
+		im2col(entrada, altK, largK, STRIDE_PADRAO, PADDING_PADRAO, DILATACAO_PADRAO, dest);
+	}
+
+	/**
+	 * Reorganiza as janelas da entrada em colunas (im2col), considerando
+	 * strides, padding com zeros e dilatação do kernel.
+	 * <p>
+	 *		Apenas as posições mantidas na saída são geradas, com {@code (sA, sL)}
+	 *		os strides, {@code (pA, pL)} o padding e {@code (dA, dL)} a dilatação:
+	 * </p>
+	 * <pre>
+	 *dest[(c*altK + m)*largK + n][i*largSaida + j] =
+	 *    entrada[c][i*sA - pA + m*dA][j*sL - pL + n*dL]
+	 * </pre>
+	 * Posições fora da entrada recebem zero.
+	 * @param entrada {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 * @param altK altura do kernel.
+	 * @param largK largura do kernel.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void im2col(Tensor entrada, int altK, int largK, int[] stride, int[] padding, int[] dilatacao, Tensor dest) {
+		if (entrada.numDim() != 3 || dest.numDim() != 2) {
+			throw new IllegalArgumentException(
+				"\nA entrada deve ter três dimensões e o destino duas, recebido " +
+				entrada.shapeStr() + " e " + dest.shapeStr()
+			);
+		}
+
+		validarConfigConv(stride, padding, dilatacao);
+
+		int[] shapeE = entrada.shape();
+		final int canais = shapeE[0];
+		final int altE = shapeE[1];
+		final int largE = shapeE[2];
+		final int altS = tamSaidaConv(altE, altK, stride[0], padding[0], dilatacao[0]);
+		final int largS = tamSaidaConv(largE, largK, stride[1], padding[1], dilatacao[1]);
+
+		if (!dest.compararShape(new int[]{ canais * altK * largK, altS * largS })) {
+			throw new IllegalArgumentException(
+				"\nDimensão de destino esperada (" + (canais * altK * largK) + ", " + (altS * largS) +
+				"), mas recebido " + dest.shapeStr()
+			);
+		}
+
+		Tensor te = entrada.paraDtype(dest.dtype()).materializar();
+		Tensor td = dest.materializar();
+		final int tamE = altE * largE;
+		final int tamS = altS * largS;
+
+		for (int c = 0; c < canais; c++) {
+			for (int m = 0; m < altK; m++) {
+				for (int n = 0; n < largK; n++) {
+					final int idCol = td.offset + ((c * altK + m) * largK + n) * tamS;
+					final int x0 = n * dilatacao[1] - padding[1];
+					final int jIni = inicioValido(x0, stride[1]);
+					final int jFim = fimValido(x0, stride[1], largE, largS);
+
+					for (int i = 0; i < altS; i++) {
+						final int idLin = idCol + i * largS;
+						final int y = i * stride[0] - padding[0] + m * dilatacao[0];
+						if (y < 0 || y >= altE || jIni >= jFim) {
+							td.dados.preencher(idLin, largS, 0);
+							continue;
+						}
+
+						if (jIni > 0) td.dados.preencher(idLin, jIni, 0);
+						if (jFim < largS) td.dados.preencher(idLin + jFim, largS - jFim, 0);
+
+						final int idE = te.offset + c * tamE + y * largE + x0;
+						if (stride[1] == 1) {
+							te.dados.copiar(idE + jIni, td.dados, idLin + jIni, jFim - jIni);
+						} else {
+							for (int j = jIni; j < jFim; j++) {
+								td.dados.set(idLin + j, te.dados.get(idE + j * stride[1]));
+							}
+						}
+					}
+				}
+			}
+		}
+
+		if (td != dest) dest.copiar(td);
+	}
+
+	/**
+	 * Operação inversa do {@code im2col()}, acumula os valores de cada coluna
+	 * nas posições correspondentes do tensor de destino.
+	 * @param col {@code Tensor} com formato {@code (canais * altK * largK, altSaida * largSaida)}.
+	 * @param altK altura do kernel.
+	 * @param largK largura do kernel.
+	 * @param dest {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 */
+	public void col2im(Tensor col, int altK, int largK, Tensor dest) {
+		col2im(col, altK, largK, STRIDE_PADRAO, PADDING_PADRAO, DILATACAO_PADRAO, dest);
+	}
+
+	/**
+	 * Operação inversa do {@code im2col()} com strides, padding e dilatação,
+	 * acumula os valores de cada coluna nas posições correspondentes do
+	 * tensor de destino. Valores de posições do padding são descartados.
+	 * @param col {@code Tensor} com formato {@code (canais * altK * largK, altSaida * largSaida)}.
+	 * @param altK altura do kernel.
+	 * @param largK largura do kernel.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 * @param dest {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 */
+	public void col2im(Tensor col, int altK, int largK, int[] stride, int[] padding, int[] dilatacao, Tensor dest) {
+		if (col.numDim() != 2 || dest.numDim() != 3) {
+			throw new IllegalArgumentException(
+				"\nAs colunas devem ter duas dimensões e o destino três, recebido " +
+				col.shapeStr() + " e " + dest.shapeStr()
+			);
+		}
+
+		validarConfigConv(stride, padding, dilatacao);
+
+		int[] shapeD = dest.shape();
+		final int canais = shapeD[0];
+		final int altD = shapeD[1];
+		final int largD = shapeD[2];
+		final int altS = tamSaidaConv(altD, altK, stride[0], padding[0], dilatacao[0]);
+		final int largS = tamSaidaConv(largD, largK, stride[1], padding[1], dilatacao[1]);
+
+		if (!col.compararShape(new int[]{ canais * altK * largK, altS * largS })) {
+			throw new IllegalArgumentException(
+				"\nDimensão das colunas esperada (" + (canais * altK * largK) + ", " + (altS * largS) +
+				"), mas recebido " + col.shapeStr()
+			);
+		}
+
+		Tensor tc = col.paraDtype(dest.dtype()).materializar();
+		Tensor td = dest.materializar();
+		final int tamD = altD * largD;
+		final int tamS = altS * largS;
+
+		for (int c = 0; c < canais; c++) {
+			for (int m = 0; m < altK; m++) {
+				for (int n = 0; n < largK; n++) {
+					final int idCol = tc.offset + ((c * altK + m) * largK + n) * tamS;
+					final int x0 = n * dilatacao[1] - padding[1];
+					final int jIni = inicioValido(x0, stride[1]);
+					final int jFim = fimValido(x0, stride[1], largD, largS);
+					if (jIni >= jFim) continue;
+
+					for (int i = 0; i < altS; i++) {
+						final int y = i * stride[0] - padding[0] + m * dilatacao[0];
+						if (y < 0 || y >= altD) continue;
+
+						final int idLin = idCol + i * largS;
+						final int idD = td.offset + c * tamD + y * largD + x0;
+						if (stride[1] == 1) {
+							td.dados.add(idD + jIni, tc.dados, idLin + jIni, jFim - jIni);
+						} else {
+							for (int j = jIni; j < jFim; j++) {
+								td.dados.add(idD + j * stride[1], tc.dados.get(idLin + j));
+							}
+						}
+					}
+				}
+			}
+		}
+
+		if (td != dest) dest.copiar(td);
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional usando
+	 * {@code im2col} e multiplicação de matrizes.
+	 * <p>
+	 *		As janelas da entrada são reorganizadas em uma matriz
+	 *		{@code (canais * altK * largK, altSaida * largSaida)} e multiplicadas
+	 *		pelos filtros vistos como {@code (filtros, canais * altK * largK)}.
+	 * </p>
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino do resultado.
+	 */
+	public void conv2DForwardIm2col(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida) {
+		conv2DForwardIm2col(entrada, kernel, bias, saida, STRIDE_PADRAO, PADDING_PADRAO, DILATACAO_PADRAO);
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional usando
+	 * {@code im2col} e multiplicação de matrizes, considerando strides,
+	 * padding com zeros e dilatação do kernel.
+	 * <p>
+	 *		Apenas as posições mantidas na saída são calculadas, uma convolução
+	 *		com stride 2 processa um quarto das janelas da convolução com stride 1.
+	 * </p>
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino do resultado.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 */
+	public void conv2DForwardIm2col(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida,
+		int[] stride, int[] padding, int[] dilatacao) {
+		conv2DForwardIm2col(entrada, kernel, bias, saida, stride, padding, dilatacao, null);
+	}
+
+	/**
+	 * Propagação direta por {@code im2col}, com a função de ativação
+	 * opcional aplicada no epílogo da multiplicação de matrizes.
+	 * <p>
+	 *		Sem ativação o resultado é acumulado no tensor de saída, com ativação
+	 *		ele sobrescreve a saída.
+	 * </p>
+	 */
+	private void conv2DForwardIm2col(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida,
+		int[] stride, int[] padding, int[] dilatacao, DoubleUnaryOperator fx) {
+		validarConfigConv(stride, padding, dilatacao);
+
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = saida.shape();
+
+		final int profEntrada = shapeK[1];
+		final int altEntrada = shapeE[1];
+		final int largEntrada = shapeE[2];
+		final int numFiltros = shapeK[0];
+		final int altKernel = shapeK[2];
+		final int largKernel = shapeK[3];
+
+		final int altSaida = shapeS[1];
+		final int largSaida = shapeS[2];
+		final int altEsperada  = tamSaidaConv(altEntrada, altKernel, stride[0], padding[0], dilatacao[0]);
+		final int largEsperada = tamSaidaConv(largEntrada, largKernel, stride[1], padding[1], dilatacao[1]);
+		if (altEsperada != altSaida || largEsperada != largSaida) {
+			throw new IllegalArgumentException(
+				"\nDimensões de saída " + saida.shapeStr() + " incompatíveis"
+			);
+		}
+
+		Tensor ts = saida.materializar();
+		final Dtype dtype = ts.dtype();
+		final int tamJanela = profEntrada * altKernel * largKernel;
+		final int tamSaida = altSaida * largSaida;
+
+		Tensor col = PoolTensor.pegar(dtype, tamJanela, tamSaida);
+		Tensor res = PoolTensor.pegar(dtype, numFiltros, tamSaida);
+
+		im2col(entrada, altKernel, largKernel, stride, padding, dilatacao, col);
+		matMult(kernel.paraDtype(dtype).view(numFiltros, tamJanela), col, res);
+
+		if (fx != null) {
+			epilogoConv(ts, res, bias, fx, numFiltros, tamSaida, false);
+			PoolTensor.devolver(col, res);
+
+		} else {
+			ts.dados.add(ts.offset, res.dados, 0, numFiltros * tamSaida);
+			PoolTensor.devolver(col, res);
+
+			if (bias != null) {
+				// bias (filtros) expandido para (filtros, altura, largura)
+				ts.add(bias.view(numFiltros, 1, 1));
+			}
+		}
+
+		if (ts != saida) saida.copiar(ts);
+	}
+
+	/**
+	 * Realiza a propagação reversa através da camada convolucional usando
+	 * {@code im2col}/{@code col2im} e multiplicação de matrizes.
+	 * <p>
+	 *		Com os filtros vistos como {@code K (filtros, canais * altK * largK)},
+	 *		o gradiente de saída como {@code G (filtros, altSaida * largSaida)} e
+	 *		a entrada reorganizada em colunas {@code X}:
+	 * </p>
+	 * <pre>
+	 *gradK += G * Xᵀ
+	 *gradE += col2im(Kᵀ * G)
+	 * </pre>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param gradS {@code Tensor} contendo o gradiente em relação a saída da camada.
+	 * @param gradK {@code Tensor} contendo o gradiente em relação ao kernel/filtros da camada.
+	 * @param gradB {@code Tensor} contendo o gradiente em relação ao bias da camada {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} contendo o gradiente em relação à entrada da camada.
+	 */
+	public void conv2DBackwardIm2col(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE) {
+		conv2DBackwardIm2col(
+			entrada, kernel, gradS, gradK, gradB, gradE, STRIDE_PADRAO, PADDING_PADRAO, DILATACAO_PADRAO
+		);
+	}
+
+	/**
+	 * Realiza a propagação reversa através da camada convolucional usando
+	 * {@code im2col}/{@code col2im} e multiplicação de matrizes, considerando
+	 * strides, padding com zeros e dilatação do kernel.
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino, posições do
+	 *		padding não geram gradiente de entrada.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param gradS {@code Tensor} contendo o gradiente em relação a saída da camada.
+	 * @param gradK {@code Tensor} contendo o gradiente em relação ao kernel/filtros da camada.
+	 * @param gradB {@code Tensor} contendo o gradiente em relação ao bias da camada {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} contendo o gradiente em relação à entrada da camada.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 */
+	public void conv2DBackwardIm2col(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE,
+		int[] stride, int[] padding, int[] dilatacao) {
+		int[] shapeK = kernel.shape();
+		int[] shapeS = gradS.shape();
+
+		final int filtros = shapeK[0];
+		final int entradas = shapeK[1];
+		final int altK = shapeK[2];
+		final int largK = shapeK[3];
+		final int altS = shapeS[1];
+		final int largS = shapeS[2];
+
+		final Tensor tgk = gradK.materializar();
+		final Dtype dtype = tgk.dtype();
+		final Tensor tk = kernel.paraDtype(dtype).view(filtros, entradas * altK * largK);
+		final Tensor ts = gradS.paraDtype(dtype).view(filtros, altS * largS);
+		final int tamJanela = entradas * altK * largK;
+		final int tamS = altS * largS;
+
+		Tensor col = PoolTensor.pegar(dtype, tamJanela, tamS);
+		Tensor temp = PoolTensor.pegar(dtype, filtros, tamJanela);
+
+		// gradiente em relação aos kernels
+		im2col(entrada, altK, largK, stride, padding, dilatacao, col);
+		matMultTransB(ts, col, temp);
+		tgk.dados.add(tgk.offset, temp.dados, 0, filtros * tamJanela);
+
+		// gradiente em relação as entradas (col é reaproveitado)
+		matMultTransA(tk, ts, col);
+		col2im(col, altK, largK, stride, padding, dilatacao, gradE);
+
+		PoolTensor.devolver(col, temp);
+
+		// gradiente em relação aos bias
+		if (gradB != null) {
+			for (int i = 0; i < filtros; i++) {
+				gradB.add(ts.dados.soma(ts.offset + i*tamS, tamS), i);
+			}
+		}
+
+		if (tgk != gradK) gradK.copiar(tgk);
+	}
+
+	/**
+	 * Reorganiza as janelas de uma entrada com canais por último em linhas
+	 * (im2col), de forma que a correlação cruzada com um kernel possa ser
+	 * calculada por uma única multiplicação de matrizes.
+	 * <p>
+	 *		Para uma entrada {@code (altura, largura, canais)} e um kernel
+	 *		{@code (altK, largK)}, o destino deve ter formato
+	 *		{@code (altSaida * largSaida, altK * largK * canais)}, onde:
+	 * </p>
+	 * <pre>
+	 *dest[i*largSaida + j][(m*largK + n)*canais + c] = entrada[i + m][j + n][c]
+	 * </pre>
+	 * <p>
+	 *		Cada linha da janela é um trecho contíguo de {@code largK * canais}
+	 *		elementos da entrada, copiado de uma única vez.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 * @param altK altura do kernel.
+	 * @param largK largura do kernel.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void im2colCanaisUltimo(Tensor entrada, int altK, int largK, Tensor dest) {
+		im2colCanaisUltimo(entrada, altK, largK, STRIDE_PADRAO, PADDING_PADRAO, DILATACAO_PADRAO, dest);
+	}
+
+	/**
+	 * Reorganiza as janelas de uma entrada com canais por último em linhas
+	 * (im2col), considerando strides, padding com zeros e dilatação do kernel.
+	 * <pre>
+	 *dest[i*largSaida + j][(m*largK + n)*canais + c] =
+	 *    entrada[i*sA - pA + m*dA][j*sL - pL + n*dL][c]
+	 * </pre>
+	 * <p>
+	 *		Os canais de cada pixel são sempre contíguos, sem dilatação na
+	 *		largura e longe das bordas cada linha da janela é copiada de uma
+	 *		única vez. Posições fora da entrada recebem zero.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 * @param altK altura do kernel.
+	 * @param largK largura do kernel.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 * @param dest {@code Tensor} de destino.
+	 */
+	public void im2colCanaisUltimo(Tensor entrada, int altK, int largK, int[] stride, int[] padding, int[] dilatacao, Tensor dest) {
+		if (entrada.numDim() != 3 || dest.numDim() != 2) {
+			throw new IllegalArgumentException(
+				"\nA entrada deve ter três dimensões e o destino duas, recebido " +
+				entrada.shapeStr() + " e " + dest.shapeStr()
+			);
+		}
+
+		validarConfigConv(stride, padding, dilatacao);
+
+		int[] shapeE = entrada.shape();
+		final int altE = shapeE[0];
+		final int largE = shapeE[1];
+		final int canais = shapeE[2];
+		final int altS = tamSaidaConv(altE, altK, stride[0], padding[0], dilatacao[0]);
+		final int largS = tamSaidaConv(largE, largK, stride[1], padding[1], dilatacao[1]);
+		final int tamLinha = largK * canais;
+		final int tamJanela = altK * tamLinha;
+
+		if (!dest.compararShape(new int[]{ altS * largS, tamJanela })) {
+			throw new IllegalArgumentException(
+				"\nDimensão de destino esperada (" + (altS * largS) + ", " + tamJanela +
+				"), mas recebido " + dest.shapeStr()
+			);
+		}
+
+		Tensor te = entrada.paraDtype(dest.dtype()).materializar();
+		Tensor td = dest.materializar();
+		final int linE = largE * canais;
+
+		for (int i = 0; i < altS; i++) {
+			for (int j = 0; j < largS; j++) {
+				final int idCol = td.offset + (i * largS + j) * tamJanela;
+				final int x0 = j * stride[1] - padding[1];
+				final boolean linhaInteira = dilatacao[1] == 1 && x0 >= 0 && x0 + largK <= largE;
+
+				for (int m = 0; m < altK; m++) {
+					final int idLin = idCol + m * tamLinha;
+					final int y = i * stride[0] - padding[0] + m * dilatacao[0];
+					if (y < 0 || y >= altE) {
+						td.dados.preencher(idLin, tamLinha, 0);
+						continue;
+					}
+
+					final int idE = te.offset + y * linE;
+					if (linhaInteira) {
+						te.dados.copiar(idE + x0 * canais, td.dados, idLin, tamLinha);
+						continue;
+					}
+
+					for (int n = 0; n < largK; n++) {
+						final int x = x0 + n * dilatacao[1];
+						if (x < 0 || x >= largE) {
+							td.dados.preencher(idLin + n * canais, canais, 0);
+						} else {
+							te.dados.copiar(idE + x * canais, td.dados, idLin + n * canais, canais);
+						}
+					}
+				}
+			}
+		}
+
+		if (td != dest) dest.copiar(td);
+	}
+
+	/**
+	 * Operação inversa do {@code im2colCanaisUltimo()}, acumula os valores de
+	 * cada linha nas posições correspondentes do tensor de destino.
+	 * @param col {@code Tensor} com formato {@code (altSaida * largSaida, altK * largK * canais)}.
+	 * @param altK altura do kernel.
+	 * @param largK largura do kernel.
+	 * @param dest {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 */
+	public void col2imCanaisUltimo(Tensor col, int altK, int largK, Tensor dest) {
+		col2imCanaisUltimo(col, altK, largK, STRIDE_PADRAO, PADDING_PADRAO, DILATACAO_PADRAO, dest);
+	}
+
+	/**
+	 * Operação inversa do {@code im2colCanaisUltimo()} com strides, padding e
+	 * dilatação, acumula os valores de cada linha nas posições correspondentes
+	 * do tensor de destino. Valores de posições do padding são descartados.
+	 * @param col {@code Tensor} com formato {@code (altSaida * largSaida, altK * largK * canais)}.
+	 * @param altK altura do kernel.
+	 * @param largK largura do kernel.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 * @param dest {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 */
+	public void col2imCanaisUltimo(Tensor col, int altK, int largK, int[] stride, int[] padding, int[] dilatacao, Tensor dest) {
+		if (col.numDim() != 2 || dest.numDim() != 3) {
+			throw new IllegalArgumentException(
+				"\nAs colunas devem ter duas dimensões e o destino três, recebido " +
+				col.shapeStr() + " e " + dest.shapeStr()
+			);
+		}
+
+		validarConfigConv(stride, padding, dilatacao);
+
+		int[] shapeD = dest.shape();
+		final int altD = shapeD[0];
+		final int largD = shapeD[1];
+		final int canais = shapeD[2];
+		final int altS = tamSaidaConv(altD, altK, stride[0], padding[0], dilatacao[0]);
+		final int largS = tamSaidaConv(largD, largK, stride[1], padding[1], dilatacao[1]);
+		final int tamLinha = largK * canais;
+		final int tamJanela = altK * tamLinha;
+
+		if (!col.compararShape(new int[]{ altS * largS, tamJanela })) {
+			throw new IllegalArgumentException(
+				"\nDimensão das colunas esperada (" + (altS * largS) + ", " + tamJanela +
+				"), mas recebido " + col.shapeStr()
+			);
+		}
+
+		Tensor tc = col.paraDtype(dest.dtype()).materializar();
+		Tensor td = dest.materializar();
+		final int linD = largD * canais;
+
+		for (int i = 0; i < altS; i++) {
+			for (int j = 0; j < largS; j++) {
+				final int idCol = tc.offset + (i * largS + j) * tamJanela;
+				final int x0 = j * stride[1] - padding[1];
+				final boolean linhaInteira = dilatacao[1] == 1 && x0 >= 0 && x0 + largK <= largD;
+
+				for (int m = 0; m < altK; m++) {
+					final int y = i * stride[0] - padding[0] + m * dilatacao[0];
+					if (y < 0 || y >= altD) continue;
+
+					final int idLin = idCol + m * tamLinha;
+					final int idD = td.offset + y * linD;
+					if (linhaInteira) {
+						td.dados.add(idD + x0 * canais, tc.dados, idLin, tamLinha);
+						continue;
+					}
+
+					for (int n = 0; n < largK; n++) {
+						final int x = x0 + n * dilatacao[1];
+						if (x >= 0 && x < largD) {
+							td.dados.add(idD + x * canais, tc.dados, idLin + n * canais, canais);
+						}
+					}
+				}
+			}
+		}
+
+		if (td != dest) dest.copiar(td);
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional com canais
+	 * por último, usando {@code im2colCanaisUltimo} e multiplicação de matrizes.
+	 * <p>
+	 *		As janelas da entrada {@code (altura, largura, canais)} são
+	 *		reorganizadas em uma matriz {@code (altSaida * largSaida, altK * largK * canais)}
+	 *		e multiplicadas pelos filtros reordenados para
+	 *		{@code (filtros, altK * largK * canais)}, o resultado já tem o formato
+	 *		{@code (altSaida, largSaida, filtros)} da saída.
+	 * </p>
+	 * <p>
+	 *		O kernel mantém o formato {@code (filtros, canais, altK, largK)}. O
+	 *		resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino com formato {@code (altSaida, largSaida, filtros)}.
+	 */
+	public void conv2DForwardCanaisUltimo(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida) {
+		conv2DForwardCanaisUltimo(entrada, kernel, bias, saida, STRIDE_PADRAO, PADDING_PADRAO, DILATACAO_PADRAO);
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional com canais
+	 * por último, considerando strides, padding com zeros e dilatação do kernel.
+	 * <p>
+	 *		Apenas as posições mantidas na saída são calculadas. O resultado é
+	 *		acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino com formato {@code (altSaida, largSaida, filtros)}.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 */
+	public void conv2DForwardCanaisUltimo(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida,
+		int[] stride, int[] padding, int[] dilatacao) {
+		conv2DForwardCanaisUltimo(entrada, kernel, bias, saida, stride, padding, dilatacao, null);
+	}
+
+	/**
+	 * Propagação direta com canais por último, com a função de ativação
+	 * opcional aplicada no epílogo da multiplicação de matrizes.
+	 * <p>
+	 *		Sem ativação o resultado é acumulado no tensor de saída, com ativação
+	 *		ele sobrescreve a saída.
+	 * </p>
+	 */
+	private void conv2DForwardCanaisUltimo(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida,
+		int[] stride, int[] padding, int[] dilatacao, DoubleUnaryOperator fx) {
+		validarConfigConv(stride, padding, dilatacao);
+
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = saida.shape();
+
+		final int filtros = shapeK[0];
+		final int canais = shapeK[1];
+		final int altK = shapeK[2];
+		final int largK = shapeK[3];
+		final int altS = shapeS[0];
+		final int largS = shapeS[1];
+		if (shapeE[2] != canais || shapeS[2] != filtros ||
+			tamSaidaConv(shapeE[0], altK, stride[0], padding[0], dilatacao[0]) != altS ||
+			tamSaidaConv(shapeE[1], largK, stride[1], padding[1], dilatacao[1]) != largS) {
+			throw new IllegalArgumentException(
+				"\nDimensões de entrada " + entrada.shapeStr() + " e saída " +
+				saida.shapeStr() + " incompatíveis com o kernel " + kernel.shapeStr()
+			);
+		}
+
+		Tensor ts = saida.materializar();
+		final Dtype dtype = ts.dtype();
+		final int tamJanela = altK * largK * canais;
+		final int tamS = altS * largS;
+
+		Tensor col = PoolTensor.pegar(dtype, tamS, tamJanela);
+		Tensor kt = PoolTensor.pegar(dtype, filtros, tamJanela);
+		Tensor res = PoolTensor.pegar(dtype, tamS, filtros);
+
+		im2colCanaisUltimo(entrada, altK, largK, stride, padding, dilatacao, col);
+		kernelCanaisUltimo(kernel, kt);
+		matMultTransB(col, kt, res);
+
+		if (fx != null) {
+			epilogoConv(ts, res, bias, fx, filtros, tamS, true);
+			PoolTensor.devolver(col, kt, res);
+
+		} else {
+			ts.dados.add(ts.offset, res.dados, 0, tamS * filtros);
+			PoolTensor.devolver(col, kt, res);
+
+			if (bias != null) {
+				// bias (filtros) expandido para (altura, largura, filtros)
+				ts.add(bias.view(1, 1, filtros));
+			}
+		}
+
+		if (ts != saida) saida.copiar(ts);
+	}
+
+	/**
+	 * Realiza a propagação reversa através da camada convolucional com canais
+	 * por último, usando {@code im2colCanaisUltimo}/{@code col2imCanaisUltimo}
+	 * e multiplicação de matrizes.
+	 * <p>
+	 *		Com o gradiente de saída visto como {@code G (altSaida * largSaida, filtros)},
+	 *		a entrada reorganizada em linhas {@code X} e os filtros reordenados
+	 *		como {@code K (filtros, altK * largK * canais)}:
+	 * </p>
+	 * <pre>
+	 *gradK += Gᵀ * X
+	 *gradE += col2im(G * K)
+	 * </pre>
+	 * <p>
+	 *		O kernel e seu gradiente mantêm o formato {@code (filtros, canais, altK, largK)}.
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param gradS {@code Tensor} com formato {@code (altSaida, largSaida, filtros)}.
+	 * @param gradK {@code Tensor} contendo o gradiente em relação ao kernel/filtros da camada.
+	 * @param gradB {@code Tensor} contendo o gradiente em relação ao bias da camada {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 */
+	public void conv2DBackwardCanaisUltimo(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE) {
+		conv2DBackwardCanaisUltimo(
+			entrada, kernel, gradS, gradK, gradB, gradE, STRIDE_PADRAO, PADDING_PADRAO, DILATACAO_PADRAO
+		);
+	}
+
+	/**
+	 * Realiza a propagação reversa através da camada convolucional com canais
+	 * por último, considerando strides, padding com zeros e dilatação do kernel.
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino, posições do
+	 *		padding não geram gradiente de entrada.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param gradS {@code Tensor} com formato {@code (altSaida, largSaida, filtros)}.
+	 * @param gradK {@code Tensor} contendo o gradiente em relação ao kernel/filtros da camada.
+	 * @param gradB {@code Tensor} contendo o gradiente em relação ao bias da camada {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 */
+	public void conv2DBackwardCanaisUltimo(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE,
+		int[] stride, int[] padding, int[] dilatacao) {
+		int[] shapeK = kernel.shape();
+		int[] shapeS = gradS.shape();
+
+		final int filtros = shapeK[0];
+		final int canais = shapeK[1];
+		final int altK = shapeK[2];
+		final int largK = shapeK[3];
+		final int tamS = shapeS[0] * shapeS[1];
+		final int tamJanela = altK * largK * canais;
+
+		final Tensor tgk = gradK.materializar();
+		final Dtype dtype = tgk.dtype();
+		final Tensor ts = gradS.paraDtype(dtype).materializar().view(tamS, filtros);
+
+		Tensor col = PoolTensor.pegar(dtype, tamS, tamJanela);
+		Tensor temp = PoolTensor.pegar(dtype, filtros, tamJanela);
+
+		// gradiente em relação aos kernels
+		im2colCanaisUltimo(entrada, altK, largK, stride, padding, dilatacao, col);
+		matMultTransA(ts, col, temp);
+		for (int f = 0; f < filtros; f++) {
+			for (int c = 0; c < canais; c++) {
+				for (int p = 0; p < altK * largK; p++) {
+					final int idK = tgk.offset + (f*canais + c)*altK*largK + p;
+					tgk.dados.add(idK, temp.dados.get(f*tamJanela + p*canais + c));
+				}
+			}
+		}
+
+		// gradiente em relação as entradas (col é reaproveitado)
+		kernelCanaisUltimo(kernel, temp);
+		matMult(ts, temp, col);
+		col2imCanaisUltimo(col, altK, largK, stride, padding, dilatacao, gradE);
+
+		PoolTensor.devolver(col, temp);
+
+		// gradiente em relação aos bias
+		if (gradB != null) {
+			for (int f = 0; f < filtros; f++) {
+				double soma = 0;
+				for (int p = 0; p < tamS; p++) {
+					soma += ts.dados.get(ts.offset + p*filtros + f);
+				}
+				gradB.add(soma, f);
+			}
+		}
+
+		if (tgk != gradK) gradK.copiar(tgk);
+	}
+
+	/**
+	 * Reordena os filtros {@code (filtros, canais, altK, largK)} para o
+	 * destino contíguo {@code (filtros, altK * largK * canais)}, na mesma ordem
+	 * das linhas geradas por {@code im2colCanaisUltimo()}.
+	 */
+	private static void kernelCanaisUltimo(Tensor kernel, Tensor dest) {
+		int[] shapeK = kernel.shape();
+		final int filtros = shapeK[0];
+		final int canais = shapeK[1];
+		final int tamK = shapeK[2] * shapeK[3];
+
+		Tensor tk = kernel.paraDtype(dest.dtype()).materializar();
+		for (int f = 0; f < filtros; f++) {
+			for (int c = 0; c < canais; c++) {
+				final int idK = tk.offset + (f*canais + c)*tamK;
+				final int idD = dest.offset + f*tamK*canais + c;
+				for (int p = 0; p < tamK; p++) {
+					dest.dados.set(idD + p*canais, tk.dados.get(idK + p));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional usando o
+	 * algoritmo informado.
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino do resultado.
+	 * @param algoritmo algoritmo de convolução, caso nulo o algoritmo é escolhido
+	 * automaticamente.
+	 */
+	public void conv2DForward(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida, AlgoritmoConv algoritmo) {
+		if (algoritmo == null) {
+			conv2DForward(entrada, kernel, bias, saida);
+			return;
+		}
+
+		// apenas o im2col opera diretamente sobre tensores fora da heap
+		if (foraDaHeap(entrada, kernel, bias, saida)) algoritmo = AlgoritmoConv.IM2COL;
+
+		switch (algoritmo) {
+			case DIRETO -> conv2DForwardDireto(entrada, kernel, bias, saida);
+			case DIRETO_BLOCADO -> conv2DForwardBlocado(entrada, kernel, bias, saida);
+			case IM2COL -> conv2DForwardIm2col(entrada, kernel, bias, saida);
+			case WINOGRAD -> conv2DForwardWinograd(entrada, kernel, bias, saida);
+			case FFT -> conv2DForwardFFT(entrada, kernel, bias, saida);
+		}
+	}
+
+	/**
+	 * Realiza a propagação reversa através da camada convolucional usando o
+	 * algoritmo informado.
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param gradS {@code Tensor} contendo o gradiente em relação a saída da camada.
+	 * @param gradK {@code Tensor} contendo o gradiente em relação ao kernel/filtros da camada.
+	 * @param gradB {@code Tensor} contendo o gradiente em relação ao bias da camada {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} contendo o gradiente em relação à entrada da camada.
+	 * @param algoritmo algoritmo de convolução, caso nulo o algoritmo é escolhido
+	 * automaticamente.
+	 */
+	public void conv2DBackward(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE, AlgoritmoConv algoritmo) {
+		if (algoritmo == null) {
+			conv2DBackward(entrada, kernel, gradS, gradK, gradB, gradE);
+			return;
+		}
+
+		// apenas o im2col opera diretamente sobre tensores fora da heap
+		if (foraDaHeap(entrada, kernel, gradS, gradK, gradB, gradE)) algoritmo = AlgoritmoConv.IM2COL;
+
+		switch (algoritmo) {
+			case DIRETO -> conv2DBackwardDireto(entrada, kernel, gradS, gradK, gradB, gradE);
+			case DIRETO_BLOCADO -> conv2DBackwardBlocado(entrada, kernel, gradS, gradK, gradB, gradE);
+			case IM2COL -> conv2DBackwardIm2col(entrada, kernel, gradS, gradK, gradB, gradE);
+			case WINOGRAD -> conv2DBackwardWinograd(entrada, kernel, gradS, gradK, gradB, gradE);
+			case FFT -> conv2DBackwardFFT(entrada, kernel, gradS, gradK, gradB, gradE);
+		}
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional com
+	 * strides, padding com zeros e dilatação do kernel.
+	 * <p>
+	 *		Na configuração padrão (stride 1, sem padding e sem dilatação) o
+	 *		algoritmo informado é usado, nas demais a convolução é calculada por
+	 *		{@code im2col}, gerando apenas as posições mantidas na saída.
+	 * </p>
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino do resultado.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 * @param algoritmo algoritmo de convolução, caso nulo o algoritmo é escolhido
+	 * automaticamente.
+	 */
+	public void conv2DForward(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida,
+		int[] stride, int[] padding, int[] dilatacao, AlgoritmoConv algoritmo) {
+		validarConfigConv(stride, padding, dilatacao);
+
+		if (convPadrao(stride, padding, dilatacao)) {
+			conv2DForward(entrada, kernel, bias, saida, algoritmo);
+		} else {
+			conv2DForwardIm2col(entrada, kernel, bias, saida, stride, padding, dilatacao);
+		}
+	}
+
+	/**
+	 * Realiza a propagação reversa através da camada convolucional com
+	 * strides, padding com zeros e dilatação do kernel.
+	 * <p>
+	 *		Na configuração padrão (stride 1, sem padding e sem dilatação) o
+	 *		algoritmo informado é usado, nas demais os gradientes são calculados
+	 *		por {@code im2col}/{@code col2im}.
+	 * </p>
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param gradS {@code Tensor} contendo o gradiente em relação a saída da camada.
+	 * @param gradK {@code Tensor} contendo o gradiente em relação ao kernel/filtros da camada.
+	 * @param gradB {@code Tensor} contendo o gradiente em relação ao bias da camada {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} contendo o gradiente em relação à entrada da camada.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 * @param algoritmo algoritmo de convolução, caso nulo o algoritmo é escolhido
+	 * automaticamente.
+	 */
+	public void conv2DBackward(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE,
+		int[] stride, int[] padding, int[] dilatacao, AlgoritmoConv algoritmo) {
+		validarConfigConv(stride, padding, dilatacao);
+
+		if (convPadrao(stride, padding, dilatacao)) {
+			conv2DBackward(entrada, kernel, gradS, gradK, gradB, gradE, algoritmo);
+		} else {
+			conv2DBackwardIm2col(entrada, kernel, gradS, gradK, gradB, gradE, stride, padding, dilatacao);
+		}
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional com o bias
+	 * e a função de ativação aplicados no epílogo da convolução.
+	 * <pre>
+	 *saida = fx(correlacaoCruzada(entrada, kernel) + bias)
+	 * </pre>
+	 * <p>
+	 *		Cada elemento da saída é escrito uma única vez, sem o somatório
+	 *		intermediário e sem as passagens separadas do bias e da ativação.
+	 *		Cada algoritmo aplica o bias e a ativação onde o resultado é escrito
+	 *		por último: no epílogo da multiplicação de matrizes ({@code im2col}),
+	 *		na transformação de saída de cada bloco (Winograd), na FFT inversa
+	 *		de cada filtro (FFT), após o último canal de cada filtro (direto) e
+	 *		após o último bloco de canais de cada linha (direto em blocos).
+	 * </p>
+	 * <p>
+	 *		A função deve ser aplicada elemento a elemento e ser pura (sem
+	 *		estado), já que a saída é dividida entre as threads do
+	 *		{@code PoolCalculo}.
+	 * </p>
+	 * <p>
+	 *		O resultado sobrescreve o conteúdo do tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino do resultado.
+	 * @param fx função de ativação.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 * @param algoritmo algoritmo de convolução, caso nulo o algoritmo é escolhido
+	 * automaticamente.
+	 */
+	public void conv2DForwardAtivacao(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida, DoubleUnaryOperator fx,
+		int[] stride, int[] padding, int[] dilatacao, AlgoritmoConv algoritmo) {
+		validarConfigConv(stride, padding, dilatacao);
+
+		if (fx == null) {
+			throw new IllegalArgumentException(
+				"\nFunção de ativação não pode ser nula."
+			);
+		}
+
+		if (!convPadrao(stride, padding, dilatacao)) {
+			conv2DForwardIm2col(entrada, kernel, bias, saida, stride, padding, dilatacao, fx);
+			return;
+		}
+
+		if (algoritmo == null) algoritmo = algoritmoPadrao(entrada, kernel);
+
+		// apenas o im2col opera diretamente sobre tensores fora da heap
+		if (foraDaHeap(entrada, kernel, bias, saida)) algoritmo = AlgoritmoConv.IM2COL;
+
+		switch (algoritmo) {
+			case DIRETO -> conv2DForwardDireto(entrada, kernel, bias, saida, fx);
+			case DIRETO_BLOCADO -> conv2DForwardBlocado(entrada, kernel, bias, saida, fx);
+			case IM2COL -> conv2DForwardIm2col(entrada, kernel, bias, saida, stride, padding, dilatacao, fx);
+			case WINOGRAD -> conv2DForwardWinograd(entrada, kernel, bias, saida, fx);
+			case FFT -> conv2DForwardFFT(entrada, kernel, bias, saida, fx);
+		}
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional com canais
+	 * por último, com o bias e a função de ativação aplicados no epílogo da
+	 * multiplicação de matrizes.
+	 * <pre>
+	 *saida = fx(correlacaoCruzada(entrada, kernel) + bias)
+	 * </pre>
+	 * <p>
+	 *		O resultado sobrescreve o conteúdo do tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 * @param kernel {@code Tensor} com formato {@code (filtros, canais, altK, largK)}.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino com formato {@code (altSaida, largSaida, filtros)}.
+	 * @param fx função de ativação.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 */
+	public void conv2DForwardAtivacaoCanaisUltimo(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida,
+		DoubleUnaryOperator fx, int[] stride, int[] padding, int[] dilatacao) {
+		if (fx == null) {
+			throw new IllegalArgumentException(
+				"\nFunção de ativação não pode ser nula."
+			);
+		}
+
+		conv2DForwardCanaisUltimo(entrada, kernel, bias, saida, stride, padding, dilatacao, fx);
+	}
+
+	/**
+	 * Epílogo da convolução, soma o bias de cada filtro e aplica a função
+	 * de ativação em uma única passagem.
+	 * <pre>
+	 *saida[f][p] = fx(res[f][p] + bias[f])
+	 * </pre>
+	 * @param ts {@code Tensor} de saída, contíguo.
+	 * @param res resultado da multiplicação de matrizes.
+	 * @param bias {@code Tensor} contendo o bias {@code (podendo ser nulo)}.
+	 * @param fx função de ativação.
+	 * @param filtros quantidade de filtros.
+	 * @param tam tamanho espacial (altura * largura) da saída.
+	 * @param canaisUltimo se os filtros estão na última dimensão da saída.
+	 */
+	private static void epilogoConv(Tensor ts, Tensor res, Tensor bias, DoubleUnaryOperator fx,
+		int filtros, int tam, boolean canaisUltimo) {
+		final Dtype dtype = ts.dtype();
+		final Tensor tb = bias == null ? null : bias.paraDtype(dtype).materializar();
+		final Tensor tr = res;
+		final int linhas = canaisUltimo ? tam : filtros;
+		final boolean foraDaHeap = foraDaHeap(ts, tb);
+
+		dividirFiltros(linhas, (long) filtros * tam, (ini, fim) -> {
+			if (foraDaHeap) {
+				// direto no armazenamento, com a mesma precisão dos arrays
+				final boolean f32 = dtype == Dtype.FLOAT32;
+				for (int l = ini; l < fim; l++) {
+					for (int k = 0; k < (canaisUltimo ? filtros : tam); k++) {
+						final int f = canaisUltimo ? k : l;
+						final int id = canaisUltimo ? l * filtros + k : l * tam + k;
+						double v = tr.dados.get(tr.offset + id);
+						if (tb != null) v = f32 ? (float) v + (float) tb.dados.get(tb.offset + f) : v + tb.dados.get(tb.offset + f);
+						ts.dados.set(ts.offset + id, fx.applyAsDouble(f32 ? (float) v : v));
+					}
+				}
+			} else if (dtype == Dtype.FLOAT32) {
+				epilogoConv(
+					arrFloat(ts), ts.offset, arrFloat(tr), tr.offset,
+					tb == null ? null : arrFloat(tb), tb == null ? 0 : tb.offset,
+					fx, ini, fim, filtros, tam, canaisUltimo
+				);
+			} else {
+				epilogoConv(
+					arrDouble(ts), ts.offset, arrDouble(tr), tr.offset,
+					tb == null ? null : arrDouble(tb), tb == null ? 0 : tb.offset,
+					fx, ini, fim, filtros, tam, canaisUltimo
+				);
+			}
+		});
+	}
+
+	/**
+	 * Epílogo da convolução de um único filtro, escrevendo o resultado
+	 * acumulado nos canais na saída do filtro {@code f}.
+	 * <pre>
+	 *saida[f][p] = fx(res[p] + bias[f])
+	 * </pre>
+	 * @param ts {@code Tensor} de saída, contíguo na heap.
+	 * @param res resultado acumulado do filtro, com {@code tam} elementos.
+	 * @param tb {@code Tensor} contendo o bias, contíguo e no mesmo tipo da saída {@code (podendo ser nulo)}.
+	 * @param fx função de ativação.
+	 * @param f índice do filtro.
+	 * @param tam tamanho espacial (altura * largura) da saída.
+	 */
+	private static void epilogoConv(Tensor ts, Tensor res, Tensor tb, DoubleUnaryOperator fx, int f, int tam) {
+		final int offS = ts.offset + f*tam;
+		final int offB = tb == null ? 0 : tb.offset + f;
+
+		if (ts.dtype() == Dtype.FLOAT32) {
+			epilogoConv(
+				arrFloat(ts), offS, arrFloat(res), res.offset,
+				tb == null ? null : arrFloat(tb), offB, fx, 0, 1, 1, tam, false
+			);
+		} else {
+			epilogoConv(
+				arrDouble(ts), offS, arrDouble(res), res.offset,
+				tb == null ? null : arrDouble(tb), offB, fx, 0, 1, 1, tam, false
+			);
+		}
+	}
+
+	/**
+	 * Epílogo da convolução sobre arrays {@code double[]}, processando as
+	 * linhas {@code [ini, fim)} (filtros, ou posições com canais por último).
+	 */
+	private static void epilogoConv(double[] dataS, int offS, double[] dataR, int offR, double[] dataB, int offB,
+		DoubleUnaryOperator fx, int ini, int fim, int filtros, int tam, boolean canaisUltimo) {
+		if (canaisUltimo) {
+			for (int p = ini; p < fim; p++) {
+				final int id = p * filtros;
+				for (int f = 0; f < filtros; f++) {
+					double b = dataB == null ? 0 : dataB[offB + f];
+					dataS[offS + id + f] = fx.applyAsDouble(dataR[offR + id + f] + b);
+				}
+			}
+		} else {
+			for (int f = ini; f < fim; f++) {
+				final double b = dataB == null ? 0 : dataB[offB + f];
+				final int id = f * tam;
+				for (int p = 0; p < tam; p++) {
+					dataS[offS + id + p] = fx.applyAsDouble(dataR[offR + id + p] + b);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Epílogo da convolução sobre arrays {@code float[]}, processando as
+	 * linhas {@code [ini, fim)} (filtros, ou posições com canais por último).
+	 */
+	private static void epilogoConv(float[] dataS, int offS, float[] dataR, int offR, float[] dataB, int offB,
+		DoubleUnaryOperator fx, int ini, int fim, int filtros, int tam, boolean canaisUltimo) {
+		if (canaisUltimo) {
+			for (int p = ini; p < fim; p++) {
+				final int id = p * filtros;
+				for (int f = 0; f < filtros; f++) {
+					float b = dataB == null ? 0 : dataB[offB + f];
+					dataS[offS + id + f] = (float) fx.applyAsDouble(dataR[offR + id + f] + b);
+				}
+			}
+		} else {
+			for (int f = ini; f < fim; f++) {
+				final float b = dataB == null ? 0 : dataB[offB + f];
+				final int id = f * tam;
+				for (int p = 0; p < tam; p++) {
+					dataS[offS + id + p] = (float) fx.applyAsDouble(dataR[offR + id + p] + b);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Realiza a propagação direta da convolução em profundidade (depthwise),
+	 * onde cada canal da entrada é correlacionado apenas com o seu próprio
+	 * filtro.
+	 * <pre>
+	 *saida[c][i][j] += bias[c] + soma(entrada[c][i*sA - pA + m*dA][j*sL - pL + n*dL] * kernel[c][m][n])
+	 * </pre>
+	 * <p>
+	 *		Cada canal custa {@code altK * largK} multiplicações por posição de
+	 *		saída, enquanto a convolução completa custa {@code canais * altK * largK}.
+	 *		Os canais são divididos entre as threads do {@code PoolCalculo}.
+	 * </p>
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 * @param kernel {@code Tensor} com formato {@code (canais, altK, largK)}.
+	 * @param bias {@code Tensor} com formato {@code (canais)} {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino com formato {@code (canais, altSaida, largSaida)}.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 */
+	public void conv2DForwardDepthwise(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida,
+		int[] stride, int[] padding, int[] dilatacao) {
+		validarDepthwise(entrada, kernel, saida, stride, padding, dilatacao);
+
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = saida.shape();
+		final int canais = shapeE[0];
+		final int altE = shapeE[1];
+		final int largE = shapeE[2];
+		final int altK = shapeK[1];
+		final int largK = shapeK[2];
+		final int altS = shapeS[1];
+		final int largS = shapeS[2];
+
+		Tensor ts = saida.emHeap();
+		final Dtype dtype = ts.dtype();
+		Tensor te = entrada.paraDtype(dtype).emHeap();
+		Tensor tk = kernel.paraDtype(dtype).emHeap();
+		final boolean f32 = dtype == Dtype.FLOAT32;
+
+		final long operacoes = (long) canais * altS * largS * altK * largK;
+		dividirFiltros(canais, operacoes, (ini, fim) -> {
+			for (int c = ini; c < fim; c++) {
+				final int offE = te.offset + c * altE * largE;
+				final int offK = tk.offset + c * altK * largK;
+				final int offS = ts.offset + c * altS * largS;
+				if (f32) {
+					depthwise(
+						arrFloat(te), offE, arrFloat(tk), offK, arrFloat(ts), offS,
+						altE, largE, altK, largK, altS, largS, stride, padding, dilatacao
+					);
+				} else {
+					depthwise(
+						arrDouble(te), offE, arrDouble(tk), offK, arrDouble(ts), offS,
+						altE, largE, altK, largK, altS, largS, stride, padding, dilatacao
+					);
+				}
+			}
+		});
+
+		if (bias != null) {
+			// bias (canais) expandido para (canais, altura, largura)
+			ts.add(bias.view(canais, 1, 1));
+		}
+
+		if (ts != saida) saida.copiar(ts);
+	}
+
+	/**
+	 * Realiza a propagação reversa da convolução em profundidade (depthwise).
+	 * <pre>
+	 *gradK[c][m][n] += soma(gradS[c][i][j] * entrada[c][y][x])
+	 *gradE[c][y][x] += soma(gradS[c][i][j] * kernel[c][m][n])
+	 * </pre>
+	 * Com {@code y = i*sA - pA + m*dA} e {@code x = j*sL - pL + n*dL}.
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 * @param kernel {@code Tensor} com formato {@code (canais, altK, largK)}.
+	 * @param gradS {@code Tensor} com formato {@code (canais, altSaida, largSaida)}.
+	 * @param gradK {@code Tensor} com formato {@code (canais, altK, largK)}.
+	 * @param gradB {@code Tensor} com formato {@code (canais)} {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 */
+	public void conv2DBackwardDepthwise(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE,
+		int[] stride, int[] padding, int[] dilatacao) {
+		validarDepthwise(entrada, kernel, gradS, stride, padding, dilatacao);
+
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = gradS.shape();
+		final int canais = shapeE[0];
+		final int altE = shapeE[1];
+		final int largE = shapeE[2];
+		final int altK = shapeK[1];
+		final int largK = shapeK[2];
+		final int altS = shapeS[1];
+		final int largS = shapeS[2];
+
+		Tensor tgk = gradK.emHeap();
+		Tensor tge = gradE.emHeap();
+		final Dtype dtype = tgk.dtype();
+		Tensor te = entrada.paraDtype(dtype).emHeap();
+		Tensor tk = kernel.paraDtype(dtype).emHeap();
+		Tensor ts = gradS.paraDtype(dtype).emHeap();
+		final boolean f32 = dtype == Dtype.FLOAT32;
+
+		final long operacoes = 2L * canais * altS * largS * altK * largK;
+		dividirFiltros(canais, operacoes, (ini, fim) -> {
+			for (int c = ini; c < fim; c++) {
+				final int offE = te.offset + c * altE * largE;
+				final int offK = tk.offset + c * altK * largK;
+				final int offS = ts.offset + c * altS * largS;
+				final int offGK = tgk.offset + c * altK * largK;
+				final int offGE = tge.offset + c * altE * largE;
+				if (f32) {
+					depthwiseGrad(
+						arrFloat(te), offE, arrFloat(tk), offK, arrFloat(ts), offS,
+						arrFloat(tgk), offGK, arrFloat(tge), offGE,
+						altE, largE, altK, largK, altS, largS, stride, padding, dilatacao
+					);
+				} else {
+					depthwiseGrad(
+						arrDouble(te), offE, arrDouble(tk), offK, arrDouble(ts), offS,
+						arrDouble(tgk), offGK, arrDouble(tge), offGE,
+						altE, largE, altK, largK, altS, largS, stride, padding, dilatacao
+					);
+				}
+			}
+		});
+
+		// gradiente em relação aos bias
+		if (gradB != null) {
+			final int tamS = altS * largS;
+			for (int c = 0; c < canais; c++) {
+				gradB.add(ts.dados.soma(ts.offset + c*tamS, tamS), c);
+			}
+		}
+
+		if (tgk != gradK) gradK.copiar(tgk);
+		if (tge != gradE) gradE.copiar(tge);
+	}
+
+	/**
+	 * Valida os formatos da convolução em profundidade.
+	 */
+	private static void validarDepthwise(Tensor entrada, Tensor kernel, Tensor saida,
+		int[] stride, int[] padding, int[] dilatacao) {
+		validarConfigConv(stride, padding, dilatacao);
+
+		if (entrada.numDim() != 3 || kernel.numDim() != 3 || saida.numDim() != 3) {
+			throw new IllegalArgumentException(
+				"\nEntrada, kernel e saída devem ter três dimensões, recebido " +
+				entrada.shapeStr() + ", " + kernel.shapeStr() + " e " + saida.shapeStr()
+			);
+		}
+
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = saida.shape();
+		if (shapeK[0] != shapeE[0] || shapeS[0] != shapeE[0] ||
+			tamSaidaConv(shapeE[1], shapeK[1], stride[0], padding[0], dilatacao[0]) != shapeS[1] ||
+			tamSaidaConv(shapeE[2], shapeK[2], stride[1], padding[1], dilatacao[1]) != shapeS[2]) {
+			throw new IllegalArgumentException(
+				"\nDimensões de entrada " + entrada.shapeStr() + " e saída " +
+				saida.shapeStr() + " incompatíveis com o kernel " + kernel.shapeStr()
+			);
+		}
+	}
+
+	/**
+	 * Correlação cruzada de um canal da convolução em profundidade sobre
+	 * arrays {@code double[]}, acumulada na saída.
+	 * <p>
+	 *		Cada elemento do kernel é aplicado a uma linha inteira da saída,
+	 *		percorrendo apenas o trecho que cai dentro da entrada.
+	 * </p>
+	 */
+	private static void depthwise(double[] dataE, int offE, double[] dataK, int offK, double[] dataS, int offS,
+		int altE, int largE, int altK, int largK, int altS, int largS, int[] stride, int[] padding, int[] dilatacao) {
+		final int sL = stride[1];
+		for (int i = 0; i < altS; i++) {
+			final int idS = offS + i * largS;
+			for (int m = 0; m < altK; m++) {
+				final int y = i * stride[0] - padding[0] + m * dilatacao[0];
+				if (y < 0 || y >= altE) continue;
+
+				for (int n = 0; n < largK; n++) {
+					final int x0 = n * dilatacao[1] - padding[1];
+					final int jIni = inicioValido(x0, sL);
+					final int jFim = fimValido(x0, sL, largE, largS);
+					final double k = dataK[offK + m * largK + n];
+					final int idE = offE + y * largE + x0;
+					for (int j = jIni; j < jFim; j++) {
+						dataS[idS + j] += k * dataE[idE + j * sL];
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Correlação cruzada de um canal da convolução em profundidade sobre
+	 * arrays {@code float[]}, acumulada na saída.
+	 */
+	private static void depthwise(float[] dataE, int offE, float[] dataK, int offK, float[] dataS, int offS,
+		int altE, int largE, int altK, int largK, int altS, int largS, int[] stride, int[] padding, int[] dilatacao) {
+		final int sL = stride[1];
+		for (int i = 0; i < altS; i++) {
+			final int idS = offS + i * largS;
+			for (int m = 0; m < altK; m++) {
+				final int y = i * stride[0] - padding[0] + m * dilatacao[0];
+				if (y < 0 || y >= altE) continue;
+
+				for (int n = 0; n < largK; n++) {
+					final int x0 = n * dilatacao[1] - padding[1];
+					final int jIni = inicioValido(x0, sL);
+					final int jFim = fimValido(x0, sL, largE, largS);
+					final float k = dataK[offK + m * largK + n];
+					final int idE = offE + y * largE + x0;
+					for (int j = jIni; j < jFim; j++) {
+						dataS[idS + j] += k * dataE[idE + j * sL];
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gradientes de um canal da convolução em profundidade sobre arrays
+	 * {@code double[]}, acumulados nos destinos.
+	 */
+	private static void depthwiseGrad(double[] dataE, int offE, double[] dataK, int offK, double[] dataS, int offS,
+		double[] dataGK, int offGK, double[] dataGE, int offGE,
+		int altE, int largE, int altK, int largK, int altS, int largS, int[] stride, int[] padding, int[] dilatacao) {
+		final int sL = stride[1];
+		for (int m = 0; m < altK; m++) {
+			for (int n = 0; n < largK; n++) {
+				final int x0 = n * dilatacao[1] - padding[1];
+				final int jIni = inicioValido(x0, sL);
+				final int jFim = fimValido(x0, sL, largE, largS);
+				final double k = dataK[offK + m * largK + n];
+
+				double somaK = 0;
+				for (int i = 0; i < altS; i++) {
+					final int y = i * stride[0] - padding[0] + m * dilatacao[0];
+					if (y < 0 || y >= altE) continue;
+
+					final int idS = offS + i * largS;
+					final int idE = y * largE + x0;
+					for (int j = jIni; j < jFim; j++) {
+						final double g = dataS[idS + j];
+						somaK += g * dataE[offE + idE + j * sL];
+						dataGE[offGE + idE + j * sL] += g * k;
+					}
+				}
+
+				dataGK[offGK + m * largK + n] += somaK;
+			}
+		}
+	}
+
+	/**
+	 * Gradientes de um canal da convolução em profundidade sobre arrays
+	 * {@code float[]}, acumulados nos destinos.
+	 */
+	private static void depthwiseGrad(float[] dataE, int offE, float[] dataK, int offK, float[] dataS, int offS,
+		float[] dataGK, int offGK, float[] dataGE, int offGE,
+		int altE, int largE, int altK, int largK, int altS, int largS, int[] stride, int[] padding, int[] dilatacao) {
+		final int sL = stride[1];
+		for (int m = 0; m < altK; m++) {
+			for (int n = 0; n < largK; n++) {
+				final int x0 = n * dilatacao[1] - padding[1];
+				final int jIni = inicioValido(x0, sL);
+				final int jFim = fimValido(x0, sL, largE, largS);
+				final float k = dataK[offK + m * largK + n];
+
+				float somaK = 0;
+				for (int i = 0; i < altS; i++) {
+					final int y = i * stride[0] - padding[0] + m * dilatacao[0];
+					if (y < 0 || y >= altE) continue;
+
+					final int idS = offS + i * largS;
+					final int idE = y * largE + x0;
+					for (int j = jIni; j < jFim; j++) {
+						final float g = dataS[idS + j];
+						somaK += g * dataE[offE + idE + j * sL];
+						dataGE[offGE + idE + j * sL] += g * k;
+					}
+				}
+
+				dataGK[offGK + m * largK + n] += somaK;
+			}
+		}
+	}
+
+	/**
+	 * Realiza a propagação direta da convolução pontual ({@code 1x1}), que
+	 * combina os canais de cada posição da entrada e é calculada por uma
+	 * única multiplicação de matrizes, sem {@code im2col}.
+	 * <pre>
+	 *saida (filtros, alt*larg) += kernel (filtros, canais) * entrada (canais, alt*larg)
+	 * </pre>
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 * @param kernel {@code Tensor} com formato {@code (filtros, canais)}.
+	 * @param bias {@code Tensor} com formato {@code (filtros)} {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino com formato {@code (filtros, altura, largura)}.
+	 */
+	public void conv2DForwardPointwise(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida) {
+		validarPointwise(entrada, kernel, saida, 0);
+
+		int[] shapeE = entrada.shape();
+		final int canais = shapeE[0];
+		final int tamE = shapeE[1] * shapeE[2];
+		final int filtros = kernel.shape()[0];
+
+		Tensor ts = saida.materializar();
+		final Dtype dtype = ts.dtype();
+		Tensor res = PoolTensor.pegar(dtype, filtros, tamE);
+
+		matMult(kernel.paraDtype(dtype), entrada.paraDtype(dtype).view(canais, tamE), res);
+		ts.dados.add(ts.offset, res.dados, 0, filtros * tamE);
+
+		PoolTensor.devolver(res);
+
+		if (bias != null) {
+			// bias (filtros) expandido para (filtros, altura, largura)
+			ts.add(bias.view(filtros, 1, 1));
+		}
+
+		if (ts != saida) saida.copiar(ts);
+	}
+
+	/**
+	 * Realiza a propagação reversa da convolução pontual ({@code 1x1}).
+	 * <p>
+	 *		Com a entrada vista como {@code X (canais, alt*larg)} e o gradiente de
+	 *		saída como {@code G (filtros, alt*larg)}:
+	 * </p>
+	 * <pre>
+	 *gradK += G * Xᵀ
+	 *gradE += Kᵀ * G
+	 * </pre>
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 * @param kernel {@code Tensor} com formato {@code (filtros, canais)}.
+	 * @param gradS {@code Tensor} com formato {@code (filtros, altura, largura)}.
+	 * @param gradK {@code Tensor} com formato {@code (filtros, canais)}.
+	 * @param gradB {@code Tensor} com formato {@code (filtros)} {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 */
+	public void conv2DBackwardPointwise(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE) {
+		validarPointwise(entrada, kernel, gradS, 0);
+
+		int[] shapeE = entrada.shape();
+		final int canais = shapeE[0];
+		final int tamE = shapeE[1] * shapeE[2];
+		final int filtros = kernel.shape()[0];
+
+		Tensor tgk = gradK.materializar();
+		Tensor tge = gradE.materializar();
+		final Dtype dtype = tgk.dtype();
+		Tensor te = entrada.paraDtype(dtype).view(canais, tamE);
+		Tensor ts = gradS.paraDtype(dtype).view(filtros, tamE);
+
+		Tensor temp = PoolTensor.pegar(dtype, filtros, canais);
+		matMultTransB(ts, te, temp);
+		tgk.dados.add(tgk.offset, temp.dados, 0, filtros * canais);
+		PoolTensor.devolver(temp);
+
+		temp = PoolTensor.pegar(dtype, canais, tamE);
+		matMultTransA(kernel.paraDtype(dtype), ts, temp);
+		tge.dados.add(tge.offset, temp.dados, 0, canais * tamE);
+		PoolTensor.devolver(temp);
+
+		// gradiente em relação aos bias
+		if (gradB != null) {
+			for (int f = 0; f < filtros; f++) {
+				gradB.add(ts.dados.soma(ts.offset + f*tamE, tamE), f);
+			}
+		}
+
+		if (tgk != gradK) gradK.copiar(tgk);
+		if (tge != gradE) gradE.copiar(tge);
+	}
+
+	/**
+	 * Realiza a propagação direta da convolução pontual ({@code 1x1}) com
+	 * canais por último, os canais de cada posição já são contíguos.
+	 * <pre>
+	 *saida (alt*larg, filtros) += entrada (alt*larg, canais) * kernelᵀ (canais, filtros)
+	 * </pre>
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 * @param kernel {@code Tensor} com formato {@code (filtros, canais)}.
+	 * @param bias {@code Tensor} com formato {@code (filtros)} {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino com formato {@code (altura, largura, filtros)}.
+	 */
+	public void conv2DForwardPointwiseCanaisUltimo(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida) {
+		validarPointwise(entrada, kernel, saida, 2);
+
+		int[] shapeE = entrada.shape();
+		final int canais = shapeE[2];
+		final int tamE = shapeE[0] * shapeE[1];
+		final int filtros = kernel.shape()[0];
+
+		Tensor ts = saida.materializar();
+		final Dtype dtype = ts.dtype();
+		Tensor res = PoolTensor.pegar(dtype, tamE, filtros);
+
+		matMultTransB(entrada.paraDtype(dtype).view(tamE, canais), kernel.paraDtype(dtype), res);
+		ts.dados.add(ts.offset, res.dados, 0, tamE * filtros);
+
+		PoolTensor.devolver(res);
+
+		if (bias != null) {
+			// bias (filtros) expandido para (altura, largura, filtros)
+			ts.add(bias.view(1, 1, filtros));
+		}
+
+		if (ts != saida) saida.copiar(ts);
+	}
+
+	/**
+	 * Realiza a propagação reversa da convolução pontual ({@code 1x1}) com
+	 * canais por último.
+	 * <p>
+	 *		Com a entrada vista como {@code X (alt*larg, canais)} e o gradiente de
+	 *		saída como {@code G (alt*larg, filtros)}:
+	 * </p>
+	 * <pre>
+	 *gradK += Gᵀ * X
+	 *gradE += G * K
+	 * </pre>
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 * @param kernel {@code Tensor} com formato {@code (filtros, canais)}.
+	 * @param gradS {@code Tensor} com formato {@code (altura, largura, filtros)}.
+	 * @param gradK {@code Tensor} com formato {@code (filtros, canais)}.
+	 * @param gradB {@code Tensor} com formato {@code (filtros)} {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} com formato {@code (altura, largura, canais)}.
+	 */
+	public void conv2DBackwardPointwiseCanaisUltimo(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE) {
+		validarPointwise(entrada, kernel, gradS, 2);
+
+		int[] shapeE = entrada.shape();
+		final int canais = shapeE[2];
+		final int tamE = shapeE[0] * shapeE[1];
+		final int filtros = kernel.shape()[0];
+
+		Tensor tgk = gradK.materializar();
+		Tensor tge = gradE.materializar();
+		final Dtype dtype = tgk.dtype();
+		Tensor te = entrada.paraDtype(dtype).view(tamE, canais);
+		Tensor ts = gradS.paraDtype(dtype).view(tamE, filtros);
+
+		Tensor temp = PoolTensor.pegar(dtype, filtros, canais);
+		matMultTransA(ts, te, temp);
+		tgk.dados.add(tgk.offset, temp.dados, 0, filtros * canais);
+		PoolTensor.devolver(temp);
+
+		temp = PoolTensor.pegar(dtype, tamE, canais);
+		matMult(ts, kernel.paraDtype(dtype), temp);
+		tge.dados.add(tge.offset, temp.dados, 0, tamE * canais);
+		PoolTensor.devolver(temp);
+
+		// gradiente em relação aos bias, soma das colunas de G
+		if (gradB != null) {
+			Tensor soma = PoolTensor.pegar(dtype, filtros);
+			soma.zerar();
+			for (int p = 0; p < tamE; p++) {
+				soma.dados.add(0, ts.dados, ts.offset + p*filtros, filtros);
+			}
+			gradB.add(soma);
+			PoolTensor.devolver(soma);
+		}
+
+		if (tgk != gradK) gradK.copiar(tgk);
+		if (tge != gradE) gradE.copiar(tge);
+	}
+
+	/**
+	 * Valida os formatos da convolução pontual, {@code eixoCanais} indica o
+	 * eixo dos canais na entrada e na saída.
+	 */
+	private static void validarPointwise(Tensor entrada, Tensor kernel, Tensor saida, int eixoCanais) {
+		if (entrada.numDim() != 3 || kernel.numDim() != 2 || saida.numDim() != 3) {
+			throw new IllegalArgumentException(
+				"\nEntrada e saída devem ter três dimensões e o kernel duas, recebido " +
+				entrada.shapeStr() + ", " + kernel.shapeStr() + " e " + saida.shapeStr()
+			);
+		}
+
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = saida.shape();
+		boolean espacial = true;
+		for (int i = 0; i < 3; i++) {
+			if (i != eixoCanais && shapeE[i] != shapeS[i]) espacial = false;
+		}
+
+		if (!espacial || shapeE[eixoCanais] != shapeK[1] || shapeS[eixoCanais] != shapeK[0]) {
+			throw new IllegalArgumentException(
+				"\nDimensões de entrada " + entrada.shapeStr() + " e saída " +
+				saida.shapeStr() + " incompatíveis com o kernel " + kernel.shapeStr()
+			);
+		}
+	}
+
+	/**
+	 * Realiza a propagação direta da convolução agrupada.
+	 * <p>
+	 *		Os canais de entrada e os filtros são divididos em {@code grupos}
+	 *		partes iguais, e cada grupo de filtros é aplicado apenas ao seu grupo
+	 *		de canais. Cada grupo é uma convolução comum sobre fatias dos
+	 *		tensores (sem cópias quando as fatias são contíguas), calculada pelo
+	 *		algoritmo mais adequado ao seu formato.
+	 * </p>
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 * @param kernel {@code Tensor} com formato {@code (filtros, canais / grupos, altK, largK)}.
+	 * @param bias {@code Tensor} com formato {@code (filtros)} {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino com formato {@code (filtros, altSaida, largSaida)}.
+	 * @param grupos quantidade de grupos.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 */
+	public void conv2DForwardAgrupada(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida,
+		int grupos, int[] stride, int[] padding, int[] dilatacao) {
+		validarAgrupada(entrada, kernel, saida, grupos);
+
+		final int canaisG = entrada.shape()[0] / grupos;
+		final int filtrosG = kernel.shape()[0] / grupos;
+
+		for (int g = 0; g < grupos; g++) {
+			conv2DForward(
+				fatiaCanais(entrada, g, canaisG),
+				fatiaCanais(kernel, g, filtrosG),
+				null,
+				fatiaCanais(saida, g, filtrosG),
+				stride, padding, dilatacao, null
+			);
+		}
+
+		if (bias != null) {
+			// bias (filtros) expandido para (filtros, altura, largura)
+			saida.add(bias.view(bias.tamanho(), 1, 1));
+		}
+	}
+
+	/**
+	 * Realiza a propagação reversa da convolução agrupada, cada grupo é
+	 * tratado como uma convolução comum sobre fatias dos tensores.
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
+	 * @param entrada {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 * @param kernel {@code Tensor} com formato {@code (filtros, canais / grupos, altK, largK)}.
+	 * @param gradS {@code Tensor} com formato {@code (filtros, altSaida, largSaida)}.
+	 * @param gradK {@code Tensor} com formato {@code (filtros, canais / grupos, altK, largK)}.
+	 * @param gradB {@code Tensor} com formato {@code (filtros)} {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} com formato {@code (canais, altura, largura)}.
+	 * @param grupos quantidade de grupos.
+	 * @param stride strides {@code (altura, largura)}.
+	 * @param padding padding {@code (altura, largura)}.
+	 * @param dilatacao dilatação {@code (altura, largura)}.
+	 */
+	public void conv2DBackwardAgrupada(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE,
+		int grupos, int[] stride, int[] padding, int[] dilatacao) {
+		validarAgrupada(entrada, kernel, gradS, grupos);
+
+		final int canaisG = entrada.shape()[0] / grupos;
+		final int filtrosG = kernel.shape()[0] / grupos;
+
+		for (int g = 0; g < grupos; g++) {
+			conv2DBackward(
+				fatiaCanais(entrada, g, canaisG),
+				fatiaCanais(kernel, g, filtrosG),
+				fatiaCanais(gradS, g, filtrosG),
+				fatiaCanais(gradK, g, filtrosG),
+				null,
+				fatiaCanais(gradE, g, canaisG),
+				stride, padding, dilatacao, null
+			);
+		}
+
+		// gradiente em relação aos bias
+		if (gradB != null) {
+			int[] shapeS = gradS.shape();
+			final int filtros = shapeS[0];
+			final int tamS = shapeS[1] * shapeS[2];
+			Tensor ts = gradS.paraDtype(gradB.dtype()).materializar();
+			for (int f = 0; f < filtros; f++) {
+				gradB.add(ts.dados.soma(ts.offset + f*tamS, tamS), f);
+			}
+		}
+	}
+
+	/**
+	 * Valida os formatos da convolução agrupada.
+	 */
+	private static void validarAgrupada(Tensor entrada, Tensor kernel, Tensor saida, int grupos) {
+		if (entrada.numDim() != 3 || kernel.numDim() != 4 || saida.numDim() != 3) {
+			throw new IllegalArgumentException(
+				"\nEntrada e saída devem ter três dimensões e o kernel quatro, recebido " +
+				entrada.shapeStr() + ", " + kernel.shapeStr() + " e " + saida.shapeStr()
+			);
+		}
+
+		final int canais = entrada.shape()[0];
+		final int filtros = kernel.shape()[0];
+		if (grupos < 1 || canais % grupos != 0 || filtros % grupos != 0 ||
+			kernel.shape()[1] != canais / grupos || saida.shape()[0] != filtros) {
+			throw new IllegalArgumentException(
+				"\nEntrada " + entrada.shapeStr() + ", kernel " + kernel.shapeStr() +
+				" e saída " + saida.shapeStr() + " incompatíveis com " + grupos + " grupos."
+			);
+		}
+	}
+
+	/**
+	 * Retorna a fatia {@code [g*tam, (g+1)*tam)} da primeira dimensão do
+	 * tensor, compartilhando seus elementos.
+	 */
+	private static Tensor fatiaCanais(Tensor t, int g, int tam) {
+		int[] ini = new int[t.numDim()];
+		int[] fim = t.shape();
+		ini[0] = g * tam;
+		fim[0] = (g + 1) * tam;
+
+		return t.slice(ini, fim);
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional calculando
+	 * a correlação cruzada diretamente, em blocos de canais.
+	 * <p>
+	 *		Cada linha da saída recebe a contribuição de um bloco de
+	 *		{@value #BLOCO_CANAIS} canais antes de passar para a próxima linha,
+	 *		mantendo a linha de saída e as linhas de entrada do bloco em cache.
+	 * </p>
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino do resultado.
+	 */
+	public void conv2DForwardBlocado(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida) {
+		conv2DForwardBlocado(entrada, kernel, bias, saida, null);
+	}
+
+	/**
+	 * Propagação direta em blocos de canais, com o bias e a ativação
+	 * aplicados a cada linha da saída logo após o último bloco de canais
+	 * quando {@code fx} não for nulo. Nesse caso a saída é sobrescrita.
+	 */
+	private void conv2DForwardBlocado(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida, DoubleUnaryOperator fx) {
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = saida.shape();
+
+		final int filtros = shapeK[0];
+		final int canais = shapeK[1];
+		final int altE = shapeE[1];
+		final int largE = shapeE[2];
+		if (altE - shapeK[2] + 1 != shapeS[1] || largE - shapeK[3] + 1 != shapeS[2]) {
+			throw new IllegalArgumentException(
+				"\nDimensões de saída " + saida.shapeStr() + " incompatíveis"
+			);
+		}
+
+		Tensor ts = saida.emHeap();
+		final Dtype dtype = ts.dtype();
+		final Tensor te = entrada.paraDtype(dtype).emHeap();
+		final Tensor tk = kernel.paraDtype(dtype).emHeap();
+		final Tensor tb = fx == null || bias == null ? null : bias.paraDtype(dtype).emHeap();
+		final int offB = tb == null ? 0 : tb.offset;
+
+		final long operacoes = (long) filtros * canais * shapeS[1] * shapeS[2] * shapeK[2] * shapeK[3];
+		dividirFiltros(filtros, operacoes, (ini, fim) -> {
+			if (dtype == Dtype.FLOAT32) {
+				conv2DBlocado(
+					arrFloat(te), te.offset, arrFloat(tk), tk.offset, arrFloat(ts), ts.offset,
+					ini, fim, canais, altE, largE, shapeK[2], shapeK[3],
+					tb == null ? null : arrFloat(tb), offB, fx
+				);
+			} else {
+				conv2DBlocado(
+					arrDouble(te), te.offset, arrDouble(tk), tk.offset, arrDouble(ts), ts.offset,
+					ini, fim, canais, altE, largE, shapeK[2], shapeK[3],
+					tb == null ? null : arrDouble(tb), offB, fx
+				);
+			}
+		});
+
+		if (fx == null && bias != null) {
+			// bias (filtros) expandido para (filtros, altura, largura)
+			ts.add(bias.view(filtros, 1, 1));
+		}
+
+		if (ts != saida) saida.copiar(ts);
+	}
+
+	/**
+	 * Realiza a propagação reversa através da camada convolucional calculando
+	 * os gradientes diretamente, em blocos de canais.
+	 * <p>
+	 *		Os gradientes dos kernels e da entrada são calculados na mesma
+	 *		passagem por cada linha do gradiente de saída.
+	 * </p>
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param gradS {@code Tensor} contendo o gradiente em relação a saída da camada.
+	 * @param gradK {@code Tensor} contendo o gradiente em relação ao kernel/filtros da camada.
+	 * @param gradB {@code Tensor} contendo o gradiente em relação ao bias da camada {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} contendo o gradiente em relação à entrada da camada.
+	 */
+	public void conv2DBackwardBlocado(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE) {
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = gradS.shape();
+
+		final int filtros = shapeK[0];
+		final int canais = shapeK[1];
+		final int altE = shapeE[1];
+		final int largE = shapeE[2];
+		final int tamS = shapeS[1] * shapeS[2];
+
+		final Tensor tge = gradE.emHeap();
+		final Tensor tgk = gradK.emHeap();
+		final Dtype dtype = tge.dtype();
+		final Tensor te = entrada.paraDtype(dtype).emHeap();
+		final Tensor tk = kernel.paraDtype(dtype).emHeap();
+		final Tensor ts = gradS.paraDtype(dtype).emHeap();
+
+		if (dtype == Dtype.FLOAT32) {
+			conv2DBlocadoGrad(
+				arrFloat(te), te.offset, arrFloat(tk), tk.offset, arrFloat(ts), ts.offset,
+				arrFloat(tgk), tgk.offset, arrFloat(tge), tge.offset,
+				filtros, canais, altE, largE, shapeK[2], shapeK[3]
+			);
+		} else {
+			conv2DBlocadoGrad(
+				arrDouble(te), te.offset, arrDouble(tk), tk.offset, arrDouble(ts), ts.offset,
+				arrDouble(tgk), tgk.offset, arrDouble(tge), tge.offset,
+				filtros, canais, altE, largE, shapeK[2], shapeK[3]
+			);
+		}
+
+		// gradiente em relação aos bias
+		if (gradB != null) {
+			for (int i = 0; i < filtros; i++) {
+				gradB.add(ts.dados.soma(ts.offset + i*tamS, tamS), i);
+			}
+		}
+
+		if (tgk != gradK) gradK.copiar(tgk);
+		if (tge != gradE) gradE.copiar(tge);
+	}
+
+	/**
+	 * Verifica se a convolução por FFT é mais barata que a convolução direta
+	 * para as dimensões informadas, considerando os espectros dos kernels em cache.
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @return {@code true} caso a FFT seja vantajosa, {@code false} caso contrário.
+	 */
+	public boolean fftVantajosa(Tensor entrada, Tensor kernel) {
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		return ConvFFT.vantajosa(shapeK[0], shapeK[1], shapeE[1], shapeE[2], shapeK[2], shapeK[3]);
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional usando a
+	 * transformada rápida de Fourier (FFT).
+	 * <p>
+	 *		A entrada e os kernels são levados ao domínio da frequência, onde a
+	 *		correlação cruzada se torna um produto elemento a elemento. Os
+	 *		espectros dos kernels são reaproveitados entre as chamadas enquanto
+	 *		a versão do kernel não muda ({@link Tensor#versao()}), sendo mais
+	 *		vantajosa para kernels e entradas grandes.
+	 * </p>
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino do resultado.
+	 */
+	public void conv2DForwardFFT(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida) {
+		conv2DForwardFFT(entrada, kernel, bias, saida, null);
+	}
+
+	/**
+	 * Propagação direta por FFT, com o bias e a ativação aplicados na
+	 * escrita de cada filtro após a FFT inversa quando {@code fx} não for
+	 * nulo. Nesse caso a saída é sobrescrita.
+	 */
+	private void conv2DForwardFFT(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida, DoubleUnaryOperator fx) {
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = saida.shape();
+
+		final int filtros = shapeK[0];
+		if (shapeE[1] - shapeK[2] + 1 != shapeS[1] || shapeE[2] - shapeK[3] + 1 != shapeS[2]) {
+			throw new IllegalArgumentException(
+				"\nDimensões de saída " + saida.shapeStr() + " incompatíveis"
+			);
+		}
+
+		Tensor ts = saida.emHeap();
+		if (fx == null) {
+			convFFT.forward(entrada.materializar(), kernel.materializar(), ts);
+		} else {
+			convFFT.forward(entrada.materializar(), kernel.materializar(), ts, bias, fx);
+		}
+
+		if (fx == null && bias != null) {
+			// bias (filtros) expandido para (filtros, altura, largura)
+			ts.add(bias.view(filtros, 1, 1));
+		}
+
+		if (ts != saida) saida.copiar(ts);
+	}
+
+	/**
+	 * Realiza a propagação reversa através da camada convolucional usando a
+	 * transformada rápida de Fourier (FFT).
+	 * <p>
+	 *		O gradiente em relação à entrada é a convolução completa do gradiente
+	 *		de saída com os kernels, usando os mesmos espectros em cache da
+	 *		propagação direta. O gradiente em relação aos kernels usa FFT apenas
+	 *		quando mais barato, caso contrário é calculado por {@code im2col}.
+	 * </p>
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param gradS {@code Tensor} contendo o gradiente em relação a saída da camada.
+	 * @param gradK {@code Tensor} contendo o gradiente em relação ao kernel/filtros da camada.
+	 * @param gradB {@code Tensor} contendo o gradiente em relação ao bias da camada {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} contendo o gradiente em relação à entrada da camada.
+	 */
+	public void conv2DBackwardFFT(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE) {
+		int[] shapeE = entrada.shape();
+		int[] shapeK = kernel.shape();
+		int[] shapeS = gradS.shape();
+
+		final int filtros = shapeK[0];
+		final int entradas = shapeK[1];
+		final int altK = shapeK[2];
+		final int largK = shapeK[3];
+		final int tamS = shapeS[1] * shapeS[2];
+		final boolean fftKernel = ConvFFT.vantajosaKernel(filtros, entradas, shapeE[1], shapeE[2], altK, largK);
 
-		// vetorização para melhorar o desempenho
-		Variavel[] dataE = entrada.paraArray();
-		Variavel[] dataK = kernel.paraArray();
-		Variavel[] dataS = saida.paraArray();
+		final Tensor tgk = gradK.emHeap();
+		final Tensor tge = gradE.emHeap();
+		final Tensor ts = gradS.materializar();
 
-		Variavel soma = new Variavel();
-		for (int i = 0; i < altEsp; i++) {
-			for (int j = 0; j < largEsp; j++) {
+		convFFT.backward(entrada.materializar(), kernel.materializar(), ts, fftKernel ? tgk : null, tge);
 
-				soma.set(0.0);
-				final int idSaida = i * largEsp + j;
-				for (int k = 0; k < altKernel; k++) {
-					final int idBaseEntrada = (k + i) * largEntrada;
-					final int idBaseKernel  = k * largKernel; 
-					for (int l = 0; l < largKernel; l++) {
-						soma.addMult(
-							dataE[idBaseEntrada + (l + j)],
-							dataK[idBaseKernel + l]
-						);
-					}
-				}
+		if (!fftKernel) {
+			// gradiente em relação aos kernels
+			final Dtype dtype = tgk.dtype();
+			final int tamJanela = entradas * altK * largK;
+			Tensor col = PoolTensor.pegar(dtype, tamJanela, tamS);
+			Tensor temp = PoolTensor.pegar(dtype, filtros, tamJanela);
+			im2col(entrada, altK, largK, col);
+			matMultTransB(ts.view(filtros, tamS), col, temp);
+			tgk.dados.add(tgk.offset, temp.dados, 0, filtros * tamJanela);
+			PoolTensor.devolver(col, temp);
+		}
 
-				dataS[idSaida].add(soma);
+		// gradiente em relação aos bias
+		if (gradB != null) {
+			for (int i = 0; i < filtros; i++) {
+				gradB.add(ts.dados.soma(ts.offset + i*tamS, tamS), i);
 			}
 		}
 
+		if (tgk != gradK) gradK.copiar(tgk);
+		if (tge != gradE) gradE.copiar(tge);
 	}
 
 	/**
-	 * Realiza a operação de convolução entre o tensor de entrada e o kernel.
-	 * @param entrada {@code Tensor} contendo os dados de entrada.
-	 * @param kernel {@code Tensor} contendo o filtro que será aplicado à entrada.
-	 * @return {@code Tensor} de destino.
+	 * Verifica se a convolução pode ser calculada pelo algoritmo de
+	 * Winograd {@code F(2x2, 3x3)}.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @return {@code true} caso o kernel seja {@code 3x3}, {@code false} caso contrário.
 	 */
-	public Tensor convolucao2D(Tensor entrada, Tensor kernel) {
-		if (entrada.numDim() != 2 || kernel.numDim() != 2) {
-			throw new IllegalArgumentException(
-				"\nTodos os tensores devem ter duas dimensões."
-			);
-		}
-
-		int[] shapeE = entrada.shape();
+	public boolean winogradElegivel(Tensor kernel) {
 		int[] shapeK = kernel.shape();
-		
-		int alt  = shapeE[0] - shapeK[0] + 1;
-		int larg = shapeE[1] - shapeK[1] + 1;
-		Tensor res = new Tensor(alt, larg);
-
-		convolucao2D(entrada, kernel, res);
+		return shapeK.length == 4 && shapeK[2] == 3 && shapeK[3] == 3;
+	}
 
-		return res;
+	/**
+	 * Realiza a propagação direta através da camada convolucional usando o
+	 * algoritmo de Winograd {@code F(2x2, 3x3)}.
+	 * <p>
+	 *		A saída é dividida em blocos {@code 2x2}, cada um calculado a partir de
+	 *		um bloco {@code 4x4} da entrada com 16 multiplicações no lugar das 36
+	 *		da correlação direta. As multiplicações de todos os blocos, canais e
+	 *		filtros são agrupadas em 16 multiplicações de matrizes
+	 *		{@code (filtros, canais) * (canais, blocos)}.
+	 * </p>
+	 * <p>
+	 *		Disponível apenas para kernels {@code 3x3}. O resultado é acumulado
+	 *		no tensor de saída.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
+	 * @param saida {@code Tensor} de destino do resultado.
+	 */
+	public void conv2DForwardWinograd(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida) {
+		conv2DForwardWinograd(entrada, kernel, bias, saida, null);
 	}
 
 	/**
-	 * Realiza a operação de convolução entre o tensor de entrada e o kernel.
-	 * @param entrada {@code Tensor} contendo os dados de entrada.
-	 * @param kernel {@code Tensor} contendo o filtro que será aplicado à entrada.
-	 * @param saida {@code Tensor} de destino.
+	 * Propagação direta por Winograd, com o bias e a ativação aplicados na
+	 * transformação de saída ({@code Aᵀ M A}) de cada bloco quando {@code fx}
+	 * não for nulo. Nesse caso a saída é sobrescrita.
 	 */
-	public void convolucao2D(Tensor entrada, Tensor kernel, Tensor saida) {
-		if (entrada.numDim() != 2 || kernel.numDim() != 2 || saida.numDim() != 2) {
+	private void conv2DForwardWinograd(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida, DoubleUnaryOperator fx) {
+		if (!winogradElegivel(kernel)) {
 			throw new IllegalArgumentException(
-				"\nTodos os tensores devem ter duas dimensões."
+				"\nWinograd F(2x2, 3x3) requer kernels 3x3, recebido " + kernel.shapeStr()
 			);
 		}
-	
+
 		int[] shapeE = entrada.shape();
 		int[] shapeK = kernel.shape();
 		int[] shapeS = saida.shape();
-		
-		int altEsp  = shapeE[0] - shapeK[0] + 1;
-		int largEsp = shapeE[1] - shapeK[1] + 1;
-	
-		int altSaida = shapeS[0];
-		int largSaida = shapeS[1];
-		if (altSaida != altEsp || largSaida != largEsp) {
+
+		final int canais = shapeK[1];
+		final int filtros = shapeK[0];
+		final int altE = shapeE[1];
+		final int largE = shapeE[2];
+		final int altS = shapeS[1];
+		final int largS = shapeS[2];
+		if (altE - 2 != altS || largE - 2 != largS) {
 			throw new IllegalArgumentException(
-				"\nDimensão de saída esperada (" + altEsp + ", " + largEsp + "), mas" +
-				" recebido " + saida.shapeStr()
+				"\nDimensões de saída " + saida.shapeStr() + " incompatíveis"
 			);
 		}
-	
-		final int altKernel = shapeK[0];
-		final int largKernel = shapeK[1];
-		final int largEntrada = shapeE[1];
-	
-		// vetorização para melhorar o desempenho
-		Variavel[] dataE = entrada.paraArray();
-		Variavel[] dataK = kernel.paraArray();
-		Variavel[] dataS = saida.paraArray();
-	
-		Variavel soma = new Variavel();
-		for (int i = 0; i < altEsp; i++) {
-			for (int j = 0; j < largEsp; j++) {
-				
-				soma.set(0.0);
-				final int idSaida = i * largEsp + j;
-				for (int k = 0; k < altKernel; k++) {
-					for (int l = 0; l < largKernel; l++) {
-						soma.addMult(
-							dataE[(k + i) * largEntrada + (l + j)], 
-							dataK[(altKernel - 1 - k) * largKernel + (largKernel - 1 - l)]
-						);
-					}
-				}
 
-				dataS[idSaida].add(soma);
-			}
-		}
-		
-	}
+		Tensor ts = saida.emHeap();
+		final Dtype dtype = ts.dtype();
+		final Tensor te = entrada.paraDtype(dtype).emHeap();
+		final Tensor tk = kernel.paraDtype(dtype).emHeap();
+		final Tensor tb = fx == null || bias == null ? null : bias.paraDtype(dtype).emHeap();
+		final int offB = tb == null ? 0 : tb.offset;
+		final int blocosAlt = (altS + 1) / 2;
+		final int blocosLarg = (largS + 1) / 2;
+		final int blocos = blocosAlt * blocosLarg;
 
-	/**
-	 * Realiza a operação de convolução entre o tensor de entrada e o kernel.
-	 * @param entrada {@code Tensor} contendo os dados de entrada.
-	 * @param kernel {@code Tensor} contendo o filtro que será aplicado à entrada.
-	 * @return {@code Tensor} de destino.
-	 */
-	public Tensor convolucao2DFull(Tensor entrada, Tensor kernel) {
-		if (entrada.numDim() != 2 || kernel.numDim() != 2) {
-			throw new IllegalArgumentException(
-				"\nAmbos os tensores devem ter duas dimensões."
-			);
+		Tensor u = PoolTensor.pegar(dtype, 16, filtros, canais);
+		Tensor v = PoolTensor.pegar(dtype, 16, canais, blocos);
+		Tensor m = PoolTensor.pegar(dtype, 16, filtros, blocos);
 
+		if (dtype == Dtype.FLOAT32) {
+			winogradFiltros(arrFloat(tk), tk.offset, filtros, canais, arrFloat(u));
+			winogradEntrada(arrFloat(te), te.offset, canais, altE, largE, blocosAlt, blocosLarg, arrFloat(v));
+		} else {
+			winogradFiltros(arrDouble(tk), tk.offset, filtros, canais, arrDouble(u));
+			winogradEntrada(arrDouble(te), te.offset, canais, altE, largE, blocosAlt, blocosLarg, arrDouble(v));
 		}
 
-		int[] shapeE = entrada.shape();
-		int[] shapeK = kernel.shape();
-		
-		int alt  = shapeE[0] + shapeK[0] - 1;
-		int larg = shapeE[1] + shapeK[1] - 1;
-	
-		Tensor saida = new Tensor(alt, larg);
+		// produto elemento a elemento somado nos canais, uma multiplicação
+		// de matrizes para cada um dos 16 elementos transformados, seguida da
+		// transformação de saída dos mesmos filtros
+		final long operacoes = 16L * filtros * canais * blocos;
+		dividirFiltros(filtros, operacoes, (ini, fim) -> {
+			for (int xi = 0; xi < 16; xi++) {
+				matMult(
+					bloco(u, xi, filtros, canais, ini, fim),
+					bloco(v, xi, canais, blocos),
+					bloco(m, xi, filtros, blocos, ini, fim)
+				);
+			}
 
-		convolucao2DFull(entrada, kernel, saida);
-	
-		return saida;
+			if (dtype == Dtype.FLOAT32) {
+				winogradSaida(
+					arrFloat(m), filtros, ini, fim, blocosAlt, blocosLarg, arrFloat(ts), ts.offset, altS, largS,
+					tb == null ? null : arrFloat(tb), offB, fx
+				);
+			} else {
+				winogradSaida(
+					arrDouble(m), filtros, ini, fim, blocosAlt, blocosLarg, arrDouble(ts), ts.offset, altS, largS,
+					tb == null ? null : arrDouble(tb), offB, fx
+				);
+			}
+		});
+
+		PoolTensor.devolver(u, v, m);
+
+		if (fx == null && bias != null) {
+			// bias (filtros) expandido para (filtros, altura, largura)
+			ts.add(bias.view(filtros, 1, 1));
+		}
+
+		if (ts != saida) saida.copiar(ts);
 	}
 
 	/**
-	 * Realiza a operação de convolução entre o tensor de entrada e o kernel.
-	 * @param entrada {@code Tensor} contendo os dados de entrada.
-	 * @param kernel {@code Tensor} contendo o filtro que será aplicado à entrada.
-	 * @param saida {@code Tensor} de destino.
+	 * Realiza a propagação reversa através da camada convolucional, calculando
+	 * o gradiente em relação à entrada com o algoritmo de Winograd
+	 * {@code F(2x2, 3x3)}.
+	 * <p>
+	 *		O gradiente da entrada é a correlação do gradiente de saída, com
+	 *		preenchimento de zeros nas bordas, pelos filtros rotacionados em 180°
+	 *		e com os eixos de filtro e canal trocados. O gradiente dos kernels
+	 *		continua sendo calculado por {@code im2col}, já que seu formato
+	 *		({@code 3x3}) não se beneficia da divisão em blocos.
+	 * </p>
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
+	 * @param entrada {@code Tensor} contendo a entrada da camada.
+	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
+	 * @param gradS {@code Tensor} contendo o gradiente em relação a saída da camada.
+	 * @param gradK {@code Tensor} contendo o gradiente em relação ao kernel/filtros da camada.
+	 * @param gradB {@code Tensor} contendo o gradiente em relação ao bias da camada {@code (podendo ser nulo)}.
+	 * @param gradE {@code Tensor} contendo o gradiente em relação à entrada da camada.
 	 */
-	public void convolucao2DFull(Tensor entrada, Tensor kernel, Tensor saida) {
-		if (entrada.numDim() != 2 || kernel.numDim() != 2) {
+	public void conv2DBackwardWinograd(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE) {
+		if (!winogradElegivel(kernel)) {
 			throw new IllegalArgumentException(
-				"\nTodos os tensores devem ter duas dimensões."
+				"\nWinograd F(2x2, 3x3) requer kernels 3x3, recebido " + kernel.shapeStr()
 			);
 		}
 
-		int[] shapeE = entrada.shape();
 		int[] shapeK = kernel.shape();
-		int[] shapeS = saida.shape();
-		
-		int altEsp  = shapeE[0] + shapeK[0] - 1;
-		int largEsp = shapeE[1] + shapeK[1] - 1;
-	
-		int altSaida  = shapeS[0];
-		int largSaida = shapeS[1];
-		if (altSaida != altEsp || largSaida != largEsp) {
-			throw new IllegalArgumentException(
-				"\nDimensão de saída esperada (" + altEsp + ", " + largEsp + "), mas" +
-				" recebido " + saida.shapeStr()
-			);
-		}
+		int[] shapeS = gradS.shape();
 
-		final int altEntrada = shapeE[0];
-		final int largEntrada = shapeE[1];
-		final int altKernel = shapeK[0];
-		final int largKernel = shapeK[1];
+		final int filtros = shapeK[0];
+		final int entradas = shapeK[1];
+		final int altS = shapeS[1];
+		final int largS = shapeS[2];
 
-		// vetorização para melhorar o desempenho
-		Variavel[] dataE = entrada.paraArray();
-		Variavel[] dataK = kernel.paraArray();
-		Variavel[] dataS = saida.paraArray();
+		final Tensor tgk = gradK.emHeap();
+		final Dtype dtype = tgk.dtype();
+		final Tensor tk = kernel.paraDtype(dtype).materializar();
+		final Tensor ts = gradS.paraDtype(dtype).view(filtros, altS * largS);
+		final int tamJanela = entradas * 9;
+		final int tamS = altS * largS;
 
-		Variavel soma = new Variavel();// cache
-		for (int i = 0; i < altEsp; i++) {
-			for (int j = 0; j < largEsp; j++) {
-				
-				soma.set(0.0);
-				final int idSaida = i*largEsp + j;
-				for (int m = 0; m < altKernel; m++) {
-					int linEntrada = i - m;
-					if (linEntrada >= 0 && linEntrada < altEntrada) {
-						for (int n = 0; n < largKernel; n++) {
-							int colEntrada = j - n;
-							if (colEntrada >= 0 && colEntrada < largEntrada) {
-								soma.addMult(
-									dataK[m * largKernel + n],
-									dataE[linEntrada * largEntrada + colEntrada]
-								);
-							}
-						}
-					}
+		// gradiente em relação aos kernels
+		Tensor col = PoolTensor.pegar(dtype, tamJanela, tamS);
+		Tensor temp = PoolTensor.pegar(dtype, filtros, tamJanela);
+		im2col(entrada, 3, 3, col);
+		matMultTransB(ts, col, temp);
+		tgk.dados.add(tgk.offset, temp.dados, 0, filtros * tamJanela);
+		PoolTensor.devolver(col, temp);
+
+		// gradiente em relação as entradas
+		Tensor gradPad = PoolTensor.pegar(dtype, filtros, altS + 4, largS + 4);
+		Tensor kernelRot = PoolTensor.pegar(dtype, entradas, filtros, 3, 3);
+		final int largPad = largS + 4;
+		final int tamPad = (altS + 4) * largPad;
+		for (int f = 0; f < filtros; f++) {
+			for (int i = 0; i < altS; i++) {
+				ts.dados.copiar(
+					ts.offset + f*tamS + i*largS,
+					gradPad.dados, f*tamPad + (i + 2)*largPad + 2,
+					largS
+				);
+			}
+		}
+		for (int f = 0; f < filtros; f++) {
+			for (int e = 0; e < entradas; e++) {
+				final int idK = tk.offset + (f*entradas + e)*9;
+				final int idR = (e*filtros + f)*9;
+				for (int p = 0; p < 9; p++) {
+					kernelRot.dados.set(idR + p, tk.dados.get(idK + 8 - p));
 				}
+			}
+		}
+		conv2DForwardWinograd(gradPad, kernelRot, null, gradE);
+		PoolTensor.devolver(gradPad, kernelRot);
 
-				dataS[idSaida].add(soma);
+		// gradiente em relação aos bias
+		if (gradB != null) {
+			for (int i = 0; i < filtros; i++) {
+				gradB.add(ts.dados.soma(ts.offset + i*tamS, tamS), i);
 			}
 		}
 
+		if (tgk != gradK) gradK.copiar(tgk);
 	}
 
 	/**
-	 * Realiza a propagação direta através da camada convolucional.
+	 * Retorna a matriz {@code (lin, col)} de índice {@code i} de um tensor
+	 * contíguo com formato {@code (n, lin, col)}.
+	 */
+	private static Tensor bloco(Tensor t, int i, int lin, int col) {
+		return bloco(t, i, lin, col, 0, lin);
+	}
+
+	/**
+	 * Retorna as linhas {@code [ini, fim)} da matriz {@code (lin, col)} de
+	 * índice {@code i} de um tensor contíguo com formato {@code (n, lin, col)}.
+	 */
+	private static Tensor bloco(Tensor t, int i, int lin, int col, int ini, int fim) {
+		return new Tensor(t.dados, t.offset + (i*lin + ini)*col, new int[]{ fim - ini, col }, new int[]{ col, 1 });
+	}
+
+	/**
+	 * Executa a propagação direta dos filtros {@code [0, filtros)}, dividindo-os
+	 * entre as threads do {@code PoolCalculo} quando a quantidade de
+	 * multiplicações justificar.
+	 * <p>
+	 *		Cada filtro é calculado inteiramente por uma única parte, com os
+	 *		canais acumulados sempre na mesma ordem, então o resultado não
+	 *		depende da quantidade de threads.
+	 * </p>
+	 * @param filtros quantidade de filtros.
+	 * @param operacoes quantidade estimada de multiplicações.
+	 * @param bloco cálculo dos filtros {@code [ini, fim)}.
+	 */
+	private static void dividirFiltros(int filtros, long operacoes, Paralelo.Bloco bloco) {
+		final int threads = PoolCalculo.threads();
+		if (threads == 1 || filtros == 1 || operacoes < LIMIAR_PARALELO_CONV) {
+			bloco.executar(0, filtros);
+			return;
+		}
+
+		final int partes = Math.min(threads, filtros);
+		PoolCalculo.executar(partes, id -> bloco.executar(id * filtros / partes, (id + 1) * filtros / partes));
+	}
+
+	/**
+	 * Realiza a propagação direta através da camada convolucional, calculando
+	 * a correlação cruzada de cada par (filtro, canal) diretamente.
+	 * <p>
+	 *		O resultado é acumulado no tensor de saída.
+	 * </p>
 	 * @param entrada {@code Tensor} contendo a entrada da camada.
 	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
 	 * @param bias {@code Tensor} contendo o bias da camada {@code (podendo ser nulo)}.
 	 * @param saida {@code Tensor} de destino do resultado.
 	 */
-	public void conv2DForward(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida) {
+	public void conv2DForwardDireto(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida) {
+		conv2DForwardDireto(entrada, kernel, bias, saida, null);
+	}
+
+	/**
+	 * Propagação direta calculando a correlação de cada par (filtro, canal),
+	 * com o bias e a ativação aplicados na escrita de cada filtro, após o
+	 * último canal, quando {@code fx} não for nulo. Nesse caso a saída é
+	 * sobrescrita.
+	 */
+	private void conv2DForwardDireto(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida, DoubleUnaryOperator fx) {
 		int[] shapeE = entrada.shape();
 		int[] shapeK = kernel.shape();
 		int[] shapeS = saida.shape();
@@ -495,53 +4490,57 @@ public class OpTensor {
 			);
 		}
 
-		// NOTA
-		// essa ainda não é a melhor solução, mas é mais eficiente que fazer 
-		// slicing dentro dos loops.
+		// cada canal é acessado diretamente pelo seu deslocamento nos arrays
+		// de entrada e kernel, sem cópias para tensores 2D auxiliares.
+
+		Tensor ts = saida.emHeap();
+		final Dtype dtype = ts.dtype();
+		Tensor te = entrada.paraDtype(dtype).emHeap();
+		Tensor tk = kernel.paraDtype(dtype).emHeap();
+		final Tensor tb = fx == null || bias == null ? null : bias.paraDtype(dtype).emHeap();
+		final int tamEntrada = altEntrada * largEntrada;
+		final int tamKernel = altKernel * largKernel;
+		final int tamSaida = altSaida * largSaida;
 		
-		Tensor entrada2d = new Tensor(altEntrada, largEntrada);
-		Tensor kernel2D = new Tensor(altKernel, largKernel);
-		Tensor cache = new Tensor(altSaida, largSaida);
-		for (int f = 0; f < numFiltros; f++){
-			cache.preencher(0.0);// zerar acumulações para o filtro atual
-			
-			for (int e = 0; e < profEntrada; e++) {
-				for (int i = 0; i < altEntrada; i++) {
-					for (int j = 0; j < largEntrada; j++) {
-						entrada2d.set(entrada.get(e, i, j), i, j);
-					}
+		final long operacoes = (long) numFiltros * profEntrada * tamSaida * tamKernel;
+		dividirFiltros(numFiltros, operacoes, (ini, fim) -> {
+			Tensor cache = PoolTensor.pegar(dtype, altSaida, largSaida);
+			for (int f = ini; f < fim; f++){
+				cache.preencher(0.0);// zerar acumulações para o filtro atual
+				
+				for (int e = 0; e < profEntrada; e++) {
+					correlacao2D(
+						te, te.offset + e*tamEntrada, 
+						tk, tk.offset + (f*profEntrada + e)*tamKernel, 
+						cache, 0, 
+						altSaida, largSaida, altKernel, largKernel, largEntrada
+					);
 				}
 
-				for (int i = 0; i < altKernel; i++) {
-					for (int j = 0; j < largKernel; j++) {
-						kernel2D.set(kernel.get(f, e, i, j), i, j);
-					}
+				if (fx == null) {
+					ts.dados.add(ts.offset + f*tamSaida, cache.dados, 0, tamSaida);
+				} else {
+					epilogoConv(ts, cache, tb, fx, f, tamSaida);
 				}
-
-				correlacao2D(entrada2d, kernel2D, cache);
 			}
 
-			for (int i = 0; i < altSaida; i++) {
-				for (int j = 0; j < largSaida; j++) {
-					saida.add(cache.get(i, j), f, i, j);
-				}
-			}
-		}
+			PoolTensor.devolver(cache);
+		});
 
-		if (bias != null) {
-			for (int i = 0; i < numFiltros; i++) {
-				double b = bias.get(i);
-				for (int j = 0; j < altSaida; j++) {
-					for (int k = 0; k < largSaida; k++) {
-						saida.add(b, i, j, k);
-					}
-				}
-			}
+		if (fx == null && bias != null) {
+			// bias (filtros) expandido para (filtros, altura, largura)
+			ts.add(bias.view(numFiltros, 1, 1));
 		}
+
+		if (ts != saida) saida.copiar(ts);
 	}
 
 	/**
-	 * Realiza a propagação reversa através da camada convolucional.
+	 * Realiza a propagação reversa através da camada convolucional, calculando
+	 * as convoluções de cada par (filtro, canal) diretamente.
+	 * <p>
+	 *		Os gradientes são acumulados nos tensores de destino.
+	 * </p>
 	 * @param entrada {@code Tensor} contendo a entrada da camada.
 	 * @param kernel {@code Tensor} contendos o kernel/filtros da camada.
 	 * @param gradS {@code Tensor} contendo o gradiente em relação a saída da camada.
@@ -549,7 +4548,7 @@ public class OpTensor {
 	 * @param gradB {@code Tensor} contendo o gradiente em relação ao bias da camada {@code (podendo ser nulo)}.
 	 * @param gradE {@code Tensor} contendo o gradiente em relação à entrada da camada.
 	 */
-	public void conv2DBackward(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE) {
+	public void conv2DBackwardDireto(Tensor entrada, Tensor kernel, Tensor gradS, Tensor gradK, Tensor gradB, Tensor gradE) {
 		int[] shapeE = entrada.shape();
 		int[] shapeK = kernel.shape();
 		int[] shapeS = gradS.shape();
@@ -565,105 +4564,86 @@ public class OpTensor {
 		final int largS = shapeS[2];
 		final boolean temBias = gradB != null;
 
-		// NOTA
-		// essa ainda não é a melhor solução, mas é mais eficiente que 
-		// fazer slicing dentro dos loops.
+		// cada canal é acessado diretamente pelo seu deslocamento nos arrays,
+		// sem cópias para tensores 2D auxiliares.
 
-		// aproveitar paralelismo para dividir o trabalho e sobrecarregar
-		// menos um único núcleo do processador.
+		// o trabalho é dividido entre as threads do PoolCalculo em blocos de
+		// canais (gradiente da entrada) e blocos de filtros (gradiente dos
+		// kernels), cada elemento dos gradientes é calculado por um único bloco.
 
-		// gradiente em relação as entradas
-		Thread t1 = new Thread(() -> {
-			Tensor kernel2D = new Tensor(altK, largK);
-			Tensor gradSaida2D = new Tensor(altS, largS);
-			Tensor cache = new Tensor(altE, largE);
+		final Tensor tge = gradE.emHeap();
+		final Tensor tgk = gradK.emHeap();
+		final Dtype dtype = tge.dtype();
+		final Tensor te = entrada.paraDtype(dtype).emHeap();
+		final Tensor tk = kernel.paraDtype(dtype).emHeap();
+		final Tensor ts = gradS.paraDtype(dtype).emHeap();
+		final int tamE = altE * largE;
+		final int tamK = altK * largK;
+		final int tamS = altS * largS;
 
-			for (int e = 0; e < entradas; e++) {
-				cache.zerar();// zerar acumulador
-				for (int f = 0; f < filtros; f++) {
+		// os dois gradientes têm o mesmo custo (filtros * canais convoluções),
+		// então cada um recebe metade das partes
+		final int metade = (PoolCalculo.threads() + 1) / 2;
+		final int partesE = Math.min(entradas, metade);
+		final int partesK = Math.min(filtros, metade);
 
-					for (int i = 0; i < altK; i++) {
-						for (int j = 0; j < largK; j++) {
-							kernel2D.set(kernel.get(f, e, i, j), i, j);
-						}
-					}
-	
-					for (int i = 0; i < altS; i++) {
-						for (int j = 0; j < largS; j++) {
-							gradSaida2D.set(gradS.get(f, i, j), i, j);
-						}
-					}
-	
-					convolucao2DFull(gradSaida2D, kernel2D, cache);
-				}
+		PoolCalculo.executar(partesE + partesK, id -> {
+			if (id < partesE) {
+				// gradiente em relação as entradas
+				final int ini = id * entradas / partesE;
+				final int fim = (id + 1) * entradas / partesE;
+				Tensor cache = PoolTensor.pegar(dtype, altE, largE);
 
-				for (int i = 0; i < altE; i++) {
-					for (int j = 0; j < largE; j++) {
-						gradE.add(cache.get(i, j), e, i, j);
+				for (int e = ini; e < fim; e++) {
+					cache.zerar();// zerar acumulador
+					for (int f = 0; f < filtros; f++) {
+						convolucao2DFull(
+							ts, ts.offset + f*tamS, 
+							tk, tk.offset + (f*entradas + e)*tamK, 
+							cache, 0, 
+							altE, largE, altK, largK, altS, largS
+						);
 					}
+
+					tge.dados.add(tge.offset + e*tamE, cache.dados, 0, tamE);
 				}
-			}
-		});
 
-		// gradiente em relação aos kernels
-		Thread t2 = new Thread(() -> {
-			Tensor entrada2D = new Tensor(altE, largE);
-			Tensor gradSaida2D = new Tensor(altS, largS);
-			Tensor cache = new Tensor(altK, largK);
+				PoolTensor.devolver(cache);
 
-			for (int f = 0; f < filtros; f++) {
-				for (int e = 0; e < entradas; e++) {
-					cache.zerar();	
-					for (int i = 0; i < altE; i++) {
-						for (int j = 0; j < largE; j++) {
-							entrada2D.set(entrada.get(e, i, j), i, j);
-						}
-					}
-	
-					for (int i = 0; i < altS; i++) {
-						for (int j = 0; j < largS; j++) {
-							gradSaida2D.set(gradS.get(f, i, j), i, j);
-						}
-					}
-	
-					correlacao2D(entrada2D, gradSaida2D, cache);	
-					
-					for (int i = 0; i < altK; i++) {
-						for (int j = 0; j < largK; j++) {
-							gradK.add(cache.get(i, j), f, e, i, j);
-						}
+			} else {
+				// gradiente em relação aos kernels
+				final int parte = id - partesE;
+				final int ini = parte * filtros / partesK;
+				final int fim = (parte + 1) * filtros / partesK;
+				Tensor cache = PoolTensor.pegar(dtype, altK, largK);
+
+				for (int f = ini; f < fim; f++) {
+					for (int e = 0; e < entradas; e++) {
+						cache.zerar();
+						correlacao2D(
+							te, te.offset + e*tamE, 
+							ts, ts.offset + f*tamS, 
+							cache, 0, 
+							altK, largK, altS, largS, largE
+						);
+						
+						tgk.dados.add(tgk.offset + (f*entradas + e)*tamK, cache.dados, 0, tamK);
 					}
 				}
+
+				PoolTensor.devolver(cache);
 			}
 		});
 
-		t1.start();
-		t2.start();
-
 		// gradiente em relação aos bias
-		Thread t3 = null;
 		if (temBias) {
-			t3 = new Thread(() -> {
-				for (int i = 0; i < filtros; i++) {
-					double soma = 0.0;
-					for (int j = 0; j < altS; j++) {
-						for (int k = 0; k < largS; k++) {
-							soma += gradS.get(i, j, k);
-						}
-					}
-					gradB.add(soma, i);
-				}
-			});
-			t3.start();
-		}
-	
-		try {
-			t1.join();
-			t2.join();
-			if (temBias) t3.join();
-		} catch (InterruptedException e) {
-			System.out.println(e.getMessage());
+			for (int i = 0; i < filtros; i++) {
+				gradB.add(ts.dados.soma(ts.offset + i*tamS, tamS), i);
+			}
 		}
+
+		if (tge != gradE) gradE.copiar(tge);
+		if (tgk != gradK) gradK.copiar(tgk);
 	}
 
 }
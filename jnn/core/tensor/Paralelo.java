@@ -0,0 +1,141 @@
+package jnn.core.tensor;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleBinaryOperator;
+
+import jnn.core.PoolCalculo;
+
+/**
+ * Auxiliar na execução paralela de operações sobre tensores grandes.
+ * <p>
+ *		Os elementos são divididos em blocos de tamanho fixo ({@code GRAO}),
+ *		processados no pool de threads da biblioteca ({@code PoolCalculo}).
+ * </p>
+ * <p>
+ *		A divisão depende apenas da quantidade de elementos, nunca da quantidade
+ *		de núcleos disponíveis, e os resultados parciais das reduções são
+ *		combinados sempre na mesma ordem. Dessa forma o resultado é determinístico
+ *		e igual em qualquer máquina.
+ * </p>
+ */
+final class Paralelo {
+
+	/**
+	 * Quantidade mínima de elementos para que a operação seja paralelizada.
+	 */
+	static final int LIMIAR = 1 << 16;
+
+	/**
+	 * Quantidade de elementos processados por cada bloco.
+	 */
+	static final int GRAO = 1 << 14;
+
+	/**
+	 * Classe utilitária.
+	 */
+	private Paralelo() {}
+
+	/**
+	 * Operação aplicada num intervalo de elementos.
+	 */
+	interface Bloco {
+
+		/**
+		 * Executa a operação no intervalo {@code [ini, fim)}.
+		 * @param ini índice inicial.
+		 * @param fim índice final (exclusivo).
+		 */
+		void executar(int ini, int fim);
+	}
+
+	/**
+	 * Redução aplicada num intervalo de elementos.
+	 */
+	interface Reducao {
+
+		/**
+		 * Calcula o resultado parcial do intervalo {@code [ini, fim)}.
+		 * @param ini índice inicial.
+		 * @param fim índice final (exclusivo).
+		 * @return resultado parcial.
+		 */
+		double calcular(int ini, int fim);
+	}
+
+	/**
+	 * Verifica se a quantidade de elementos justifica a execução paralela.
+	 * @param n quantidade de elementos.
+	 * @return {@code true} caso a operação deva ser paralelizada,
+	 * {@code false} caso contrário.
+	 */
+	static boolean usar(int n) {
+		return n >= LIMIAR;
+	}
+
+	/**
+	 * Executa a operação sobre {@code n} elementos, em paralelo.
+	 * @param n quantidade de elementos.
+	 * @param bloco operação aplicada em cada bloco.
+	 */
+	static void executar(int n, Bloco bloco) {
+		final int blocos = (n + GRAO - 1) / GRAO;
+		PoolCalculo.pool().invoke(new Tarefa(0, blocos, n, bloco));
+	}
+
+	/**
+	 * Reduz {@code n} elementos em paralelo.
+	 * <p>
+	 *		Os resultados parciais de cada bloco são combinados sequencialmente,
+	 *		do primeiro ao último bloco.
+	 * </p>
+	 * @param n quantidade de elementos.
+	 * @param reducao redução aplicada em cada bloco.
+	 * @param combinar função de combinação dos resultados parciais.
+	 * @return resultado da redução.
+	 */
+	static double reduzir(int n, Reducao reducao, DoubleBinaryOperator combinar) {
+		final int blocos = (n + GRAO - 1) / GRAO;
+		final double[] parciais = new double[blocos];
+
+		executar(n, (ini, fim) -> parciais[ini / GRAO] = reducao.calcular(ini, fim));
+
+		double res = parciais[0];
+		for (int i = 1; i < blocos; i++) {
+			res = combinar.applyAsDouble(res, parciais[i]);
+		}
+
+		return res;
+	}
+
+	/**
+	 * Tarefa de divisão recursiva dos blocos.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Tarefa extends RecursiveAction {
+		final int blocoIni, blocoFim, n;
+		final Bloco bloco;
+
+		Tarefa(int blocoIni, int blocoFim, int n, Bloco bloco) {
+			this.blocoIni = blocoIni;
+			this.blocoFim = blocoFim;
+			this.n = n;
+			this.bloco = bloco;
+		}
+
+		@Override
+		protected void compute() {
+			if (blocoFim - blocoIni == 1) {
+				int ini = blocoIni * GRAO;
+				bloco.executar(ini, Math.min(n, ini + GRAO));
+				return;
+			}
+
+			int meio = (blocoIni + blocoFim) >>> 1;
+			invokeAll(
+				new Tarefa(blocoIni, meio, n, bloco),
+				new Tarefa(meio, blocoFim, n, bloco)
+			);
+		}
+	}
+
+}
@@ -0,0 +1,201 @@
+package jnn.core.tensor;
+
+import java.util.ArrayList;
+
+/**
+ * Pool de tensores temporários, organizado por formato e tipo de dado.
+ * <p>
+ *		Camadas e operadores que precisam de tensores auxiliares a cada
+ *		chamada (como acumuladores e cópias de canais) podem pegá-los
+ *		emprestados do pool e devolvê-los ao terminar, evitando novas
+ *		alocações durante o treinamento.
+ * </p>
+ * <pre>
+ *Tensor temp = PoolTensor.pegar(Dtype.FLOAT64, 3, 3);
+ *...
+ *PoolTensor.devolver(temp);
+ * </pre>
+ * <p>
+ *		O pool é compartilhado entre threads. Um tensor devolvido não deve
+ *		mais ser usado por quem o devolveu.
+ * </p>
+ * <p>
+ *		Os contadores de acertos e falhas permitem verificar se um passo de
+ *		treino em regime estável está reaproveitando todos os seus temporários.
+ * </p>
+ */
+public final class PoolTensor {
+
+	/**
+	 * Quantidade máxima de tensores livres mantidos pelo pool.
+	 */
+	private static final int MAX_LIVRES = 64;
+
+	/**
+	 * Tensores disponíveis para empréstimo.
+	 */
+	private static final ArrayList<Tensor> livres = new ArrayList<>();
+
+	/**
+	 * Quantidade de empréstimos atendidos com tensores do pool.
+	 */
+	private static long acertos = 0;
+
+	/**
+	 * Quantidade de empréstimos que precisaram alocar um novo tensor.
+	 */
+	private static long falhas = 0;
+
+	/**
+	 * Classe utilitária.
+	 */
+	private PoolTensor() {}
+
+	/**
+	 * Empresta um tensor, zerado, com o formato e tipo de dado informados.
+	 * <p>
+	 *		Caso não exista nenhum tensor compatível disponível, um novo é alocado.
+	 * </p>
+	 * @param dtype tipo de dado desejado.
+	 * @param shape formato desejado.
+	 * @return {@code Tensor} emprestado.
+	 */
+	public static Tensor pegar(Dtype dtype, int... shape) {
+		if (dtype == null) {
+			throw new IllegalArgumentException(
+				"\nTipo de dado fornecido é nulo."
+			);
+		}
+		if (shape == null) {
+			throw new IllegalArgumentException(
+				"\nShape fornecido é nulo."
+			);
+		}
+
+		Tensor t = buscar(dtype, shape);
+		if (t == null) return new Tensor(dtype, shape);
+
+		t.zerar();
+		return t;
+	}
+
+	/**
+	 * Empresta um tensor, zerado, com o mesmo formato e tipo de dado
+	 * do tensor informado.
+	 * @param modelo {@code Tensor} base.
+	 * @return {@code Tensor} emprestado.
+	 */
+	public static Tensor pegar(Tensor modelo) {
+		if (modelo == null) {
+			throw new IllegalArgumentException(
+				"\nO tensor fornecido é nulo."
+			);
+		}
+
+		Tensor t = buscar(modelo.dtype(), modelo.shape);
+		if (t == null) return new Tensor(modelo.dtype(), modelo.shape);
+
+		t.zerar();
+		return t;
+	}
+
+	/**
+	 * Procura um tensor livre compatível, removendo-o do pool.
+	 * @param dtype tipo de dado desejado.
+	 * @param shape formato desejado.
+	 * @return {@code Tensor} encontrado ou {@code null} caso não exista.
+	 */
+	private static synchronized Tensor buscar(Dtype dtype, int[] shape) {
+		for (int i = livres.size() - 1; i >= 0; i--) {
+			Tensor t = livres.get(i);
+			if (t.dtype() == dtype && t.compararShape(shape)) {
+				livres.remove(i);
+				acertos++;
+				return t;
+			}
+		}
+
+		falhas++;
+		return null;
+	}
+
+	/**
+	 * Devolve os tensores ao pool.
+	 * <p>
+	 *		Apenas tensores contíguos, armazenados na heap e que não sejam
+	 *		visualizações de outros tensores são mantidos, os demais são
+	 *		ignorados.
+	 * </p>
+	 * @param tensores tensores que não serão mais usados.
+	 */
+	public static synchronized void devolver(Tensor... tensores) {
+		for (Tensor t : tensores) {
+			if (t == null || !reaproveitavel(t)) continue;
+
+			for (int i = 0; i < livres.size(); i++) {
+				if (livres.get(i) == t) {
+					throw new IllegalArgumentException(
+						"\nO tensor fornecido já foi devolvido ao pool."
+					);
+				}
+			}
+
+			// descartar o mais antigo
+			if (livres.size() >= MAX_LIVRES) livres.remove(0);
+			livres.add(t);
+		}
+	}
+
+	/**
+	 * Verifica se o tensor pode ser reaproveitado pelo pool.
+	 * @param t {@code Tensor} desejado.
+	 * @return {@code true} caso o tensor possa ser reaproveitado,
+	 * {@code false} caso contrário.
+	 */
+	private static boolean reaproveitavel(Tensor t) {
+		return t.contiguo() &&
+			!t.foraDaHeap() &&
+			t.offset == 0 &&
+			t.dados.tamanho() == t.tamanho();
+	}
+
+	/**
+	 * Retorna a quantidade de empréstimos atendidos com tensores do pool.
+	 * @return quantidade de acertos.
+	 */
+	public static synchronized long acertos() {
+		return acertos;
+	}
+
+	/**
+	 * Retorna a quantidade de empréstimos que precisaram alocar um novo tensor.
+	 * @return quantidade de falhas.
+	 */
+	public static synchronized long falhas() {
+		return falhas;
+	}
+
+	/**
+	 * Retorna a quantidade de tensores atualmente livres no pool.
+	 * @return quantidade de tensores livres.
+	 */
+	public static synchronized int livres() {
+		return livres.size();
+	}
+
+	/**
+	 * Zera os contadores de acertos e falhas.
+	 */
+	public static synchronized void zerarContadores() {
+		acertos = 0;
+		falhas = 0;
+	}
+
+	/**
+	 * Remove todos os tensores livres do pool.
+	 */
+	public static synchronized void limpar() {
+		livres.clear();
+	}
+
+}
@@ -1,5 +1,6 @@
 package jnn.core.tensor;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.function.DoubleUnaryOperator;
 
@@ -7,8 +8,6 @@ import jnn.serializacao.SerialTensor;
 
 import java.util.function.DoubleBinaryOperator;
 
-//TODO broadcasting entre tensores
-
 /**
  * <h2>
  *		Tensor multidimensional
@@ -50,12 +49,44 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	/**
 	 * Dimensões do tensor.
 	 */
-	private int[] shape;
+	int[] shape;
 
 	/**
 	 * Conjunto de elementos do tensor.
+	 * <p>
+	 *		Os elementos ficam armazenados num único bloco linear, que
+	 *		pode ser compartilhado entre diferentes visualizações do tensor.
+	 * </p>
+	 */
+	Armazenamento dados;
+
+	/**
+	 * Posição do primeiro elemento do tensor dentro do array de dados.
+	 */
+	int offset;
+
+	/**
+	 * Quantidade de posições que devem ser avançadas no array de dados
+	 * para cada incremento de índice em cada dimensão do tensor.
+	 */
+	int[] strides;
+
+	/**
+	 * Indica se os elementos do tensor estão dispostos de forma contígua
+	 * (row-major) dentro do array de dados.
 	 */
-	private Variavel[] dados;
+	boolean contiguo;
+
+	/**
+	 * Quantidade de elementos do tensor.
+	 */
+	private int numElementos;
+
+	/**
+	 * Visualizações em forma de {@code Variavel} dos elementos do tensor,
+	 * criadas apenas quando solicitadas.
+	 */
+	private Variavel[] vars;
 
 	/**
 	 * Nome do tensor.
@@ -76,13 +107,8 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-        this.shape = tensor.shape.clone();
-
-        int n = tensor.tamanho();
-        dados = initDados(n);
-		for (int i = 0; i < n; i++) {
-			dados[i].set(tensor.dados[i]);
-		}
+        initDados(tensor.dtype(), tensor.shape);
+		copiar(tensor);
     }
 
 	/**
@@ -96,14 +122,13 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-		this.shape = new int[]{
+		initDados(Dtype.FLOAT64, new int[]{
             tensor.length, 
             tensor[0].length, 
             tensor[0][0].length, 
             tensor[0][0][0].length
-        };
+        });
 
-		dados = initDados(shape[0] * shape[1] * shape[2] * shape[3]);
 		copiar(tensor);
 	}
 
@@ -118,13 +143,12 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-		this.shape = new int[]{
+		initDados(Dtype.FLOAT64, new int[]{
             tensor.length, 
             tensor[0].length, 
             tensor[0][0].length,
-        };
+        });
 
-		dados = initDados(shape[0] * shape[1] * shape[2]);
 		copiar(tensor);
 	}
 
@@ -148,34 +172,29 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			}
 		}
 
-		this.shape = copiarShape(new int[]{mat.length, mat[0].length});
-		dados = initDados(mat.length * mat[0].length);
+		initDados(Dtype.FLOAT64, new int[]{mat.length, mat[0].length});
 		copiar(mat);
 	}
 
 	/**
-	 * Inicializa um tensor a partir de um array de variáveis.
-	 * @param arr array desejado.
-	 * @param dims dimensões desejadas.
-	 */
-    private Tensor(Variavel[] arr, int... dims) {
-        shape = copiarShape(dims);
-
-		if (arr == null) {
-			throw new IllegalArgumentException(
-				"\nConjunto de elementos nulo"
-			);
-		}
-
-		if (arr.length != calcularTamanho(dims)) {
-			throw new IllegalArgumentException(
-				"\nNúmero de elementos das dimensões dadas (" + calcularTamanho(dims) + "), " +
-				"deve ser igual ao número de elementos dos dados fornecidos (" + arr.length + ")"
-			);
-		}
-
-		dados = arr;
-    }
+	 * Inicializa uma visualização sobre um array de dados já existente.
+	 * <p>
+	 *		Nenhum dado é copiado, o tensor criado compartilha o mesmo
+	 *		array de elementos.
+	 * </p>
+	 * @param dados armazenamento compartilhado.
+	 * @param offset posição do primeiro elemento.
+	 * @param shape formato da visualização.
+	 * @param strides strides da visualização.
+	 */
+	Tensor(Armazenamento dados, int offset, int[] shape, int[] strides) {
+		this.dados = dados;
+		this.offset = offset;
+		this.shape = shape;
+		this.strides = strides;
+		this.numElementos = calcularTamanho(shape);
+		this.contiguo = verificarContiguo();
+	}
 
 	/**
 	 * Inicializar um tensor a partir de um conjunto de dados e formato
@@ -192,12 +211,8 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 				"formato fornecido (" + tam + ")"
 			);
 		}
-		this.shape = s;
-
-		this.dados = initDados(tam);
-		for (int i = 0; i < tam; i++) {
-			this.dados[i].set(dados[i]);
-		}
+		initDados(Dtype.FLOAT64, s);
+		copiarElementos(dados);
 	}
 
     /**
@@ -211,24 +226,183 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
             );
         }
 
-        int tam = calcularTamanho(shape);
+        initDados(Dtype.FLOAT64, copiarShape(shape));
+    }
+
+    /**
+     * Inicializa um novo tensor vazio a partir de um formato especificado,
+	 * usando o tipo de dado informado para seus elementos.
+	 * @param dtype tipo de dado dos elementos.
+     * @param shape formato desejado.
+     */
+    public Tensor(Dtype dtype, int... shape) {
+		if (dtype == null) {
+			throw new IllegalArgumentException(
+				"\nTipo de dado fornecido é nulo."
+			);
+		}
+        if (shape == null) {
+            throw new IllegalArgumentException(
+                "\nShape fornecido é nulo."
+            );
+        }
 
-        this.shape = copiarShape(shape);
-        dados = initDados(tam);
+        initDados(dtype, copiarShape(shape));
     }
 
 	/**
 	 * Auxiliar na inicialização do conjunto de dados do tensor.
-	 * @param tamanho tamanho desejado.
-	 * @return array de dados alocado.
+	 * <p>
+	 *		O array alocado é contíguo e tem o tamanho necessário 
+	 *		para o formato informado.
+	 * </p>
+	 * @param dtype tipo de dado dos elementos.
+	 * @param shape formato desejado.
+	 */
+	private void initDados(Dtype dtype, int[] shape) {
+		this.shape = shape.clone();
+		this.strides = calcularStrides(shape);
+		this.numElementos = calcularTamanho(shape);
+		this.dados = Armazenamento.alocar(dtype, numElementos);
+		this.offset = 0;
+		this.contiguo = true;
+		this.vars = null;
+	}
+
+	/**
+	 * Calcula os strides de um tensor contíguo (row-major) com o
+	 * formato informado.
+	 * @param shape formato desejado.
+	 * @return strides calculados.
+	 */
+	static int[] calcularStrides(int[] shape) {
+		int[] s = new int[shape.length];
+		int passo = 1;
+		for (int i = shape.length - 1; i >= 0; i--) {
+			s[i] = passo;
+			passo *= shape[i];
+		}
+
+		return s;
+	}
+
+	/**
+	 * Verifica se o formato e strides atuais correspondem a uma
+	 * disposição contígua dos elementos no array de dados.
+	 * @return {@code true} caso o tensor seja contíguo, {@code false}
+	 * caso contrário.
 	 */
-	private Variavel[] initDados(int tamanho) {
-		Variavel[] d = new Variavel[tamanho];
-		for (int i = 0; i < tamanho; i++) {
-			d[i] = new Variavel(0.0);
+	private boolean verificarContiguo() {
+		int passo = 1;
+		for (int i = shape.length - 1; i >= 0; i--) {
+			if (shape[i] != 1 && strides[i] != passo) return false;
+			passo *= shape[i];
 		}
 
-		return d;
+		return true;
+	}
+
+	/**
+	 * Calcula a posição, dentro do array de dados, do elemento de 
+	 * índice linear (row-major) informado.
+	 * @param i índice linear do elemento.
+	 * @return posição do elemento no array de dados.
+	 */
+	int posicao(int i) {
+		if (contiguo) return offset + i;
+
+		int pos = offset;
+		for (int d = shape.length - 1; d >= 0; d--) {
+			pos += (i % shape[d]) * strides[d];
+			i /= shape[d];
+		}
+
+		return pos;
+	}
+
+	/**
+	 * Retorna o tensor com seus elementos dispostos de forma contígua.
+	 * <p>
+	 *		Caso a instância local já seja contígua ela mesma é retornada,
+	 *		caso contrário é retornada uma cópia contígua.
+	 * </p>
+	 * <p>
+	 *		Visualizações (como as criadas por {@code transpor()}, {@code slice()}
+	 *		ou {@code squeeze()}) podem não ser contíguas, esse método deve ser
+	 *		usado quando for necessário operar diretamente sobre um bloco
+	 *		linear de memória.
+	 * </p>
+	 * @return {@code Tensor} contíguo.
+	 */
+	public Tensor materializar() {
+		return contiguo ? this : new Tensor(this);
+	}
+
+	/**
+	 * Verifica se os elementos do tensor estão dispostos de forma contígua
+	 * (row-major) na memória.
+	 * @return {@code true} caso o tensor seja contíguo, {@code false} caso
+	 * seja uma visualização com strides arbitrários.
+	 */
+	public boolean contiguo() {
+		return contiguo;
+	}
+
+	/**
+	 * Retorna o tensor com seus elementos contíguos e armazenados na heap.
+	 * <p>
+	 *		Usado pelos kernels que só operam sobre arrays primitivos (correlação
+	 *		2D, depthwise e os algoritmos de convolução direto, em blocos,
+	 *		Winograd e FFT), tensores fora da heap são copiados. Multiplicação
+	 *		de matrizes e {@code im2col} operam diretamente sobre o armazenamento.
+	 * </p>
+	 * @return {@code Tensor} contíguo na heap.
+	 */
+	Tensor emHeap() {
+		return (contiguo && !foraDaHeap()) ? this : new Tensor(this);
+	}
+
+	/**
+	 * Retorna a versão dos elementos do tensor.
+	 * <p>
+	 *		A versão pertence ao armazenamento, então é compartilhada por todas
+	 *		as vistas dos mesmos dados. Ela avança nas cópias
+	 *		({@code copiar()} e {@code copiarElementos()}), a cada atualização
+	 *		dos otimizadores e em {@code marcarAlterado()}. Serve para que
+	 *		valores derivados do tensor, como os espectros dos kernels da
+	 *		convolução por FFT, sejam recalculados sem comparar elemento a
+	 *		elemento.
+	 * </p>
+	 * @return versão atual.
+	 */
+	public int versao() {
+		return dados.versao;
+	}
+
+	/**
+	 * Avança a versão dos elementos do tensor, indicando que seus valores
+	 * foram alterados.
+	 * <p>
+	 *		Deve ser chamado depois de alterações feitas elemento a elemento
+	 *		(por {@code set()}, {@code Variavel} ou operações in-place) em
+	 *		tensores cujos valores derivados ficam em cache, como os kernels
+	 *		de uma camada convolucional.
+	 * </p>
+	 * @return instância local alterada.
+	 */
+	public Tensor marcarAlterado() {
+		dados.versao++;
+		return this;
+	}
+
+	/**
+	 * Verifica se os elementos do tensor estão armazenados fora da heap,
+	 * alocados por uma {@code ArenaTensor}.
+	 * @return {@code true} caso o armazenamento esteja fora da heap,
+	 * {@code false} caso contrário.
+	 */
+	public boolean foraDaHeap() {
+		return dados instanceof ArmazenamentoOffHeap;
 	}
 
 	/**
@@ -295,6 +469,11 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * A configuração não altera o conteúdo do tensor, e sim a forma
 	 * como os dados são tratados e acessados.
 	 * </p>
+	 * <p>
+	 * Caso o tensor não seja contíguo (como no caso de um {@code slice}),
+	 * seus elementos são copiados para um novo array antes da alteração
+	 * e a instância deixa de compartilhar dados com o tensor de origem.
+	 * </p>
 	 * Exemplo:
 	 * <pre>
 	 *tensor = [
@@ -324,65 +503,114 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-		this.shape = novoShape;
+		if (!contiguo) {
+			double[] arr = paraArrayDouble();
+			initDados(dtype(), novoShape);
+			copiarElementos(arr);
+		} else {
+			this.shape = novoShape;
+			this.strides = calcularStrides(novoShape);
+		}
 
 		return this;
 	}
 
 	/**
 	 * Cria uma nova visualização do tensor com as dimensões especificadas.
+	 * <p>
+	 *		A visualização compartilha os dados da instância local. Caso o
+	 *		tensor não seja contíguo, a visualização é criada sobre uma cópia
+	 *		de seus elementos.
+	 * </p>
 	 * @param dims dimensões desejadas.
 	 * @return {@code Tensor} com a visualização desejada.
 	 */
 	public Tensor view(int... dims) {
-		return new Tensor(dados, dims);
+		int[] novoShape = copiarShape(dims);
+		int novoTam = calcularTamanho(novoShape);
+
+		if (novoTam != tamanho()) {
+			throw new IllegalArgumentException(
+				"\nNúmero de elementos das dimensões dadas (" + novoTam + "), " +
+				"deve ser igual ao número de elementos dos dados fornecidos (" + tamanho() + ")"
+			);
+		}
+
+		Tensor t = materializar();
+		return new Tensor(t.dados, t.offset, novoShape, calcularStrides(novoShape));
 	}
 
 	/**
 	 * Transpõe o conteúdo do tensor.
+	 * <p>
+	 *		Nenhum dado é copiado, o tensor retornado é uma visualização com
+	 *		as dimensões (e strides) invertidas e compartilha os elementos
+	 *		da instância local.
+	 * </p>
 	 * @return {@code Tensor} transposto.
 	 */
-    public Tensor transpor() {
-        if (shape.length == 1) {
+	public Tensor transpor() {
+		if (shape.length == 1) {
 			//transpor tensor coluna
-			Tensor t = new Tensor(shape[0], 1);
-			t.copiarElementos(dados);
-			return t;
-        }
+			return new Tensor(dados, offset, new int[]{shape[0], 1}, new int[]{strides[0], 1});
+		}
 		
 		if (shape.length == 2 && shape[1] == 1) {
-			Tensor t = new Tensor(shape[0]);
-			t.copiarElementos(dados);
-			return t;
+			return new Tensor(dados, offset, new int[]{shape[0]}, new int[]{strides[0]});
 		}
 
-        int[] novoShape = new int[shape.length];
-        for (int i = 0; i < shape.length; i++) {
-            novoShape[i] = shape[shape.length - i - 1];
-        }
-		
-        Tensor t = new Tensor(novoShape);
-
-        int[] idsOriginais = new int[shape.length];
-        int[] idsTranspostos = new int[shape.length];
-        for (int i = 0; i < dados.length; i++) {
-            int temp = i;
-            for (int j = shape.length - 1; j >= 0; j--) {
-                idsOriginais[j] = temp % shape[j];
-                temp /= shape[j];
-            }
+		final int n = shape.length;
+		int[] novoShape = new int[n];
+		int[] novosStrides = new int[n];
+		for (int i = 0; i < n; i++) {
+			novoShape[i] = shape[n - i - 1];
+			novosStrides[i] = strides[n - i - 1];
+		}
 
-            for (int j = 0; j < shape.length; j++) {
-                idsTranspostos[j] = idsOriginais[shape.length - j - 1];
-            }
+		return new Tensor(dados, offset, novoShape, novosStrides);
+	}
+
+	/**
+	 * Reordena as dimensões do tensor.
+	 * <p>
+	 *		Nenhum dado é copiado, o tensor retornado é uma visualização em que
+	 *		a dimensão {@code i} corresponde à dimensão {@code eixos[i]} da
+	 *		instância local e compartilha seus elementos.
+	 * </p>
+	 * Exemplo:
+	 * <pre>
+	 *tensor = new Tensor(canais, altura, largura);
+	 *p = tensor.permutar(1, 2, 0);// (altura, largura, canais)
+	 * </pre>
+	 * @param eixos nova ordem das dimensões.
+	 * @return {@code Tensor} com as dimensões reordenadas.
+	 */
+	public Tensor permutar(int... eixos) {
+		final int n = shape.length;
+		if (eixos == null || eixos.length != n) {
+			throw new IllegalArgumentException(
+				"\nA permutação deve conter " + n + " eixos."
+			);
+		}
 
-			int indiceTransposto = t.indice(idsTranspostos);
+		int[] novoShape = new int[n];
+		int[] novosStrides = new int[n];
+		boolean[] usado = new boolean[n];
+		for (int i = 0; i < n; i++) {
+			int eixo = eixos[i];
+			if (eixo < 0 || eixo >= n || usado[eixo]) {
+				throw new IllegalArgumentException(
+					"\nPermutação " + Arrays.toString(eixos) + " inválida para o tensor " + shapeStr()
+				);
+			}
 
-            t.dados[indiceTransposto] = dados[i];
-        }
+			usado[eixo] = true;
+			novoShape[i] = shape[eixo];
+			novosStrides[i] = strides[eixo];
+		}
 
-        return t;
-    }
+		return new Tensor(dados, offset, novoShape, novosStrides);
+	}
 
 	/**
 	 * Copia os elementos do tensores multiplas vezes.
@@ -410,17 +638,14 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 
 		int elementos = tamanho();
 
-		Variavel[] arr = new Variavel[elementos * n];
+		Tensor bloco = new Tensor(dtype(), n, elementos);
 		for (int i = 0; i < n; i++) {
 			int inicio = i*elementos;
 			for (int j = 0; j < elementos; j++) {
-				arr[inicio + j] = new Variavel(dados[j]);
+				bloco.dados.set(inicio + j, dados.get(posicao(j)));
 			}
 		}
 
-		Tensor bloco = new Tensor(arr, arr.length);
-		bloco.reshape(n, elementos);
-
 		return bloco;
 	}
 
@@ -429,7 +654,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
      * @param dims índices desejados.
      * @return índice correspondente no array de elementos do tensor.
      */
-    private int indice(int... dims) {
+    int indice(int... dims) {
         if (numDim() != dims.length) {
             throw new IllegalArgumentException(
 				"\nNúmero de dimensões fornecidas " + dims.length + 
@@ -437,8 +662,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
         }
     
-        int id = 0;
-        int multiplicador = 1;
+        int id = offset;
     
         for (int i = shape.length - 1; i >= 0; i--) {
             if (dims[i] < 0 || dims[i] >= shape[i]) {
@@ -447,38 +671,202 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 					" (tamanho = " + shape[i] + ");"
 				);
             }
-            id += dims[i] * multiplicador;
-            multiplicador *= shape[i];
+            id += dims[i] * strides[i];
         }
     
         return id;
     }
 
+	/**
+	 * Verifica se a quantidade de índices corresponde à quantidade de
+	 * dimensões do tensor.
+	 * @param n quantidade de índices fornecidos.
+	 */
+	private void verificarNumDim(int n) {
+		if (shape.length != n) {
+			throw new IllegalArgumentException(
+				"\nNúmero de dimensões fornecidas " + n + 
+				" não corresponde às " + numDim() + " do tensor."
+			);
+		}
+	}
+
+	/**
+	 * Verifica se o índice está dentro dos limites da dimensão.
+	 * @param id índice fornecido.
+	 * @param dim dimensão do índice.
+	 * @return deslocamento do índice dentro do armazenamento.
+	 */
+	private int deslocamento(int id, int dim) {
+		if (id < 0 || id >= shape[dim]) {
+			throw new IllegalArgumentException(
+				"\nÍndice " + id + " fora dos limites para a dimensão " + dim +
+				" (tamanho = " + shape[dim] + ");"
+			);
+		}
+
+		return id * strides[dim];
+	}
+
+	/**
+	 * Calcula o índice de um elemento de um tensor 1D.
+	 * @param i índice da primeira dimensão.
+	 * @return índice correspondente no array de elementos do tensor.
+	 */
+	private int indice(int i) {
+		verificarNumDim(1);
+		return offset + deslocamento(i, 0);
+	}
+
+	/**
+	 * Calcula o índice de um elemento de um tensor 2D.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @return índice correspondente no array de elementos do tensor.
+	 */
+	private int indice(int i, int j) {
+		verificarNumDim(2);
+		return offset + deslocamento(i, 0) + deslocamento(j, 1);
+	}
+
+	/**
+	 * Calcula o índice de um elemento de um tensor 3D.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 * @return índice correspondente no array de elementos do tensor.
+	 */
+	private int indice(int i, int j, int k) {
+		verificarNumDim(3);
+		return offset + deslocamento(i, 0) + deslocamento(j, 1) + deslocamento(k, 2);
+	}
+
+	/**
+	 * Calcula o índice de um elemento de um tensor 4D.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 * @param l índice da quarta dimensão.
+	 * @return índice correspondente no array de elementos do tensor.
+	 */
+	private int indice(int i, int j, int k, int l) {
+		verificarNumDim(4);
+		return offset + deslocamento(i, 0) + deslocamento(j, 1) + deslocamento(k, 2) + deslocamento(l, 3);
+	}
+
 	/**
 	 * Retorna o elemento do tensor de acordo com os índices fornecidos.
 	 * @param ids índices desejados para busca.
 	 * @return valor de acordo com os índices.
 	 */
     public double get(int... ids) {
-        return dados[indice(ids)].get();
+        return dados.get(indice(ids));
     }
 
+	/**
+	 * Retorna o elemento de um tensor 1D.
+	 * <p>
+	 *		Versões com quantidade fixa de índices não alocam arrays, sendo
+	 *		preferíveis em laços internos.
+	 * </p>
+	 * @param i índice da primeira dimensão.
+	 * @return valor do elemento.
+	 */
+	public double get(int i) {
+		return dados.get(indice(i));
+	}
+
+	/**
+	 * Retorna o elemento de um tensor 2D.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @return valor do elemento.
+	 */
+	public double get(int i, int j) {
+		return dados.get(indice(i, j));
+	}
+
+	/**
+	 * Retorna o elemento de um tensor 3D.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 * @return valor do elemento.
+	 */
+	public double get(int i, int j, int k) {
+		return dados.get(indice(i, j, k));
+	}
+
+	/**
+	 * Retorna o elemento de um tensor 4D.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 * @param l índice da quarta dimensão.
+	 * @return valor do elemento.
+	 */
+	public double get(int i, int j, int k, int l) {
+		return dados.get(indice(i, j, k, l));
+	}
+
 	/**
 	 * Edita o valor do tensor usando o valor informado.
 	 * @param x valor desejado.
 	 * @param ids índices para atribuição.
 	 */
     public void set(double x, int... ids) {
-        dados[indice(ids)].set(x);
+        dados.set(indice(ids), x);
     }
 
+	/**
+	 * Edita o valor de um elemento de um tensor 1D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 */
+	public void set(double x, int i) {
+		dados.set(indice(i), x);
+	}
+
+	/**
+	 * Edita o valor de um elemento de um tensor 2D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 */
+	public void set(double x, int i, int j) {
+		dados.set(indice(i, j), x);
+	}
+
+	/**
+	 * Edita o valor de um elemento de um tensor 3D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 */
+	public void set(double x, int i, int j, int k) {
+		dados.set(indice(i, j, k), x);
+	}
+
+	/**
+	 * Edita o valor de um elemento de um tensor 4D.
+	 * @param x valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 * @param l índice da quarta dimensão.
+	 */
+	public void set(double x, int i, int j, int k, int l) {
+		dados.set(indice(i, j, k, l), x);
+	}
+
 	/**
 	 * Edita o valor do tensor usando uma variável.
 	 * @param var variável com valor desejado.
 	 * @param ids índices para atribuição.
 	 */
 	public void set(Variavel var, int... ids) {
-		dados[indice(ids)].set(var);
+		dados.set(indice(ids), var.get());
 	}
 
 	/**
@@ -487,9 +875,13 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor preencher(double valor) {
-		final int n = tamanho();
-		for (int i = 0; i < n; i++) {
-			dados[i].set(valor);
+		if (contiguo) {
+			dados.preencher(offset, tamanho(), valor);
+		} else {
+			final int n = tamanho();
+			for (int i = 0; i < n; i++) {
+				dados.set(posicao(i), valor);
+			}
 		}
 
 		return this;
@@ -507,12 +899,12 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 
 		if (cres) {
 			for (int i = 0; i < tam; i++) {
-				dados[i].set(i+1);
+				dados.set(posicao(i), i+1);
 			}
 
 		} else {
 			for (int i = 0; i < tam; i++) {
-				dados[i].set(tam-i-1);
+				dados.set(posicao(i), tam-i-1);
 			}
 		}
 
@@ -524,12 +916,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor zerar() {
-        final int n = tamanho();
-		for (int i = 0; i < n; i++) {
-			dados[i].set(0.0);
-		}
-
-		return this;
+		return preencher(0.0);
 	}
 
 	/**
@@ -546,14 +933,29 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-		int n = tamanho();
-		for (int i = 0; i < n; i++) {
-			dados[i].set(tensor.dados[i]);
-		}
+		copiarDados(tensor);
 
 		return this;
 	}
 
+	/**
+	 * Copia os elementos do tensor recebido, na ordem linear, para a 
+	 * instância local.
+	 * @param tensor {@code Tensor} com a mesma quantidade de elementos.
+	 */
+	private void copiarDados(Tensor tensor) {
+		final int n = tamanho();
+		if (contiguo && tensor.contiguo) {
+			tensor.dados.copiar(tensor.offset, dados, offset, n);
+		} else {
+			for (int i = 0; i < n; i++) {
+				dados.set(posicao(i), tensor.dados.get(tensor.posicao(i)));
+			}
+		}
+
+		dados.versao++;
+	}
+
 	/**
 	 * Copia todo o conteúdo do array na instância local.
 	 * @param arr array desejado.
@@ -589,7 +991,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			for (int j = 0; j < d2; j++) {
 				for (int k = 0; k < d3; k++) {
 					for (int l = 0; l < d4; l++) {
-						dados[cont++].set(arr[i][j][k][l]);
+						dados.set(posicao(cont++), arr[i][j][k][l]);
 					}
 				}
 			}
@@ -629,7 +1031,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 		for (int i = 0; i < d1; i++) {
 			for (int j = 0; j < d2; j++) {
 				for (int k = 0; k < d3; k++) {
-					dados[cont++].set(arr[i][j][k]);
+					dados.set(posicao(cont++), arr[i][j][k]);
 				}
 			}
 		}
@@ -665,7 +1067,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 		int id = 0;
 		for (int i = 0; i < lin; i++) {
 			for (int j = 0; j < col; j++) {
-				dados[id++].set(arr[i][j]);
+				dados.set(posicao(id++), arr[i][j]);
 			}
 		}
 
@@ -693,7 +1095,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 		}
 
 		for (int i = 0; i < arr.length; i++) {
-			dados[i].set(arr[i]);
+			dados.set(posicao(i), arr[i]);
 		}
 
 		return this;
@@ -717,10 +1119,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-		int n = tamanho();
-		for (int i = 0; i < n; i++) {
-			dados[i].set(tensor.dados[i]);
-		}
+		copiarDados(tensor);
 
 		return this;
 	}
@@ -751,8 +1150,9 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 
 		final int n = tamanho();
 		for (int i = 0; i < n; i++) {
-			dados[i].set(elementos[i]);
+			dados.set(posicao(i), elementos[i].get());
 		}
+		dados.versao++;
 
 		return this;
 	}
@@ -781,9 +1181,14 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-		for (int i = 0; i < elementos.length; i++) {
-			dados[i].set(elementos[i]);
+		if (contiguo) {
+			new ArmazenamentoDouble(elementos).copiar(0, dados, offset, elementos.length);
+		} else {
+			for (int i = 0; i < elementos.length; i++) {
+				dados.set(posicao(i), elementos[i]);
+			}
 		}
+		dados.versao++;
 		
 		return this;
 	}
@@ -794,21 +1199,25 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * <pre>
 	 *  this += tensor
 	 * </pre>
+	 * O tensor fornecido pode ter um formato diferente desde que possa ser
+	 * expandido (broadcasting) para o formato da instância local.
 	 * @param tensor {@code Tensor} com conteúdo.
 	 * @return instância local alterada.
 	 */
     public Tensor add(Tensor tensor) {
         if (!compararShape(tensor)) {
-            throw new IllegalArgumentException(
-                "\nTensor fornecido possui shape " + tensor.shapeStr() +
-				", shape esperado " + shapeStr()
-            );
+			return operarBroadcast(tensor, '+');
         }
 
-        int n = tamanho();
-        for (int i = 0; i < n; i++) {
-            dados[i].add(tensor.dados[i]);
-        }
+        final int n = tamanho();
+		if (contiguo && tensor.contiguo) {
+			dados.add(offset, tensor.dados, tensor.offset, n);
+		} else {
+			for (int i = 0; i < n; i++) {
+				int p = posicao(i);
+				dados.set(p, dados.get(p) + tensor.dados.get(tensor.posicao(i)));
+			}
+		}
 
         return this;
     }
@@ -820,7 +1229,57 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor add(double valor, int... ids) {
-		dados[indice(ids)].add(valor);
+		dados.add(indice(ids), valor);
+		return this;
+	}
+
+	/**
+	 * Adiciona o valor informado a um elemento de um tensor 1D.
+	 * @param valor valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @return instância local alterada.
+	 */
+	public Tensor add(double valor, int i) {
+		dados.add(indice(i), valor);
+		return this;
+	}
+
+	/**
+	 * Adiciona o valor informado a um elemento de um tensor 2D.
+	 * @param valor valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @return instância local alterada.
+	 */
+	public Tensor add(double valor, int i, int j) {
+		dados.add(indice(i, j), valor);
+		return this;
+	}
+
+	/**
+	 * Adiciona o valor informado a um elemento de um tensor 3D.
+	 * @param valor valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 * @return instância local alterada.
+	 */
+	public Tensor add(double valor, int i, int j, int k) {
+		dados.add(indice(i, j, k), valor);
+		return this;
+	}
+
+	/**
+	 * Adiciona o valor informado a um elemento de um tensor 4D.
+	 * @param valor valor desejado.
+	 * @param i índice da primeira dimensão.
+	 * @param j índice da segunda dimensão.
+	 * @param k índice da terceira dimensão.
+	 * @param l índice da quarta dimensão.
+	 * @return instância local alterada.
+	 */
+	public Tensor add(double valor, int i, int j, int k, int l) {
+		dados.add(indice(i, j, k, l), valor);
 		return this;
 	}
 
@@ -830,20 +1289,25 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * <pre>
 	 *  this -= tensor
 	 * </pre>
+	 * O tensor fornecido pode ter um formato diferente desde que possa ser
+	 * expandido (broadcasting) para o formato da instância local.
 	 * @param tensor {@code Tensor} com conteúdo.
 	 * @return instância local alterada.
 	 */
     public Tensor sub(Tensor tensor) {
         if (!compararShape(tensor)) {
-            throw new IllegalArgumentException(
-                "\nTensor fornecido deve conter o mesmo shape."
-            );
+			return operarBroadcast(tensor, '-');
         }
 
-        int n = tamanho();
-        for (int i = 0; i < n; i++) {
-            dados[i].sub(tensor.dados[i]);
-        }
+        final int n = tamanho();
+		if (contiguo && tensor.contiguo) {
+			dados.sub(offset, tensor.dados, tensor.offset, n);
+		} else {
+			for (int i = 0; i < n; i++) {
+				int p = posicao(i);
+				dados.set(p, dados.get(p) - tensor.dados.get(tensor.posicao(i)));
+			}
+		}
 
         return this;
     }
@@ -855,7 +1319,8 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor sub(double valor, int... ids) {
-		dados[indice(ids)].sub(valor);
+		int p = indice(ids);
+		dados.set(p, dados.get(p) - valor);
 		return this;
 	}
 
@@ -865,20 +1330,25 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * <pre>
 	 *  this *= tensor
 	 * </pre>
+	 * O tensor fornecido pode ter um formato diferente desde que possa ser
+	 * expandido (broadcasting) para o formato da instância local.
 	 * @param tensor {@code Tensor} com conteúdo.
 	 * @return instância local alterada.
 	 */
     public Tensor mult(Tensor tensor) {
         if (!compararShape(tensor)) {
-            throw new IllegalArgumentException(
-                "\nTensor fornecido deve conter o mesmo shape."
-            );
+			return operarBroadcast(tensor, '*');
         }
 
-        int n = tamanho();
-        for (int i = 0; i < n; i++) {
-            dados[i].mult(tensor.dados[i]);
-        }
+        final int n = tamanho();
+		if (contiguo && tensor.contiguo) {
+			dados.mult(offset, tensor.dados, tensor.offset, n);
+		} else {
+			for (int i = 0; i < n; i++) {
+				int p = posicao(i);
+				dados.set(p, dados.get(p) * tensor.dados.get(tensor.posicao(i)));
+			}
+		}
 
         return this;
     }
@@ -890,7 +1360,8 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor mult(double valor, int... ids) {
-		dados[indice(ids)].mult(valor);
+		int p = indice(ids);
+		dados.set(p, dados.get(p) * valor);
 		return this;
 	}
 
@@ -900,33 +1371,218 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * <pre>
 	 *  this /= tensor
 	 * </pre>
+	 * O tensor fornecido pode ter um formato diferente desde que possa ser
+	 * expandido (broadcasting) para o formato da instância local.
 	 * @param tensor {@code Tensor} com conteúdo.
 	 * @return instância local alterada.
 	 */
     public Tensor div(Tensor tensor) {
         if (!compararShape(tensor)) {
-            throw new IllegalArgumentException(
-                "\nTensor fornecido deve conter o mesmo shape."
-            );
+			return operarBroadcast(tensor, '/');
         }
 
-        int n = tamanho();
-        for (int i = 0; i < n; i++) {
-            dados[i].div(tensor.dados[i]);
-        }
+        final int n = tamanho();
+		if (contiguo && tensor.contiguo) {
+			dados.div(offset, tensor.dados, tensor.offset, n);
+		} else {
+			for (int i = 0; i < n; i++) {
+				int p = posicao(i);
+				dados.set(p, dados.get(p) / tensor.dados.get(tensor.posicao(i)));
+			}
+		}
+
+        return this;
+    }
+
+	/**
+	 * Divide o valor contido no tensor pelo valor informado.
+	 * @param valor valor desejado.
+	 * @param ids índices desejados para adição.
+	 * @return instância local alterada.
+	 */
+	public Tensor div(double valor, int... ids) {
+		int p = indice(ids);
+		dados.set(p, dados.get(p) / valor);
+		return this;
+	}
+
+	/**
+	 * Realiza a operação informada elemento a elemento, expandindo
+	 * (broadcasting) o tensor fornecido para o formato da instância local.
+	 * <p>
+	 *		O tensor expandido é apenas uma visualização com strides nulos
+	 *		nas dimensões repetidas, nenhum elemento é copiado.
+	 * </p>
+	 * @param tensor {@code Tensor} com conteúdo.
+	 * @param op operação desejada ({@code '+', '-', '*', '/'}).
+	 * @return instância local alterada.
+	 */
+	private Tensor operarBroadcast(Tensor tensor, char op) {
+		int[] s = shapeBroadcast(shape, tensor.shape);
+		if (!compararShape(s)) {
+			throw new IllegalArgumentException(
+				"\nTensor fornecido possui shape " + tensor.shapeStr() +
+				", que não pode ser expandido para o shape " + shapeStr()
+			);
+		}
+
+		Tensor b = tensor.expandir(shape);
+		final int n = tamanho();
+
+		if (!contiguo) {
+			for (int i = 0; i < n; i++) {
+				int p = posicao(i);
+				dados.set(p, operar(op, dados.get(p), b.dados.get(b.posicao(i))));
+			}
+			return this;
+		}
+
+		// maior bloco interno em que B é constante (passo 0) ou contíguo (passo 1)
+		final int d = shape.length;
+		int k0 = d, bloco0 = 1;
+		while (k0 > 0 && (shape[k0-1] == 1 || b.strides[k0-1] == 0)) {
+			bloco0 *= shape[--k0];
+		}
+		int k1 = d, bloco1 = 1;
+		while (k1 > 0 && (shape[k1-1] == 1 || b.strides[k1-1] == bloco1)) {
+			bloco1 *= shape[--k1];
+		}
+
+		final boolean constante = bloco0 >= bloco1;
+		final int k = constante ? k0 : k1;
+		final int bloco = constante ? bloco0 : bloco1;
+
+		for (int ini = 0; ini < n; ini += bloco) {
+			// posição do bloco em B
+			int posB = b.offset;
+			int resto = ini / bloco;
+			for (int i = k - 1; i >= 0; i--) {
+				posB += (resto % shape[i]) * b.strides[i];
+				resto /= shape[i];
+			}
+
+			if (constante) {
+				double x = b.dados.get(posB);
+				switch (op) {
+					case '+': dados.add(offset + ini, bloco, x); break;
+					case '-': dados.sub(offset + ini, bloco, x); break;
+					case '*': dados.mult(offset + ini, bloco, x); break;
+					default : dados.div(offset + ini, bloco, x); break;
+				}
+			} else {
+				switch (op) {
+					case '+': dados.add(offset + ini, b.dados, posB, bloco); break;
+					case '-': dados.sub(offset + ini, b.dados, posB, bloco); break;
+					case '*': dados.mult(offset + ini, b.dados, posB, bloco); break;
+					default : dados.div(offset + ini, b.dados, posB, bloco); break;
+				}
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Aplica a operação aritmética informada.
+	 * @param op operação desejada ({@code '+', '-', '*', '/'}).
+	 * @param x primeiro operando.
+	 * @param y segundo operando.
+	 * @return resultado da operação.
+	 */
+	static double operar(char op, double x, double y) {
+		switch (op) {
+			case '+': return x + y;
+			case '-': return x - y;
+			case '*': return x * y;
+			default : return x / y;
+		}
+	}
+
+	/**
+	 * Calcula o formato resultante do broadcasting entre dois formatos.
+	 * <p>
+	 *		Os formatos são alinhados a partir da última dimensão, e cada par
+	 *		de dimensões deve ser igual ou uma delas deve ser 1.
+	 * </p>
+	 * <pre>
+	 *(3, 1, 5) e (4, 1) = (3, 4, 5)
+	 * </pre>
+	 * @param a formato A.
+	 * @param b formato B.
+	 * @return formato resultante.
+	 */
+	static int[] shapeBroadcast(int[] a, int[] b) {
+		final int n = Math.max(a.length, b.length);
+		int[] s = new int[n];
+		for (int i = 0; i < n; i++) {
+			int ia = i - (n - a.length);
+			int ib = i - (n - b.length);
+			int da = ia < 0 ? 1 : a[ia];
+			int db = ib < 0 ? 1 : b[ib];
+
+			if (da != db && da != 1 && db != 1) {
+				throw new IllegalArgumentException(
+					"\nFormatos " + Arrays.toString(a) + " e " +
+					Arrays.toString(b) + " não são compatíveis para broadcasting."
+				);
+			}
+
+			s[i] = Math.max(da, db);
+		}
 
-        return this;
-    }
+		return s;
+	}
 
 	/**
-	 * Divide o valor contido no tensor pelo valor informado.
-	 * @param valor valor desejado.
-	 * @param ids índices desejados para adição.
-	 * @return instância local alterada.
+	 * Expande (broadcasting) o tensor para o formato informado.
+	 * <p>
+	 *		Nenhum dado é copiado, o tensor retornado é uma visualização em que
+	 *		as dimensões de tamanho 1 (ou ausentes) são repetidas usando stride 0.
+	 * </p>
+	 * <p>
+	 *		Exemplo:
+	 * </p>
+	 * <pre>
+	 *bias = [1, 2, 3] // (3)
+	 *bias.expandir(2, 3) = [
+	 *  [[1, 2, 3],
+	 *   [1, 2, 3]]
+	 *]
+	 * </pre>
+	 * A visualização não deve ser usada como destino de operações, já que
+	 * diferentes posições dela compartilham o mesmo elemento.
+	 * @param shape formato desejado.
+	 * @return {@code Tensor} expandido.
 	 */
-	public Tensor div(double valor, int... ids) {
-		dados[indice(ids)].div(valor);
-		return this;
+	public Tensor expandir(int... shape) {
+		int[] s = copiarShape(shape);
+		final int n = s.length;
+		final int d = this.shape.length;
+		if (n < d) {
+			throw new IllegalArgumentException(
+				"\nO formato " + Arrays.toString(s) + " possui menos dimensões " +
+				"que o tensor " + shapeStr()
+			);
+		}
+
+		int[] st = new int[n];
+		for (int i = 0; i < n; i++) {
+			int j = i - (n - d);
+			if (j < 0) {
+				st[i] = 0;
+			} else if (this.shape[j] == s[i]) {
+				st[i] = strides[j];
+			} else if (this.shape[j] == 1) {
+				st[i] = 0;
+			} else {
+				throw new IllegalArgumentException(
+					"\nTensor " + shapeStr() + " não pode ser expandido para o formato " +
+					Arrays.toString(s)
+				);
+			}
+		}
+
+		return new Tensor(dados, offset, s, st);
 	}
 
 	/**
@@ -946,12 +1602,17 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 		}
 	
 		int[] novoShape = new int[shape.length - 1];
+		int[] novoStrides = new int[shape.length - 1];
 		int id = 0;
 		for (int i = 0; i < shape.length; i++) {
-			if (i != dim) novoShape[id++] = shape[i];
+			if (i != dim) {
+				novoShape[id] = shape[i];
+				novoStrides[id++] = strides[i];
+			}
 		}
 	
 		shape = novoShape;
+		strides = novoStrides;
 	
 		return this;
 	}
@@ -971,15 +1632,20 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 		final int n = numDim();
         
         int[] novoShape = new int[n + 1];
+        int[] novoStrides = new int[n + 1];
 		for (int i = 0; i < dim; i++) {
             novoShape[i] = shape[i];
+            novoStrides[i] = strides[i];
         }
         novoShape[dim] = 1;
+        novoStrides[dim] = (dim < n) ? shape[dim] * strides[dim] : 1;
         for (int i = dim; i < n; i++) {
             novoShape[i + 1] = shape[i];
+            novoStrides[i + 1] = strides[i];
         }
 
         this.shape = novoShape;
+        this.strides = novoStrides;
 
 		return this;
     }
@@ -1001,6 +1667,8 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * 	[[1, 2, 3]]
 	 *]
 	 * </pre>
+	 * O tensor fatiado é uma visualização que compartilha os dados da
+	 * instância local, nenhum elemento é copiado.
 	 * @param idsInicio índices de incio do fatiamento (inclusivo).
 	 * @param idsFim índices do fim do fatiamento (exclusivos).
 	 * @return {@code Tensor} fatiado.
@@ -1014,6 +1682,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	
 		int nDims = numDim();
 		int[] novoShape = new int[nDims];
+		int novoOffset = offset;
 		for (int i = 0; i < nDims; i++) {
 			if (idsInicio[i] < 0 || idsInicio[i] >= shape[i] ||
 				idsFim[i] < 0 || idsFim[i] > shape[i] || idsFim[i] <= idsInicio[i]) {
@@ -1022,41 +1691,11 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 				);
 			}
 			novoShape[i] = idsFim[i] - idsInicio[i];
+			novoOffset += idsInicio[i] * strides[i];
 		}
 	
-		Tensor slice = new Tensor(novoShape);
-	
-		final int tam = tamanho();
-		int[] indices = new int[nDims];
-		int[] idsSlice = new int[nDims];
-		boolean dentroSlice;
-		int i, j;
-		for (i = 0; i < tam; i++) {
-			int id = i;
-			for (j = nDims - 1; j >= 0; j--) {
-				indices[j] = id % shape[j];
-				id /= shape[j];
-			}
-	
-			dentroSlice = true;
-			for (j = 0; j < nDims; j++) {
-				if (indices[j] < idsInicio[j] || indices[j] >= idsFim[j]) {
-					dentroSlice = false;
-					break;
-				}
-			}
-	
-			if (dentroSlice) {
-				for (j = 0; j < nDims; j++) {
-					idsSlice[j] = indices[j] - idsInicio[j];
-				}
-
-				//por padrão compartilhar as mesma variáveis
-				slice.dados[indice(idsSlice)] = dados[indice(indices)];
-			}
-		}
-	
-		return slice;
+		//por padrão compartilhar os mesmos dados
+		return new Tensor(dados, novoOffset, novoShape, strides.clone());
 	}
 
 	/**
@@ -1079,8 +1718,14 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-		for (int i = 0; i < dados.length; i++) {
-			dados[i].set(fun.applyAsDouble(dados[i].get()));
+		final int n = tamanho();
+		if (contiguo) {
+			dados.aplicar(offset, n, fun);
+		} else {
+			for (int i = 0; i < n; i++) {
+				int p = posicao(i);
+				dados.set(p, fun.applyAsDouble(dados.get(p)));
+			}
 		}
 
 		return this;
@@ -1117,8 +1762,13 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-		for (int i = 0; i < dados.length; i++) {
-			dados[i].set(fun.applyAsDouble(tensor.dados[i].get()));
+		final int n = tamanho();
+		if (contiguo && tensor.contiguo) {
+			dados.aplicar(offset, tensor.dados, tensor.offset, n, fun);
+		} else {
+			for (int i = 0; i < n; i++) {
+				dados.set(posicao(i), fun.applyAsDouble(tensor.dados.get(tensor.posicao(i))));
+			}
 		}
 
 		return this;
@@ -1171,10 +1821,88 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-		for (int i = 0; i < dados.length; i++) {
-			dados[i].set(fun.applyAsDouble(a.dados[i].get(), b.dados[i].get()));
+		final int n = tamanho();
+		if (contiguo && a.contiguo && b.contiguo) {
+			dados.aplicar(offset, a.dados, a.offset, b.dados, b.offset, n, fun);
+		} else {
+			for (int i = 0; i < n; i++) {
+				dados.set(posicao(i), fun.applyAsDouble(a.dados.get(a.posicao(i)), b.dados.get(b.posicao(i))));
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Aplica a função recebida em todos os elementos do tensor, dividindo
+	 * o trabalho entre várias threads quando o tensor for grande.
+	 * <p>
+	 *		A função deve ser pura (sem estado), já que os elementos podem ser
+	 *		processados em paralelo e em qualquer ordem. Para funções com estado,
+	 *		como geradores de números aleatórios, use {@code aplicar()}.
+	 * </p>
+	 * @param fun função desejada.
+	 * @return instância local alterada.
+	 */
+	public Tensor aplicarParalelo(DoubleUnaryOperator fun) {
+		final int n = tamanho();
+		if (fun == null || !contiguo || !Paralelo.usar(n)) {
+			return aplicar(fun);
+		}
+
+		Paralelo.executar(n, (ini, fim) -> dados.aplicar(offset + ini, fim - ini, fun));
+
+		return this;
+	}
+
+	/**
+	 * Aplica a função recebida em todos os elementos do tensor fornecido,
+	 * dividindo o trabalho entre várias threads quando o tensor for grande.
+	 * <p>
+	 *		A função deve ser pura (sem estado), já que os elementos podem ser
+	 *		processados em paralelo e em qualquer ordem.
+	 * </p>
+	 * @param tensor {@code Tensor} base.
+	 * @param fun função para aplicar no tensor base.
+	 * @return instância local alterada.
+	 */
+	public Tensor aplicarParalelo(Tensor tensor, DoubleUnaryOperator fun) {
+		final int n = tamanho();
+		if (tensor == null || fun == null || !compararShape(tensor) || 
+			!contiguo || !tensor.contiguo || !Paralelo.usar(n)) {
+			return aplicar(tensor, fun);
+		}
+
+		Paralelo.executar(n, (ini, fim) -> 
+			dados.aplicar(offset + ini, tensor.dados, tensor.offset + ini, fim - ini, fun)
+		);
+
+		return this;
+	}
+
+	/**
+	 * Aplica a função recebida entre os elementos de A e B, dividindo o
+	 * trabalho entre várias threads quando o tensor for grande.
+	 * <p>
+	 *		A função deve ser pura (sem estado), já que os elementos podem ser
+	 *		processados em paralelo e em qualquer ordem.
+	 * </p>
+	 * @param a {@code Tensor} A.
+	 * @param b {@code Tensor} B.
+	 * @param fun função para aplicar no tensor local.
+	 * @return instância local alterada.
+	 */
+	public Tensor aplicarParalelo(Tensor a, Tensor b, DoubleBinaryOperator fun) {
+		final int n = tamanho();
+		if (a == null || b == null || fun == null || !compararShape(a) || !compararShape(b) ||
+			!contiguo || !a.contiguo || !b.contiguo || !Paralelo.usar(n)) {
+			return aplicar(a, b, fun);
 		}
 
+		Paralelo.executar(n, (ini, fim) -> 
+			dados.aplicar(offset + ini, a.dados, a.offset + ini, b.dados, b.offset + ini, fim - ini, fun)
+		);
+
 		return this;
 	}
 
@@ -1189,7 +1917,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-		return dados[0].get();
+		return dados.get(posicao(0));
 	}
 
 	/**
@@ -1211,13 +1939,8 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 			);
 		}
 
-		Tensor t = new Tensor(shape());
-
-		for (int i = 0; i < t.tamanho(); i++) {
-			t.dados[i].set(fun.applyAsDouble(dados[i].get()));
-		}
-
-		return t;
+		Tensor t = new Tensor(dtype(), shape());
+		return t.aplicar(this, fun);
 	}
 
 	/**
@@ -1235,6 +1958,10 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * Onde:
 	 *{@code x} representa cada elemento dentro do tensor local.
 	 *{@code y} representa cada elemento dentro do tensor fornecido.
+	 * <p>
+	 *		Caso os formatos sejam diferentes, ambos os tensores são expandidos
+	 *		(broadcasting) para o formato resultante, sem cópia de elementos.
+	 * </p>
 	 * @param tensor segundo {@code Tensor} para aplicar a função.
 	 * @param fun função desejada.
 	 * @return novo {@code Tensor} contendo o resultado.
@@ -1247,19 +1974,89 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 		}
 
 		if (!compararShape(tensor)) {
+			int[] s = shapeBroadcast(shape, tensor.shape);
+			Tensor t = new Tensor(dtype(), s);
+			return t.aplicar(expandir(s), tensor.expandir(s), fun);
+		}
+
+		Tensor t = new Tensor(dtype(), shape());
+		return t.aplicar(this, tensor, fun);
+	}
+
+	/**
+	 * Aplica a função recebida em todos os elementos do tensor, escrevendo o
+	 * resultado no tensor de destino, sem alocar um novo tensor.
+	 * <p>
+	 *		Exemplo:
+	 * </p>
+	 * <pre>
+	 *tensor.map(x -> x*x, dest);
+	 * </pre>
+	 * <p>
+	 *		O destino pode ser a própria instância local, equivalente a
+	 *		{@code tensor.aplicar(fun)}.
+	 * </p>
+	 * @param fun função desejada.
+	 * @param dest {@code Tensor} de destino, deve possuir o mesmo formato da instância local.
+	 * @return {@code Tensor} de destino.
+	 */
+	public Tensor map(DoubleUnaryOperator fun, Tensor dest) {
+		if (fun == null) {
+			throw new IllegalArgumentException(
+				"\nFunção recebida é nula."
+			);
+		}
+		if (dest == null) {
 			throw new IllegalArgumentException(
-				"\nTensor " + tensor.shapeStr() + " deve conter mesmo formato do " +
-				"tensor local " + shapeStr()
+				"\nTensor de destino é nulo."
 			);
 		}
 
-		Tensor t = new Tensor(shape());
+		return dest.aplicar(this, fun);
+	}
+
+	/**
+	 * Aplica a função recebida em todos os elementos do tensor, escrevendo o
+	 * resultado no tensor de destino, sem alocar um novo tensor.
+	 * <p>
+	 *		Exemplo:
+	 * </p>
+	 * <pre>
+	 *a.map(b, (x, y) -> x+y, dest);
+	 * </pre>
+	 * <p>
+	 *		Caso os formatos sejam diferentes, ambos os tensores são expandidos
+	 *		(broadcasting) para o formato do destino.
+	 * </p>
+	 * @param tensor segundo {@code Tensor} para aplicar a função.
+	 * @param fun função desejada.
+	 * @param dest {@code Tensor} de destino.
+	 * @return {@code Tensor} de destino.
+	 */
+	public Tensor map(Tensor tensor, DoubleBinaryOperator fun, Tensor dest) {
+		if (fun == null) {
+			throw new IllegalArgumentException(
+				"\nFunção recebida é nula."
+			);
+		}
+		if (dest == null) {
+			throw new IllegalArgumentException(
+				"\nTensor de destino é nulo."
+			);
+		}
 
-		for (int i = 0; i < t.tamanho(); i++) {
-			t.dados[i].set(fun.applyAsDouble(dados[i].get(), tensor.dados[i].get()));
+		if (!compararShape(tensor) || !dest.compararShape(this)) {
+			int[] s = dest.shape;
+			if (!Arrays.equals(shapeBroadcast(shape, tensor.shape), s)) {
+				throw new IllegalArgumentException(
+					"\nFormato do destino " + dest.shapeStr() + " incompatível com o resultado " +
+					"entre " + shapeStr() + " e " + tensor.shapeStr()
+				);
+			}
+			return dest.aplicar(expandir(s), tensor.expandir(s), fun);
 		}
 
-		return t;
+		return dest.aplicar(this, tensor, fun);
 	}
 
 	/**
@@ -1276,18 +2073,65 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return {@code Tensor} contendo o resultado.
 	 */
 	public Tensor reduce(double in, DoubleBinaryOperator fun) {
+		return new Tensor(new double[]{ reduceValor(in, fun) }, 1);
+	}
+
+	/**
+	 * Reduz os elementos do tensor para um, aplicando a função de recebida.
+	 * <p>
+	 *		Diferente de {@code reduce()}, o resultado é retornado diretamente,
+	 *		sem a criação de um novo tensor.
+	 * </p>
+	 * @param in valor inicial.
+	 * @param fun função desejada.
+	 * @return resultado da redução.
+	 */
+	public double reduceValor(double in, DoubleBinaryOperator fun) {
 		if (fun == null) {
 			throw new IllegalArgumentException(
 				"\nFunção de redução não pode ser nula."
 			);
 		}
 
-		Variavel res = new Variavel(in);
-		for (Variavel val : dados) {
-			res.set(fun.applyAsDouble(res.get(), val.get()));
+		double res = in;
+		final int n = tamanho();
+		for (int i = 0; i < n; i++) {
+			res = fun.applyAsDouble(res, dados.get(posicao(i)));
 		}
 
-		return new Tensor(new Variavel[]{ res }, 1);
+		return res;
+	}
+
+	/**
+	 * Inicia uma expressão preguiçosa (lazy) a partir do tensor.
+	 * <p>
+	 *		As operações encadeadas na expressão são calculadas num único
+	 *		laço quando o resultado é solicitado, sem criar tensores intermediários.
+	 * </p>
+	 * <pre>
+	 *Tensor r = t.expressao().relu().mult(x).add(y).avaliar();
+	 * </pre>
+	 * @return {@code ExpressaoTensor} baseada no tensor.
+	 */
+	public ExpressaoTensor expressao() {
+		return new ExpressaoTensor(this);
+	}
+
+	/**
+	 * Cria um indexador para acesso direto aos elementos do tensor.
+	 * <p>
+	 *		O indexador usa os strides do tensor e não verifica os limites
+	 *		de cada dimensão, sendo indicado para laços internos onde os
+	 *		índices já são conhecidos como válidos.
+	 * </p>
+	 * <pre>
+	 *IndexadorTensor id = tensor.indexador();
+	 *double x = id.get(c, i, j);
+	 * </pre>
+	 * @return {@code IndexadorTensor} do tensor.
+	 */
+	public IndexadorTensor indexador() {
+		return new IndexadorTensor(this);
 	}
 
 	/**
@@ -1296,13 +2140,28 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return {@code Tensor} resultado.
 	 */
     public Tensor soma() {
+        return new Tensor(new double[]{ somaValor() }, 1);
+    }
+
+	/**
+	 * Retorna a soma dos elementos da instância local, sem criar um
+	 * novo tensor.
+	 * @return soma dos elementos.
+	 */
+	public double somaValor() {
         double soma = 0.0d;
         final int n = tamanho();
-        for (int i = 0; i < n; i++) {
-            soma += dados[i].get();
-        }
+		if (contiguo && Paralelo.usar(n)) {
+			soma = Paralelo.reduzir(n, (ini, fim) -> dados.soma(offset + ini, fim - ini), Double::sum);
+		} else if (contiguo) {
+			soma = dados.soma(offset, n);
+		} else {
+			for (int i = 0; i < n; i++) {
+				soma += dados.get(posicao(i));
+			}
+		}
 
-        return new Tensor(new Variavel[]{ new Variavel(soma) }, 1);
+        return soma;
     }
 
 	/**
@@ -1311,24 +2170,50 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return {@code Tensor} resultado.
 	 */
 	public Tensor media() {
-        double media = soma().item() / tamanho();
-        return new Tensor(new Variavel[]{ new Variavel(media) }, 1);
+        return new Tensor(new double[]{ mediaValor() }, 1);
     }
 
+	/**
+	 * Retorna a média aritmética dos elementos da instância local, sem
+	 * criar um novo tensor.
+	 * @return média dos elementos.
+	 */
+	public double mediaValor() {
+		return somaValor() / tamanho();
+	}
+
 	/**
 	 * Retorna um {@code Tensor} contendo o valor máximo dentro dos 
      * elementos da instância local.
 	 * @return {@code Tensor} resultado.
 	 */
 	public Tensor maximo() {
-		double max = dados[0].get();
-		final int tam = tamanho();
+		return new Tensor(new double[]{ maximoValor() }, 1);
+	}
 
-		for (int i = 1; i < tam; i++) {
-			if (dados[i].get() > max) max = dados[i].get();
+	/**
+	 * Retorna o valor máximo dentro dos elementos da instância local, sem criar um
+	 * novo tensor.
+	 * @return valor máximo.
+	 */
+	public double maximoValor() {
+		double max;
+		final int tam = tamanho();
+		if (contiguo && Paralelo.usar(tam)) {
+			max = Paralelo.reduzir(
+				tam, (ini, fim) -> dados.maximo(offset + ini, fim - ini), (a, b) -> b > a ? b : a
+			);
+		} else if (contiguo) {
+			max = dados.maximo(offset, tam);
+		} else {
+			max = dados.get(posicao(0));
+			for (int i = 1; i < tam; i++) {
+				double val = dados.get(posicao(i));
+				if (val > max) max = val;
+			}
 		}
 
-		return new Tensor(new Variavel[]{ new Variavel(max) }, 1);
+		return max;
 	}
 
 	/**
@@ -1337,14 +2222,32 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return {@code Tensor} resultado.
 	 */
 	public Tensor minimo() {
-		double min = dados[0].get();
-		final int tam = tamanho();
+		return new Tensor(new double[]{ minimoValor() }, 1);
+	}
 
-		for (int i = 1; i < tam; i++) {
-			if (dados[i].get() < min) min = dados[i].get();
+	/**
+	 * Retorna o valor mínimo dentro dos elementos da instância local, sem criar um
+	 * novo tensor.
+	 * @return valor mínimo.
+	 */
+	public double minimoValor() {
+		double min;
+		final int tam = tamanho();
+		if (contiguo && Paralelo.usar(tam)) {
+			min = Paralelo.reduzir(
+				tam, (ini, fim) -> dados.minimo(offset + ini, fim - ini), (a, b) -> b < a ? b : a
+			);
+		} else if (contiguo) {
+			min = dados.minimo(offset, tam);
+		} else {
+			min = dados.get(posicao(0));
+			for (int i = 1; i < tam; i++) {
+				double val = dados.get(posicao(i));
+				if (val < min) min = val;
+			}
 		}
 
-		return new Tensor(new Variavel[]{ new Variavel(min) }, 1);
+		return min;
 	}
 
 	/**
@@ -1353,17 +2256,33 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return {@code Tensor} resultado.
      */
 	public Tensor desvp() {
-		double media = media().item();
+		return new Tensor(new double[]{ desvpValor() }, 1);
+	}
+
+	/**
+	 * Retorna o desvio padrão dos elementos da instância local, sem
+	 * criar um novo tensor.
+	 * @return desvio padrão dos elementos.
+	 */
+	public double desvpValor() {
+		double media = mediaValor();
 		double soma = 0.0d;
         final int n = tamanho();
 
-		for (int i = 0; i < n; i++) {
-			soma += Math.pow(dados[i].get() - media, 2);
+		if (contiguo && Paralelo.usar(n)) {
+			soma = Paralelo.reduzir(
+				n, (ini, fim) -> dados.somaDifQuadrado(offset + ini, fim - ini, media), Double::sum
+			);
+		} else if (contiguo) {
+			soma = dados.somaDifQuadrado(offset, n, media);
+		} else {
+			for (int i = 0; i < n; i++) {
+				double d = dados.get(posicao(i)) - media;
+				soma += d * d;
+			}
 		}
 
-		return new Tensor(new Variavel[]{ 
-			new Variavel(Math.sqrt(soma / tamanho()))
-		}, 1);
+		return Math.sqrt(soma / tamanho());
 	}
 
 	/**
@@ -1373,13 +2292,13 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor normalizar(double min, double max) {
-		double valMin = minimo().item();
-		double valMax = maximo().item();
+		double valMin = minimoValor();
+		double valMax = maximoValor();
 
 		double intOriginal = valMax - valMin;
 		double intNovo = max - min;
 
-		aplicar(x -> {
+		aplicarParalelo(x -> {
 			return ((x - valMin) / intOriginal) * intNovo + min;
 		});
 
@@ -1392,7 +2311,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor relu() {
-		return aplicar(x -> x > 0 ? x : 0);
+		return aplicarParalelo(x -> x > 0 ? x : 0);
 	}
 
 	/**
@@ -1401,7 +2320,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor sigmoid() {
-		return aplicar(x -> 1 / (1 + Math.exp(-x)));
+		return aplicarParalelo(x -> 1 / (1 + Math.exp(-x)));
 	}
 
 	/**
@@ -1410,7 +2329,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor tanh() {
-		return aplicar(x -> 2 / (1 + Math.exp(-2 * x)) - 1);
+		return aplicarParalelo(x -> 2 / (1 + Math.exp(-2 * x)) - 1);
 	}
 
 	/**
@@ -1419,7 +2338,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor atan() {
-		return aplicar(x -> Math.atan(x));
+		return aplicarParalelo(x -> Math.atan(x));
 	}
 
 	/**
@@ -1427,7 +2346,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor sin() {
-		return aplicar(x -> Math.sin(x));
+		return aplicarParalelo(x -> Math.sin(x));
 	}
 
 	/**
@@ -1435,7 +2354,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor cos() {
-		return aplicar(x -> Math.cos(x));
+		return aplicarParalelo(x -> Math.cos(x));
 	}
 
 	/**
@@ -1443,7 +2362,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor tan() {
-		return aplicar(x -> Math.tan(x));
+		return aplicarParalelo(x -> Math.tan(x));
 	}
 
 	/**
@@ -1451,7 +2370,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor abs() {
-		return aplicar(x -> Math.abs(x));
+		return aplicarParalelo(x -> Math.abs(x));
 	}
 
 	/**
@@ -1459,7 +2378,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor exp() {
-		return aplicar(x -> Math.exp(x));
+		return aplicarParalelo(x -> Math.exp(x));
 	}
 
 	/**
@@ -1467,7 +2386,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return instância local alterada.
 	 */
 	public Tensor log() {
-		return aplicar(x -> Math.log(x));
+		return aplicarParalelo(x -> Math.log(x));
 	}
 
     /**
@@ -1513,8 +2432,9 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	public boolean comparar(Tensor tensor) {
 		if (!compararShape(tensor)) return false;
 
-		for (int i = 0; i < dados.length; i++) {
-			if (dados[i].get() != tensor.dados[i].get()) return false;
+		final int n = tamanho();
+		for (int i = 0; i < n; i++) {
+			if (dados.get(posicao(i)) != tensor.dados.get(tensor.posicao(i))) return false;
 		}
 
 		return true;
@@ -1528,22 +2448,63 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
      * iguais, {@code false} caso contrário.
      */
     public boolean compararShape(Tensor tensor) {
-        int n = shape.length;
-        if (n != tensor.shape.length) return false;
+        return compararShape(tensor.shape);
+    }
 
-        for (int i = 0; i < n; i++) {
-            if (shape[i] != tensor.shape[i]) return false;
-        }
+	/**
+	 * Verifica se o formato informado é igual ao shape da instância local.
+	 * @param shape formato desejado.
+	 * @return {@code true} caso os formatos sejam iguais, {@code false}
+	 * caso contrário.
+	 */
+	boolean compararShape(int[] shape) {
+		int n = this.shape.length;
+		if (n != shape.length) return false;
 
-        return true;
-    }
+		for (int i = 0; i < n; i++) {
+			if (this.shape[i] != shape[i]) return false;
+		}
+
+		return true;
+	}
 
 	/**
 	 * Retorna a quantidade total de elementos no tensor.
 	 * @return número elementos do tensor.
 	 */
 	public int tamanho() {
-		return dados.length;
+		return numElementos;
+	}
+
+	/**
+	 * Retorna o tipo de dado usado para armazenar os elementos do tensor.
+	 * @return tipo de dado do tensor.
+	 */
+	public Dtype dtype() {
+		return dados.dtype();
+	}
+
+	/**
+	 * Retorna o conteúdo do tensor usando o tipo de dado informado.
+	 * <p>
+	 *		Caso o tipo de dado seja o mesmo da instância local, ela mesma
+	 *		é retornada, caso contrário é retornada uma cópia convertida.
+	 * </p>
+	 * @param dtype tipo de dado desejado.
+	 * @return {@code Tensor} com o tipo de dado desejado.
+	 */
+	public Tensor paraDtype(Dtype dtype) {
+		if (dtype == null) {
+			throw new IllegalArgumentException(
+				"\nTipo de dado fornecido é nulo."
+			);
+		}
+
+		if (dtype == dtype()) return this;
+
+		Tensor t = new Tensor(dtype, shape);
+		t.copiar(this);
+		return t.nome(nome);
 	}
 
     /**
@@ -1563,9 +2524,10 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
             "\nSem suporte para plataforma de " + bits + " bits."
         );
 
-		long tamVars = dados[0].tamanhoBytes() * tamanho();
+		long tamDados = (long) dtype().bytes() * tamanho();
 		long tamShape = shape.length * 4; // int = 4 bytes
-		return tamObj + tamVars + tamShape;
+		long tamStrides = strides.length * 4;
+		return tamObj + tamDados + tamShape + tamStrides;
 	}
 
 	/**
@@ -1575,10 +2537,24 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * 		tensor, significa dizer que caso ela sofram alterações, isso
 	 * 		é refletido automaticamente no tensor.
 	 * </p>
+	 * <p>
+	 * 		As variáveis são visualizações dos elementos do tensor e são
+	 * 		criadas apenas na primeira chamada, chamadas seguintes retornam
+	 * 		o mesmo array.
+	 * </p>
 	 * @return conteúdo do tensor.
 	 */
 	public Variavel[] paraArray() {
-		return dados;
+		if (vars == null) {
+			final int n = tamanho();
+			Variavel[] arr = new Variavel[n];
+			for (int i = 0; i < n; i++) {
+				arr[i] = new Variavel(dados, posicao(i));
+			}
+			vars = arr;
+		}
+
+		return vars;
 	}
 
 	/**
@@ -1612,9 +2588,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 
 		final int n = fim - inicio;
 		Variavel[] arr = new Variavel[n];
-		for (int i = 0; i < n; i++) {
-			arr[i] = dados[i+inicio];// por padrão compartilhar variáveis.
-		}
+		System.arraycopy(paraArray(), inicio, arr, 0, n);// por padrão compartilhar variáveis.
 
 		return arr;
 	}
@@ -1624,9 +2598,13 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 	 * @return conteúdo do tensor.
 	 */
 	public double[] paraArrayDouble() {
-		double[] arr = new double[dados.length];
-		for (int i = 0; i < arr.length; i++) {
-			arr[i] = dados[i].get();
+		double[] arr = new double[tamanho()];
+		if (contiguo) {
+			dados.copiar(offset, new ArmazenamentoDouble(arr), 0, arr.length);
+		} else {
+			for (int i = 0; i < arr.length; i++) {
+				arr[i] = dados.get(posicao(i));
+			}
 		}
 
 		return arr;
@@ -1673,16 +2651,18 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
     private String construirPrint() {
 		final String identacao = " ".repeat(4);
 
+		double[] valores = paraArrayDouble();
+
 		int maxCasasDecimais = 0;
-		for (Variavel valor : dados) {
-			String valorStr = ((Double)valor.get()).toString();
+		for (double valor : valores) {
+			String valorStr = ((Double)valor).toString();
 			int decimais = valorStr.length() - valorStr.indexOf('.') - 1;
 			if (decimais > maxCasasDecimais) maxCasasDecimais = decimais;
 		}
 
 		int tamMaximo = -1;
-        for (Variavel valor : dados) {
-            String valorStr = valorStr(valor.get(), maxCasasDecimais);
+        for (double valor : valores) {
+            String valorStr = valorStr(valor, maxCasasDecimais);
 			int tamValor = valorStr.length();
             if (tamValor > tamMaximo) tamMaximo = tamValor;
 		}
@@ -1773,13 +2753,8 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 		try {
 			Tensor clone = (Tensor) super.clone();
 
-			clone.shape = shape.clone();
-			
-			int n = tamanho();
-			clone.dados = new Variavel[n];
-			for (int i = 0; i < n; i++) {
-				clone.dados[i] = new Variavel(dados[i]);
-			}
+			clone.initDados(dtype(), shape);
+			clone.copiarDados(this);
 			
 			return clone;
 		} catch (CloneNotSupportedException e) {
@@ -1815,7 +2790,7 @@ public class Tensor implements Iterable<Variavel>, Cloneable {
 
 		@Override
 		public Variavel next() {
-			return dados[indice++];
+			return new Variavel(dados, posicao(indice++));
 		}
 
 		@Override
@@ -10,6 +10,12 @@ package jnn.core.tensor;
  * Implementei isso para poder compartilhar referências de
  * variáveis entre tensores, principalmente usando slicing.
  * <p>
+ *      Os tensores armazenam seus elementos num bloco linear contíguo, então
+ *      uma variável obtida a partir de um tensor (por exemplo via {@code paraArray()})
+ *      é apenas uma visualização de uma posição desse array. Qualquer alteração
+ *      feita na variável é refletida no tensor e vice-versa.
+ * </p>
+ * <p>
  *      Uma variável é basicamente um valor numérico encapsulado. Ela
  *      pode fazer operações aritméticas simples (soma, subtração, 
  *      multiplicação, divisão) além de operações essenciais como get e set.
@@ -21,15 +27,20 @@ package jnn.core.tensor;
 public class Variavel implements Cloneable {
     
     /**
-     * Real valor contido na variável.
+     * Armazenamento onde o valor da variável está localizado.
+     */
+    private final Armazenamento dados;
+
+    /**
+     * Posição do valor da variável dentro do armazenamento.
      */
-    private double valor;
+    private final int indice;
 
     /**
      * Inicializa uma variável com valor igual a zero.
      */
     public Variavel() {
-        valor = 0.0;
+        this(0.0);
     }
 
     /**
@@ -37,7 +48,19 @@ public class Variavel implements Cloneable {
      * @param x valor desejado
      */
     public Variavel(double x) {
-        valor = x;
+        dados = new ArmazenamentoDouble(new double[]{ x });
+        indice = 0;
+    }
+
+    /**
+     * Inicializa uma variável como visualização de uma posição
+     * de um armazenamento existente.
+     * @param dados armazenamento compartilhado.
+     * @param indice posição da variável dentro do armazenamento.
+     */
+    Variavel(Armazenamento dados, int indice) {
+        this.dados = dados;
+        this.indice = indice;
     }
 
     /**
@@ -49,7 +72,7 @@ public class Variavel implements Cloneable {
      * @param v variável desejada
      */
     public Variavel(Variavel v) {
-        valor = v.valor;
+        this(v.get());
     }
 
     /**
@@ -57,7 +80,7 @@ public class Variavel implements Cloneable {
      * @param x valor desejado.
      */
     public void add(double x) {
-        valor += x;
+        dados.add(indice, x);
     }
 
     /**
@@ -65,7 +88,7 @@ public class Variavel implements Cloneable {
      * @param v variável desejada.
      */
     public void add(Variavel v) {
-        valor += v.valor;
+        dados.add(indice, v.get());
     }
 
     /**
@@ -73,7 +96,7 @@ public class Variavel implements Cloneable {
      * @param x valor desejado.
      */
     public void sub(double x) {
-        valor -= x;
+        dados.set(indice, get() - x);
     }
 
     /**
@@ -81,7 +104,7 @@ public class Variavel implements Cloneable {
      * @param v variável desejada.
      */
     public void sub(Variavel v) {
-        valor -= v.valor;
+        dados.set(indice, get() - v.get());
     }
 
     /**
@@ -89,7 +112,7 @@ public class Variavel implements Cloneable {
      * @param x valor desejado.
      */
     public void mult(double x) {
-        valor *= x;
+        dados.set(indice, get() * x);
     }
 
     /**
@@ -97,7 +120,7 @@ public class Variavel implements Cloneable {
      * @param v variável desejada.
      */
     public void mult(Variavel v) {
-        valor *= v.valor;
+        dados.set(indice, get() * v.get());
     }
 
     /**
@@ -105,7 +128,7 @@ public class Variavel implements Cloneable {
      * @param x valor desejado.
      */
     public void div(double x) {
-        valor /= x;
+        dados.set(indice, get() / x);
     }
    
     /**
@@ -113,7 +136,7 @@ public class Variavel implements Cloneable {
      * @param v variável desejada.
      */
     public void div(Variavel v) {
-        valor /= v.valor;
+        dados.set(indice, get() / v.get());
     }
 
     /**
@@ -121,7 +144,7 @@ public class Variavel implements Cloneable {
      * @param x valor desejado.
      */
     public void set(double x) {
-        valor = x;
+        dados.set(indice, x);
     }
 
      /**
@@ -129,7 +152,7 @@ public class Variavel implements Cloneable {
      * @param v variável desejada.
      */
     public void set(Variavel v) {
-        valor = v.valor;
+        dados.set(indice, v.get());
     }
 
     /**
@@ -137,7 +160,7 @@ public class Variavel implements Cloneable {
      * @return valor da variável.
      */
     public double get() {
-        return valor;
+        return dados.get(indice);
     }
 
     // métodos especiais
@@ -148,7 +171,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void addSoma(Variavel v1, Variavel v2) {
-        valor += (v1.valor + v2.valor);
+        dados.add(indice, (v1.get() + v2.get()));
     }
 
     /**
@@ -157,7 +180,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void addSub(Variavel v1, Variavel v2) {
-        valor += (v1.valor - v2.valor);
+        dados.add(indice, (v1.get() - v2.get()));
     }
 
     /**
@@ -166,7 +189,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void addMult(Variavel v1, Variavel v2) {
-        valor += (v1.valor * v2.valor);
+        dados.add(indice, (v1.get() * v2.get()));
     }
 
     /**
@@ -175,7 +198,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void addDiv(Variavel v1, Variavel v2) {
-        valor += (v1.valor / v2.valor);
+        dados.add(indice, (v1.get() / v2.get()));
     }
 
     /**
@@ -184,7 +207,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void subSoma(Variavel v1, Variavel v2) {
-        valor -= (v1.valor + v2.valor);
+        dados.set(indice, get() - (v1.get() + v2.get()));
     }
 
     /**
@@ -193,7 +216,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void subSub(Variavel v1, Variavel v2) {
-        valor -= (v1.valor - v2.valor);
+        dados.set(indice, get() - (v1.get() - v2.get()));
     }
 
     /**
@@ -202,7 +225,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void subMult(Variavel v1, Variavel v2) {
-        valor -= (v1.valor * v2.valor);
+        dados.set(indice, get() - (v1.get() * v2.get()));
     }
 
     /**
@@ -211,7 +234,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void subDiv(Variavel v1, Variavel v2) {
-        valor -= (v1.valor / v2.valor);
+        dados.set(indice, get() - (v1.get() / v2.get()));
     }
 
     /**
@@ -220,7 +243,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void multSoma(Variavel v1, Variavel v2) {
-        valor *= (v1.valor + v2.valor);
+        dados.set(indice, get() * (v1.get() + v2.get()));
     }
 
     /**
@@ -229,7 +252,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void multSub(Variavel v1, Variavel v2) {
-        valor *= (v1.valor - v2.valor);
+        dados.set(indice, get() * (v1.get() - v2.get()));
     }
 
     /**
@@ -238,7 +261,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void multMult(Variavel v1, Variavel v2) {
-        valor *= (v1.valor * v2.valor);
+        dados.set(indice, get() * (v1.get() * v2.get()));
     }
 
     /**
@@ -247,7 +270,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void multDiv(Variavel v1, Variavel v2) {
-        valor *= (v1.valor / v2.valor);
+        dados.set(indice, get() * (v1.get() / v2.get()));
     }
 
     /**
@@ -256,7 +279,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void divSoma(Variavel v1, Variavel v2) {
-        valor /= (v1.valor + v2.valor);
+        dados.set(indice, get() / (v1.get() + v2.get()));
     }
 
     /**
@@ -265,7 +288,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void divSub(Variavel v1, Variavel v2) {
-        valor /= (v1.valor - v2.valor);
+        dados.set(indice, get() / (v1.get() - v2.get()));
     }
 
     /**
@@ -274,7 +297,7 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void divMult(Variavel v1, Variavel v2) {
-        valor /= (v1.valor * v2.valor);
+        dados.set(indice, get() / (v1.get() * v2.get()));
     }
 
     /**
@@ -283,22 +306,22 @@ public class Variavel implements Cloneable {
      * @param v2 {@code Variavel} 2
      */
     public void divtDiv(Variavel v1, Variavel v2) {
-        valor /= (v1.valor / v2.valor);
+        dados.set(indice, get() / (v1.get() / v2.get()));
     }
 
     @Override
     public boolean equals(Object obj) {
-        return (obj instanceof Variavel) && (this.valor == ((Variavel) obj).valor);
+        return (obj instanceof Variavel) && (get() == ((Variavel) obj).get());
     }
 
     @Override
     public Variavel clone() {
-        return new Variavel(valor);
+        return new Variavel(get());
     }
 
     @Override
     public String toString() {
-        return "[Variavel: " + valor + "]";
+        return "[Variavel: " + get() + "]";
     }
 
     /**
@@ -318,6 +341,6 @@ public class Variavel implements Cloneable {
             "\nSem suporte para plataforma de " + bits + " bits."
         );
 
-        return tamObj + 8; // +8 da variável double
+        return tamObj + 4 + 4; // referência do array + índice
     }
 }
@@ -3,16 +3,16 @@ package jnn.modelos;
 import jnn.avaliacao.Avaliador;
 import jnn.avaliacao.perda.Perda;
 import jnn.camadas.Camada;
+import jnn.core.Dicionario;
+import jnn.core.PoolCalculo;
 import jnn.core.Utils;
+import jnn.core.tensor.Dtype;
+import jnn.core.tensor.Layout;
 import jnn.core.tensor.Tensor;
 import jnn.core.tensor.Variavel;
 import jnn.otimizadores.Otimizador;
 import jnn.treinamento.Treinador;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-
 /**
  * <h3>
  *    Basa para crianção de modelos dentro da biblioteca.
@@ -54,6 +54,16 @@ public abstract class Modelo implements Cloneable {
 	 */
 	protected long seedInicial = 0;
 
+	/**
+	 * Tipo de dado usado pelos tensores das camadas do modelo.
+	 */
+	protected Dtype precisao = Dtype.FLOAT64;
+
+	/**
+	 * Disposição na memória dos tensores com canais usados pelas camadas.
+	 */
+	protected Layout layout = Layout.CANAIS_PRIMEIRO;
+
 	/**
 	 * Gerenciador de treino do modelo. contém implementações dos 
 	 * algoritmos de treino para o ajuste de parâmetros treináveis.
@@ -122,6 +132,71 @@ public abstract class Modelo implements Cloneable {
 		seedInicial = seed;
 	}
 
+	/**
+	 * Configura a precisão numérica usada pelos tensores das camadas do modelo.
+	 * <p>
+	 *    Usar {@code float32} reduz pela metade a memória ocupada pelos parâmetros
+	 *    e saídas das camadas, além da quantidade de dados trafegada durante os 
+	 *    cálculos, com a contrapartida da perda de precisão.
+	 * </p>
+	 * <p>
+	 *    A configuração de precisão deve ser feita antes da compilação do modelo para
+	 *    surtir efeito.
+	 * </p>
+	 * <p>
+	 *    {@code O valor padrão é float64}
+	 * </p>
+	 * @param precisao precisão desejada, pode ser uma {@code String} ({@code "float32"}, 
+	 * {@code "float64"}) ou uma instância de {@code Dtype}.
+	 */
+	public void setPrecisao(Object precisao) {
+		this.precisao = new Dicionario().getDtype(precisao);
+	}
+
+	/**
+	 * Retorna a precisão numérica usada pelos tensores das camadas do modelo.
+	 * @return tipo de dado do modelo.
+	 */
+	public Dtype precisao() {
+		return precisao;
+	}
+
+	/**
+	 * Configura a disposição na memória dos tensores com canais trocados
+	 * entre as camadas do modelo (convolução, pooling, flatten).
+	 * <p>
+	 *    Com {@code "canais-ultimo"} os tensores entre as camadas têm formato
+	 *    {@code (altura, largura, canais)}, e os canais de cada pixel ficam
+	 *    contíguos na memória. Os dados de entrada e de saída do modelo
+	 *    continuam no formato {@code (canais, altura, largura)}, sendo
+	 *    convertidos apenas na entrada e na saída do modelo.
+	 * </p>
+	 * <p>
+	 *    A disposição não altera os parâmetros das camadas nem os resultados
+	 *    do modelo, apenas a forma como os cálculos acessam a memória.
+	 * </p>
+	 * <p>
+	 *    A configuração de layout deve ser feita antes da compilação do modelo para
+	 *    surtir efeito.
+	 * </p>
+	 * <p>
+	 *    {@code O valor padrão é canais-primeiro}
+	 * </p>
+	 * @param layout disposição desejada, pode ser uma {@code String} ({@code "canais-primeiro"},
+	 * {@code "canais-ultimo"}) ou uma instância de {@code Layout}.
+	 */
+	public void setLayout(Object layout) {
+		this.layout = new Dicionario().getLayout(layout);
+	}
+
+	/**
+	 * Retorna a disposição dos tensores com canais usados pelas camadas do modelo.
+	 * @return disposição do modelo.
+	 */
+	public Layout layout() {
+		return layout;
+	}
+
 	/**
 	 * Define se, durante o processo de treinamento, o modelo irá salvar os dados 
 	 * relacionados a função de perda de cada época.
@@ -206,6 +281,24 @@ public abstract class Modelo implements Cloneable {
 	 */
 	public abstract void compilar(Object otimizador, Object perda);
 
+	/**
+	 * Inicializa os parâmetros necessários para cada camada do modelo usando
+	 * a precisão numérica informada.
+	 * @param otimizador otimizador usando para ajustar os parâmetros treinavéis do 
+	 * modelo, pode ser uma {@code String} referente ao nome ou uma {@code instância} 
+	 * já inicializada.
+	 * @param perda função de perda usada para avaliar o erro do modelo durante o 
+	 * treino, pode ser uma {@code String} referente ao nome ou uma {@code instância} 
+	 * já inicializada.
+	 * @param precisao precisão numérica das camadas, pode ser uma {@code String} 
+	 * ({@code "float32"}, {@code "float64"}) ou uma instância de {@code Dtype}.
+	 * @see #setPrecisao(Object)
+	 */
+	public void compilar(Object otimizador, Object perda, Object precisao) {
+		setPrecisao(precisao);
+		compilar(otimizador, perda);
+	}
+
 	/**
 	 * Auxiliar na verificação da compilação do modelo.
 	 */
@@ -226,6 +319,10 @@ public abstract class Modelo implements Cloneable {
 
 	/**
 	 * Alimenta o modelo com vários dados de entrada.
+	 * <p>
+	 *    As entradas são divididas entre as threads do pool de cálculo da
+	 *    biblioteca, configurado globalmente por {@code PoolCalculo.configurar()}.
+	 * </p>
 	 * @param entradas array contendo multiplas entradas para testar o modelo.
 	 * @return array de {@code Tensor} contendo as previsões correspondentes.
 	 */
@@ -235,37 +332,28 @@ public abstract class Modelo implements Cloneable {
 		utils.validarNaoNulo(entradas, "Dados de entrada não podem ser nulos.");
 
 		final int numEntradas = entradas.length;
-		int numThreads = Runtime.getRuntime().availableProcessors();
+		if (numEntradas == 0) return new Tensor[0];
+
+		int numThreads = PoolCalculo.threads();
 		if (numThreads > numEntradas) numThreads = numEntradas;
 
 		Tensor[] prevs = new Tensor[numEntradas];
 		Modelo[] clones = new Modelo[numThreads];
-		ExecutorService exec = Executors.newFixedThreadPool(numThreads);
 
 		for (int i = 0; i < numThreads; i++) {
 			clones[i] = clone();
 		}
 
-		int lote = numEntradas / numThreads;
-		for (int i = 0; i < numThreads; i++) {
-			final int id = i;
-			final int inicio = i * lote;
-			final int fim = (i == numThreads - 1) ? numEntradas : (i + 1) * lote;
-
-			exec.execute(() -> {
-				for (int j = inicio; j < fim; j++) {
-					prevs[j] = clones[id].forward(entradas[j]);
-				}
-			});
-		}
-		exec.shutdown();
+		final int partes = numThreads;
+		final int lote = numEntradas / partes;
+		PoolCalculo.executar(partes, id -> {
+			final int inicio = id * lote;
+			final int fim = (id == partes - 1) ? numEntradas : (id + 1) * lote;
 
-		try {
-			exec.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
-		} catch (InterruptedException e) {
-			e.printStackTrace();
-			System.exit(1);
-		}
+			for (int j = inicio; j < fim; j++) {
+				prevs[j] = clones[id].forward(entradas[j]);
+			}
+		});
 
 		return prevs;
 	}
@@ -362,7 +450,7 @@ public abstract class Modelo implements Cloneable {
 		int n = prevs.length;
 		double soma = 0;
 		for (int i = 0; i < n; i++) {
-			soma += _perda.calcular(prevs[i], real[i]).item();
+			soma += _perda.calcularValor(prevs[i], real[i]);
 		}
 
 		return new Tensor(new double[]{ (soma/n) }, 1);
@@ -396,12 +396,14 @@ public class RedeNeural extends Modelo {
 		_camadas = new Densa[_arq.length-1];
 		_camadas[0] = new Densa(_arq[1]);
 		_camadas[0].setBias(bias);
+		_camadas[0].setDtype(precisao);
 		_camadas[0].construir(new int[]{_arq[0]});
 
 		Dicionario dic = new Dicionario();
 		for (int i = 1; i < _camadas.length; i++) {
 			_camadas[i] = new Densa(_arq[i+1]);
 			_camadas[i].setBias(bias);
+			_camadas[i].setDtype(precisao);
 			_camadas[i].construir(_camadas[i-1].formatoSaida());
 		}
 
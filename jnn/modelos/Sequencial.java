@@ -5,6 +5,7 @@ import jnn.avaliacao.perda.Perda;
 import jnn.camadas.Camada;
 import jnn.camadas.Entrada;
 import jnn.core.Dicionario;
+import jnn.core.tensor.Layout;
 import jnn.core.tensor.Tensor;
 import jnn.core.tensor.Variavel;
 import jnn.otimizadores.Otimizador;
@@ -266,6 +267,8 @@ public class Sequencial extends Modelo {
 				);
 			}
 
+			_camadas[0].setDtype(precisao);
+			_camadas[0].setLayout(layout);
 			_camadas[0].construir(formato);
 		
 		} else {
@@ -275,12 +278,22 @@ public class Sequencial extends Modelo {
 					") seja construída."
 				);
 			}
+
+			if (_camadas[0].dtype() != precisao || _camadas[0].layout() != layout) {
+				_camadas[0].setDtype(precisao);
+				_camadas[0].setLayout(layout);
+				_camadas[0].construir(_camadas[0].formatoEntrada());
+			}
 		}
 
 		for (int i = 0; i < _camadas.length; i++) {
 			_camadas[i].setId(i);
 
-			if (i != 0) _camadas[i].construir(_camadas[i-1].formatoSaida());
+			if (i != 0) {
+				_camadas[i].setDtype(precisao);
+				_camadas[i].setLayout(layout);
+				_camadas[i].construir(_camadas[i-1].formatoSaida());
+			}
 			if (seedInicial != 0) _camadas[i].setSeed(seedInicial);
 
 			_camadas[i].inicializar();
@@ -303,13 +316,47 @@ public class Sequencial extends Modelo {
 
 		utils.validarNaoNulo(entrada, "Dados de entrada não podem ser nulos.");
 
-		Tensor prev = _camadas[0].forward(entrada);
+		Tensor prev = _camadas[0].forward(entradaCamadas(entrada));
 		for (int i = 1; i < _camadas.length; i++) {
 			prev = _camadas[i].forward(prev);
 		}
 
+		Camada saida = camadaSaida();
+		if (saida.layout() == Layout.CANAIS_ULTIMO && saida.formatoSaida().length == 3) {
+			// saída (altura, largura, canais) convertida para (canais, altura, largura)
+			return new Tensor(prev.permutar(2, 0, 1));
+		}
+
 		return prev.clone();// preservar a saída do modelo
 	}
+
+	/**
+	 * Converte a entrada {@code (canais, altura, largura)} recebida pelo modelo
+	 * para a disposição usada pela primeira camada.
+	 * <p>
+	 *    Nenhum dado é copiado, a primeira camada recebe uma visualização
+	 *    {@code (altura, largura, canais)} e a conversão acontece na cópia
+	 *    para sua entrada.
+	 * </p>
+	 * @param entrada dados de entrada do modelo.
+	 * @return entrada na disposição da primeira camada.
+	 */
+	private Object entradaCamadas(Object entrada) {
+		Camada primeira = _camadas[0];
+		if (primeira.layout() != Layout.CANAIS_ULTIMO || primeira.formatoEntrada().length != 3) {
+			return entrada;
+		}
+
+		if (entrada instanceof double[][][]) {
+			entrada = new Tensor((double[][][]) entrada);
+		}
+
+		if (entrada instanceof Tensor && ((Tensor) entrada).numDim() == 3) {
+			return ((Tensor) entrada).permutar(1, 2, 0);
+		}
+
+		return entrada;
+	}
   
 	@Override
 	public void zerarGrad() {
@@ -103,32 +103,32 @@ public class AMSGrad extends Otimizador {
     /**
 	 * Coeficientes de momentum para os kernels.
 	 */
-	private Variavel[] m;
+	private double[] m;
 
     /**
 	 * Coeficientes de momentum para os bias.
 	 */
-	private Variavel[] mb;
+	private double[] mb;
 
 	/**
 	 * Coeficientes de momentum de segunda orgem para os kernels.
 	 */
-	private Variavel[] v;
+	private double[] v;
 
 	/**
 	 * Coeficientes de momentum de segunda orgem para os bias.
 	 */
-	private Variavel[] vb;
+	private double[] vb;
 
 	/**
 	 * Coeficientes de momentum de segunda orgem corrigidos para os kernels.
 	 */
-	private Variavel[] vc;
+	private double[] vc;
 
 	/**
 	 * Coeficientes de momentum de segunda orgem corrigidos para os bias.
 	 */
-	private Variavel[] vcb;
+	private double[] vcb;
 
 	/**
 	 * Contador de iterações.
@@ -238,6 +238,8 @@ public class AMSGrad extends Otimizador {
 				idBias = amsgrad(bias, gradB, mb, vb, vcb, forcaB1, forcaB2, idBias);
 			} 
 		}
+
+		marcarAtualizados();
 	}
 
     /**
@@ -252,20 +254,20 @@ public class AMSGrad extends Otimizador {
 	 * @param id índice inicial das variáveis dentro do array de momentums.
 	 * @return índice final após as atualizações.
 	 */
-	private int amsgrad(Variavel[] vars, Variavel[] grads, Variavel[] m, Variavel[] v, Variavel[] vc, double forcaB1, double forcaB2, int id) {
+	private int amsgrad(Variavel[] vars, Variavel[] grads, double[] m, double[] v, double[] vc, double forcaB1, double forcaB2, int id) {
 		double mChapeu, vChapeu, g, mid, vid, vcid;
 
 		for (int i = 0; i < vars.length; i++) {
 			g = grads[i].get();
 
-			m[id].set((beta1 * m[id].get()) + ((1 - beta1) * g));
-			v[id].set((beta2 * v[id].get()) + ((1 - beta2) * (g*g)));
+			m[id] = (beta1 * m[id]) + ((1 - beta1) * g);
+			v[id] = (beta2 * v[id]) + ((1 - beta2) * (g*g));
 			
-			mid = m[id].get();
-			vid = v[id].get();
-			vcid = vc[id].get();
+			mid = m[id];
+			vid = v[id];
+			vcid = vc[id];
 
-			vc[id].set(Math.max(vcid, vid));
+			vc[id] = Math.max(vcid, vid);
 
 			mChapeu = mid / forcaB1;
 			vChapeu = vid / forcaB2;
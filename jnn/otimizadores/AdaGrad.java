@@ -64,12 +64,12 @@ public class AdaGrad extends Otimizador {
 	/**
 	 * Acumuladores para os kernels.
 	 */
-	private Variavel[] ac;
+	private double[] ac;
 
 	/**
 	 * Acumuladores para os bias.
 	 */
-	private Variavel[] acb;
+	private double[] acb;
 
 	/**
 	 * Inicializa uma nova instância de otimizador <strong> AdaGrad </strong> 
@@ -124,10 +124,10 @@ public class AdaGrad extends Otimizador {
 		
 		double valorInicial = 0.1;
 		for (int i = 0; i < kernels; i++) {
-			ac[i].set(valorInicial);
+			ac[i] = valorInicial;
 		}
 		for (int i = 0; i < bias; i++) {
-			acb[i].set(valorInicial);
+			acb[i] = valorInicial;
 		}
 		
 		_construido = true;// otimizador pode ser usado
@@ -150,6 +150,8 @@ public class AdaGrad extends Otimizador {
 				idBias = adagrad(bias, gradB, acb, idBias);
 			}
 		}
+
+		marcarAtualizados();
 	}
 
 	/**
@@ -160,14 +162,14 @@ public class AdaGrad extends Otimizador {
 	 * @param id índice inicial das variáveis dentro do array de momentums.
 	 * @return índice final após as atualizações.
 	 */
-	private int adagrad(Variavel[] vars, Variavel[] grads, Variavel[] ac, int id) {
+	private int adagrad(Variavel[] vars, Variavel[] grads, double[] ac, int id) {
 		double g;
 
 		for (int i = 0; i < vars.length; i++) {
 			g = grads[i].get();
 
-			ac[id].add(g*g);
-			vars[i].sub((g * tA) / (Math.sqrt(ac[id].get() + epsilon)));
+			ac[id] += g*g;
+			vars[i].sub((g * tA) / (Math.sqrt(ac[id] + epsilon)));
 			
 			id++;
 		}
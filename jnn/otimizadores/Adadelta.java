@@ -69,22 +69,22 @@ public class Adadelta extends Otimizador {
 	/**
 	 * Acumuladores para os kernels.
 	 */
-	private Variavel[] ac;
+	private double[] ac;
 
 	/**
 	 * Acumuladores para os bias.
 	 */
-	private Variavel[] acb;
+	private double[] acb;
 
 	/**
 	 * Acumulador atualizado para os kernels.
 	 */
-	private Variavel[] acAt;
+	private double[] acAt;
 
 	/**
 	 * Acumulador atualizado para os bias.
 	 */
-	private Variavel[] acAtb;
+	private double[] acAtb;
 
 	/**
 	 * Inicializa uma nova instância de otimizador <strong> Adadelta </strong> 
@@ -160,6 +160,8 @@ public class Adadelta extends Otimizador {
 				idBias = adadelta(bias, gradB, acb, acAtb, idBias);
 			}
 		}
+
+		marcarAtualizados();
 	}
 
 	/**
@@ -171,15 +173,15 @@ public class Adadelta extends Otimizador {
 	 * @param id índice inicial das variáveis dentro do array de momentums.
 	 * @return índice final após as atualizações.
 	 */
-	private int adadelta(Variavel[] vars, Variavel[] grads, Variavel[] ac, Variavel[] acAt, int id) {
+	private int adadelta(Variavel[] vars, Variavel[] grads, double[] ac, double[] acAt, int id) {
 		double g, delta;
 
 		for (int i = 0; i < vars.length; i++) {
 			g = grads[i].get();
-			ac[id].set((rho * ac[id].get()) + ((1 - rho) * (g*g)));
+			ac[id] = (rho * ac[id]) + ((1 - rho) * (g*g));
 			
-			delta = Math.sqrt(acAt[id].get() + epsilon) / Math.sqrt(ac[id].get() + epsilon) * g;
-			acAt[id].set((rho * acAt[id].get()) + ((1 - rho) * (delta * delta)));
+			delta = Math.sqrt(acAt[id] + epsilon) / Math.sqrt(ac[id] + epsilon) * g;
+			acAt[id] = (rho * acAt[id]) + ((1 - rho) * (delta * delta));
 			
 			vars[i].sub(delta);
 			
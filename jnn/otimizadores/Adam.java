@@ -107,22 +107,22 @@ public class Adam extends Otimizador {
 	/**
 	 * Coeficientes de momentum para os kernels.
 	 */
-	private Variavel[] m;
+	private double[] m;
 
 	/**
 	 * Coeficientes de momentum para os bias.
 	 */
-	private Variavel[] mb;
+	private double[] mb;
 
 	/**
 	 * Coeficientes de momentum de segunda ordem para os kernels.
 	 */
-	private Variavel[] v;
+	private double[] v;
 
 	/**
 	 * Coeficientes de momentum de segunda ordem para os bias.
 	 */
-	private Variavel[] vb;
+	private double[] vb;
 	
 	/**
 	 * Contador de iterações.
@@ -231,6 +231,8 @@ public class Adam extends Otimizador {
 				idBias = adam(bias, gradB, mb, vb, alfa, idBias);
 			}     
 		}
+
+		marcarAtualizados();
 	}
 
 	/**
@@ -243,16 +245,16 @@ public class Adam extends Otimizador {
 	 * @param id índice inicial das variáveis dentro do array de momentums.
 	 * @return índice final após as atualizações.
 	 */
-	private int adam(Variavel[] vars, Variavel[] grads, Variavel[] m, Variavel[] v, double alfa, int id) {
+	private int adam(Variavel[] vars, Variavel[] grads, double[] m, double[] v, double alfa, int id) {
 		double g, mid, vid;
 
 		for (int i = 0; i < vars.length; i++) {
 			g = grads[i].get();
-			mid = m[id].get();
-			vid = v[id].get();
+			mid = m[id];
+			vid = v[id];
 
-			m[id].add((1 - beta1) * (g      - mid));
-			v[id].add((1 - beta2) * (((g*g) - vid)));
+			m[id] += (1 - beta1) * (g      - mid);
+			v[id] += (1 - beta2) * (((g*g) - vid));
 
 			vars[i].sub((alfa * mid) / (Math.sqrt(vid) + epsilon));
 		
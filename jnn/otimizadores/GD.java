@@ -78,6 +78,8 @@ public class GD extends Otimizador {
 				gd(bias, gradB);
 			}
 		} 
+
+		marcarAtualizados();
 	}
 
     /**
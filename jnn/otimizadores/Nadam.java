@@ -97,22 +97,22 @@ public class Nadam extends Otimizador {
 	/**
 	 * Coeficientes de momentum.
 	 */
-	private Variavel[] m;
+	private double[] m;
 	
 	/**
 	 * Coeficientes de momentum.
 	 */
-	private Variavel[] mb;
+	private double[] mb;
 
 	/**
 	 * Coeficientes de momentum de segunda orgem.
 	 */
-	private Variavel[] v;
+	private double[] v;
 
 	/**
 	 * Coeficientes de momentum de segunda orgem.
 	 */
-	private Variavel[] vb;
+	private double[] vb;
 
 	/**
 	 * Contador de iterações.
@@ -219,6 +219,8 @@ public class Nadam extends Otimizador {
 				idBias = nadam(bias, gradB, mb, vb, forcaB1, forcaB2, idBias);
 			}     
 		}
+
+		marcarAtualizados();
 	}
 
 	/**
@@ -232,16 +234,16 @@ public class Nadam extends Otimizador {
 	 * @param id índice inicial das variáveis dentro do array de momentums.
 	 * @return índice final após as atualizações.
 	 */
-	private int nadam(Variavel[] vars, Variavel[] grads, Variavel[] m, Variavel[] v, double forcaB1, double forcaB2, int id) {
+	private int nadam(Variavel[] vars, Variavel[] grads, double[] m, double[] v, double forcaB1, double forcaB2, int id) {
 		double g, mChapeu, vChapeu;
 		
 		for (int i = 0; i < vars.length; i++) {
 			g = grads[i].get();
-			m[id].set((beta1 * m[id].get()) + ((1 - beta1) * g));
-			v[id].set((beta2 * v[id].get()) + ((1 - beta2) * (g*g)));
+			m[id] = (beta1 * m[id]) + ((1 - beta1) * g);
+			v[id] = (beta2 * v[id]) + ((1 - beta2) * (g*g));
 			
-			mChapeu = (beta1 * m[id].get()) + ((1 - beta1) * g) / forcaB1;
-			vChapeu = (beta2 * v[id].get()) / forcaB2;
+			mChapeu = (beta1 * m[id]) + ((1 - beta1) * g) / forcaB1;
+			vChapeu = (beta2 * v[id]) / forcaB2;
 			vars[i].sub((mChapeu * tA) / (Math.sqrt(vChapeu) + epsilon));
 		
 			id++;
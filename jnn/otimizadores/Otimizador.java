@@ -2,7 +2,6 @@ package jnn.otimizadores;
 
 import jnn.camadas.Camada;
 import jnn.core.Utils;
-import jnn.core.tensor.Variavel;
 
 /**
  * Classe base para implementações de otimizadores do treino da biblioteca.
@@ -85,17 +84,29 @@ public abstract class Otimizador {
 	}
 
 	/**
-	 * Inicializa um array de variáveis.
-	 * @param tam tamanho desejado.
-	 * @return array de acordo com o tamanho, zerado.
+	 * Marca os kernels e bias das camadas otimizadas como alterados, avançando
+	 * suas versões.
+	 * <p>
+	 *		Os otimizadores atualizam os parâmetros elemento a elemento, então
+	 *		devem chamar este método ao final de {@code atualizar()} para que
+	 *		valores derivados dos parâmetros mantidos em cache pelas camadas
+	 *		sejam recalculados.
+	 * </p>
 	 */
-	protected Variavel[] initVars(int tam) {
-		Variavel[] arr = new Variavel[tam];
-		for (int i = 0; i < tam; i++) {
-			arr[i] = new Variavel();
+	protected void marcarAtualizados() {
+		for (Camada camada : _camadas) {
+			camada.kernel().marcarAlterado();
+			if (camada.temBias()) camada.bias().marcarAlterado();
 		}
+	}
 
-		return arr;
+	/**
+	 * Inicializa um array de coeficientes do otimizador.
+	 * @param tam tamanho desejado.
+	 * @return array de acordo com o tamanho, zerado.
+	 */
+	protected double[] initVars(int tam) {
+		return new double[tam];
 	}
 
 	/**
@@ -77,12 +77,12 @@ public class RMSProp extends Otimizador {
 	/**
 	 * Acumuladores para os kernels
 	 */
-	private Variavel[] ac;
+	private double[] ac;
 
 	/**
 	 * Acumuladores para os bias.
 	 */
-	private Variavel[] acb;
+	private double[] acb;
 
 	/**
 	 * Inicializa uma nova instância de otimizador <strong> RMSProp </strong> 
@@ -170,6 +170,8 @@ public class RMSProp extends Otimizador {
 				idBias = rmsprop(bias, gradB, acb, idBias);
 			}
 		}
+
+		marcarAtualizados();
 	}
 
 	/**
@@ -180,14 +182,14 @@ public class RMSProp extends Otimizador {
 	 * @param id índice inicial das variáveis dentro do array de momentums.
 	 * @return índice final após as atualizações.
 	 */
-    private int rmsprop(Variavel[] vars, Variavel[] grads, Variavel[] ac, int id) {
+    private int rmsprop(Variavel[] vars, Variavel[] grads, double[] ac, int id) {
         double g;
 
         for (int i = 0; i < vars.length; i++) {
             g = grads[i].get();
             
-			ac[id].set(rho * ac[id].get() + (1 - rho) * g * g);
-            vars[i].sub((g * tA) / (Math.sqrt(ac[id].get()) + epsilon));
+			ac[id] = rho * ac[id] + (1 - rho) * g * g;
+            vars[i].sub((g * tA) / (Math.sqrt(ac[id]) + epsilon));
 
             id++;
         }
@@ -73,12 +73,12 @@ public class SGD extends Otimizador {
 	/**
 	 * Coeficientes de momentum para os kernels.
 	 */
-	private Variavel[] m;
+	private double[] m;
 	
 	/**
 	 * Coeficientes de momentum para os bias.
 	 */
-	private Variavel[] mb;
+	private double[] mb;
 
 	/**
 	 * Inicializa uma nova instância de otimizador <strong> Stochastic Gradient 
@@ -164,6 +164,8 @@ public class SGD extends Otimizador {
 				idBias = sgd(bias, gradB, mb, idBias);
 			}
 		}
+
+		marcarAtualizados();
 	}
 
 	/**
@@ -174,14 +176,14 @@ public class SGD extends Otimizador {
 	 * @param id índice inicial das variáveis dentro do array de momentums.
 	 * @return índice final após as atualizações.
 	 */
-	private int sgd(Variavel[] vars, Variavel[] grads, Variavel[] m, int id) {
+	private int sgd(Variavel[] vars, Variavel[] grads, double[] m, int id) {
 		double mid, g;
 
 		for (int i = 0; i < vars.length; i++) {
-			mid = m[id].get();
+			mid = m[id];
 			g = grads[i].get();
 		
-			m[id].set((mid * momentum) - (g * tA));
+			m[id] = (mid * momentum) - (g * tA);
 			vars[i].add(nesterov ? (mid * momentum) - (g * tA) : mid);
 		
 			id++;
@@ -20,6 +20,8 @@ class SerialConv {
 	 *    <li> Nome da camada; </li>
 	 *    <li> Formato de entrada (altura, largura, profundidade); </li>
 	 *    <li> Formato de saída (altura, largura, profundidade); </li>
+	 *    <li> Formato dos filtros (altura, largura); </li>
+	 *    <li> Strides, padding e dilatação (altura, largura de cada); </li>
 	 *    <li> Função de ativação configurada; </li>
 	 *    <li> Uso de bias; </li>
 	 *    <li> Valores dos filtros; </li>
@@ -53,6 +55,15 @@ class SerialConv {
 			sb.append(shapeFiltro[i]).append(" ");
 		}
 		sb.append("\n");
+
+		//strides, padding e dilatação
+		int[][] config = { camada.stride(), camada.padding(), camada.dilatacao() };
+		for (int[] c : config) {
+			for (int i = 0; i < c.length; i++) {
+				sb.append(c[i]).append(" ");
+			}
+		}
+		sb.append("\n");
 		
 		//função de ativação
 		sb.append(camada.ativacao().nome()).append("\n");
@@ -134,8 +145,22 @@ class SerialConv {
 				formFiltro[i] = Integer.parseInt(sFiltros[i]);
 			}
 			
+			//strides, padding e dilatação, ausentes em arquivos antigos,
+			//onde a linha seguinte já é a função de ativação
+			int[] stride = {1, 1};
+			int[] padding = {0, 0};
+			int[] dilatacao = {1, 1};
+			String linha = br.readLine();
+			if (!linha.isEmpty() && Character.isDigit(linha.charAt(0))) {
+				String[] sConfig = linha.trim().split(" ");
+				stride    = new int[]{ Integer.parseInt(sConfig[0]), Integer.parseInt(sConfig[1]) };
+				padding   = new int[]{ Integer.parseInt(sConfig[2]), Integer.parseInt(sConfig[3]) };
+				dilatacao = new int[]{ Integer.parseInt(sConfig[4]), Integer.parseInt(sConfig[5]) };
+				linha = br.readLine();
+			}
+
 			//função de ativação
-			String ativacao = br.readLine();
+			String ativacao = linha;
 
 			//bias
 			boolean bias = Boolean.valueOf(br.readLine());
@@ -145,6 +170,9 @@ class SerialConv {
 			Conv2D camada = new Conv2D(numFiltros, formFiltro);
 			camada.setAtivacao(ativacao);
 			camada.setBias(bias);
+			camada.setStride(stride);
+			camada.setPadding(padding);
+			camada.setDilatacao(dilatacao);
 			camada.construir(entrada);
 
 			return camada;
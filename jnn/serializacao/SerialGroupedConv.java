@@ -0,0 +1,199 @@
+package jnn.serializacao;
+
+import java.io.BufferedReader;
+
+import jnn.camadas.GroupedConv2D;
+import jnn.core.tensor.Variavel;
+
+/**
+ * Utilitário usado para serialização e desserialização de camadas
+ * Convolucionais agrupadas.
+ */
+class SerialGroupedConv {
+
+	public SerialGroupedConv() {}
+
+	/**
+	 * Transforma os dados contidos na camada numa sequência de informações
+	 * sequenciais. Essas informações contém:
+	 * <ul>
+	 *    <li> Nome da camada; </li>
+	 *    <li> Formato de entrada (canais, altura, largura); </li>
+	 *    <li> Formato de saída (filtros, altura, largura); </li>
+	 *    <li> Formato dos filtros (altura, largura); </li>
+	 *    <li> Quantidade de grupos; </li>
+	 *    <li> Strides, padding e dilatação (altura, largura de cada); </li>
+	 *    <li> Função de ativação configurada; </li>
+	 *    <li> Uso de bias; </li>
+	 *    <li> Valores dos filtros; </li>
+	 *    <li> Valores dos bias (se houver); </li>
+	 * </ul>
+	 * @param camada camada que será serializada.
+	 * @param sb StringBuilder usado como buffer.
+	 * @param tipo tipo de dado que será escrito (double / float).
+	 */
+	public void serializar(GroupedConv2D camada, StringBuilder sb, String tipo) {
+		//nome da camada pra facilitar
+		sb.append(camada.nome()).append("\n");
+
+		//formato de entrada
+		escreverFormato(camada.formatoEntrada(), sb);
+		
+		//formato de saída
+		escreverFormato(camada.formatoSaida(), sb);
+		
+		//formato dos filtros
+		escreverFormato(camada.formatoFiltro(), sb);
+
+		//grupos
+		sb.append(camada.grupos()).append("\n");
+
+		//strides, padding e dilatação
+		int[][] config = { camada.stride(), camada.padding(), camada.dilatacao() };
+		for (int[] c : config) {
+			for (int i = 0; i < c.length; i++) {
+				sb.append(c[i]).append(" ");
+			}
+		}
+		sb.append("\n");
+		
+		//função de ativação
+		sb.append(camada.ativacao().nome()).append("\n");
+
+		//bias
+		sb.append(camada.temBias()).append("\n");
+
+		//filtros
+		for (Variavel valor : camada.kernelParaArray()) {
+			escreverDado(valor.get(), tipo, sb);
+			sb.append("\n");
+		}
+		
+		if (camada.temBias()) {
+			for (Variavel valor : camada.biasParaArray()) {
+				escreverDado(valor.get(), tipo, sb);
+				sb.append("\n");
+			}
+		}
+	}
+
+	/**
+	 * Escreve os valores do formato numa linha.
+	 * @param formato formato desejado.
+	 * @param sb StringBuilder usado como buffer.
+	 */
+	private void escreverFormato(int[] formato, StringBuilder sb) {
+		for (int i = 0; i < formato.length; i++) {
+			sb.append(formato[i]).append(" ");
+		}
+		sb.append("\n");
+	}
+
+	/**
+	 * Salva o valor de acordo com a configuração de tipo definida.
+	 * @param valor valor desejado.
+	 * @param tipo formatação do dado (float / double).
+	 * @param sb StringBuilder usado como buffer..
+	 */
+	private void escreverDado(double valor, String tipo, StringBuilder sb) {
+		tipo = tipo.toLowerCase();
+		switch(tipo){
+			case "float":
+				sb.append((float) valor);
+			break;
+
+			case "double":
+				sb.append(valor);
+			break;
+				
+			default:
+				throw new IllegalArgumentException("Tipo de dado (" + tipo + ") não suportado");
+		}
+	}
+
+	/**
+	 * Lê uma linha de valores inteiros.
+	 * @param br leitor de buffer.
+	 * @return valores lidos.
+	 */
+	private int[] lerFormato(BufferedReader br) throws Exception {
+		String[] s = br.readLine().trim().split(" ");
+		int[] formato = new int[s.length];
+		for (int i = 0; i < s.length; i++) {
+			formato[i] = Integer.parseInt(s[i]);
+		}
+
+		return formato;
+	}
+
+	/**
+	 * Lê as informações da camada contida no arquivo.
+	 * @param br leitor de buffer.
+	 * @return instância de uma camada convolucional agrupada, os valores
+	 * de filtros e bias ainda não são inicializados.
+	 */
+	public GroupedConv2D lerConfig(BufferedReader br) {
+		try {
+			int[] entrada = lerFormato(br);
+			int[] saida = lerFormato(br);
+			int[] formFiltro = lerFormato(br);
+			int grupos = Integer.parseInt(br.readLine().trim());
+			
+			//strides, padding e dilatação
+			int[] config = lerFormato(br);
+
+			//função de ativação
+			String ativacao = br.readLine();
+
+			//bias
+			boolean bias = Boolean.valueOf(br.readLine());
+
+			GroupedConv2D camada = new GroupedConv2D(grupos, saida[0], formFiltro);
+			camada.setAtivacao(ativacao);
+			camada.setBias(bias);
+			camada.setStride(new int[]{ config[0], config[1] });
+			camada.setPadding(new int[]{ config[2], config[3] });
+			camada.setDilatacao(new int[]{ config[4], config[5] });
+			camada.construir(entrada);
+
+			return camada;
+
+		} catch (Exception e) {
+			System.out.println("\nErro ao ler configurações da camada GroupedConv2D:");
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Lê os valores dos filtros e bias para a camada.
+	 * @param camada camada que será editada.
+	 * @param br leitor de buffer.
+	 */
+	public void lerPesos(GroupedConv2D camada, BufferedReader br) {
+		try {
+			int tamKernel = camada.kernel().tamanho();
+			Variavel[] arrKernel = new Variavel[tamKernel];
+
+			for (int i = 0; i < tamKernel; i++) {
+				arrKernel[i] = new Variavel(Double.parseDouble(br.readLine()));
+			}
+
+			camada.setKernel(arrKernel);
+			
+			if (camada.temBias()) {
+				int tamBias = camada.bias().tamanho();
+				Variavel[] arrBias = new Variavel[tamBias];
+
+				for (int i = 0; i < tamBias; i++) {
+					arrBias[i] = new Variavel(Double.parseDouble(br.readLine()));
+				}
+				
+				camada.setBias(arrBias);
+			}
+
+		} catch (Exception e) {
+			System.out.println("\nErro ao ler pesos da camada " + camada.nome());
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -11,9 +11,12 @@ import jnn.camadas.AvgPool2D;
 import jnn.camadas.Camada;
 import jnn.camadas.Conv2D;
 import jnn.camadas.Densa;
+import jnn.camadas.DepthwiseConv2D;
 import jnn.camadas.Dropout;
 import jnn.camadas.Flatten;
+import jnn.camadas.GroupedConv2D;
 import jnn.camadas.MaxPool2D;
+import jnn.camadas.PointwiseConv2D;
 import jnn.core.Dicionario;
 import jnn.modelos.RedeNeural;
 import jnn.modelos.Sequencial;
@@ -44,6 +47,21 @@ public class Serializador {
 	 */
 	private SerialConv auxConv = new SerialConv();
 
+	/**
+	 * Auxiliar na serialização de camadas convolucionais em profundidade.
+	 */
+	private SerialDepthwise auxDepthwise = new SerialDepthwise();
+
+	/**
+	 * Auxiliar na serialização de camadas convolucionais pontuais.
+	 */
+	private SerialPointwise auxPointwise = new SerialPointwise();
+
+	/**
+	 * Auxiliar na serialização de camadas convolucionais agrupadas.
+	 */
+	private SerialGroupedConv auxGrouped = new SerialGroupedConv();
+
 	/**
 	 * Auxiliar na serialização de camadas flatten.
 	 */
@@ -164,6 +182,8 @@ public class Serializador {
 		sb.append(modelo.numCamadas()).append("\n");
 		sb.append(modelo.otimizador().nome()).append("\n");
 		sb.append(modelo.perda().nome()).append("\n");
+		sb.append(modelo.precisao().name()).append("\n");
+		sb.append(modelo.layout().name()).append("\n");
 
 		for (Camada camada : modelo.camadas()) {
 			if (camada instanceof Densa) {
@@ -171,6 +191,15 @@ public class Serializador {
 
 			} else if (camada instanceof Conv2D) {
 				auxConv.serializar((Conv2D) camada, sb, tipo);
+
+			} else if (camada instanceof DepthwiseConv2D) {
+				auxDepthwise.serializar((DepthwiseConv2D) camada, sb, tipo);
+
+			} else if (camada instanceof PointwiseConv2D) {
+				auxPointwise.serializar((PointwiseConv2D) camada, sb, tipo);
+
+			} else if (camada instanceof GroupedConv2D) {
+				auxGrouped.serializar((GroupedConv2D) camada, sb, tipo);
 			
 			} else if (camada instanceof Flatten) {
 				auxFlat.serializar((Flatten) camada, sb);
@@ -279,8 +308,18 @@ public class Serializador {
 		
 			modelo.setOtimizador(otimizador);
 			modelo.setPerda(perda);
+
+			//precisão e layout, ausentes em arquivos antigos,
+			//onde a linha seguinte já é o nome da primeira camada
+			String linha = br.readLine();
+			if (linha.trim().toUpperCase().startsWith("FLOAT")) {
+				modelo.setPrecisao(linha.trim());
+				modelo.setLayout(br.readLine().trim());
+				linha = br.readLine();
+			}
+
 			for (int i = 0; i < numCamadas; i++) {
-				String nome = br.readLine();
+				String nome = (i == 0) ? linha : br.readLine();
 				
 				if (nome.equalsIgnoreCase("densa")) {
 					Densa densa = auxDensa.lerConfig(br);
@@ -291,6 +330,21 @@ public class Serializador {
 					Conv2D convolucional = auxConv.lerConfig(br);
 					auxConv.lerPesos(convolucional, br);
 					modelo.add(convolucional);
+
+				} else if (nome.equalsIgnoreCase("depthwiseconv2d")) {
+					DepthwiseConv2D depthwise = auxDepthwise.lerConfig(br);
+					auxDepthwise.lerPesos(depthwise, br);
+					modelo.add(depthwise);
+
+				} else if (nome.equalsIgnoreCase("pointwiseconv2d")) {
+					PointwiseConv2D pointwise = auxPointwise.lerConfig(br);
+					auxPointwise.lerPesos(pointwise, br);
+					modelo.add(pointwise);
+
+				} else if (nome.equalsIgnoreCase("groupedconv2d")) {
+					GroupedConv2D agrupada = auxGrouped.lerConfig(br);
+					auxGrouped.lerPesos(agrupada, br);
+					modelo.add(agrupada);
 				
 				} else if (nome.equalsIgnoreCase("flatten")) {
 					Flatten flat = auxFlat.lerConfig(br);
@@ -319,6 +373,7 @@ public class Serializador {
 			for (int i = 0; i < modelo.numCamadas(); i++) {
 				modelo.camada(i).setId(i);
 			}
+			restaurarPrecisao(modelo);
 			otimizador.construir(modelo.camadas());
 
 		} catch(Exception e) {
@@ -328,4 +383,36 @@ public class Serializador {
 
 		return modelo;
 	}
+
+	/**
+	 * Reconstrói as camadas lidas com a precisão e o layout do modelo,
+	 * preservando os parâmetros carregados do arquivo.
+	 * <p>
+	 *    As camadas são lidas com a configuração padrão ({@code float64} e
+	 *    {@code canais-primeiro}), então só são reconstruídas quando o
+	 *    modelo foi salvo com outra configuração.
+	 * </p>
+	 * @param modelo modelo lido.
+	 */
+	private void restaurarPrecisao(Sequencial modelo) {
+		for (Camada camada : modelo.camadas()) {
+			if (camada.dtype() == modelo.precisao() && camada.layout() == modelo.layout()) {
+				continue;
+			}
+
+			double[] kernel = null;
+			double[] bias = null;
+			if (camada.treinavel()) {
+				kernel = camada.kernel().paraArrayDouble();
+				if (camada.temBias()) bias = camada.bias().paraArrayDouble();
+			}
+
+			camada.setDtype(modelo.precisao());
+			camada.setLayout(modelo.layout());
+			camada.construir(camada.formatoEntrada());
+
+			if (kernel != null) camada.kernel().copiarElementos(kernel);
+			if (bias != null) camada.bias().copiarElementos(bias);
+		}
+	}
 }
@@ -2,8 +2,12 @@ package jnn.treinamento;
 
 import java.util.Random;
 
+import jnn.ativacoes.Softmax;
+import jnn.avaliacao.perda.EntropiaCruzada;
 import jnn.avaliacao.perda.Perda;
 import jnn.camadas.Camada;
+import jnn.camadas.Densa;
+import jnn.core.tensor.Layout;
 import jnn.core.tensor.Tensor;
 
 /**
@@ -17,6 +21,12 @@ public class AuxTreino {
 	 */
 	Random random = new Random();
 
+	/**
+	 * Gradiente da função de perda, reaproveitado entre as chamadas
+	 * de retropropagação.
+	 */
+	private Tensor gradPerda;
+
 	/**
 	 * Configura a seed inicial do gerador de números aleatórios.
 	 * @param seed nova seed.
@@ -40,12 +50,73 @@ public class AuxTreino {
 	 * @param real {@code Tensor} contendos os dados reais (rotulados).
 	 */
 	public void backpropagation(Camada[] camadas, Perda perda, Tensor prev, Tensor real) {
-		Tensor grad = perda.derivada(prev, real);
+		if (gradPerda == null || gradPerda.dtype() != prev.dtype() || !gradPerda.compararShape(prev)) {
+			gradPerda = new Tensor(prev.dtype(), prev.shape());
+		}
+
+		Camada saida = camadas[camadas.length-1];
+		Softmax softmax = softmaxSaida(saida);
+		if (softmax == null) {
+			retropropagar(camadas, saida, perda, prev, real);
+			return;
+		}
+
+		// a fusão vale apenas para esta retropropagação, a ativação pode ser
+		// usada fora do treino ou compartilhada com outros modelos
+		boolean anterior = softmax.fundidaEntropiaCruzada();
+		softmax.setFundidaEntropiaCruzada(perda instanceof EntropiaCruzada);
+		try {
+			retropropagar(camadas, saida, perda, prev, real);
+		} finally {
+			softmax.setFundidaEntropiaCruzada(anterior);
+		}
+	}
+
+	/**
+	 * Calcula o gradiente da perda e o retropropaga da última camada até a primeira.
+	 * @param camadas conjunto de camadas de um modelo.
+	 * @param saida camada de saída do modelo.
+	 * @param perda função de perda configurada para o modelo.
+	 * @param prev {@code Tensor} contendos os dados previstos.
+	 * @param real {@code Tensor} contendos os dados reais (rotulados).
+	 */
+	private void retropropagar(Camada[] camadas, Camada saida, Perda perda, Tensor prev, Tensor real) {
+		Tensor grad = perda.derivada(prev, real, gradPerda);
+
+		if (saida.layout() == Layout.CANAIS_ULTIMO && grad.numDim() == 3) {
+			// gradiente (canais, altura, largura) visto como (altura, largura, canais)
+			grad = grad.permutar(1, 2, 0);
+		}
+
 		for (int i = camadas.length-1; i >= 0; i--) {
 			grad = camadas[i].backward(grad);
 		}
 	}
 
+	/**
+	 * Retorna a Softmax da camada de saída quando ela for uma {@code Densa}
+	 * com ativação Softmax, cuja derivada pode ser fundida com a da Entropia
+	 * Cruzada.
+	 * <p>
+	 *    Com a Entropia Cruzada a derivada da perda ({@code prev - real}) já é o
+	 *    gradiente em relação à entrada da Softmax, e o produto com a jacobiana
+	 *    é evitado.
+	 * </p>
+	 * <p>
+	 *    A verificação é feita a cada retropropagação, então não depende da ordem
+	 *    em que a ativação e a perda foram configuradas no modelo.
+	 * </p>
+	 * @param saida camada de saída do modelo.
+	 * @return Softmax da camada de saída, ou {@code null} se não houver.
+	 */
+	private Softmax softmaxSaida(Camada saida) {
+		if (saida instanceof Densa && saida.ativacao() instanceof Softmax) {
+			return (Softmax) saida.ativacao();
+		}
+
+		return null;
+	}
+
 	/**
 	 * Embaralha os dados da matriz usando o algoritmo Fisher-Yates.
 	 * @param entradas matriz com os dados de entrada.
@@ -72,7 +72,7 @@ class Treino {
 				
 				//feedback de avanço da rede
 				if (calcularHistorico) {
-					perdaEpoca += perda.calcular(prev, saida[i]).item();
+					perdaEpoca += perda.calcularValor(prev, saida[i]);
 				}
 				
 				modelo.zerarGrad();
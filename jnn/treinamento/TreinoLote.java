@@ -81,7 +81,7 @@ class TreinoLote {
 					Tensor prev = modelo.forward(entradaLote[j]);
 
 					if (calcularHistorico) {
-						perdaEpoca += perda.calcular(prev, saidaLote[j]).item();
+						perdaEpoca += perda.calcularValor(prev, saidaLote[j]);
 					}
 
 					aux.backpropagation(camadas, perda, prev, saidaLote[j]);
@@ -1,5 +1,7 @@
 package lib.ged;
 
+import jnn.core.PoolCalculo;
+
 /**
  * <p>
  *    Gerenciador de Dados.
@@ -52,7 +54,7 @@ public class Ged{
 		cd = new ConversorDados();
 		om = new OperadorMatriz();
 
-		omt = new OperadorMatrizMultithread(Runtime.getRuntime().availableProcessors()/2);
+		omt = new OperadorMatrizMultithread(PoolCalculo.threads());
 	}
 
 	/**
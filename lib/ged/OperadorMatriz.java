@@ -1,4 +1,6 @@
-package lib.ged;;
+package lib.ged;
+
+import jnn.core.PoolCalculo;
 
 
 /**
@@ -6,6 +8,12 @@ package lib.ged;;
  */
 class OperadorMatriz {
 
+   /**
+    * Quantidade mínima de multiplicações para que a multiplicação de
+    * matrizes seja dividida entre as threads do {@code PoolCalculo}.
+    */
+   private static final long LIMIAR_PARALELO = 1L << 20;
+
 
    /**
     * Contém implementações de operações matriciais para dados
@@ -597,9 +605,21 @@ class OperadorMatriz {
    private void multiplicarMatrizes(int[][] a, int[][] b, int[][] r) {
       dimensoesIguaisMult(a, b, r);
 
+      long operacoes = (long) r.length * r[0].length * a[0].length;
+      if (operacoes < LIMIAR_PARALELO) {
+         multiplicarLinhas(a, b, r, 0, r.length);
+      } else {
+         dividirLinhas(r.length, PoolCalculo.threads(), (ini, fim) -> multiplicarLinhas(a, b, r, ini, fim));
+      }
+   }
+
+   /**
+    * Calcula as linhas {@code [ini, fim)} do resultado da multiplicação de matrizes.
+    */
+   void multiplicarLinhas(int[][] a, int[][] b, int[][] r, int ini, int fim) {
       int tamInterno = a[0].length;
 
-      for (int i = 0; i < r.length; i++) {
+      for (int i = ini; i < fim; i++) {
          for (int j = 0; j < r[i].length; j++) {
 
             r[i][j] = 0;
@@ -613,9 +633,21 @@ class OperadorMatriz {
    private void multiplicarMatrizes(float[][] a, float[][] b, float[][] r) {
       dimensoesIguaisMult(a, b, r);
 
+      long operacoes = (long) r.length * r[0].length * a[0].length;
+      if (operacoes < LIMIAR_PARALELO) {
+         multiplicarLinhas(a, b, r, 0, r.length);
+      } else {
+         dividirLinhas(r.length, PoolCalculo.threads(), (ini, fim) -> multiplicarLinhas(a, b, r, ini, fim));
+      }
+   }
+
+   /**
+    * Calcula as linhas {@code [ini, fim)} do resultado da multiplicação de matrizes.
+    */
+   void multiplicarLinhas(float[][] a, float[][] b, float[][] r, int ini, int fim) {
       int tamInterno = a[0].length;
 
-      for (int i = 0; i < r.length; i++) {
+      for (int i = ini; i < fim; i++) {
          for (int j = 0; j < r[i].length; j++) {
 
             r[i][j] = 0;
@@ -629,9 +661,21 @@ class OperadorMatriz {
    private void multiplicarMatrizes(double[][] a, double[][] b, double[][] r) {
       dimensoesIguaisMult(a, b, r);
 
+      long operacoes = (long) r.length * r[0].length * a[0].length;
+      if (operacoes < LIMIAR_PARALELO) {
+         multiplicarLinhas(a, b, r, 0, r.length);
+      } else {
+         dividirLinhas(r.length, PoolCalculo.threads(), (ini, fim) -> multiplicarLinhas(a, b, r, ini, fim));
+      }
+   }
+
+   /**
+    * Calcula as linhas {@code [ini, fim)} do resultado da multiplicação de matrizes.
+    */
+   void multiplicarLinhas(double[][] a, double[][] b, double[][] r, int ini, int fim) {
       int tamInterno = a[0].length;
 
-      for (int i = 0; i < r.length; i++) {
+      for (int i = ini; i < fim; i++) {
          for (int j = 0; j < r[i].length; j++) {
 
             r[i][j] = 0;
@@ -642,6 +686,31 @@ class OperadorMatriz {
       }
    }
 
+   /**
+    * Bloco de linhas de uma operação matricial.
+    */
+   interface BlocoLinhas {
+      void calcular(int ini, int fim);
+   }
+
+   /**
+    * Divide as linhas em partes de tamanho semelhante e as calcula
+    * usando as threads do {@code PoolCalculo}.
+    * @param linhas quantidade de linhas.
+    * @param partes quantidade de partes desejada.
+    * @param bloco operação aplicada em cada parte.
+    */
+   static void dividirLinhas(int linhas, int partes, BlocoLinhas bloco) {
+      final int n = Math.max(1, Math.min(partes, linhas));
+      final int linPorParte = (linhas + n - 1) / n;
+
+      PoolCalculo.executar(n, id -> {
+         int ini = id * linPorParte;
+         int fim = Math.min(linhas, ini + linPorParte);
+         if (ini < fim) bloco.calcular(ini, fim);
+      });
+   }
+
    //escalar
 
    public void matMultEscalar(Object mat, Number escalar) {
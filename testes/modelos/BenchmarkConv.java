@@ -0,0 +1,83 @@
+package testes.modelos;
+
+import java.util.Random;
+
+import jnn.core.PoolCalculo;
+import jnn.core.tensor.AlgoritmoConv;
+import jnn.core.tensor.OpTensor;
+import jnn.core.tensor.Tensor;
+
+/**
+ * Mede o tempo da propagação direta das camadas convolucionais do
+ * {@code MainConv} (16 e 20 filtros) com cada algoritmo, usando uma thread
+ * e todas as threads disponíveis.
+ */
+public class BenchmarkConv {
+	static OpTensor op = new OpTensor();
+
+	static final int AQUECIMENTO = 2_000;
+	static final int REPETICOES = 2_000;
+
+	public static void main(String[] args) {
+		// Entrada(1, 28, 28) -> Conv2D(16, 3x3)
+		// MaxPool2D(2x2) -> Conv2D(20, 3x3)
+		int[][] camadas = {
+			{1, 28, 28, 16},
+			{16, 13, 13, 20},
+		};
+
+		int nucleos = Runtime.getRuntime().availableProcessors();
+		int[] threads = nucleos > 1 ? new int[]{1, nucleos} : new int[]{1};
+
+		for (int[] camada : camadas) {
+			int canais = camada[0], alt = camada[1], larg = camada[2], filtros = camada[3];
+			System.out.println(
+				"Entrada (" + canais + ", " + alt + ", " + larg + ") - " + filtros + " filtros 3x3"
+			);
+
+			Random rand = new Random(42);
+			Tensor entrada = new Tensor(canais, alt, larg).aplicar(x -> rand.nextDouble());
+			Tensor kernel = new Tensor(filtros, canais, 3, 3).aplicar(x -> rand.nextDouble());
+			Tensor bias = new Tensor(filtros).aplicar(x -> rand.nextDouble());
+			Tensor saida = new Tensor(filtros, alt - 2, larg - 2);
+
+			for (AlgoritmoConv alg : AlgoritmoConv.values()) {
+				for (int t : threads) {
+					PoolCalculo.configurar(t);
+					double us = medir(entrada, kernel, bias, saida, alg);
+					System.out.println(
+						"  " + alg.nome() + " (" + t + " thread" + (t > 1 ? "s" : "") + "): " +
+						formatarDecimal(us, 2) + " us"
+					);
+				}
+			}
+
+			System.out.println();
+		}
+
+		PoolCalculo.configurar(nucleos);
+	}
+
+	/**
+	 * Retorna o tempo médio, em microssegundos, da propagação direta.
+	 */
+	static double medir(Tensor entrada, Tensor kernel, Tensor bias, Tensor saida, AlgoritmoConv alg) {
+		for (int i = 0; i < AQUECIMENTO; i++) {
+			saida.zerar();
+			op.conv2DForward(entrada, kernel, bias, saida, alg);
+		}
+
+		long tempo = System.nanoTime();
+		for (int i = 0; i < REPETICOES; i++) {
+			saida.zerar();
+			op.conv2DForward(entrada, kernel, bias, saida, alg);
+		}
+		tempo = System.nanoTime() - tempo;
+
+		return tempo / 1_000.0 / REPETICOES;
+	}
+
+	static String formatarDecimal(double valor, int casas) {
+		return String.format("%." + casas + "f", valor);
+	}
+}
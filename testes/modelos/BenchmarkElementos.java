@@ -0,0 +1,125 @@
+package testes.modelos;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import jnn.core.tensor.Dtype;
+import jnn.core.tensor.OpTensor;
+import jnn.core.tensor.Tensor;
+
+/**
+ * Compara o tempo das operações elemento a elemento e das reduções dos
+ * tensores com laços equivalentes que acessam cada elemento pela API do
+ * {@code Tensor}, em tamanhos típicos das camadas do {@code MainConv}.
+ * <p>
+ *		Os tempos são dados em nanossegundos por elemento, medidos com
+ *		{@code System.nanoTime()} depois do aquecimento da JVM.
+ * </p>
+ */
+public class BenchmarkElementos {
+	static OpTensor op = new OpTensor();
+
+	static final int AQUECIMENTO = 2_000;
+	static final int REPETICOES = 2_000;
+
+	/**
+	 * Acumulador para o JIT não descartar os resultados.
+	 */
+	static double sumidouro = 0;
+
+	public static void main(String[] args) {
+		// saída da Conv2D(16, 3x3) sobre (1, 28, 28) e pesos da Densa(100) sobre 784
+		int[][] shapes = {{26 * 26, 16}, {784, 100}};
+
+		for (Dtype dtype : new Dtype[]{Dtype.FLOAT64, Dtype.FLOAT32}) {
+			for (int[] shape : shapes) {
+				Random rand = new Random(42);
+				Tensor a = new Tensor(dtype, shape).aplicar(x -> rand.nextDouble() + 0.5);
+				Tensor b = new Tensor(dtype, shape).aplicar(x -> rand.nextDouble() + 0.5);
+				int n = a.tamanho();
+
+				System.out.println(dtype + " n = " + n + " (ns por elemento, kernel / laço)");
+				comparar("add", n, () -> op.matAdd(a, b), () -> a.map(b, (x, y) -> x + y));
+				comparar("mult", n, () -> op.matHadamard(a, b), () -> a.map(b, (x, y) -> x * y));
+				comparar("soma", n, () -> a.soma(), () -> somaLaco(a));
+				comparar("maximo", n, () -> a.maximo(), () -> maximoLaco(a));
+				comparar("desvp", n, () -> a.desvp(), () -> desvpLaco(a));
+				System.out.println();
+			}
+		}
+	}
+
+	/**
+	 * Mede e imprime o tempo da operação pelos kernels e pelo laço.
+	 */
+	static void comparar(String nome, int n, Supplier<Object> kernel, Supplier<Object> laco) {
+		double tk = medir(kernel, n);
+		double tl = medir(laco, n);
+		System.out.println(
+			"  " + nome + ": " + formatarDecimal(tk, 3) + " / " + formatarDecimal(tl, 3)
+		);
+	}
+
+	/**
+	 * Retorna o tempo médio, em nanossegundos por elemento, da operação.
+	 */
+	static double medir(Supplier<Object> operacao, int n) {
+		for (int i = 0; i < AQUECIMENTO; i++) {
+			consumir(operacao.get());
+		}
+
+		long tempo = System.nanoTime();
+		for (int i = 0; i < REPETICOES; i++) {
+			consumir(operacao.get());
+		}
+		tempo = System.nanoTime() - tempo;
+
+		return (double) tempo / REPETICOES / n;
+	}
+
+	static void consumir(Object res) {
+		if (res instanceof Tensor) sumidouro += ((Tensor) res).paraArrayDouble()[0];
+		else sumidouro += (Double) res;
+	}
+
+	static Object somaLaco(Tensor t) {
+		int[] s = t.shape();
+		double soma = 0;
+		for (int i = 0; i < s[0]; i++) {
+			for (int j = 0; j < s[1]; j++) {
+				soma += t.get(i, j);
+			}
+		}
+		return soma;
+	}
+
+	static Object maximoLaco(Tensor t) {
+		int[] s = t.shape();
+		double max = t.get(0, 0);
+		for (int i = 0; i < s[0]; i++) {
+			for (int j = 0; j < s[1]; j++) {
+				double val = t.get(i, j);
+				if (val > max) max = val;
+			}
+		}
+		return max;
+	}
+
+	static Object desvpLaco(Tensor t) {
+		int[] s = t.shape();
+		double media = (Double) somaLaco(t) / t.tamanho();
+
+		double soma = 0;
+		for (int i = 0; i < s[0]; i++) {
+			for (int j = 0; j < s[1]; j++) {
+				double d = t.get(i, j) - media;
+				soma += d * d;
+			}
+		}
+		return Math.sqrt(soma / t.tamanho());
+	}
+
+	static String formatarDecimal(double valor, int casas) {
+		return String.format("%." + casas + "f", valor);
+	}
+}
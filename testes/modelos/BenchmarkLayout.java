@@ -0,0 +1,108 @@
+package testes.modelos;
+
+import java.awt.image.BufferedImage;
+
+import jnn.Funcional;
+import jnn.camadas.*;
+import jnn.core.tensor.Tensor;
+import jnn.modelos.Sequencial;
+import lib.geim.Geim;
+
+/**
+ * Mede o tempo de treino do modelo do {@code MainConv} no MNIST com cada
+ * layout de memória ({@code canais-primeiro} e {@code canais-ultimo}).
+ */
+public class BenchmarkLayout {
+	static Geim geim = new Geim();
+	static Funcional jnn = new Funcional();
+
+	static final String CAMINHO_TREINO = "./dados/mnist/treino/";
+	static final int DIGITOS = 10;
+	static final int AMOSTRAS = 100;
+	static final int EPOCAS = 2;
+	static final int LOTE = 10;
+
+	public static void main(String[] args) {
+		Tensor[] x = jnn.arrayParaTensores(carregarDados());
+		Tensor[] y = jnn.arrayParaTensores(criarRotulos());
+		String[] layouts = {"canais-primeiro", "canais-ultimo"};
+
+		// aquecimento da JVM
+		for (String layout : layouts) {
+			criarModelo(layout).treinar(x, y, 1, LOTE, false);
+		}
+
+		for (String layout : layouts) {
+			Sequencial modelo = criarModelo(layout);
+
+			long tempo = System.nanoTime();
+			modelo.treinar(x, y, EPOCAS, LOTE, false);
+			tempo = System.nanoTime() - tempo;
+
+			System.out.println(
+				layout + ": " + (tempo / 1_000_000) + " ms (" + EPOCAS + " épocas), perda: " +
+				formatarDecimal(modelo.avaliar(x, y).item(), 6)
+			);
+		}
+	}
+
+	static Sequencial criarModelo(String layout) {
+		Sequencial modelo = new Sequencial(
+			new Entrada(1, 28, 28),
+			new Conv2D(16, new int[]{3, 3}, "relu"),
+			new MaxPool2D(new int[]{2, 2}),
+			new Conv2D(20, new int[]{3, 3}, "relu"),
+			new MaxPool2D(new int[]{2, 2}),
+			new Flatten(),
+			new Densa(100, "relu"),
+			new Densa(DIGITOS, "softmax")
+		);
+
+		modelo.setLayout(layout);
+		modelo.compilar("adam", "entropia-cruzada");
+
+		return modelo;
+	}
+
+	/**
+	 * Carrega as imagens de treino com valores de brilho entre 0 e 1.
+	 */
+	static double[][][][] carregarDados() {
+		double[][][][] dados = new double[DIGITOS * AMOSTRAS][1][][];
+
+		for (int d = 0, id = 0; d < DIGITOS; d++) {
+			for (int a = 0; a < AMOSTRAS; a++, id++) {
+				BufferedImage img = geim.lerImagem(CAMINHO_TREINO + d + "/img_" + a + ".jpg");
+				int[][] cinza = geim.obterCinza(img);
+
+				dados[id][0] = new double[cinza.length][cinza[0].length];
+				for (int i = 0; i < cinza.length; i++) {
+					for (int j = 0; j < cinza[i].length; j++) {
+						dados[id][0][i][j] = cinza[i][j] / 255.0;
+					}
+				}
+			}
+		}
+
+		return dados;
+	}
+
+	/**
+	 * Cria os rótulos one-hot na mesma ordem das imagens.
+	 */
+	static double[][] criarRotulos() {
+		double[][] rotulos = new double[DIGITOS * AMOSTRAS][DIGITOS];
+
+		for (int d = 0, id = 0; d < DIGITOS; d++) {
+			for (int a = 0; a < AMOSTRAS; a++, id++) {
+				rotulos[id][d] = 1;
+			}
+		}
+
+		return rotulos;
+	}
+
+	static String formatarDecimal(double valor, int casas) {
+		return String.format("%." + casas + "f", valor);
+	}
+}
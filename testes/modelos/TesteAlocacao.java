@@ -0,0 +1,173 @@
+package testes.modelos;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+import jnn.core.tensor.Dtype;
+import jnn.core.tensor.IndexadorTensor;
+import jnn.core.tensor.Tensor;
+
+/**
+ * Verifica que os acessos por elemento com aridade fixa ({@code get},
+ * {@code set} e {@code add} de 1 a 4 dimensões) e o {@code IndexadorTensor}
+ * não alocam memória em regime permanente.
+ * <p>
+ *		Usa os contadores de alocação por thread da JVM, medidos depois do
+ *		aquecimento, quando os laços já foram compilados pelo JIT.
+ * </p>
+ */
+public class TesteAlocacao {
+	static ThreadMXBean mxBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	static final int AQUECIMENTO = 20_000;
+	static final int REPETICOES = 1_000;
+
+	/**
+	 * Acumulador para o JIT não descartar as leituras.
+	 */
+	static double acumulador = 0;
+
+	public static void main(String[] args) {
+		if (!mxBean.isThreadAllocatedMemorySupported()) {
+			System.out.println("Contadores de alocação por thread não suportados pela JVM.");
+			return;
+		}
+		mxBean.setThreadAllocatedMemoryEnabled(true);
+
+		for (Dtype dtype : new Dtype[]{Dtype.FLOAT64, Dtype.FLOAT32}) {
+			Tensor t1 = new Tensor(dtype, 64);
+			Tensor t2 = new Tensor(dtype, 8, 8);
+			Tensor t3 = new Tensor(dtype, 4, 4, 4);
+			Tensor t4 = new Tensor(dtype, 2, 4, 4, 2);
+
+			verificar(dtype + " Tensor 1D", () -> acessarTensor(t1));
+			verificar(dtype + " Tensor 2D", () -> acessarTensor(t2));
+			verificar(dtype + " Tensor 3D", () -> acessarTensor(t3));
+			verificar(dtype + " Tensor 4D", () -> acessarTensor(t4));
+
+			IndexadorTensor i1 = t1.indexador();
+			IndexadorTensor i2 = t2.indexador();
+			IndexadorTensor i3 = t3.indexador();
+			IndexadorTensor i4 = t4.indexador();
+
+			verificar(dtype + " IndexadorTensor 1D", () -> acessarIndexador1(i1));
+			verificar(dtype + " IndexadorTensor 2D", () -> acessarIndexador2(i2));
+			verificar(dtype + " IndexadorTensor 3D", () -> acessarIndexador3(i3));
+			verificar(dtype + " IndexadorTensor 4D", () -> acessarIndexador4(i4));
+		}
+
+		System.out.println("Nenhuma alocação nos acessos por elemento.");
+	}
+
+	/**
+	 * Executa o acesso até aquecer e mede os bytes alocados em seguida.
+	 */
+	static void verificar(String caso, Runnable acesso) {
+		for (int i = 0; i < AQUECIMENTO; i++) {
+			acesso.run();
+		}
+
+		long ini = mxBean.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < REPETICOES; i++) {
+			acesso.run();
+		}
+		long bytes = mxBean.getCurrentThreadAllocatedBytes() - ini;
+
+		System.out.println(caso + ": " + bytes + " bytes");
+		if (bytes > 0) {
+			throw new IllegalStateException(
+				"\n" + caso + " alocou " + bytes + " bytes em " + REPETICOES + " repetições."
+			);
+		}
+	}
+
+	static void acessarTensor(Tensor t) {
+		int[] s = t.shape();
+		switch (s.length) {
+			case 1:
+				for (int i = 0; i < s[0]; i++) {
+					t.set(i, i);
+					t.add(1, i);
+					acumulador += t.get(i);
+				}
+				break;
+			case 2:
+				for (int i = 0; i < s[0]; i++) {
+					for (int j = 0; j < s[1]; j++) {
+						t.set(i, i, j);
+						t.add(1, i, j);
+						acumulador += t.get(i, j);
+					}
+				}
+				break;
+			case 3:
+				for (int i = 0; i < s[0]; i++) {
+					for (int j = 0; j < s[1]; j++) {
+						for (int k = 0; k < s[2]; k++) {
+							t.set(i, i, j, k);
+							t.add(1, i, j, k);
+							acumulador += t.get(i, j, k);
+						}
+					}
+				}
+				break;
+			default:
+				for (int i = 0; i < s[0]; i++) {
+					for (int j = 0; j < s[1]; j++) {
+						for (int k = 0; k < s[2]; k++) {
+							for (int l = 0; l < s[3]; l++) {
+								t.set(i, i, j, k, l);
+								t.add(1, i, j, k, l);
+								acumulador += t.get(i, j, k, l);
+							}
+						}
+					}
+				}
+		}
+	}
+
+	static void acessarIndexador1(IndexadorTensor t) {
+		for (int i = 0; i < 64; i++) {
+			t.set(i, i);
+			t.add(1, i);
+			acumulador += t.get(i);
+		}
+	}
+
+	static void acessarIndexador2(IndexadorTensor t) {
+		for (int i = 0; i < 8; i++) {
+			for (int j = 0; j < 8; j++) {
+				t.set(i, i, j);
+				t.add(1, i, j);
+				acumulador += t.get(i, j);
+			}
+		}
+	}
+
+	static void acessarIndexador3(IndexadorTensor t) {
+		for (int i = 0; i < 4; i++) {
+			for (int j = 0; j < 4; j++) {
+				for (int k = 0; k < 4; k++) {
+					t.set(i, i, j, k);
+					t.add(1, i, j, k);
+					acumulador += t.get(i, j, k);
+				}
+			}
+		}
+	}
+
+	static void acessarIndexador4(IndexadorTensor t) {
+		for (int i = 0; i < 2; i++) {
+			for (int j = 0; j < 4; j++) {
+				for (int k = 0; k < 4; k++) {
+					for (int l = 0; l < 2; l++) {
+						t.set(i, i, j, k, l);
+						t.add(1, i, j, k, l);
+						acumulador += t.get(i, j, k, l);
+					}
+				}
+			}
+		}
+	}
+}
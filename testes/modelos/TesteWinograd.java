@@ -0,0 +1,93 @@
+package testes.modelos;
+
+import java.util.Random;
+
+import jnn.core.tensor.Dtype;
+import jnn.core.tensor.OpTensor;
+import jnn.core.tensor.Tensor;
+
+/**
+ * Compara a convolução Winograd {@code F(2x2, 3x3)} com a correlação direta,
+ * na propagação direta e reversa, em {@code float64} e {@code float32}.
+ * <p>
+ *		Inclui saídas com dimensões ímpares, onde os blocos {@code 2x2} da
+ *		borda são recortados.
+ * </p>
+ */
+public class TesteWinograd {
+	static OpTensor optensor = new OpTensor();
+	static Random random = new Random(1234567890L);
+
+	static final double TOLERANCIA_F64 = 4e-14;
+	static final double TOLERANCIA_F32 = 2e-5;
+
+	/**
+	 * Formatos testados: {canais, altura, largura, filtros}.
+	 */
+	static final int[][] FORMATOS = {
+		{1, 4, 4, 1},
+		{3, 13, 13, 5},
+		{8, 10, 15, 4},
+		{16, 9, 7, 20},
+		{32, 16, 16, 32},
+	};
+
+	public static void main(String[] args) {
+		testar(Dtype.FLOAT64, TOLERANCIA_F64);
+		testar(Dtype.FLOAT32, TOLERANCIA_F32);
+		System.out.println("Winograd dentro da tolerância.");
+	}
+
+	static void testar(Dtype dtype, double tolerancia) {
+		for (int[] f : FORMATOS) {
+			int canais = f[0], alt = f[1], larg = f[2], filtros = f[3];
+			int altS = alt - 2, largS = larg - 2;
+
+			Tensor entrada = aleatorio(dtype, canais, alt, larg);
+			Tensor kernel  = aleatorio(dtype, filtros, canais, 3, 3);
+			Tensor bias    = aleatorio(dtype, filtros);
+			Tensor gradS   = aleatorio(dtype, filtros, altS, largS);
+
+			Tensor saidaD = new Tensor(dtype, filtros, altS, largS);
+			Tensor saidaW = new Tensor(dtype, filtros, altS, largS);
+			optensor.conv2DForwardDireto(entrada, kernel, bias, saidaD);
+			optensor.conv2DForwardWinograd(entrada, kernel, bias, saidaW);
+
+			Tensor gradKD = new Tensor(dtype, filtros, canais, 3, 3);
+			Tensor gradKW = new Tensor(dtype, filtros, canais, 3, 3);
+			Tensor gradBD = new Tensor(dtype, filtros);
+			Tensor gradBW = new Tensor(dtype, filtros);
+			Tensor gradED = new Tensor(dtype, canais, alt, larg);
+			Tensor gradEW = new Tensor(dtype, canais, alt, larg);
+			optensor.conv2DBackwardDireto(entrada, kernel, gradS, gradKD, gradBD, gradED);
+			optensor.conv2DBackwardWinograd(entrada, kernel, gradS, gradKW, gradBW, gradEW);
+
+			String caso = dtype + " " + canais + "x" + alt + "x" + larg + " -> " + filtros + "x" + altS + "x" + largS;
+			verificar(caso + " saida", saidaD, saidaW, tolerancia);
+			verificar(caso + " gradK", gradKD, gradKW, tolerancia);
+			verificar(caso + " gradB", gradBD, gradBW, tolerancia);
+			verificar(caso + " gradE", gradED, gradEW, tolerancia);
+		}
+	}
+
+	static Tensor aleatorio(Dtype dtype, int... shape) {
+		return new Tensor(dtype, shape).aplicar(x -> random.nextDouble() * 2 - 1);
+	}
+
+	static void verificar(String caso, Tensor esperado, Tensor recebido, double tolerancia) {
+		double[] e = esperado.paraArrayDouble();
+		double[] r = recebido.paraArrayDouble();
+
+		double dif = 0;
+		for (int i = 0; i < e.length; i++) {
+			dif = Math.max(dif, Math.abs(e[i] - r[i]));
+		}
+
+		System.out.println(caso + ": diferença máxima " + dif);
+		if (dif > tolerancia) {
+			throw new IllegalStateException(
+				"\n" + caso + " fora da tolerância (" + tolerancia + "): " + dif
+			);
+		}
+	}
+}